@@ -1,13 +1,17 @@
 package seedu.sgsafe;
 
+import java.nio.file.Path;
 import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.sgsafe.domain.casefiles.CaseDetailCache;
 import seedu.sgsafe.utils.command.Command;
 import seedu.sgsafe.utils.exceptions.InvalidCommandException;
 import seedu.sgsafe.utils.logger.LoggerConfig;
+import seedu.sgsafe.utils.storage.ArchiveStore;
 import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.storage.TextBlobStore;
 import seedu.sgsafe.utils.ui.Display;
 import seedu.sgsafe.utils.ui.Parser;
 
@@ -20,6 +24,12 @@ public class SGSafe {
     private static final Logger logger = Logger.getLogger(SGSafe.class.getName());
     // The location of the save file
     private static final String SAVE_FILE_NAME = "./data.txt";
+    // The directory holding the segments of archived cases
+    private static final String ARCHIVE_DIRECTORY_NAME = "./archive";
+    // System property naming a file in which to keep long case texts off the heap
+    private static final String TEXT_BLOB_FILE_PROPERTY = "sgsafe.textBlobFile";
+    // System property limiting how many cases keep their details in memory
+    private static final String MAX_LOADED_CASES_PROPERTY = "sgsafe.maxLoadedCases";
     //the Storage object to handle loading and saving
     private static final Storage storage = new Storage(SAVE_FILE_NAME);
 
@@ -33,6 +43,16 @@ public class SGSafe {
         LoggerConfig.configureLogger();
         logger.log(Level.INFO, "SGSafe application started.");
 
+        String textBlobFile = System.getProperty(TEXT_BLOB_FILE_PROPERTY);
+        if (textBlobFile != null && !textBlobFile.isBlank()) {
+            TextBlobStore.enable(Path.of(textBlobFile));
+        }
+
+        enableCaseDetailCache(System.getProperty(MAX_LOADED_CASES_PROPERTY));
+
+        //open the archive first, so that new IDs skip the IDs of archived cases
+        ArchiveStore.open(Path.of(ARCHIVE_DIRECTORY_NAME), storage);
+
         //load the cases from the savefile
         storage.loadCaseManager();
         
@@ -40,6 +60,27 @@ public class SGSafe {
         mainLoop();
     }
 
+    /**
+     * Enables the {@link CaseDetailCache} if a positive limit on the number of loaded cases is given.
+     *
+     * @param maxLoadedCases the value of the system property, or {@code null} if it is not set
+     */
+    private static void enableCaseDetailCache(String maxLoadedCases) {
+        if (maxLoadedCases == null || maxLoadedCases.isBlank()) {
+            return;
+        }
+        try {
+            int capacity = Integer.parseInt(maxLoadedCases.strip());
+            if (capacity > 0) {
+                CaseDetailCache.enable(Path.of(SAVE_FILE_NAME), capacity);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the warning below
+        }
+        logger.log(Level.WARNING, "Ignoring invalid " + MAX_LOADED_CASES_PROPERTY + ": " + maxLoadedCases);
+    }
+
     /**
      * Starts the main input loop for the application.
      * Continuously reads user input from the console until the user types "bye".
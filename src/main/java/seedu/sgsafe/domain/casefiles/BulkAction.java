@@ -0,0 +1,11 @@
+package seedu.sgsafe.domain.casefiles;
+
+/**
+ * Specifies the mutation applied by a bulk operation to every case matching a {@link CaseFilter}.
+ */
+public enum BulkAction {
+    CLOSE,
+    OPEN,
+    DELETE,
+    EDIT
+}
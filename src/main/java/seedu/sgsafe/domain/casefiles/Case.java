@@ -4,13 +4,16 @@ import seedu.sgsafe.domain.casefiles.type.CaseType;
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 import seedu.sgsafe.utils.settings.Settings;
 import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.storage.TextBlobStore;
 import seedu.sgsafe.utils.ui.DateFormatter;
 
 import java.time.LocalDate;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
@@ -18,47 +21,109 @@ import java.util.ArrayList;
 /**
  * Represents a case file in the SGSafe system.
  * Each case contains metadata such as title, date, victim, officer, and status.
+ * <p>
+ * The ID, dates, timestamps and status flags are held in primitive fields rather than as objects, and are
+ * only turned back into {@code String}, {@code LocalDate} and {@code LocalDateTime} values by the getters.
  */
 public abstract class Case {
 
+    /** Bit of {@link #flags} that is set while the case is open. */
+    private static final int FLAG_OPEN = 1;
+
+    /** Bit of {@link #flags} that is set once the case has been deleted. */
+    private static final int FLAG_DELETED = 1 << 1;
+
+    /** First bit of {@link #flags} that subclasses may use to mark a primitive numeric field as present. */
+    protected static final int FIRST_NUMERIC_FIELD_FLAG = 1 << 2;
+
+    /** Second bit of {@link #flags} that subclasses may use to mark a primitive numeric field as present. */
+    protected static final int SECOND_NUMERIC_FIELD_FLAG = 1 << 3;
+
+    /** Bit of {@link #flags} that is set while the detail fields are released by the {@link CaseDetailCache}. */
+    private static final int FLAG_DETAILS_RELEASED = 1 << 4;
+
+    /** Bit of {@link #flags} that is set when the case has changed since it was last written to the save file. */
+    private static final int FLAG_UNSAVED = 1 << 5;
+
+    /** Bit of {@link #flags} that is set on a detached copy, which never touches the shared stores and caches. */
+    private static final int FLAG_DETACHED = 1 << 6;
+
+    /** Value of {@link #saveOffset} for a case that has not been written to the save file. */
+    static final long NO_SAVE_OFFSET = -1;
+
+    /** Minimum number of hex digits in a case ID. Smaller IDs are zero-padded to this width. */
+    public static final int MIN_ID_LENGTH = 6;
+
+    /** Maximum number of hex digits in a case ID, enough for every non-negative {@code long}. */
+    public static final int MAX_ID_LENGTH = 16;
+
+    /** Value of {@link #idValue} when the ID is not canonical and is kept in {@link #nonCanonicalId}. */
+    public static final long NO_ID_VALUE = -1;
+
+    /** Value of {@link #epochDay} when the case has no date. */
+    private static final int NO_EPOCH_DAY = Integer.MIN_VALUE;
+
+    /** Value of a nanosecond field when the matching timestamp is not set. */
+    private static final int NO_NANO = -1;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /** The type of case. */
     protected CaseType type;
 
     /** The category of the case. */
     protected CaseCategory category;
 
-    /** The category name to be printed. */
-    protected String categoryString;
+    /** The case ID as a number, when it is in the canonical lowercase hex form. */
+    private final long idValue;
 
-    /** The title or summary of the case. */
-    private final String id;
+    /** The case ID as given, when it is not in the canonical form; {@code null} otherwise. */
+    private final String nonCanonicalId;
 
     /** The title or summary of the case. */
     private String title;
 
-    /** The date the case was recorded or occurred. */
-    private LocalDate date;
+    /** The date the case was recorded or occurred, as an epoch day. */
+    private int epochDay;
 
-    /** Additional information or notes about the case. */
+    /** Additional information or notes about the case, unless it is held by the {@link TextBlobStore}. */
     private String info;
 
+    /** Handle of the info text in the {@link TextBlobStore}, or {@link TextBlobStore#NO_BLOB}. */
+    private long infoBlob = TextBlobStore.NO_BLOB;
+
     /** The name of the victim involved in the case. */
     private String victim;
 
     /** The name of the officer assigned to the case. */
     private String officer;
 
-    /** Indicates whether the case is currently open. */
-    private boolean isOpen;
+    /** Status bits ({@link #FLAG_OPEN}, {@link #FLAG_DELETED}) and the presence bits of numeric subclass fields. */
+    private byte flags;
+
+    /** Metadata timestamp for auditing of when the case is created, in seconds since the epoch (UTC). */
+    private long createdAtEpochSecond;
+
+    /** Nanosecond part of the created timestamp, or {@link #NO_NANO} if it is not set. */
+    private int createdAtNano;
+
+    /** Metadata timestamp for auditing of when the case is updated, in seconds since the epoch (UTC). */
+    private long updatedAtEpochSecond;
+
+    /** Nanosecond part of the updated timestamp, or {@link #NO_NANO} if it is not set. */
+    private int updatedAtNano;
 
-    /** Indicates whether a case has been deleted. */
-    private boolean isDeleted;
+    /** The {@link CaseManager} index generation this case was last indexed in; 0 if never indexed. */
+    int indexGeneration;
 
-    /** Metadata timestamp for auditing of when the case is created. */
-    private LocalDateTime createdAt;
+    /** The slot holding this case in the {@link CaseManager} column store; only valid while it is indexed. */
+    int columnSlot;
 
-    /** Metadata timestamp for auditing of when the case is updated. */
-    private LocalDateTime updatedAt;
+    /** Byte offset of this case's line in the save file, as recorded by the {@link CaseDetailCache}. */
+    long saveOffset = NO_SAVE_OFFSET;
+
+    /** Length in bytes of this case's line in the save file. */
+    int saveLength;
 
     /**
      * Constructs a {@code Case} object with the specified details.
@@ -72,16 +137,198 @@ public abstract class Case {
      * @param officer the name of the officer assigned
      */
     public Case(String id, String title, LocalDate date, String info, String victim, String officer) {
-        this.id = id;
+        if (isCanonicalId(id)) {
+            this.idValue = Long.parseLong(id, 16);
+            this.nonCanonicalId = null;
+        } else {
+            this.idValue = NO_ID_VALUE;
+            this.nonCanonicalId = id;
+        }
         this.title = title;
-        this.date = date;
-        this.info = info;
-        this.victim = victim;
-        this.officer = officer;
-        this.isOpen = true;
-        this.isDeleted = false;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        setDateValue(date);
+        setInfoValue(info);
+        this.victim = encodeValue(FieldDictionary.VICTIM, victim);
+        this.officer = encodeValue(FieldDictionary.OFFICER, officer);
+        setFlag(FLAG_OPEN, true);
+        LocalDateTime now = LocalDateTime.now();
+        setCreatedAtValue(now);
+        setUpdatedAtValue(now);
+    }
+
+    /**
+     * Returns whether {@code id} is in the form in which new case IDs are generated: lowercase hex digits, zero-padded
+     * to {@link #MIN_ID_LENGTH} digits and without further leading zeros.
+     */
+    private static boolean isCanonicalId(String id) {
+        if (parseIdValue(id) == NO_ID_VALUE) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) >= 'A' && id.charAt(i) <= 'F') {
+                return false;
+            }
+        }
+        return id.length() == MIN_ID_LENGTH || id.charAt(0) != '0';
+    }
+
+    /**
+     * Parses a case ID of {@link #MIN_ID_LENGTH} to {@link #MAX_ID_LENGTH} hex digits in either case.
+     *
+     * @param id the case ID
+     * @return the numeric value of the ID, or {@link #NO_ID_VALUE} if it is not such an ID or does not fit in a
+     *         non-negative {@code long}
+     */
+    public static long parseIdValue(String id) {
+        if (id == null || id.length() < MIN_ID_LENGTH || id.length() > MAX_ID_LENGTH) {
+            return NO_ID_VALUE;
+        }
+        long value = 0;
+        for (int i = 0; i < id.length(); i++) {
+            int digit = Character.digit(id.charAt(i), 16);
+            if (digit < 0 || (value >>> 59) != 0) {
+                return NO_ID_VALUE;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the canonical form of a case ID, so that e.g. {@code 00000A1} and {@code 0000a1} name the same case.
+     *
+     * @param id the case ID as entered or saved
+     * @return the canonical form, or {@code id} unchanged if it is not a hex case ID
+     */
+    public static String normaliseId(String id) {
+        long value = parseIdValue(id);
+        return value == NO_ID_VALUE ? id : formatCanonicalId(value);
+    }
+
+    private static String formatCanonicalId(long value) {
+        int significantDigits = (Long.SIZE - Long.numberOfLeadingZeros(value) + 3) / 4;
+        char[] digits = new char[Math.max(MIN_ID_LENGTH, significantDigits)];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = HEX_DIGITS[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+        return new String(digits);
+    }
+
+    private boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    private void setFlag(int flag, boolean isSet) {
+        flags = (byte) (isSet ? flags | flag : flags & ~flag);
+    }
+
+    /**
+     * Returns whether the numeric subclass field marked by {@code flag} holds a value.
+     *
+     * @param flag {@link #FIRST_NUMERIC_FIELD_FLAG} or {@link #SECOND_NUMERIC_FIELD_FLAG}
+     * @return {@code true} if the field has been set
+     */
+    protected final boolean hasNumericField(int flag) {
+        return hasFlag(flag);
+    }
+
+    /**
+     * Marks the numeric subclass field identified by {@code flag} as holding a value or not.
+     *
+     * @param flag      {@link #FIRST_NUMERIC_FIELD_FLAG} or {@link #SECOND_NUMERIC_FIELD_FLAG}
+     * @param isPresent whether the field holds a value
+     */
+    protected final void setNumericFieldPresent(int flag, boolean isPresent) {
+        setFlag(flag, isPresent);
+    }
+
+    /**
+     * Makes sure the detail fields are in memory before they are read.
+     * <p>
+     * Getters of detail fields call this first. It only has an effect when the {@link CaseDetailCache} is enabled
+     * and this case is not a detached copy.
+     */
+    protected final void loadDetails() {
+        if (CaseDetailCache.isEnabled() && !isDetached()) {
+            CaseDetailCache.recordAccess(this);
+        }
+    }
+
+    /**
+     * Returns the fields that are released from memory while the case is not in use: the victim, officer and
+     * subclass-specific fields, and the info text unless it is already held by the {@link TextBlobStore}.
+     */
+    List<String> getDetailFields() {
+        List<String> detailFields = getAdditionalFields();
+        detailFields.add("victim");
+        detailFields.add("officer");
+        if (infoBlob == TextBlobStore.NO_BLOB) {
+            detailFields.add("info");
+        }
+        return detailFields;
+    }
+
+    boolean isDetailsReleased() {
+        return hasFlag(FLAG_DETAILS_RELEASED);
+    }
+
+    /**
+     * Drops the detail fields so that only the summary fields stay in memory.
+     * The numeric fields are primitives and are kept.
+     */
+    void releaseDetails() {
+        Map<String, Object> releasedValues = new HashMap<>();
+        for (String field : getDetailFields()) {
+            releasedValues.put(field, null);
+        }
+        applyUpdate(releasedValues);
+        setFlag(FLAG_DETAILS_RELEASED, true);
+    }
+
+    /**
+     * Restores the detail fields released by {@link #releaseDetails()}.
+     *
+     * @param savedValues the typed field values read back from the save file
+     */
+    void restoreDetails(Map<String, Object> savedValues) {
+        savedValues.keySet().retainAll(getDetailFields());
+        applyUpdate(savedValues);
+        setFlag(FLAG_DETAILS_RELEASED, false);
+    }
+
+    boolean isUnsaved() {
+        return hasFlag(FLAG_UNSAVED);
+    }
+
+    void setUnsaved(boolean isUnsaved) {
+        setFlag(FLAG_UNSAVED, isUnsaved);
+    }
+
+    /**
+     * Stores the info text, in the {@link TextBlobStore} if it is enabled, the text is long and this case is not a
+     * detached copy.
+     */
+    private void setInfoValue(String info) {
+        this.infoBlob = isDetached() ? TextBlobStore.NO_BLOB : TextBlobStore.store(info);
+        this.info = infoBlob == TextBlobStore.NO_BLOB ? info : null;
+    }
+
+    private void setDateValue(LocalDate date) {
+        this.epochDay = date == null ? NO_EPOCH_DAY : Math.toIntExact(date.toEpochDay());
+    }
+
+    private void setCreatedAtValue(LocalDateTime createdAt) {
+        this.createdAtEpochSecond = createdAt == null ? 0 : createdAt.toEpochSecond(ZoneOffset.UTC);
+        this.createdAtNano = createdAt == null ? NO_NANO : createdAt.getNano();
+    }
+
+    private void setUpdatedAtValue(LocalDateTime updatedAt) {
+        this.updatedAtEpochSecond = updatedAt == null ? 0 : updatedAt.toEpochSecond(ZoneOffset.UTC);
+        this.updatedAtNano = updatedAt == null ? NO_NANO : updatedAt.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond, int nano) {
+        return nano == NO_NANO ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
     }
 
     /**
@@ -99,7 +346,51 @@ public abstract class Case {
      * @return the date of the case
      */
     public LocalDate getDate() {
-        return date;
+        return epochDay == NO_EPOCH_DAY ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns whether the case has a date, so that {@link #getEpochDay()} can be used without a {@code LocalDate}.
+     */
+    boolean hasDate() {
+        return epochDay != NO_EPOCH_DAY;
+    }
+
+    /**
+     * Returns the date of the case as an epoch day. Only meaningful if {@link #hasDate()} is {@code true}.
+     */
+    int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns whether the createdAt timestamp is set.
+     */
+    boolean hasCreatedAt() {
+        return createdAtNano != NO_NANO;
+    }
+
+    /**
+     * Returns the createdAt timestamp in whole seconds since the epoch, taking it to be in UTC.
+     * Only meaningful if {@link #hasCreatedAt()} is {@code true}.
+     */
+    long getCreatedAtEpochSecond() {
+        return createdAtEpochSecond;
+    }
+
+    /**
+     * Returns whether the updatedAt timestamp is set.
+     */
+    boolean hasUpdatedAt() {
+        return updatedAtNano != NO_NANO;
+    }
+
+    /**
+     * Returns the updatedAt timestamp in whole seconds since the epoch, taking it to be in UTC.
+     * Only meaningful if {@link #hasUpdatedAt()} is {@code true}.
+     */
+    long getUpdatedAtEpochSecond() {
+        return updatedAtEpochSecond;
     }
 
     /**
@@ -108,7 +399,8 @@ public abstract class Case {
      * @return the additional information about the case
      */
     public String getInfo() {
-        return info;
+        loadDetails();
+        return infoBlob == TextBlobStore.NO_BLOB ? info : TextBlobStore.load(infoBlob);
     }
 
     /**
@@ -132,10 +424,10 @@ public abstract class Case {
     /**
      * Retrieves the category of the case in the print format.
      *
-     * @return the categoryString of the case.
+     * @return the display name of the category of the case.
      */
     public String getCategoryString() {
-        return categoryString;
+        return category == null ? null : category.getDisplayName();
     }
 
     /**
@@ -144,6 +436,7 @@ public abstract class Case {
      * @return the name of the victim, or null if not specified
      */
     public String getVictim() {
+        loadDetails();
         return victim;
     }
 
@@ -153,6 +446,7 @@ public abstract class Case {
      * @return the name of the officer, or null if not specified
      */
     public String getOfficer() {
+        loadDetails();
         return officer;
     }
 
@@ -162,16 +456,32 @@ public abstract class Case {
      * @return the case ID
      */
     public String getId() {
-        return this.id;
+        return idValue == NO_ID_VALUE ? nonCanonicalId : formatCanonicalId(idValue);
+    }
+
+    /**
+     * Returns whether the ID is in the canonical hex form that {@link CaseManager} allocates.
+     *
+     * @return {@code true} if {@link #getIdValue()} holds the ID
+     */
+    boolean hasCanonicalId() {
+        return idValue != NO_ID_VALUE;
+    }
+
+    long getIdValue() {
+        return idValue;
     }
 
     public boolean isDeleted() {
-        return this.isDeleted;
+        return hasFlag(FLAG_DELETED);
     }
 
     public void setDeleted(boolean isDeleted) {
-        this.isDeleted = isDeleted;
-        this.updatedAt = LocalDateTime.now();
+        Map<String, Object> previousValues = CaseHistory.capture(this, List.of(CaseHistory.DELETED_FIELD));
+        CaseManager.beforeCaseChange(this);
+        setFlag(FLAG_DELETED, isDeleted);
+        setUpdatedAtValue(LocalDateTime.now());
+        CaseManager.afterCaseChange(this, previousValues);
     }
 
     /**
@@ -180,7 +490,9 @@ public abstract class Case {
      * @param createdAt the {@link LocalDateTime} that createdAt should be set to.
      */
     public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
+        CaseManager.beforeCaseChange(this);
+        setCreatedAtValue(createdAt);
+        CaseManager.afterCaseChange(this);
     }
 
     /**
@@ -189,7 +501,9 @@ public abstract class Case {
      * @param updatedAt the {@link LocalDateTime} that updatedAt should be set to.
      */
     public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
+        CaseManager.beforeCaseChange(this);
+        setUpdatedAtValue(updatedAt);
+        CaseManager.afterCaseChange(this);
     }
 
     /**
@@ -206,16 +520,81 @@ public abstract class Case {
      */
     public void initialiseMetadataFromSave(boolean isOpen, boolean isDeleted,
                                    LocalDateTime createdAt, LocalDateTime updatedAt) {
-        this.isOpen = isOpen;
-        this.isDeleted = isDeleted;
-        this.createdAt = createdAt;
-        this.updatedAt = updatedAt;
+        CaseManager.beforeCaseChange(this);
+        setFlag(FLAG_OPEN, isOpen);
+        setFlag(FLAG_DELETED, isDeleted);
+        setCreatedAtValue(createdAt);
+        setUpdatedAtValue(updatedAt);
+        CaseManager.afterCaseChange(this);
+    }
+
+    /**
+     * Turns this case, which must not be managed, into a detached copy holding the given values, such as a case
+     * as it was at an earlier time.
+     * <p>
+     * Unlike {@link #update(Map)} and {@link #initialiseMetadataFromSave(boolean, boolean, LocalDateTime,
+     * LocalDateTime)}, this has no side effects: the values are not interned in the {@link FieldDictionary}, the
+     * info is kept on the heap rather than in the {@link TextBlobStore}, reading the copy is not recorded by the
+     * {@link CaseDetailCache}, and the {@link CaseManager} is not notified.
+     *
+     * @param values    the field values, as named by the add and edit flags
+     * @param isOpen    whether the copy is open
+     * @param isDeleted whether the copy is deleted
+     * @param createdAt the creation timestamp
+     * @param updatedAt the last update timestamp
+     */
+    void initialiseDetachedCopy(Map<String, Object> values, boolean isOpen, boolean isDeleted,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        assert indexGeneration == 0 : "a detached copy should never be managed";
+        setFlag(FLAG_DETACHED, true);
+        applyUpdate(values);
+        setFlag(FLAG_OPEN, isOpen);
+        setFlag(FLAG_DELETED, isDeleted);
+        setCreatedAtValue(createdAt);
+        setUpdatedAtValue(updatedAt);
+    }
+
+    boolean isDetached() {
+        return hasFlag(FLAG_DETACHED);
+    }
+
+    /**
+     * Returns the value to store for a repetitive field: its shared instance from the dictionary, or the value
+     * itself for a detached copy, so that copies do not count as dictionary lookups.
+     *
+     * @param dictionary the dictionary of the field
+     * @param value      the value to store; may be {@code null}
+     * @return the value to store
+     */
+    protected final String encodeValue(FieldDictionary dictionary, String value) {
+        return isDetached() ? value : dictionary.encode(value);
     }
 
     public List<String> getAdditionalFields() {
         return new ArrayList<>();
     }
 
+    /**
+     * Returns the value of the named field, e.g. {@code "title"} or, for a {@code SpeedingCase},
+     * {@code "speed-limit"}. Field names are the same as the flags used to add and edit cases.
+     * <p>
+     * Subclasses with additional fields override this method and fall back to the superclass implementation.
+     *
+     * @param field the name of the field
+     * @return the value as a {@code String}, {@code Integer}, {@code Double} or {@code LocalDate},
+     *         or {@code null} if the field is not set or this case does not have it
+     */
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "title" -> getTitle();
+        case "date" -> getDate();
+        case "info" -> getInfo();
+        case "victim" -> getVictim();
+        case "officer" -> getOfficer();
+        default -> null;
+        };
+    }
+
     //@@author xelisce
 
     /**
@@ -226,8 +605,8 @@ public abstract class Case {
      * @return a formatted summary line for this case
      */
     public String getDisplayLine() {
-        String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
-        return CaseFormatter.formatCaseSummaryLine(isOpen, categoryString, id, dateString, title);
+        String dateString = DateFormatter.formatDate(getDate(), Settings.getOutputDateFormat());
+        return CaseFormatter.formatCaseSummaryLine(isOpen(), getCategoryString(), getId(), dateString, title);
     }
 
     /**
@@ -240,37 +619,43 @@ public abstract class Case {
      */
     public String[] getMultiLineVerboseDisplay() {
         List<String> lines = new ArrayList<>();
-        lines.add(CaseFormatter.formatCaseIDHeader(id));
+        lines.add(CaseFormatter.formatCaseIDHeader(getId()));
 
-        String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
-        String statusString = CaseFormatter.convertStatusToString(isOpen);
-        String createdAtString = DateFormatter.formatDateTime(createdAt,
+        String dateString = DateFormatter.formatDate(getDate(), Settings.getOutputDateFormat());
+        String statusString = CaseFormatter.convertStatusToString(isOpen());
+        String createdAtString = DateFormatter.formatDateTime(getCreatedAt(),
                 Settings.getDateTimeFormat());
-        String updatedAtString = DateFormatter.formatDateTime(updatedAt,
+        String updatedAtString = DateFormatter.formatDateTime(getUpdatedAt(),
                 Settings.getDateTimeFormat());
 
         CaseFormatter.addWrappedFieldForVerbose(lines, "Status", statusString);
-        CaseFormatter.addWrappedFieldForVerbose(lines, "Category", categoryString);
+        CaseFormatter.addWrappedFieldForVerbose(lines, "Category", getCategoryString());
         CaseFormatter.addWrappedFieldForVerbose(lines, "Title", title);
         CaseFormatter.addWrappedFieldForVerbose(lines, "Date", dateString);
-        CaseFormatter.addWrappedFieldForVerbose(lines, "Info", info);
+        CaseFormatter.addWrappedFieldForVerbose(lines, "Info", getInfo());
         CaseFormatter.addWrappedFieldForVerbose(lines, "Created at", createdAtString);
         CaseFormatter.addWrappedFieldForVerbose(lines, "Updated at", updatedAtString);
-        CaseFormatter.addWrappedFieldForVerbose(lines, "Victim", victim);
-        CaseFormatter.addWrappedFieldForVerbose(lines, "Officer", officer);
+        CaseFormatter.addWrappedFieldForVerbose(lines, "Victim", getVictim());
+        CaseFormatter.addWrappedFieldForVerbose(lines, "Officer", getOfficer());
 
         return lines.toArray(new String[0]);
     }
     //@@ author
 
     public void setClosed() {
-        this.isOpen = false;
-        updatedAt = LocalDateTime.now();
+        Map<String, Object> previousValues = CaseHistory.capture(this, List.of(CaseHistory.OPEN_FIELD));
+        CaseManager.beforeCaseChange(this);
+        setFlag(FLAG_OPEN, false);
+        setUpdatedAtValue(LocalDateTime.now());
+        CaseManager.afterCaseChange(this, previousValues);
     }
 
     public void setOpen() {
-        this.isOpen = true;
-        updatedAt = LocalDateTime.now();
+        Map<String, Object> previousValues = CaseHistory.capture(this, List.of(CaseHistory.OPEN_FIELD));
+        CaseManager.beforeCaseChange(this);
+        setFlag(FLAG_OPEN, true);
+        setUpdatedAtValue(LocalDateTime.now());
+        CaseManager.afterCaseChange(this, previousValues);
     }
 
     /**
@@ -279,7 +664,7 @@ public abstract class Case {
      * @return {@code true} if the case is open; {@code false} otherwise
      */
     public boolean isOpen() {
-        return this.isOpen;
+        return hasFlag(FLAG_OPEN);
     }
 
     /**
@@ -299,27 +684,44 @@ public abstract class Case {
      * <p>
      * Each key in {@code newValues} corresponds to a valid editable field (e.g. {@code title}, {@code date},
      * {@code info}, {@code victim}, {@code officer}). Only fields present in the map are updated; all
-     * others remain unchanged.
+     * others remain unchanged. The {@link CaseManager} indexes are brought up to date once all fields,
+     * including those of subclasses, have been applied, and the previous values of the changed fields are kept
+     * in the {@link CaseHistory}.
      *
      * @param newValues a map containing field names and their new values
      */
     public void update(Map<String, Object> newValues) {
+        loadDetails();
+        Map<String, Object> previousValues = CaseHistory.capture(this, newValues.keySet());
+        CaseManager.beforeCaseChange(this);
+        applyUpdate(newValues);
+        setUpdatedAtValue(LocalDateTime.now());
+        CaseManager.afterCaseChange(this, previousValues);
+    }
+
+    /**
+     * Applies the values in {@code newValues} to the fields of this case.
+     * <p>
+     * Subclasses with additional fields override this method and call the superclass implementation first.
+     *
+     * @param newValues a map containing field names and their new values
+     */
+    protected void applyUpdate(Map<String, Object> newValues) {
         if (newValues.containsKey("title")) {
             this.title = (String) newValues.get("title");
         }
         if (newValues.containsKey("date")) {
-            this.date = (LocalDate) newValues.get("date");
+            setDateValue((LocalDate) newValues.get("date"));
         }
         if (newValues.containsKey("info")) {
-            this.info = (String) newValues.get("info");
+            setInfoValue((String) newValues.get("info"));
         }
         if (newValues.containsKey("victim")) {
-            this.victim = (String) newValues.get("victim");
+            this.victim = encodeValue(FieldDictionary.VICTIM, (String) newValues.get("victim"));
         }
         if (newValues.containsKey("officer")) {
-            this.officer = (String) newValues.get("officer");
+            this.officer = encodeValue(FieldDictionary.OFFICER, (String) newValues.get("officer"));
         }
-        this.updatedAt = LocalDateTime.now();
     }
 
     //@@author shennontay
@@ -332,19 +734,20 @@ public abstract class Case {
      * @return a list of formatted display lines for the base fields
      */
     protected List<String> getBaseDisplayLines() {
+        loadDetails();
         List<String> lines = new ArrayList<>();
 
-        String dateString = DateFormatter.formatDate(date, Settings.getOutputDateFormat());
-        String createdAtString = DateFormatter.formatDateTime(createdAt,
+        String dateString = DateFormatter.formatDate(getDate(), Settings.getOutputDateFormat());
+        String createdAtString = DateFormatter.formatDateTime(getCreatedAt(),
                 Settings.getDateTimeFormat());
-        String updatedAtString = DateFormatter.formatDateTime(updatedAt,
+        String updatedAtString = DateFormatter.formatDateTime(getUpdatedAt(),
                 Settings.getDateTimeFormat());
-        String statusString = CaseFormatter.convertStatusToString(isOpen);
+        String statusString = CaseFormatter.convertStatusToString(isOpen());
 
         CaseFormatter.addWrappedFieldForRead(lines, "Title", title);
-        CaseFormatter.addWrappedFieldForRead(lines,"Case ID", id);
+        CaseFormatter.addWrappedFieldForRead(lines,"Case ID", getId());
         CaseFormatter.addWrappedFieldForRead(lines,"Status", statusString);
-        CaseFormatter.addWrappedFieldForRead(lines,"Category", categoryString);
+        CaseFormatter.addWrappedFieldForRead(lines,"Category", getCategoryString());
         CaseFormatter.addWrappedFieldForRead(lines,"Date", dateString);
         CaseFormatter.addWrappedFieldForRead(lines,"Victim", getVictim());
         CaseFormatter.addWrappedFieldForRead(lines,"Officer", getOfficer());
@@ -382,25 +785,31 @@ public abstract class Case {
      * @return a formatted string containing all of this object's field values
      */
     public String toSaveString() {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(Storage.getSaveDatePattern());
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Storage.getSaveDateTimePattern());
-        return "category:" + this.category.toString()
+        loadDetails();
+        DateTimeFormatter dateFormatter = Storage.getSaveDateFormatter();
+        DateTimeFormatter dateTimeFormatter = Storage.getSaveDateTimeFormatter();
+        LocalDate date = getDate();
+        String info = getInfo();
+        LocalDateTime createdAt = getCreatedAt();
+        LocalDateTime updatedAt = getUpdatedAt();
+        return "id:" + (getId() == null ? "" : getId())
+                + "|category:" + this.category.toString()
                 + "|title:" + (this.title == null ? "" : this.title)
-                + "|date:" + (this.date == null ? "" : this.date.format(dateFormatter))
-                + "|info:" + (this.info == null ? "" : this.info)
-                + "|victim:" + (this.victim == null ? "" : this.victim)
-                + "|officer:" + (this.officer == null ? "" : this.officer)
-                + "|is-deleted:" + (this.isDeleted ? "1" : "0")
-                + "|is-open:" + (this.isOpen ? "1" : "0")
-                + "|created-at:" + (this.createdAt == null ? "" : this.createdAt.format(dateTimeFormatter))
-                + "|updated-at:" + (this.updatedAt == null ? "" : this.updatedAt.format(dateTimeFormatter));
+                + "|date:" + (date == null ? "" : date.format(dateFormatter))
+                + "|info:" + (info == null ? "" : info)
+                + "|victim:" + (getVictim() == null ? "" : getVictim())
+                + "|officer:" + (getOfficer() == null ? "" : getOfficer())
+                + "|is-deleted:" + (hasFlag(FLAG_DELETED) ? "1" : "0")
+                + "|is-open:" + (isOpen() ? "1" : "0")
+                + "|created-at:" + (createdAt == null ? "" : createdAt.format(dateTimeFormatter))
+                + "|updated-at:" + (updatedAt == null ? "" : updatedAt.format(dateTimeFormatter));
     }
 
     public LocalDateTime getCreatedAt() {
-        return createdAt;
+        return toDateTime(createdAtEpochSecond, createdAtNano);
     }
 
     public LocalDateTime getUpdatedAt() {
-        return updatedAt;
+        return toDateTime(updatedAtEpochSecond, updatedAtNano);
     }
 }
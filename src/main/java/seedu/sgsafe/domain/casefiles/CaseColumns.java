@@ -0,0 +1,119 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A column-oriented copy of the fields that listing and filtering look at, kept in step with the case list.
+ * <p>
+ * Slot {@code i} of every array describes the {@code i}-th entry of the case list: whether it is open,
+ * whether it is deleted, its category ordinal, its incident date as an epoch day, and its title.
+ * A scan over these arrays reads a few contiguous bytes and ints per case instead of following a
+ * reference to each {@link Case} and then to its date, so filtering a large list stays within the CPU caches.
+ */
+class CaseColumns {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Category ordinal stored for a case without a category. */
+    private static final byte NO_CATEGORY = -1;
+
+    /** Epoch day stored for a case without a date; below every bound a date range can have. */
+    private static final int NO_EPOCH_DAY = Integer.MIN_VALUE;
+
+    private boolean[] isOpen = new boolean[INITIAL_CAPACITY];
+    private boolean[] isDeleted = new boolean[INITIAL_CAPACITY];
+    private byte[] categoryOrdinals = new byte[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+
+    /** Number of slots in use. */
+    private int size = 0;
+
+    /**
+     * Appends a case in the next slot and records the slot in the case.
+     *
+     * @param c the case appended to the case list
+     */
+    void append(Case c) {
+        if (size == titles.length) {
+            int capacity = size * 2;
+            isOpen = Arrays.copyOf(isOpen, capacity);
+            isDeleted = Arrays.copyOf(isDeleted, capacity);
+            categoryOrdinals = Arrays.copyOf(categoryOrdinals, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+        }
+        c.columnSlot = size++;
+        update(c);
+    }
+
+    /**
+     * Copies the current values of a case into its slot.
+     *
+     * @param c a case previously passed to {@link #append(Case)}
+     */
+    void update(Case c) {
+        int slot = c.columnSlot;
+        assert slot < size : "Case has no column slot";
+        isOpen[slot] = c.isOpen();
+        isDeleted[slot] = c.isDeleted();
+        categoryOrdinals[slot] = c.getCategory() == null ? NO_CATEGORY : (byte) c.getCategory().ordinal();
+        epochDays[slot] = c.hasDate() ? c.getEpochDay() : NO_EPOCH_DAY;
+        titles[slot] = c.getTitle();
+    }
+
+    void clear() {
+        Arrays.fill(titles, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the slots of the live cases that satisfy every given criterion, in slot order.
+     *
+     * @param status       {@code true} for open cases, {@code false} for closed cases, {@code null} for both
+     * @param category     the required category, or {@code null} for any
+     * @param fromDate     the earliest incident date, or {@code null} for no lower bound
+     * @param toDate       the latest incident date, or {@code null} for no upper bound
+     * @param lowerKeyword a lowercase string the title must contain, or {@code null} to ignore titles
+     * @return the matching slots
+     */
+    int[] scan(Boolean status, CaseCategory category, LocalDate fromDate, LocalDate toDate, String lowerKeyword) {
+        boolean isStatusChecked = status != null;
+        boolean requiredStatus = isStatusChecked && status;
+        byte requiredCategory = category == null ? NO_CATEGORY : (byte) category.ordinal();
+        boolean isDateChecked = fromDate != null || toDate != null;
+        int fromDay = fromDate == null ? NO_EPOCH_DAY + 1 : toEpochDayBound(fromDate.toEpochDay());
+        int toDay = toDate == null ? Integer.MAX_VALUE : toEpochDayBound(toDate.toEpochDay());
+
+        int[] slots = new int[Math.min(size, INITIAL_CAPACITY)];
+        int matchCount = 0;
+        for (int i = 0; i < size; i++) {
+            boolean isMatch = !isDeleted[i]
+                    & (!isStatusChecked | isOpen[i] == requiredStatus)
+                    & (requiredCategory == NO_CATEGORY | categoryOrdinals[i] == requiredCategory)
+                    & (!isDateChecked | (epochDays[i] >= fromDay & epochDays[i] <= toDay));
+            if (!isMatch) {
+                continue;
+            }
+            if (lowerKeyword != null && (titles[i] == null || !titles[i].toLowerCase().contains(lowerKeyword))) {
+                continue;
+            }
+            if (matchCount == slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(INITIAL_CAPACITY, matchCount * 2));
+            }
+            slots[matchCount++] = i;
+        }
+        return Arrays.copyOf(slots, matchCount);
+    }
+
+    private static int toEpochDayBound(long epochDay) {
+        return (int) Math.max(NO_EPOCH_DAY + 1, Math.min(Integer.MAX_VALUE, epochDay));
+    }
+
+    int size() {
+        return size;
+    }
+}
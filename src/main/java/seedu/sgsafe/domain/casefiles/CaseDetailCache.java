@@ -0,0 +1,230 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.type.InvalidCase;
+import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounds how many cases hold their detail fields in memory, for archives too large to keep fully on the heap.
+ * <p>
+ * Every case stays in the {@link CaseManager} case list, but once it has been written to the save file only its
+ * summary fields (ID, status, category, date, title, timestamps and numeric fields) need to stay in memory.
+ * The detail fields, i.e. the info, victim, officer and the subclass-specific text fields, are kept for at most
+ * {@code capacity} cases, in least recently used order. The details of other cases are released and read back
+ * from their line in the save file when they are next accessed, so summary listings never load them.
+ * <p>
+ * A case that changed since it was last saved is never released, so no edit is lost before it is written.
+ * The cache is disabled by default.
+ */
+public class CaseDetailCache {
+
+    private static final Logger logger = Logger.getLogger(CaseDetailCache.class.getName());
+
+    /** Maximum number of saved cases whose details are kept in memory; 0 while the cache is disabled. */
+    private static int capacity = 0;
+
+    /** The save file the case lines are read back from. */
+    private static Path saveFile = null;
+
+    /** The save file opened for reading, kept open between restores; {@code null} until details are first read. */
+    private static FileChannel saveFileChannel = null;
+
+    /** Saved cases whose details are in memory, least recently used first. */
+    private static final LinkedHashMap<Case, Boolean> loadedCases = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Number of times details were read back from the save file. */
+    private static long restoreCount = 0;
+
+    /**
+     * Starts bounding the number of cases with their details in memory.
+     *
+     * @param saveFile the file {@link Storage} saves the cases to
+     * @param capacity the maximum number of saved cases to keep fully in memory; at least 1
+     */
+    public static void enable(Path saveFile, int capacity) {
+        assert capacity > 0 : "capacity should be positive";
+        CaseDetailCache.saveFile = saveFile;
+        CaseDetailCache.capacity = capacity;
+        logger.log(Level.INFO, "Keeping the details of at most " + capacity + " cases in memory");
+    }
+
+    /**
+     * Stops bounding memory. Released details stay released, so this is only called before cases are loaded
+     * or by tests.
+     */
+    public static void disable() {
+        closeSaveFile();
+        capacity = 0;
+        saveFile = null;
+        loadedCases.clear();
+        restoreCount = 0;
+    }
+
+    public static boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    public static int getCapacity() {
+        return capacity;
+    }
+
+    public static int getLoadedCount() {
+        return loadedCases.size();
+    }
+
+    public static long getRestoreCount() {
+        return restoreCount;
+    }
+
+    /**
+     * Records where a case was written in the save file. The case is now saved, so its details may be released.
+     *
+     * @param c      the case
+     * @param offset the byte offset of its line in the save file
+     * @param length the length of its line in bytes, excluding the line separator
+     */
+    public static void setSavedLocation(Case c, long offset, int length) {
+        if (c instanceof InvalidCase) {
+            return;
+        }
+        c.saveOffset = offset;
+        c.saveLength = length;
+        c.setUnsaved(false);
+        if (!c.isDetailsReleased()) {
+            loadedCases.put(c, Boolean.TRUE);
+            releaseLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Returns whether the case's line in the save file is up to date, so it can be copied instead of rebuilt.
+     *
+     * @param c the case
+     * @return {@code true} if the case has not changed since it was saved
+     */
+    public static boolean hasCurrentSavedLine(Case c) {
+        return c.saveOffset != Case.NO_SAVE_OFFSET && !c.isUnsaved();
+    }
+
+    public static long getSavedOffset(Case c) {
+        return c.saveOffset;
+    }
+
+    public static int getSavedLength(Case c) {
+        return c.saveLength;
+    }
+
+    /**
+     * Builds the save string of a case without keeping its details in memory if they were released.
+     *
+     * @param c the case to save
+     * @return the case's save string
+     */
+    public static String getSaveString(Case c) {
+        if (!c.isDetailsReleased()) {
+            return c.toSaveString();
+        }
+        restore(c);
+        String saveString = c.toSaveString();
+        c.releaseDetails();
+        loadedCases.remove(c);
+        return saveString;
+    }
+
+    /**
+     * Marks a case as most recently used, reading its details back first if they were released.
+     *
+     * @param c the case about to be read
+     */
+    static void recordAccess(Case c) {
+        if (c.isDetailsReleased()) {
+            restore(c);
+        }
+        if (c.saveOffset != Case.NO_SAVE_OFFSET) {
+            loadedCases.put(c, Boolean.TRUE);
+            releaseLeastRecentlyUsed();
+        }
+    }
+
+    /**
+     * Stops tracking a case that was removed from the {@link CaseManager}.
+     *
+     * @param c the removed case
+     */
+    static void forget(Case c) {
+        loadedCases.remove(c);
+    }
+
+    /**
+     * Releases the details of the least recently used saved cases until at most {@code capacity} remain.
+     * Cases with unsaved changes are skipped.
+     */
+    private static void releaseLeastRecentlyUsed() {
+        Iterator<Case> iterator = loadedCases.keySet().iterator();
+        while (loadedCases.size() > capacity && iterator.hasNext()) {
+            Case c = iterator.next();
+            if (c.isUnsaved()) {
+                continue;
+            }
+            c.releaseDetails();
+            iterator.remove();
+        }
+    }
+
+    private static void restore(Case c) {
+        assert c.saveOffset != Case.NO_SAVE_OFFSET : "Released case should have a saved line";
+        String line = readSavedLine(c.saveOffset, c.saveLength);
+        Map<String, String> savedFields = Storage.getFields(line);
+        savedFields.keySet().retainAll(c.getDetailFields());
+        c.restoreDetails(Parser.convertFlagValueTypes(savedFields));
+        restoreCount++;
+    }
+
+    /**
+     * Closes the save file if it is open, e.g. before {@link Storage} replaces it. It is opened again when details
+     * are next read back.
+     */
+    public static void closeSaveFile() {
+        if (saveFileChannel == null) {
+            return;
+        }
+        try {
+            saveFileChannel.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not close " + saveFile, e);
+        }
+        saveFileChannel = null;
+    }
+
+    private static String readSavedLine(long offset, int length) {
+        try {
+            if (saveFileChannel == null) {
+                saveFileChannel = FileChannel.open(saveFile, StandardOpenOption.READ);
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            while (bytes.hasRemaining()) {
+                if (saveFileChannel.read(bytes, offset + bytes.position()) < 0) {
+                    throw new EOFException("Saved line ends past the end of " + saveFile);
+                }
+            }
+            return new String(bytes.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Could not read case details back from " + saveFile, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
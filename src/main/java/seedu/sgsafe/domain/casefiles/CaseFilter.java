@@ -0,0 +1,294 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.index.NameIndex;
+import seedu.sgsafe.domain.casefiles.index.PlateIndex;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Describes a set of cases to operate on in a single pass.
+ * <p>
+ * Every criterion is optional and is set through the chainable {@code with...} methods; an unset
+ * criterion matches every case. All set criteria must hold for a case to match. Deleted cases never match.
+ */
+public class CaseFilter {
+
+    /** The edit distance at which names count as similar unless another is given. */
+    public static final int DEFAULT_NAME_DISTANCE = 2;
+
+    /** The category a case must belong to, or {@code null} for any category. */
+    private CaseCategory category;
+
+    /** {@code true} for open cases only, {@code false} for closed cases only, or {@code null} for both. */
+    private Boolean isOpen;
+
+    /** The earliest incident date (inclusive), or {@code null} for no lower bound. */
+    private LocalDate fromDate;
+
+    /** The latest incident date (inclusive), or {@code null} for no upper bound. */
+    private LocalDate toDate;
+
+    /** The earliest last-updated timestamp (inclusive), or {@code null} for no bound. */
+    private LocalDateTime updatedSince;
+
+    /** The earliest creation timestamp (inclusive), or {@code null} for no bound. */
+    private LocalDateTime createdSince;
+
+    /** The officer a case must be assigned to (case-insensitive), or {@code null} for any officer. */
+    private String officer;
+
+    /** The lowercase IDs a case must have, or {@code null} to match on the other criteria only. */
+    private Set<String> ids;
+
+    /** The normalised vehicle plate a traffic case must involve, or {@code null} for any case. */
+    private String vehiclePlate;
+
+    /** The normalised name a case's victim must be similar to, or {@code null} for any victim. */
+    private String similarVictim;
+
+    /** The normalised name a case's officer must be similar to, or {@code null} for any officer. */
+    private String similarOfficer;
+
+    /** The largest edit distance at which a name counts as similar. */
+    private int maxNameDistance = DEFAULT_NAME_DISTANCE;
+
+    public CaseFilter withCategory(CaseCategory category) {
+        this.category = category;
+        return this;
+    }
+
+    public CaseFilter withStatus(Boolean isOpen) {
+        this.isOpen = isOpen;
+        return this;
+    }
+
+    /**
+     * Restricts the incident date to the given inclusive range.
+     *
+     * @param fromDate the earliest date, or {@code null} for no lower bound
+     * @param toDate   the latest date, or {@code null} for no upper bound
+     * @return this filter
+     */
+    public CaseFilter withDateRange(LocalDate fromDate, LocalDate toDate) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        return this;
+    }
+
+    public CaseFilter withUpdatedSince(LocalDateTime updatedSince) {
+        this.updatedSince = updatedSince;
+        return this;
+    }
+
+    public CaseFilter withCreatedSince(LocalDateTime createdSince) {
+        this.createdSince = createdSince;
+        return this;
+    }
+
+    public CaseFilter withOfficer(String officer) {
+        this.officer = officer;
+        return this;
+    }
+
+    public CaseFilter withIds(Set<String> ids) {
+        this.ids = ids;
+        return this;
+    }
+
+    /**
+     * Restricts the cases to traffic cases involving the given vehicle plate, ignoring letter case and spaces.
+     *
+     * @param vehiclePlate the plate, or {@code null} for any case
+     * @return this filter
+     */
+    public CaseFilter withVehiclePlate(String vehiclePlate) {
+        this.vehiclePlate = PlateIndex.normalisePlate(vehiclePlate);
+        return this;
+    }
+
+    /**
+     * Restricts the cases to those whose victim's name is within {@link #withMaxNameDistance(int) the name
+     * distance} of the given name, ignoring letter case and extra spaces.
+     *
+     * @param victim the name, or {@code null} for any victim
+     * @return this filter
+     */
+    public CaseFilter withSimilarVictim(String victim) {
+        this.similarVictim = NameIndex.normaliseName(victim);
+        return this;
+    }
+
+    /**
+     * Restricts the cases to those whose officer's name is within {@link #withMaxNameDistance(int) the name
+     * distance} of the given name, ignoring letter case and extra spaces.
+     *
+     * @param officer the name, or {@code null} for any officer
+     * @return this filter
+     */
+    public CaseFilter withSimilarOfficer(String officer) {
+        this.similarOfficer = NameIndex.normaliseName(officer);
+        return this;
+    }
+
+    public CaseFilter withMaxNameDistance(int maxNameDistance) {
+        this.maxNameDistance = maxNameDistance;
+        return this;
+    }
+
+    public CaseCategory getCategory() {
+        return category;
+    }
+
+    public Boolean getStatus() {
+        return isOpen;
+    }
+
+    public String getOfficer() {
+        return officer;
+    }
+
+    public Set<String> getIds() {
+        return ids;
+    }
+
+    public String getVehiclePlate() {
+        return vehiclePlate;
+    }
+
+    public String getSimilarVictim() {
+        return similarVictim;
+    }
+
+    public String getSimilarOfficer() {
+        return similarOfficer;
+    }
+
+    public int getMaxNameDistance() {
+        return maxNameDistance;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public LocalDateTime getUpdatedSince() {
+        return updatedSince;
+    }
+
+    public LocalDateTime getCreatedSince() {
+        return createdSince;
+    }
+
+    public boolean hasDateRange() {
+        return fromDate != null || toDate != null;
+    }
+
+    /**
+     * Returns whether no criterion has been set, i.e. the filter matches every live case.
+     *
+     * @return {@code true} if the filter is empty
+     */
+    public boolean isEmpty() {
+        return category == null && isOpen == null && !hasDateRange() && updatedSince == null
+                && createdSince == null && officer == null && ids == null && vehiclePlate == null
+                && similarVictim == null && similarOfficer == null;
+    }
+
+    /**
+     * Returns whether the given case satisfies every criterion of this filter.
+     * <p>
+     * The cheap enum and flag checks run before the date and string comparisons.
+     *
+     * @param caseRecord the case to test
+     * @return {@code true} if the case matches; {@code false} otherwise
+     */
+    public boolean matches(Case caseRecord) {
+        if (caseRecord.isDeleted()) {
+            return false;
+        }
+        if (category != null && caseRecord.getCategory() != category) {
+            return false;
+        }
+        if (isOpen != null && caseRecord.isOpen() != isOpen) {
+            return false;
+        }
+        if (!isWithinDateRange(caseRecord.getDate())) {
+            return false;
+        }
+        if (!isAtOrAfter(caseRecord.getUpdatedAt(), updatedSince)
+                || !isAtOrAfter(caseRecord.getCreatedAt(), createdSince)) {
+            return false;
+        }
+        if (officer != null && !officer.equalsIgnoreCase(caseRecord.getOfficer())) {
+            return false;
+        }
+        if (ids != null && (caseRecord.getId() == null || !ids.contains(caseRecord.getId().toLowerCase()))) {
+            return false;
+        }
+        if (vehiclePlate != null && !hasVehiclePlate(caseRecord)) {
+            return false;
+        }
+        return isSimilarName(caseRecord.getVictim(), similarVictim)
+                && isSimilarName(caseRecord.getOfficer(), similarOfficer);
+    }
+
+    private boolean isSimilarName(String name, String similarName) {
+        if (similarName == null) {
+            return true;
+        }
+        String normalisedName = NameIndex.normaliseName(name);
+        return normalisedName != null && NameIndex.getDistance(normalisedName, similarName) <= maxNameDistance;
+    }
+
+    private boolean hasVehiclePlate(Case caseRecord) {
+        Object plate = caseRecord.getFieldValue("vehicle-plate");
+        return plate != null && vehiclePlate.equals(PlateIndex.normalisePlate(plate.toString()));
+    }
+
+    private boolean isWithinDateRange(LocalDate date) {
+        if (!hasDateRange()) {
+            return true;
+        }
+        if (date == null) {
+            return false;
+        }
+        return (fromDate == null || !date.isBefore(fromDate)) && (toDate == null || !date.isAfter(toDate));
+    }
+
+    private static boolean isAtOrAfter(LocalDateTime timestamp, LocalDateTime bound) {
+        return bound == null || (timestamp != null && !timestamp.isBefore(bound));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CaseFilter otherFilter)) {
+            return false;
+        }
+        return category == otherFilter.category && Objects.equals(isOpen, otherFilter.isOpen)
+                && Objects.equals(fromDate, otherFilter.fromDate) && Objects.equals(toDate, otherFilter.toDate)
+                && Objects.equals(updatedSince, otherFilter.updatedSince)
+                && Objects.equals(createdSince, otherFilter.createdSince)
+                && Objects.equals(officer, otherFilter.officer) && Objects.equals(ids, otherFilter.ids)
+                && Objects.equals(vehiclePlate, otherFilter.vehiclePlate)
+                && Objects.equals(similarVictim, otherFilter.similarVictim)
+                && Objects.equals(similarOfficer, otherFilter.similarOfficer)
+                && maxNameDistance == otherFilter.maxNameDistance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, isOpen, fromDate, toDate, updatedSince, createdSince, officer, ids, vehiclePlate,
+                similarVictim, similarOfficer, maxNameDistance);
+    }
+}
@@ -33,19 +33,34 @@ public class CaseFormatter {
     /** Format specifiers for summary fields. */
     static final String MAX_STATUS_STRING_WIDTH   = "%-8s";   // [Closed] is the longest
     static final String MAX_CATEGORY_STRING_WIDTH = "%-16s";  // Traffic accident is the longest
-    static final String MAX_ID_STRING_WIDTH       = "%-6s";   // 6-char hex ID
     static final String MAX_DATE_STRING_WIDTH     = "%-10s";  // dd/MM/yyyy
     static final String MAX_TITLE_STRING_WIDTH    = "%s";     // do not truncate title here
     static final int MAX_TITLE_WIDTH              = 40;       // title is truncated separately using this with ellipses
 
-    /** Composite format string for summary lines. */
-    public static final String SUMMARY_FORMAT_STRING =
-            MAX_STATUS_STRING_WIDTH + " "
+    //@@author
+
+    /** Composite format strings for summary lines, indexed by the width of the ID column. */
+    private static final String[] SUMMARY_FORMAT_STRINGS = new String[Case.MAX_ID_LENGTH + 1];
+
+    static {
+        for (int width = Case.MIN_ID_LENGTH; width <= Case.MAX_ID_LENGTH; width++) {
+            SUMMARY_FORMAT_STRINGS[width] = MAX_STATUS_STRING_WIDTH + " "
                     + MAX_CATEGORY_STRING_WIDTH + " "
-                    + MAX_ID_STRING_WIDTH + " "
+                    + "%-" + width + "s "
                     + MAX_DATE_STRING_WIDTH + " "
                     + MAX_TITLE_STRING_WIDTH;
-    //@@author
+        }
+    }
+
+    /**
+     * Returns the format string for summary lines. The ID column is as wide as the longest case ID, which is six
+     * characters until more than 16,777,216 cases have been created.
+     *
+     * @return the composite format string for status, category, ID, date and title
+     */
+    public static String getSummaryFormatString() {
+        return SUMMARY_FORMAT_STRINGS[CaseManager.getIdColumnWidth()];
+    }
 
     /**
      * Converts a case status flag into a display string.
@@ -75,7 +90,7 @@ public class CaseFormatter {
             String title) {
         String statusString = "[" + convertStatusToString(status) + "]";
         String titleString = truncateWithEllipses(title, MAX_TITLE_WIDTH);
-        return String.format(SUMMARY_FORMAT_STRING,
+        return String.format(getSummaryFormatString(),
                 statusString, category, id, date, titleString);
     }
 
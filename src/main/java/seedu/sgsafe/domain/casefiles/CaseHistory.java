@@ -0,0 +1,435 @@
+package seedu.sgsafe.domain.casefiles;
+
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps an append-only history of the changes made to each managed case, so that a case can be seen as it was
+ * at an earlier time.
+ * <p>
+ * Each change is a version holding its time and the previous values of only the fields it changed, so memory
+ * grows with the number of edits rather than the number of cases: a case that never changes has no history. A
+ * case is seen at an earlier time by starting from its current values and undoing the versions made since,
+ * newest first. Every {@value #CHECKPOINT_INTERVAL}th version of a case also keeps a checkpoint of all its values
+ * just before that version, so at most {@value #CHECKPOINT_INTERVAL} versions are undone, however long the history.
+ * <p>
+ * New versions are also kept as lines of text until they are saved, so that they can be appended to a log and
+ * read back by {@link #load(List, Map)} on the next start. Once a case is purged or archived, the log is instead
+ * rewritten from {@link #getSaveLines()}, so it only grows with the cases still kept. Changes made before a case's
+ * history was kept are not known, so a case is never shown older than its earliest version.
+ */
+public class CaseHistory {
+
+    /** Name under which the status of a case is versioned, as in the save file. */
+    public static final String OPEN_FIELD = "is-open";
+
+    /** Name under which the deleted flag of a case is versioned, as in the save file. */
+    public static final String DELETED_FIELD = "is-deleted";
+
+    /** Name under which the last update time of a case is versioned, as in the save file. */
+    public static final String UPDATED_AT_FIELD = "updated-at";
+
+    /** Number of versions between two checkpoints of a case. */
+    private static final int CHECKPOINT_INTERVAL = 16;
+
+    /** Separator between the values of a saved line. */
+    private static final String SAVE_SEPARATOR = "|";
+
+    /** Separator between a field and its value in a saved line. */
+    private static final String VALUE_SEPARATOR = ":";
+
+    private static final Logger logger = Logger.getLogger(CaseHistory.class.getName());
+
+    /** The versions of each case that has changed. */
+    private static final IdentityHashMap<Case, VersionLog> logsByCase = new IdentityHashMap<>();
+
+    /** The versions recorded since the history was last saved, as saved lines. */
+    private static final List<String> unsavedLines = new ArrayList<>();
+
+    /** Whether the saved history holds versions of cases that are gone, so it should be rewritten. */
+    private static boolean isRewriteNeeded = false;
+
+    /**
+     * The versions of one case, oldest first, in parallel arrays.
+     */
+    private static class VersionLog {
+        /** The time of each version, in seconds since the epoch in UTC like the timestamps of {@link Case}. */
+        private long[] times = new long[2];
+
+        /** The fields changed by each version. */
+        private String[][] fields = new String[2][];
+
+        /** The values those fields held before each version. */
+        private Object[][] previousValues = new Object[2][];
+
+        private int size = 0;
+
+        /** All values of the case just before each version whose index is a positive multiple of the interval. */
+        private final HashMap<Integer, Map<String, Object>> checkpoints = new HashMap<>();
+
+        /** Whether every checkpoint is present; versions loaded from a log are checkpointed when first read. */
+        private boolean isCheckpointed = true;
+
+        private void append(long time, String[] changedFields, Object[] changedValues) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+                previousValues = Arrays.copyOf(previousValues, size * 2);
+            }
+            times[size] = time;
+            fields[size] = changedFields;
+            previousValues[size] = changedValues;
+            size++;
+        }
+
+        /**
+         * Returns the number of versions made at or before a time, i.e. the index of the first one after it.
+         */
+        private int countVersionsUntil(long time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (times[middle] <= time) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private void undo(int version, Map<String, Object> values) {
+            for (int i = 0; i < fields[version].length; i++) {
+                values.put(fields[version][i], previousValues[version][i]);
+            }
+        }
+    }
+
+    private CaseHistory() {
+    }
+
+    /**
+     * Returns the current value of a versioned field of a case, including the status, deleted flag and last update
+     * time under {@link #OPEN_FIELD}, {@link #DELETED_FIELD} and {@link #UPDATED_AT_FIELD}.
+     *
+     * @param c     the case
+     * @param field the field, as named by the add and edit flags
+     * @return the value, or {@code null} if it is not set or the case does not have the field
+     */
+    public static Object getValue(Case c, String field) {
+        return switch (field) {
+        case OPEN_FIELD -> c.isOpen();
+        case DELETED_FIELD -> c.isDeleted();
+        case UPDATED_AT_FIELD -> c.getUpdatedAt();
+        default -> c.getFieldValue(field);
+        };
+    }
+
+    /**
+     * Returns the current values of the fields of a case that are about to change, and of its last update time,
+     * to be passed to {@link #record(Case, Map)} once they have.
+     *
+     * @param c      the case about to change
+     * @param fields the fields about to change
+     * @return the current values, which may be {@code null}
+     */
+    static Map<String, Object> capture(Case c, Collection<String> fields) {
+        Map<String, Object> values = new HashMap<>();
+        for (String field : fields) {
+            values.put(field, getValue(c, field));
+        }
+        values.put(UPDATED_AT_FIELD, c.getUpdatedAt());
+        return values;
+    }
+
+    /**
+     * Records a change to a managed case as a new version holding the fields whose value changed. A change that
+     * only touched the last update time is not recorded.
+     *
+     * @param c              the case that changed
+     * @param previousValues the values from {@link #capture(Case, Collection)} before the change
+     */
+    static void record(Case c, Map<String, Object> previousValues) {
+        List<String> changedFields = new ArrayList<>();
+        List<Object> changedValues = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : previousValues.entrySet()) {
+            if (!Objects.equals(entry.getValue(), getValue(c, entry.getKey()))) {
+                changedFields.add(entry.getKey());
+                changedValues.add(entry.getValue());
+            }
+        }
+        if (changedFields.isEmpty() || changedFields.equals(List.of(UPDATED_AT_FIELD))) {
+            return;
+        }
+        long time = toEpochSecond(c.getUpdatedAt() == null ? LocalDateTime.now() : c.getUpdatedAt());
+        VersionLog log = logsByCase.computeIfAbsent(c, key -> new VersionLog());
+        int version = log.size;
+        log.append(time, changedFields.toArray(new String[0]), changedValues.toArray());
+        if (version > 0 && version % CHECKPOINT_INTERVAL == 0) {
+            Map<String, Object> values = getCurrentValues(c);
+            log.undo(version, values);
+            log.checkpoints.put(version, values);
+        }
+        unsavedLines.add(toSaveLine(c.getId(), time, log.fields[version], log.previousValues[version]));
+    }
+
+    /**
+     * Returns a case as it was at a given time, built from its current values and its history.
+     *
+     * @param c    a managed case
+     * @param time the time to see the case at
+     * @return {@code c} itself if it has not changed since, a detached copy holding its values at that time, or
+     *         {@code null} if it was created later. The copy may be a deleted case.
+     */
+    public static Case getCaseAsOf(Case c, LocalDateTime time) {
+        if (c.getCreatedAt() != null && c.getCreatedAt().isAfter(time)) {
+            return null;
+        }
+        VersionLog log = logsByCase.get(c);
+        int versionCount = log == null ? 0 : log.countVersionsUntil(toEpochSecond(time));
+        if (log == null || versionCount == log.size || c.getCategory() == null) {
+            return c;
+        }
+        return createCopy(c, getValuesBefore(log, c, versionCount));
+    }
+
+    /**
+     * Returns the number of versions recorded for a case.
+     */
+    public static int getVersionCount(Case c) {
+        VersionLog log = logsByCase.get(c);
+        return log == null ? 0 : log.size;
+    }
+
+    /**
+     * Returns the number of versions of a case made after a given time.
+     */
+    public static int getVersionCountAfter(Case c, LocalDateTime time) {
+        VersionLog log = logsByCase.get(c);
+        return log == null ? 0 : log.size - log.countVersionsUntil(toEpochSecond(time));
+    }
+
+    /**
+     * Returns the values of a case just before one of its versions, starting from the nearest later checkpoint,
+     * or from the current values if there is none.
+     */
+    private static Map<String, Object> getValuesBefore(VersionLog log, Case c, int version) {
+        if (!log.isCheckpointed) {
+            addCheckpoints(log, c);
+        }
+        int checkpoint = Math.max(CHECKPOINT_INTERVAL,
+                (version + CHECKPOINT_INTERVAL - 1) / CHECKPOINT_INTERVAL * CHECKPOINT_INTERVAL);
+        Map<String, Object> values;
+        int next;
+        if (checkpoint < log.size) {
+            values = new HashMap<>(log.checkpoints.get(checkpoint));
+            next = checkpoint;
+        } else {
+            values = getCurrentValues(c);
+            next = log.size;
+        }
+        for (int i = next - 1; i >= version; i--) {
+            log.undo(i, values);
+        }
+        return values;
+    }
+
+    /**
+     * Adds the missing checkpoints of a log by undoing all of its versions once, newest first.
+     */
+    private static void addCheckpoints(VersionLog log, Case c) {
+        Map<String, Object> values = getCurrentValues(c);
+        for (int i = log.size - 1; i >= CHECKPOINT_INTERVAL; i--) {
+            log.undo(i, values);
+            if (i % CHECKPOINT_INTERVAL == 0) {
+                log.checkpoints.putIfAbsent(i, new HashMap<>(values));
+            }
+        }
+        log.isCheckpointed = true;
+    }
+
+    private static Map<String, Object> getCurrentValues(Case c) {
+        List<String> fields = new ArrayList<>(c.getValidEditFlags());
+        fields.add(OPEN_FIELD);
+        fields.add(DELETED_FIELD);
+        return capture(c, fields);
+    }
+
+    /**
+     * Builds a detached case of the same category and ID holding the given values. The copy is not managed and
+     * has no side effects, so building or displaying it never changes the indexes, the history or the shared
+     * stores; see {@link Case#initialiseDetachedCopy(Map, boolean, boolean, LocalDateTime, LocalDateTime)}.
+     */
+    private static Case createCopy(Case c, Map<String, Object> values) {
+        Case copy = CaseFactory.createCase(c.getCategory(), c.getId(), null, null, null, null, null);
+        Map<String, Object> fieldValues = new HashMap<>(values);
+        fieldValues.keySet().removeAll(List.of(OPEN_FIELD, DELETED_FIELD, UPDATED_AT_FIELD));
+        copy.initialiseDetachedCopy(fieldValues, Boolean.TRUE.equals(values.get(OPEN_FIELD)),
+                Boolean.TRUE.equals(values.get(DELETED_FIELD)), c.getCreatedAt(),
+                (LocalDateTime) values.get(UPDATED_AT_FIELD));
+        return copy;
+    }
+
+    /**
+     * Returns the versions recorded since {@link #clearUnsavedLines()}, as lines to append to the history log.
+     *
+     * @return lines of the form {@code ID|TIME|FIELD:VALUE|...}, oldest first
+     */
+    public static List<String> getUnsavedLines() {
+        return new ArrayList<>(unsavedLines);
+    }
+
+    /**
+     * Returns whether the saved history holds versions of cases that were purged, archived or skipped when it was
+     * loaded, so that it should be rewritten from {@link #getSaveLines()} rather than appended to.
+     */
+    public static boolean isRewriteNeeded() {
+        return isRewriteNeeded;
+    }
+
+    /**
+     * Returns every version of the cases that are still managed, as lines that replace the whole history log.
+     *
+     * @return lines of the form {@code ID|TIME|FIELD:VALUE|...}, oldest first for each case
+     */
+    public static List<String> getSaveLines() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<Case, VersionLog> entry : logsByCase.entrySet()) {
+            VersionLog log = entry.getValue();
+            for (int i = 0; i < log.size; i++) {
+                lines.add(toSaveLine(entry.getKey().getId(), log.times[i], log.fields[i], log.previousValues[i]));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Marks the versions returned by {@link #getUnsavedLines()}, or all of them after a rewrite, as saved.
+     */
+    public static void clearUnsavedLines() {
+        unsavedLines.clear();
+        isRewriteNeeded = false;
+    }
+
+    /**
+     * Adds the versions read back from the history log to the cases they belong to. Lines of cases that are no
+     * longer managed, such as purged or archived ones, and invalid lines are skipped.
+     *
+     * @param lines     the lines of the log, oldest first
+     * @param casesById the managed cases by ID
+     * @return the number of versions added
+     */
+    static int load(List<String> lines, Map<String, Case> casesById) {
+        int loadedCount = 0;
+        for (String line : lines) {
+            String[] values = line.split("\\" + SAVE_SEPARATOR);
+            Case c = casesById.get(values[0]);
+            if (c == null || values.length < 3) {
+                isRewriteNeeded = true;
+                continue;
+            }
+            try {
+                long time = Long.parseLong(values[1]);
+                String[] fields = new String[values.length - 2];
+                Object[] previousValues = new Object[values.length - 2];
+                for (int i = 2; i < values.length; i++) {
+                    int separator = values[i].indexOf(VALUE_SEPARATOR);
+                    fields[i - 2] = values[i].substring(0, separator);
+                    previousValues[i - 2] = decodeValue(values[i].substring(separator + 1));
+                }
+                VersionLog log = logsByCase.computeIfAbsent(c, key -> new VersionLog());
+                log.append(time, fields, previousValues);
+                log.isCheckpointed = false;
+                loadedCount++;
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Skipping invalid history line: " + line);
+                isRewriteNeeded = true;
+            }
+        }
+        return loadedCount;
+    }
+
+    /**
+     * Drops the history of a case that was removed from the {@link CaseManager}, so that the next save rewrites
+     * the history log without it.
+     *
+     * @param c the removed case
+     */
+    static void forget(Case c) {
+        if (logsByCase.remove(c) != null) {
+            isRewriteNeeded = true;
+        }
+    }
+
+    /**
+     * Drops every history and unsaved version. Only called by tests.
+     */
+    public static void clear() {
+        logsByCase.clear();
+        unsavedLines.clear();
+        isRewriteNeeded = false;
+    }
+
+    private static String toSaveLine(String id, long time, String[] fields, Object[] previousValues) {
+        StringBuilder line = new StringBuilder(id).append(SAVE_SEPARATOR).append(time);
+        for (int i = 0; i < fields.length; i++) {
+            line.append(SAVE_SEPARATOR).append(fields[i]).append(VALUE_SEPARATOR)
+                    .append(encodeValue(previousValues[i]));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Writes a value with a one-letter prefix naming its type, or as nothing if it is {@code null}.
+     */
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            return "";
+        } else if (value instanceof Boolean flag) {
+            return "b" + (flag ? "1" : "0");
+        } else if (value instanceof Integer) {
+            return "i" + value;
+        } else if (value instanceof Double) {
+            return "d" + value;
+        } else if (value instanceof LocalDate) {
+            return "t" + value;
+        } else if (value instanceof LocalDateTime) {
+            return "T" + value;
+        }
+        return "s" + value;
+    }
+
+    private static Object decodeValue(String encoded) {
+        if (encoded.isEmpty()) {
+            return null;
+        }
+        String value = encoded.substring(1);
+        return switch (encoded.charAt(0)) {
+        case 'b' -> value.equals("1");
+        case 'i' -> Integer.valueOf(value);
+        case 'd' -> Double.valueOf(value);
+        case 't' -> LocalDate.parse(value);
+        case 'T' -> LocalDateTime.parse(value);
+        case 's' -> value;
+        default -> throw new IllegalArgumentException(encoded);
+        };
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
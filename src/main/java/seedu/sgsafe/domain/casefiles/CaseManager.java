@@ -1,10 +1,36 @@
 package seedu.sgsafe.domain.casefiles;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.sgsafe.domain.casefiles.index.CaseIndex;
+import seedu.sgsafe.domain.casefiles.index.CaseRollup;
+import seedu.sgsafe.domain.casefiles.index.CaseStatistics;
+import seedu.sgsafe.domain.casefiles.index.DateRangeIndex;
+import seedu.sgsafe.domain.casefiles.index.EntityLinkIndex;
+import seedu.sgsafe.domain.casefiles.index.HotspotIndex;
+import seedu.sgsafe.domain.casefiles.index.MinHashIndex;
+import seedu.sgsafe.domain.casefiles.index.NameIndex;
+import seedu.sgsafe.domain.casefiles.index.NumericRangeIndex;
+import seedu.sgsafe.domain.casefiles.index.OfficerWorkload;
+import seedu.sgsafe.domain.casefiles.index.PlateIndex;
+import seedu.sgsafe.domain.casefiles.index.PrefixIndex;
 
 import seedu.sgsafe.utils.exceptions.CaseAlreadyClosedException;
 import seedu.sgsafe.utils.exceptions.CaseCannotBeEditedException;
@@ -28,6 +54,133 @@ public class CaseManager {
      */
     private static ArrayList<Case> caseList = new ArrayList<>();
 
+    /** Lookup table from lowercase case ID to its live {@link Case}, kept in step with {@code caseList}. */
+    private static final HashMap<String, Case> caseIdIndex = new HashMap<>();
+
+    /** Live cases ordered by incident date, keyed by epoch day. */
+    private static final DateRangeIndex incidentDateIndex = new DateRangeIndex(
+            c -> c.hasDate() ? (long) c.getEpochDay() : null);
+
+    /** Live cases ordered by creation timestamp, keyed by epoch second. */
+    private static final DateRangeIndex createdAtIndex = new DateRangeIndex(
+            c -> c.hasCreatedAt() ? c.getCreatedAtEpochSecond() : null);
+
+    /** Live cases ordered by last-updated timestamp, keyed by epoch second. */
+    private static final DateRangeIndex updatedAtIndex = new DateRangeIndex(
+            c -> c.hasUpdatedAt() ? c.getUpdatedAtEpochSecond() : null);
+
+    /** Counts and sums over the live cases. */
+    private static final CaseStatistics caseStatistics = new CaseStatistics();
+
+    /** Live cases counted per week of incident, category and status. */
+    private static final CaseRollup weeklyRollup = new CaseRollup(CaseRollup.Granularity.WEEK);
+
+    /** Live cases counted per month of incident, category and status. */
+    private static final CaseRollup monthlyRollup = new CaseRollup(CaseRollup.Granularity.MONTH);
+
+    /** Live traffic cases keyed by normalised vehicle plate. */
+    private static final PlateIndex plateIndex = new PlateIndex();
+
+    /** Live cases keyed by victim name, searchable by edit distance. */
+    private static final NameIndex victimIndex = new NameIndex(Case::getVictim);
+
+    /** Live cases keyed by officer name, searchable by edit distance. */
+    private static final NameIndex officerIndex = new NameIndex(Case::getOfficer);
+
+    /** Status, category, date and title of every entry of {@code caseList}, stored column by column. */
+    private static final CaseColumns caseColumns = new CaseColumns();
+
+    /** The numeric fields that have a range index, as named by the add and edit flags. */
+    private static final List<String> NUMERIC_RANGE_FIELDS = List.of("financial-value", "monetary-damage",
+            "speed-limit", "exceeded-speed", "number-of-victims", "number-of-casualties");
+
+    /** The derived field holding how far a speeding case exceeded the speed limit. */
+    private static final String SPEED_OVER_LIMIT_FIELD = "over-limit";
+
+    /** Live cases ordered by each numeric field, keyed by field name. */
+    private static final Map<String, NumericRangeIndex> numericIndexes = createNumericIndexes();
+
+    /** The smallest share of title and info text two cases must have in common to be likely duplicates. */
+    public static final double DEFAULT_DUPLICATE_SIMILARITY = 0.6;
+
+    /** Live cases filed by the MinHash signature of their title and info, to find likely duplicates. */
+    private static final MinHashIndex duplicateIndex = new MinHashIndex();
+
+    /** Live cases keyed by the victims, officers, vehicle plates and places they share with other cases. */
+    private static final EntityLinkIndex entityIndex = new EntityLinkIndex();
+
+    /** Open case counts and oldest open case of each officer. */
+    private static final OfficerWorkload officerWorkload = new OfficerWorkload();
+
+    /** The text fields whose values can be completed from a prefix. */
+    private static final List<String> SUGGEST_FIELDS = List.of("title", "officer", "victim", "road-name");
+
+    /** The distinct values of each text field in {@code SUGGEST_FIELDS}, keyed by field name. */
+    private static final Map<String, PrefixIndex> prefixIndexes = createPrefixIndexes();
+
+    /** The place fields whose busiest values over recent days can be listed. */
+    private static final List<String> HOTSPOT_FIELDS = List.of("road-name", "location");
+
+    /** Recent case counts of the values of each field in {@code HOTSPOT_FIELDS}, keyed by field name. */
+    private static final Map<String, HotspotIndex> hotspotIndexes = createHotspotIndexes();
+
+    /** Secondary indexes kept current by {@link #addCase(Case)} and the mutators of {@link Case}. */
+    private static final List<CaseIndex> secondaryIndexes = Stream.concat(
+            Stream.of(incidentDateIndex, createdAtIndex, updatedAtIndex, caseStatistics, weeklyRollup, monthlyRollup,
+                    plateIndex, victimIndex, officerIndex, duplicateIndex, entityIndex, officerWorkload),
+            Stream.concat(Stream.concat(numericIndexes.values().stream(), prefixIndexes.values().stream()),
+                    hotspotIndexes.values().stream())).toList();
+
+    /**
+     * Generation of the current indexes. A case is indexed if its {@code indexGeneration} equals this value,
+     * so a rebuild implicitly drops every case that is no longer in {@code caseList}.
+     */
+    private static int indexGeneration = 1;
+
+    /** Number of entries of {@code caseList} reflected in the indexes. */
+    private static int indexedCaseCount = 0;
+
+    /** The last entry of {@code caseList} reflected in the indexes, used to detect out-of-band changes. */
+    private static Case lastIndexedCase = null;
+
+    /** Incremented on every change to a managed case, so derived results can tell when they are stale. */
+    private static long modificationCount = 0;
+
+    /** One more than the largest canonical ID among the cases in {@code caseList}. */
+    private static long nextIdValue = 0;
+
+    /** Number of IDs held by cases outside {@code caseList}, such as archived cases, that must not be reused. */
+    private static long reservedIdCount = 0;
+
+    /** Number of characters of the longest ID in {@code caseList}, so listings can align the ID column. */
+    private static int idColumnWidth = Case.MIN_ID_LENGTH;
+
+    /** The most recent fully sorted listing, reused while no case changes. */
+    private static SortedSnapshot sortedSnapshot = null;
+
+    /**
+     * A fully sorted list of the cases matching a filter, valid while {@code modificationCount} is unchanged.
+     */
+    private record SortedSnapshot(long modificationCount, CaseFilter filter, CaseSortKey sortKey,
+                                  boolean isDescending, List<Case> cases) {
+        boolean isFor(CaseFilter filter, CaseSortKey sortKey, boolean isDescending) {
+            return this.modificationCount == CaseManager.modificationCount && this.filter.equals(filter)
+                    && this.sortKey == sortKey && this.isDescending == isDescending;
+        }
+    }
+
+    /**
+     * Summarises a bulk operation.
+     *
+     * @param matched number of cases matching the filter
+     * @param changed number of matching cases the action was (or would be) applied to
+     */
+    public record BulkResult(int matched, int changed) {
+        public int skipped() {
+            return matched - changed;
+        }
+    }
+
     public static int getCaseListSize() {
         return caseList.size();
     }
@@ -36,6 +189,418 @@ public class CaseManager {
         return caseList;
     }
 
+    /**
+     * Returns the aggregates over all live cases.
+     * <p>
+     * The statistics are maintained incrementally as cases are added and changed, so reading them does not
+     * scan the case list.
+     *
+     * @return the current case statistics
+     */
+    public static CaseStatistics getStatistics() {
+        synchroniseIndexes();
+        return caseStatistics;
+    }
+
+    /**
+     * Returns the number of live cases involving each vehicle plate, read from the plate index.
+     *
+     * @return a new map from normalised plate to its number of live cases
+     */
+    public static Map<String, Integer> getPlateCaseCounts() {
+        synchroniseIndexes();
+        return plateIndex.getCaseCounts();
+    }
+
+    private static Map<String, NumericRangeIndex> createNumericIndexes() {
+        Map<String, NumericRangeIndex> indexes = new LinkedHashMap<>();
+        for (String field : NUMERIC_RANGE_FIELDS) {
+            indexes.put(field, new NumericRangeIndex(c -> (Number) c.getFieldValue(field)));
+        }
+        indexes.put(SPEED_OVER_LIMIT_FIELD, new NumericRangeIndex(CaseManager::getSpeedOverLimit));
+        return indexes;
+    }
+
+    /**
+     * Returns how far a speeding case exceeded the speed limit, or {@code null} if either speed is not set.
+     */
+    private static Number getSpeedOverLimit(Case c) {
+        Object speedLimit = c.getFieldValue("speed-limit");
+        Object exceededSpeed = c.getFieldValue("exceeded-speed");
+        if (speedLimit == null || exceededSpeed == null) {
+            return null;
+        }
+        return ((Number) exceededSpeed).intValue() - ((Number) speedLimit).intValue();
+    }
+
+    /**
+     * Returns the counts of live cases per period of incident, category and status.
+     * <p>
+     * The counts are maintained incrementally as cases are added, edited, closed, reopened and deleted, so
+     * reading a trend costs time proportional to the number of periods read.
+     *
+     * @param granularity whether to count per week or per month
+     * @return the rollup of the given granularity
+     */
+    public static CaseRollup getRollup(CaseRollup.Granularity granularity) {
+        synchroniseIndexes();
+        return granularity == CaseRollup.Granularity.WEEK ? weeklyRollup : monthlyRollup;
+    }
+
+    /**
+     * Returns the weekly and monthly rollups as lines of text, to be saved next to the cases and passed to
+     * {@link #restoreRollups(List)} on the next start.
+     *
+     * @return the saved lines of both rollups
+     */
+    public static List<String> getRollupSaveLines() {
+        synchroniseIndexes();
+        List<String> lines = new ArrayList<>(weeklyRollup.toSaveLines());
+        lines.addAll(monthlyRollup.toSaveLines());
+        return lines;
+    }
+
+    /**
+     * Restores the weekly and monthly rollups saved with the cases that are about to be loaded, so that adding
+     * those cases does not count them again. Must be followed by {@link #completeRollupRestore()} once they are
+     * loaded.
+     *
+     * @param lines the lines from {@link #getRollupSaveLines()}
+     * @return {@code true} if the rollups were restored; {@code false} if cases are already loaded or a line is
+     *         invalid, in which case the cases are counted as they are added
+     */
+    public static boolean restoreRollups(List<String> lines) {
+        synchroniseIndexes();
+        if (!caseList.isEmpty()) {
+            return false;
+        }
+        if (weeklyRollup.restore(lines) && monthlyRollup.restore(lines)) {
+            return true;
+        }
+        weeklyRollup.clear();
+        monthlyRollup.clear();
+        return false;
+    }
+
+    /**
+     * Checks that the cases loaded since {@link #restoreRollups(List)} are the ones the restored rollups count,
+     * and counts the rollups again from the case list if they are not.
+     *
+     * @return {@code true} if the restored rollups were kept
+     */
+    public static boolean completeRollupRestore() {
+        synchroniseIndexes();
+        if (weeklyRollup.isRestoreComplete() && monthlyRollup.isRestoreComplete()) {
+            return true;
+        }
+        logger.log(Level.INFO, "Saved rollups do not match the loaded cases, counting them again");
+        for (CaseRollup rollup : List.of(weeklyRollup, monthlyRollup)) {
+            rollup.clear();
+            for (Case c : caseList) {
+                if (!c.isDeleted()) {
+                    rollup.add(c);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a case as it was at the end of a day, built from its history.
+     *
+     * @param id   the case ID, in any letter case
+     * @param date the day to see the case at
+     * @return the case, or a detached copy of it, as it was at the end of {@code date}; or {@code null} if no
+     *         case holds the ID, or the case had not been created or was deleted by then
+     */
+    public static Case getCaseAsOf(String id, LocalDate date) {
+        synchroniseIndexes();
+        Case c = caseIdIndex.get(toIdKey(id));
+        Case caseAsOf = c == null ? null : CaseHistory.getCaseAsOf(c, date.atTime(LocalTime.MAX));
+        return caseAsOf == null || caseAsOf.isDeleted() ? null : caseAsOf;
+    }
+
+    /**
+     * Returns the cases as they were at the end of a day, built from their histories.
+     * <p>
+     * Cases created later, or deleted by then, are left out. Only the cases changed since that day are rebuilt,
+     * each from its nearest checkpoint, so the cost is one look-up per case plus the versions undone.
+     *
+     * @param date   the day to see the cases at
+     * @param isOpen {@code true} or {@code false} to keep only the cases that were open or closed by then, or
+     *               {@code null} to keep both
+     * @return the cases, or detached copies of them, in insertion order
+     */
+    public static List<Case> findCasesAsOf(LocalDate date, Boolean isOpen) {
+        synchroniseIndexes();
+        LocalDateTime time = date.atTime(LocalTime.MAX);
+        List<Case> cases = new ArrayList<>();
+        for (Case c : caseList) {
+            Case caseAsOf = CaseHistory.getCaseAsOf(c, time);
+            if (caseAsOf != null && !caseAsOf.isDeleted() && (isOpen == null || caseAsOf.isOpen() == isOpen)) {
+                cases.add(caseAsOf);
+            }
+        }
+        return cases;
+    }
+
+    /**
+     * Adds the versions read back from the history log to the cases loaded from the save file.
+     *
+     * @param lines the lines appended to the log from {@link CaseHistory#getUnsavedLines()}, oldest first
+     * @return the number of versions added
+     */
+    public static int restoreHistory(List<String> lines) {
+        synchroniseIndexes();
+        Map<String, Case> casesById = new HashMap<>();
+        for (Case c : caseList) {
+            if (c.getId() != null) {
+                casesById.put(c.getId(), c);
+            }
+        }
+        return CaseHistory.load(lines, casesById);
+    }
+
+    /**
+     * Returns the numeric fields that can be queried by range, including the derived {@code over-limit}.
+     *
+     * @return the field names, in display order
+     */
+    public static List<String> getRangeFields() {
+        return List.copyOf(numericIndexes.keySet());
+    }
+
+    public static boolean isRangeField(String field) {
+        return numericIndexes.containsKey(field);
+    }
+
+    /**
+     * Returns the value a case is ordered by in the range index of the given field.
+     *
+     * @param field a field from {@link #getRangeFields()}
+     * @param c     the case
+     * @return the value of the field, or {@code null} if the case has none
+     */
+    public static Double getRangeFieldValue(String field, Case c) {
+        assert isRangeField(field) : "field should have a range index";
+        return numericIndexes.get(field).getKey(c);
+    }
+
+    /**
+     * Finds the live cases matching the filter whose numeric field lies within an inclusive range.
+     * <p>
+     * The range is found by binary search in the field's {@link NumericRangeIndex}, and the cases in it are
+     * walked from the requested end, so asking for the largest or smallest few values stops after those cases
+     * instead of reading every case in the range.
+     *
+     * @param field        a field from {@link #getRangeFields()}
+     * @param min          the smallest value to include
+     * @param max          the largest value to include
+     * @param filter       the other criteria the cases must satisfy
+     * @param limit        the most cases to return
+     * @param isDescending whether to return the largest values first
+     * @return the matching cases, ordered by the field
+     */
+    public static List<Case> findCasesInRange(String field, double min, double max, CaseFilter filter, int limit,
+                                              boolean isDescending) {
+        assert isRangeField(field) : "field should have a range index";
+        assert filter != null && limit > 0 : "filter should not be null and limit should be positive";
+        synchroniseIndexes();
+        List<Case> matches = new ArrayList<>();
+        for (Case c : numericIndexes.get(field).iterate(min, max, isDescending)) {
+            if (matches.size() == limit) {
+                break;
+            }
+            if (filter.matches(c)) {
+                matches.add(c);
+            }
+        }
+        return matches;
+    }
+
+    private static Map<String, PrefixIndex> createPrefixIndexes() {
+        Map<String, PrefixIndex> indexes = new LinkedHashMap<>();
+        for (String field : SUGGEST_FIELDS) {
+            indexes.put(field, new PrefixIndex(c -> {
+                Object value = c.getFieldValue(field);
+                return value == null ? null : value.toString();
+            }));
+        }
+        return indexes;
+    }
+
+    private static Map<String, HotspotIndex> createHotspotIndexes() {
+        Map<String, HotspotIndex> indexes = new LinkedHashMap<>();
+        for (String field : HOTSPOT_FIELDS) {
+            indexes.put(field, new HotspotIndex(field));
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the text fields whose values can be completed by {@link #suggest(String, String, int)}.
+     *
+     * @return the field names, in display order
+     */
+    public static List<String> getSuggestFields() {
+        return SUGGEST_FIELDS;
+    }
+
+    public static boolean isSuggestField(String field) {
+        return prefixIndexes.containsKey(field);
+    }
+
+    /**
+     * Returns the most common values of a text field among the live cases that start with the given prefix.
+     * <p>
+     * The completions are read from the field's {@link PrefixIndex}, so the cost depends on the number of
+     * completions asked for rather than on the number of cases.
+     *
+     * @param field  a field from {@link #getSuggestFields()}
+     * @param prefix the typed prefix, ignoring letter case and extra spaces
+     * @param limit  the most completions to return
+     * @return the completions, most common first
+     */
+    public static List<PrefixIndex.Completion> suggest(String field, String prefix, int limit) {
+        assert isSuggestField(field) : "field should have a prefix index";
+        synchroniseIndexes();
+        return prefixIndexes.get(field).complete(prefix, limit);
+    }
+
+    /**
+     * Returns the live cases whose title and info read almost the same as the given ones, most similar first,
+     * e.g. to warn that a case being added may already have been filed.
+     * <p>
+     * The cases are looked up in a {@link MinHashIndex}, so only the few cases sharing part of a signature with
+     * the text are compared with it.
+     *
+     * @param title the title to compare
+     * @param info  the info to compare
+     * @return the likely duplicates, each with its estimated similarity
+     */
+    public static List<MinHashIndex.Match> findLikelyDuplicates(String title, String info) {
+        synchroniseIndexes();
+        return duplicateIndex.findSimilar(MinHashIndex.getComparedText(title, info), DEFAULT_DUPLICATE_SIMILARITY);
+    }
+
+    /**
+     * Groups the cases that are likely duplicates of each other, among the live cases and the given other cases.
+     * <p>
+     * Without other cases, the groups are read from the {@link MinHashIndex} of the live cases. Otherwise a
+     * separate index is built over both, which costs one signature per case rather than one comparison per pair.
+     *
+     * @param minSimilarity the smallest estimated similarity for two cases to be grouped, from 0 to 1
+     * @param otherCases    further cases to group, such as the archived cases
+     * @return the groups of two or more cases, largest first
+     */
+    public static List<List<Case>> findLikelyDuplicateGroups(double minSimilarity, List<Case> otherCases) {
+        synchroniseIndexes();
+        if (otherCases.isEmpty()) {
+            return duplicateIndex.findGroups(minSimilarity);
+        }
+        MinHashIndex combinedIndex = new MinHashIndex();
+        for (Case c : caseList) {
+            if (!c.isDeleted()) {
+                combinedIndex.add(c);
+            }
+        }
+        for (Case c : otherCases) {
+            combinedIndex.add(c);
+        }
+        return combinedIndex.findGroups(minSimilarity);
+    }
+
+    /**
+     * Returns the place fields whose busiest values can be listed by {@link #findHotspots(String, int, int)}.
+     *
+     * @return the field names, in display order
+     */
+    public static List<String> getHotspotFields() {
+        return HOTSPOT_FIELDS;
+    }
+
+    public static boolean isHotspotField(String field) {
+        return hotspotIndexes.containsKey(field);
+    }
+
+    /**
+     * Returns the values of a place field with the most live cases over the last days up to today, busiest
+     * first, each with its count over the same number of days before.
+     * <p>
+     * The counts are read from a {@link HotspotIndex}, which keeps a fixed-size sketch per recent day, so the
+     * cost does not depend on the number of cases or places. Counts may be slightly overestimated.
+     *
+     * @param field a field from {@link #getHotspotFields()}
+     * @param days  the number of days, ending today, from 1 to half of {@link HotspotIndex#DAY_SLOT_COUNT}
+     * @param limit the most places to return
+     * @return the busiest places
+     */
+    public static List<HotspotIndex.Hotspot> findHotspots(String field, int days, int limit) {
+        assert isHotspotField(field) : "field should have a hotspot index";
+        synchroniseIndexes();
+        return hotspotIndexes.get(field).findHotspots(LocalDate.now(), days, limit);
+    }
+
+    /**
+     * Returns the live cases that share a victim, officer, vehicle plate or place with the given case, each with
+     * the entities it shares.
+     * <p>
+     * The cases are read from an {@link EntityLinkIndex}, so the cost depends on the number of related cases
+     * rather than on the number of cases.
+     *
+     * @param c the case, live or archived
+     * @return the related cases other than {@code c}, in the order they were added
+     */
+    public static Map<Case, List<EntityLinkIndex.Entity>> getRelatedCases(Case c) {
+        synchroniseIndexes();
+        return entityIndex.getRelatedCases(c);
+    }
+
+    /**
+     * Returns the live cases linked to the given case through a chain of shared entities, nearest first.
+     *
+     * @param c        the case to start from, live or archived
+     * @param maxDepth the most links to follow
+     * @param limit    the most cases to return
+     * @return the linked cases, each with its distance from {@code c} and the entity it was reached through
+     */
+    public static List<EntityLinkIndex.Link> findLinkedCases(Case c, int maxDepth, int limit) {
+        synchroniseIndexes();
+        return entityIndex.traverse(c, maxDepth, limit);
+    }
+
+    /**
+     * Returns the open-case workload of every officer with open cases, busiest first.
+     * <p>
+     * The workloads are kept current as cases are opened, closed, deleted and reassigned, so this costs time
+     * proportional to the number of officers rather than the number of cases.
+     *
+     * @return the workloads, each with its open count, category counts and oldest open case
+     */
+    public static List<OfficerWorkload.Workload> getOfficerWorkloads() {
+        synchroniseIndexes();
+        return officerWorkload.getWorkloadsByOpenCount();
+    }
+
+    /**
+     * Returns the open-case workload of one officer.
+     *
+     * @param officer the officer's name, ignoring letter case and extra spaces
+     * @return the workload, or {@code null} if the officer has no open cases
+     */
+    public static OfficerWorkload.Workload getOfficerWorkload(String officer) {
+        synchroniseIndexes();
+        return officerWorkload.getWorkload(officer);
+    }
+
+    /**
+     * Returns the open cases without an officer, counted like the workload of an officer.
+     */
+    public static OfficerWorkload.Workload getUnassignedWorkload() {
+        synchroniseIndexes();
+        return officerWorkload.getUnassigned();
+    }
+
     /**
      * Adds a new case to the case list.
      *
@@ -43,7 +608,201 @@ public class CaseManager {
      */
     public static void addCase(Case newCase) {
         assert newCase != null : "newCase should not be null";
+        synchroniseIndexes();
         caseList.add(newCase);
+        indexCase(newCase);
+        modificationCount++;
+        indexedCaseCount = caseList.size();
+        lastIndexedCase = newCase;
+    }
+
+    /**
+     * Removes cases from the case list, for example after they were moved to the archive.
+     * <p>
+     * The indexes are rebuilt once for the whole batch.
+     *
+     * @param cases the managed cases to remove
+     */
+    public static void removeCases(Collection<Case> cases) {
+        Set<Case> casesToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        casesToRemove.addAll(cases);
+        caseList.removeIf(casesToRemove::contains);
+        for (Case c : casesToRemove) {
+            CaseDetailCache.forget(c);
+            CaseHistory.forget(c);
+        }
+        indexedCaseCount = -1;
+        synchroniseIndexes();
+    }
+
+    /**
+     * Returns whether a case in the case list, including a deleted one, holds the given ID.
+     *
+     * @param id the case ID to look up, in any letter case
+     * @return {@code true} if the ID is taken by a case in the case list
+     */
+    public static boolean isIdInUse(String id) {
+        synchroniseIndexes();
+        return caseIdIndex.containsKey(toIdKey(id));
+    }
+
+    /**
+     * Prevents {@link #generateHexId()} from allocating any ID below the given value, for example because the ID
+     * is held by an archived case or was held by a purged one. An earlier, higher reservation is kept.
+     *
+     * @param value the lowest numeric ID that may still be allocated
+     */
+    public static void reserveIdsBelow(long value) {
+        reservedIdCount = Math.max(reservedIdCount, value);
+    }
+
+    /**
+     * Drops every reservation made by {@link #reserveIdsBelow(long)}. Only called before cases are loaded, or by
+     * tests.
+     */
+    public static void clearReservedIds() {
+        reservedIdCount = 0;
+    }
+
+    /**
+     * Returns the numeric value of the ID {@link #generateHexId()} would allocate next. It is saved with the cases,
+     * so that IDs are not reused across restarts even after the cases holding the highest IDs are removed.
+     *
+     * @return one more than the largest ID in use or reserved
+     */
+    public static long getNextIdValue() {
+        synchroniseIndexes();
+        return Math.max(Math.max(getCaseListSize(), nextIdValue), reservedIdCount);
+    }
+
+    /**
+     * Physically removes every deleted case from the case list. The next save drops them from the save file.
+     * <p>
+     * The IDs of the purged cases stay reserved, so that every surviving and future case keeps a unique ID.
+     *
+     * @param isDryRun whether to only count the deleted cases
+     * @return the number of deleted cases purged, or that would be purged in a dry run
+     */
+    public static int purgeDeletedCases(boolean isDryRun) {
+        synchroniseIndexes();
+        List<Case> deletedCases = new ArrayList<>();
+        for (Case c : caseList) {
+            if (c.isDeleted()) {
+                deletedCases.add(c);
+            }
+        }
+        if (!isDryRun && !deletedCases.isEmpty()) {
+            reserveIdsBelow(getNextIdValue());
+            removeCases(deletedCases);
+            logger.log(Level.INFO, "Purged " + deletedCases.size() + " deleted case(s)");
+        }
+        return deletedCases.size();
+    }
+
+    /**
+     * Rebuilds the indexes if {@code caseList} was modified without going through {@link #addCase(Case)},
+     * for example by a caller holding the list returned by {@link #getCaseList()}.
+     */
+    private static void synchroniseIndexes() {
+        int size = caseList.size();
+        Case lastCase = size == 0 ? null : caseList.get(size - 1);
+        if (size == indexedCaseCount && lastCase == lastIndexedCase) {
+            return;
+        }
+        logger.log(Level.FINE, "Case list changed outside CaseManager, rebuilding indexes");
+        indexGeneration++;
+        modificationCount++;
+        nextIdValue = 0;
+        idColumnWidth = Case.MIN_ID_LENGTH;
+        caseIdIndex.clear();
+        caseColumns.clear();
+        for (CaseIndex index : secondaryIndexes) {
+            index.clear();
+        }
+        for (Case c : caseList) {
+            indexCase(c);
+        }
+        indexedCaseCount = size;
+        lastIndexedCase = lastCase;
+    }
+
+    private static void indexCase(Case c) {
+        c.indexGeneration = indexGeneration;
+        caseColumns.append(c);
+        if (c.hasCanonicalId()) {
+            nextIdValue = Math.max(nextIdValue, c.getIdValue() + 1);
+        }
+        if (c.getId() != null) {
+            idColumnWidth = Math.min(Case.MAX_ID_LENGTH, Math.max(idColumnWidth, c.getId().length()));
+            String key = toIdKey(c.getId());
+            Case existing = caseIdIndex.get(key);
+            if (existing == null || existing.isDeleted()) {
+                caseIdIndex.put(key, c);
+            }
+        }
+        if (!c.isDeleted()) {
+            for (CaseIndex index : secondaryIndexes) {
+                index.add(c);
+            }
+        }
+    }
+
+    /**
+     * Removes a managed case from the secondary indexes before one of its fields changes.
+     * <p>
+     * Called by the mutators of {@link Case} while the case still holds its old values.
+     * Cases that are not held by the manager are ignored.
+     *
+     * @param c the case about to change
+     */
+    static void beforeCaseChange(Case c) {
+        synchroniseIndexes();
+        // Deleted cases are not in the secondary indexes, and the indexes find a case again from its fields
+        if (c.indexGeneration != indexGeneration || c.isDeleted()) {
+            return;
+        }
+        for (CaseIndex index : secondaryIndexes) {
+            index.remove(c);
+        }
+    }
+
+    /**
+     * Re-adds a managed case to the secondary indexes after its fields have changed,
+     * and marks it as changed since it was last saved.
+     *
+     * @param c the case that changed
+     */
+    static void afterCaseChange(Case c) {
+        c.setUnsaved(true);
+        if (c.indexGeneration != indexGeneration) {
+            return;
+        }
+        modificationCount++;
+        caseColumns.update(c);
+        if (c.isDeleted()) {
+            return;
+        }
+        for (CaseIndex index : secondaryIndexes) {
+            index.add(c);
+        }
+    }
+
+    /**
+     * Like {@link #afterCaseChange(Case)}, and also records the change as a new version in the
+     * {@link CaseHistory} of a managed case.
+     *
+     * @param c              the case that changed
+     * @param previousValues the values of the changed fields before the change, from {@link CaseHistory}
+     */
+    static void afterCaseChange(Case c, Map<String, Object> previousValues) {
+        if (c.indexGeneration == indexGeneration) {
+            CaseHistory.record(c, previousValues);
+        }
+        afterCaseChange(c);
+    }
+
+    private static Long toEpochSecond(LocalDateTime timestamp) {
+        return timestamp == null ? null : timestamp.toEpochSecond(ZoneOffset.UTC);
     }
 
     //@@author shennontay
@@ -55,13 +814,12 @@ public class CaseManager {
      */
     public static Case getCaseById(String id) {
         logger.log(Level.FINE, "Fetching case by ID: " + id);
-        String lookupId = id.toLowerCase();
+        synchroniseIndexes();
 
-        Case result = caseList.stream()
-                .filter(c -> c.getId().equals(lookupId))
-                .filter(c -> !c.isDeleted())
-                .findFirst()
-                .orElse(null);
+        Case result = caseIdIndex.get(toIdKey(id));
+        if (result != null && result.isDeleted()) {
+            result = null;
+        }
 
         if (result == null) {
             logger.log(Level.FINE, "No case found: " + id);
@@ -112,7 +870,7 @@ public class CaseManager {
      * Finds the case by its {@code caseId} using {@link #getCaseById(String)} and applies
      * the updates from {@code newFlagValues} via {@link Case#update(Map)}.
      *
-     * @param caseId the 6-character hexadecimal case ID
+     * @param caseId the hexadecimal case ID
      * @param newFlagValues map of field names to new values
      * @return the updated case’s display line
      * @throws CaseNotFoundException   if no case with the given ID exists
@@ -204,16 +962,383 @@ public class CaseManager {
         return caseToDelete.getDisplayLine();
     }
 
+    /**
+     * Collects every case matching the given filter.
+     * <p>
+     * Candidates are taken from the most selective available index instead of the whole case list:
+     * explicit IDs are resolved through the ID index, date or timestamp bounds are answered by a
+     * binary search in the matching {@link DateRangeIndex}, a vehicle plate is looked up in the
+     * {@link PlateIndex}, and a similar victim or officer name is searched for in a {@link NameIndex}. The
+     * remaining criteria are then checked
+     * on the candidates only. Without any of these criteria, the status and category are checked by a
+     * scan over the column store rather than over the cases themselves.
+     *
+     * @param filter the criteria to match
+     * @return the matching cases; in date order when a date bound was used, otherwise in case list order
+     */
+    public static List<Case> findMatchingCases(CaseFilter filter) {
+        assert filter != null : "filter should not be null";
+        synchroniseIndexes();
+        if (canScanColumns(filter, true)) {
+            return scanColumns(filter, null);
+        }
+        return filterCandidates(filter, getCandidateCases(filter));
+    }
+
+    /**
+     * Collects every case matching the given filter, in no particular order.
+     * <p>
+     * Unlike {@link #findMatchingCases(CaseFilter)}, a date range is checked by the column scan instead
+     * of the date index, since the result does not need to be in date order.
+     */
+    private static List<Case> findMatchingCasesUnordered(CaseFilter filter) {
+        synchroniseIndexes();
+        if (canScanColumns(filter, false)) {
+            return scanColumns(filter, null);
+        }
+        return filterCandidates(filter, getCandidateCases(filter));
+    }
+
+    private static List<Case> filterCandidates(CaseFilter filter, List<Case> candidates) {
+        List<Case> matches = new ArrayList<>();
+        for (Case c : candidates) {
+            if (filter.matches(c)) {
+                matches.add(c);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns whether the column store can answer the filter without a more selective index: the IDs, plates,
+     * similar names and timestamp bounds are only held by indexes, and a date range must use the date index to
+     * keep date order.
+     */
+    private static boolean canScanColumns(CaseFilter filter, boolean isOrderNeeded) {
+        return filter.getIds() == null && filter.getVehiclePlate() == null
+                && filter.getSimilarVictim() == null && filter.getSimilarOfficer() == null
+                && filter.getUpdatedSince() == null && filter.getCreatedSince() == null
+                && (!isOrderNeeded || !filter.hasDateRange());
+    }
+
+    /**
+     * Returns the cases whose columns match the filter's status, category and date range and, if given,
+     * whose title contains the keyword, in case list order. The officer, which is not stored in a column,
+     * is checked on the matching cases only.
+     */
+    private static List<Case> scanColumns(CaseFilter filter, String lowerKeyword) {
+        int[] slots = caseColumns.scan(filter.getStatus(), filter.getCategory(),
+                filter.getFromDate(), filter.getToDate(), lowerKeyword);
+        List<Case> matches = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            Case c = caseList.get(slot);
+            if (filter.getOfficer() == null || filter.matches(c)) {
+                matches.add(c);
+            }
+        }
+        return matches;
+    }
+
+    private static List<Case> getCandidateCases(CaseFilter filter) {
+        if (filter.getIds() != null) {
+            List<Case> candidates = new ArrayList<>();
+            for (String id : filter.getIds()) {
+                Case c = caseIdIndex.get(toIdKey(id));
+                if (c != null) {
+                    candidates.add(c);
+                }
+            }
+            return candidates;
+        }
+        if (filter.hasDateRange()) {
+            return findCasesByDateRange(filter.getFromDate(), filter.getToDate());
+        }
+        if (filter.getVehiclePlate() != null) {
+            return plateIndex.find(filter.getVehiclePlate());
+        }
+        if (filter.getSimilarVictim() != null) {
+            return victimIndex.findSimilar(filter.getSimilarVictim(), filter.getMaxNameDistance());
+        }
+        if (filter.getSimilarOfficer() != null) {
+            return officerIndex.findSimilar(filter.getSimilarOfficer(), filter.getMaxNameDistance());
+        }
+        if (filter.getUpdatedSince() != null) {
+            return updatedAtIndex.findInRange(toEpochSecond(filter.getUpdatedSince()), Long.MAX_VALUE);
+        }
+        if (filter.getCreatedSince() != null) {
+            return createdAtIndex.findInRange(toEpochSecond(filter.getCreatedSince()), Long.MAX_VALUE);
+        }
+        return caseList;
+    }
+
+    /**
+     * Returns one page of the cases matching the filter, ordered by the requested key.
+     * <p>
+     * Only the requested page is materialised. The first page is selected directly: for {@code date} and
+     * {@code updated} by walking the matching {@link DateRangeIndex} in order and stopping once the page is
+     * full, and for the other keys with a bounded heap holding at most one page of cases. Later pages are
+     * sliced from a sorted snapshot that is built once and reused until a case changes, so paging through
+     * the listing costs O(page size) per page after the first.
+     *
+     * @param filter  the criteria the listed cases must satisfy
+     * @param request the sort order and the page to return
+     * @return the cases on the requested page, in order; empty if the page is past the last case
+     */
+    public static List<Case> getSortedPage(CaseFilter filter, CasePageRequest request) {
+        return getSortedPage(filter, request, 0);
+    }
+
+    /**
+     * Returns one page of the cases matching the filter, like {@link #getSortedPage(CaseFilter, CasePageRequest)},
+     * followed by up to {@code extraCount} of the cases after it. Asking for one extra case tells whether there is
+     * a next page without counting every matching case.
+     *
+     * @param filter     the criteria the listed cases must satisfy
+     * @param request    the sort order and the page to return
+     * @param extraCount the number of cases after the page to include
+     * @return the cases on the requested page and after it, in order; empty if the page is past the last case
+     */
+    public static List<Case> getSortedPage(CaseFilter filter, CasePageRequest request, int extraCount) {
+        assert filter != null : "filter should not be null";
+        assert extraCount >= 0 : "extraCount should not be negative";
+        synchroniseIndexes();
+        int count = request.limit() + extraCount;
+        if (request.getOffset() == 0) {
+            return selectFirstPage(filter, request.sortKey(), request.isDescending(), count);
+        }
+
+        List<Case> sortedCases = getSortedCases(filter, request.sortKey(), request.isDescending());
+        if (request.getOffset() >= sortedCases.size()) {
+            return new ArrayList<>();
+        }
+        int fromIndex = (int) request.getOffset();
+        int toIndex = (int) Math.min(sortedCases.size(), request.getOffset() + count);
+        return new ArrayList<>(sortedCases.subList(fromIndex, toIndex));
+    }
+
+    private static List<Case> selectFirstPage(CaseFilter filter, CaseSortKey sortKey, boolean isDescending,
+                                              int limit) {
+        List<Case> page = new ArrayList<>();
+        Iterable<Case> orderedCases = iterateInOrder(filter, sortKey, isDescending);
+        if (orderedCases != null) {
+            for (Case c : orderedCases) {
+                if (page.size() == limit) {
+                    break;
+                }
+                if (filter.matches(c)) {
+                    page.add(c);
+                }
+            }
+            return page;
+        }
+
+        // Bounded max-heap: the head is the worst of the best cases seen so far
+        Comparator<Case> order = sortKey.getComparator(isDescending);
+        PriorityQueue<Case> heap = new PriorityQueue<>(limit, order.reversed());
+        for (Case c : findMatchingCasesUnordered(filter)) {
+            if (heap.size() < limit) {
+                heap.add(c);
+            } else if (order.compare(c, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(c);
+            }
+        }
+        page.addAll(heap);
+        page.sort(order);
+        return page;
+    }
+
+    private static List<Case> getSortedCases(CaseFilter filter, CaseSortKey sortKey, boolean isDescending) {
+        if (sortedSnapshot != null && sortedSnapshot.isFor(filter, sortKey, isDescending)) {
+            return sortedSnapshot.cases();
+        }
+
+        List<Case> sortedCases;
+        Iterable<Case> orderedCases = iterateInOrder(filter, sortKey, isDescending);
+        if (orderedCases != null) {
+            sortedCases = new ArrayList<>();
+            for (Case c : orderedCases) {
+                if (filter.matches(c)) {
+                    sortedCases.add(c);
+                }
+            }
+        } else {
+            sortedCases = findMatchingCasesUnordered(filter);
+            sortedCases.sort(sortKey.getComparator(isDescending));
+        }
+        sortedSnapshot = new SortedSnapshot(modificationCount, filter, sortKey, isDescending, sortedCases);
+        return sortedCases;
+    }
+
+    /**
+     * Returns the live cases in the order of the given key by walking the matching date index,
+     * narrowed to the filter's bounds on that key, or {@code null} if the key has no index.
+     * <p>
+     * Cases without a value for the key are not indexed, so the index is only walked when the filter's bounds
+     * exclude them anyway or every live case has a value; the comparator would otherwise place them last.
+     */
+    private static Iterable<Case> iterateInOrder(CaseFilter filter, CaseSortKey sortKey, boolean isDescending) {
+        if (filter.getIds() != null) {
+            return null;
+        }
+        Comparator<Case> order = sortKey.getComparator(isDescending);
+        return switch (sortKey) {
+        case DATE -> filter.getFromDate() == null && filter.getToDate() == null
+                && incidentDateIndex.size() < caseStatistics.getTotalCount() ? null : incidentDateIndex.iterate(
+                filter.getFromDate() == null ? Long.MIN_VALUE : filter.getFromDate().toEpochDay(),
+                filter.getToDate() == null ? Long.MAX_VALUE : filter.getToDate().toEpochDay(),
+                isDescending, order);
+        case UPDATED -> filter.getUpdatedSince() == null && updatedAtIndex.size() < caseStatistics.getTotalCount()
+                ? null : updatedAtIndex.iterate(
+                filter.getUpdatedSince() == null ? Long.MIN_VALUE : toEpochSecond(filter.getUpdatedSince()),
+                Long.MAX_VALUE, isDescending, order);
+        default -> null;
+        };
+    }
+
+    /**
+     * Returns the live cases whose incident date lies within the inclusive range, in date order.
+     *
+     * @param fromDate the earliest date, or {@code null} for no lower bound
+     * @param toDate   the latest date, or {@code null} for no upper bound
+     * @return the cases in range
+     */
+    public static List<Case> findCasesByDateRange(LocalDate fromDate, LocalDate toDate) {
+        synchroniseIndexes();
+        long fromDay = fromDate == null ? Long.MIN_VALUE : fromDate.toEpochDay();
+        long toDay = toDate == null ? Long.MAX_VALUE : toDate.toEpochDay();
+        return incidentDateIndex.findInRange(fromDay, toDay);
+    }
+
+    /**
+     * Returns the live cases updated at or after the given timestamp, oldest update first.
+     *
+     * @param since the earliest last-updated timestamp to include
+     * @return the cases updated since {@code since}
+     */
+    public static List<Case> findCasesUpdatedSince(LocalDateTime since) {
+        synchroniseIndexes();
+        return updatedAtIndex.findInRange(toEpochSecond(since), Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the closed, live cases last updated before the given timestamp, oldest update first.
+     * <p>
+     * Closing a case updates it, so for cases that were not edited after closing this is the time they were closed.
+     *
+     * @param cutoff the timestamp the cases must have been last updated before
+     * @return the matching cases
+     */
+    public static List<Case> findCasesClosedBefore(LocalDateTime cutoff) {
+        synchroniseIndexes();
+        List<Case> casesFound = new ArrayList<>();
+        for (Case c : updatedAtIndex.findInRange(Long.MIN_VALUE, toEpochSecond(cutoff) - 1)) {
+            if (!c.isOpen()) {
+                casesFound.add(c);
+            }
+        }
+        return casesFound;
+    }
+
+    /**
+     * Applies a close, open, delete or edit to every case matching the filter in a single pass.
+     * <p>
+     * Matching cases the action does not apply to are skipped rather than aborting the operation:
+     * already closed cases for {@code CLOSE}, already open cases for {@code OPEN}, and closed cases
+     * or cases without the edited fields for {@code EDIT}. In a dry run nothing is modified and
+     * the result reports what would have changed.
+     *
+     * @param filter    the criteria selecting the cases
+     * @param action    the mutation to apply
+     * @param newValues the field values to set for {@code EDIT}; ignored otherwise
+     * @param isDryRun  {@code true} to only count the affected cases
+     * @return the number of matched and changed cases
+     */
+    public static BulkResult bulkUpdate(CaseFilter filter, BulkAction action,
+                                        Map<String, Object> newValues, boolean isDryRun) {
+        assert action != BulkAction.EDIT || (newValues != null && !newValues.isEmpty())
+                : "Bulk edit requires new values";
+        List<Case> matches = findMatchingCasesUnordered(filter);
+        int changed = 0;
+        for (Case c : matches) {
+            if (!isBulkActionApplicable(c, action, newValues)) {
+                continue;
+            }
+            changed++;
+            if (isDryRun) {
+                continue;
+            }
+            switch (action) {
+            case CLOSE -> c.setClosed();
+            case OPEN -> c.setOpen();
+            case DELETE -> c.setDeleted(true);
+            case EDIT -> c.update(newValues);
+            default -> throw new IllegalStateException("Unknown bulk action: " + action);
+            }
+        }
+        logger.log(Level.INFO, "Bulk " + action + (isDryRun ? " (dry run)" : "") + ": "
+                + changed + " of " + matches.size() + " matching cases");
+        return new BulkResult(matches.size(), changed);
+    }
+
+    private static boolean isBulkActionApplicable(Case c, BulkAction action, Map<String, Object> newValues) {
+        return switch (action) {
+        case CLOSE -> c.isOpen();
+        case OPEN -> !c.isOpen();
+        case DELETE -> true;
+        case EDIT -> c.isOpen() && getInvalidEditFlags(c, newValues).isEmpty();
+        };
+    }
+
     public static ArrayList<Case> findCasesByKeyword(String keyword) {
+        return findCasesByKeyword(keyword, new CaseFilter());
+    }
+
+    /**
+     * Finds the cases whose title contains the keyword among the cases matching the filter.
+     * <p>
+     * The filter is resolved first so that date-bounded searches only inspect the titles of
+     * cases in range. Otherwise the titles are checked during the column scan.
+     *
+     * @param keyword the case-insensitive keyword to look for in titles
+     * @param filter  the criteria narrowing the search
+     * @return the matching cases
+     */
+    public static ArrayList<Case> findCasesByKeyword(String keyword, CaseFilter filter) {
+        String lowerKeyword = keyword.toLowerCase();
+        synchroniseIndexes();
+        if (canScanColumns(filter, true)) {
+            return new ArrayList<>(scanColumns(filter, lowerKeyword));
+        }
         ArrayList<Case> casesFound = new ArrayList<>();
-        for (Case c : caseList) {
-            if (c.getTitle().toLowerCase().contains(keyword.toLowerCase())) {
+        for (Case c : findMatchingCases(filter)) {
+            if (c.getTitle() != null && c.getTitle().toLowerCase().contains(lowerKeyword)) {
+                casesFound.add(c);
+            }
+        }
+        return casesFound;
+    }
+
+    /**
+     * Finds the cases whose title, info, victim or officer contain any or all of the matcher's keywords,
+     * among the cases matching the filter.
+     * <p>
+     * Each field of a case is scanned once for all keywords together, in place and ignoring case.
+     *
+     * @param matcher the keywords to look for
+     * @param filter  the criteria narrowing the search
+     * @return the matching cases, in the same order as {@link #findMatchingCases(CaseFilter)}
+     */
+    public static ArrayList<Case> findCasesByKeywords(KeywordMatcher matcher, CaseFilter filter) {
+        ArrayList<Case> casesFound = new ArrayList<>();
+        for (Case c : findMatchingCases(filter)) {
+            if (matcher.matchesFields(c.getTitle(), c.getInfo(), c.getVictim(), c.getOfficer())) {
                 casesFound.add(c);
             }
         }
         return casesFound;
     }
-      
+
     /**
      * Reads and returns the display representation of a case.
      * Throws an {@link CaseNotFoundException} if the case does not exist or has been deleted.
@@ -232,24 +1357,42 @@ public class CaseManager {
     // @@author xelisce
 
     /**
-     * Generates a unique 6-character hexadecimal ID for a new case.
+     * Generates a unique hexadecimal ID of at least 6 characters for a new case.
      * <p>
-     * The ID is derived from the current size of {@code caseList}, formatted as a
-     * zero-padded lowercase hexadecimal string. This ensures compact, readable,
-     * and collision-free identifiers as long as cases are not removed or reordered.
+     * The ID is {@link #getNextIdValue()}: one more than the largest ID in use or reserved by
+     * {@link #reserveIdsBelow(long)}, formatted as a zero-padded lowercase hexadecimal string. IDs are therefore
+     * never reused after cases are archived or purged.
      * <p>
      * Example outputs:
      * <ul>
      *   <li>{@code 000000} — first case</li>
      *   <li>{@code 00000a} — tenth case</li>
      *   <li>{@code 0000ff} — 256th case</li>
+     *   <li>{@code 1000000} — 16,777,217th case, after which IDs grow by one digit at a time</li>
      * </ul>
      *
-     * @return a 6-character hexadecimal string representing the new case ID
+     * @return a hexadecimal string representing the new case ID
      */
     public static String generateHexId() {
-        int raw = getCaseListSize();
-        return String.format(CASE_ID_FORMAT, raw); // zero-padded 6-digit hex
+        long raw = getNextIdValue();
+        return String.format(CASE_ID_FORMAT, raw); // zero-padded to at least 6 hex digits
+    }
+
+    /**
+     * Returns the key of a case ID in {@code caseIdIndex}. IDs of the usual six digits only need lowercasing,
+     * while longer hex IDs are normalised so that redundant leading zeros are ignored.
+     */
+    private static String toIdKey(String id) {
+        return id.length() == Case.MIN_ID_LENGTH ? id.toLowerCase() : Case.normaliseId(id).toLowerCase();
+    }
+
+    /**
+     * Returns the width of the ID column in case listings: the length of the longest ID, and at least six.
+     *
+     * @return the number of characters to reserve for IDs
+     */
+    static int getIdColumnWidth() {
+        return idColumnWidth;
     }
 
 }
@@ -0,0 +1,27 @@
+package seedu.sgsafe.domain.casefiles;
+
+/**
+ * Describes one page of a sorted case listing.
+ *
+ * @param sortKey      the field the cases are ordered by
+ * @param isDescending whether the largest key comes first
+ * @param limit        the maximum number of cases on a page
+ * @param page         the 1-based page number
+ */
+public record CasePageRequest(CaseSortKey sortKey, boolean isDescending, int limit, int page) {
+
+    public CasePageRequest {
+        assert sortKey != null : "sortKey should not be null";
+        assert limit > 0 : "limit should be positive";
+        assert page > 0 : "page should be positive";
+    }
+
+    /**
+     * Returns the number of matching cases that come before this page.
+     *
+     * @return the offset of the first case on this page
+     */
+    public long getOffset() {
+        return (long) (page - 1) * limit;
+    }
+}
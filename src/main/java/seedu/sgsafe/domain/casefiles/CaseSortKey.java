@@ -0,0 +1,50 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.util.Comparator;
+
+/**
+ * Specifies the field a case listing is ordered by.
+ * <p>
+ * Every key orders ties by case ID, so the same cases always land on the same page.
+ */
+public enum CaseSortKey {
+    DATE(Comparator.comparing(Case::getDate, Comparator.nullsLast(Comparator.naturalOrder()))),
+    UPDATED(Comparator.comparing(Case::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder()))),
+    CATEGORY(Comparator.comparing(Case::getCategoryString, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))),
+    TITLE(Comparator.comparing(Case::getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+
+    private final Comparator<Case> comparator;
+
+    CaseSortKey(Comparator<Case> comparator) {
+        this.comparator = comparator.thenComparingLong(CaseSortKey::getIdOrder)
+                .thenComparing(Case::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * Returns the numeric value of a case's ID, so that IDs of different lengths are ordered by value rather than
+     * as text, e.g. so that {@code 0000ff1} comes after {@code 000010}. IDs that are not hex case IDs come last.
+     */
+    private static long getIdOrder(Case c) {
+        long value = c.hasCanonicalId() ? c.getIdValue() : Case.parseIdValue(c.getId());
+        return value == Case.NO_ID_VALUE ? Long.MAX_VALUE : value;
+    }
+
+    /**
+     * Returns the comparator ordering cases by this key.
+     *
+     * @param isDescending whether the largest key should come first
+     * @return the comparator for this key and direction
+     */
+    public Comparator<Case> getComparator(boolean isDescending) {
+        return isDescending ? comparator.reversed() : comparator;
+    }
+
+    /**
+     * Returns the display name of this key as typed by the user, e.g. {@code "date"}.
+     *
+     * @return the lowercase name of this key
+     */
+    public String getDisplayName() {
+        return name().toLowerCase();
+    }
+}
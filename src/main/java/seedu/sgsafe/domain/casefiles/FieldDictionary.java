@@ -0,0 +1,104 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shares a single {@code String} instance per distinct value of a repetitive case field.
+ * <p>
+ * Names of officers and victims, vehicle types, road names, locations, weapons and custom categories repeat
+ * across many cases, yet every loaded or typed value arrives as a fresh {@code String}. Passing each value
+ * through {@link #encode(String)} before storing it replaces equal strings by one canonical instance, so the
+ * duplicates become garbage right away instead of being retained by every case.
+ * <p>
+ * There is one dictionary per field, so that e.g. the handful of weapons is never mixed with the much larger
+ * set of victim names. Each dictionary also counts its lookups to estimate the heap it has saved.
+ */
+public class FieldDictionary {
+
+    /** Estimated size of a {@code String} and its backing array, excluding the characters themselves. */
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    /** Every dictionary by field name, in the order they were created. */
+    private static final Map<String, FieldDictionary> dictionaries = new LinkedHashMap<>();
+
+    public static final FieldDictionary OFFICER = create("officer");
+    public static final FieldDictionary VICTIM = create("victim");
+    public static final FieldDictionary VEHICLE_TYPE = create("vehicle-type");
+    public static final FieldDictionary ROAD_NAME = create("road-name");
+    public static final FieldDictionary LOCATION = create("location");
+    public static final FieldDictionary WEAPON = create("weapon");
+    public static final FieldDictionary CUSTOM_CATEGORY = create("custom-category");
+
+    /** The field whose values this dictionary holds. */
+    private final String fieldName;
+
+    /** Maps each distinct value to its canonical instance. */
+    private final HashMap<String, String> canonicalValues = new HashMap<>();
+
+    /** Number of non-null values passed to {@link #encode(String)}. */
+    private long lookupCount = 0;
+
+    /** Estimated bytes no longer retained because a duplicate was replaced by the canonical instance. */
+    private long savedBytes = 0;
+
+    private FieldDictionary(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    private static FieldDictionary create(String fieldName) {
+        FieldDictionary dictionary = new FieldDictionary(fieldName);
+        dictionaries.put(fieldName, dictionary);
+        return dictionary;
+    }
+
+    /**
+     * Returns every field dictionary, in a fixed order.
+     *
+     * @return an unmodifiable view of the dictionaries
+     */
+    public static Collection<FieldDictionary> getAll() {
+        return Collections.unmodifiableCollection(dictionaries.values());
+    }
+
+    /**
+     * Returns the canonical instance of {@code value}, registering it if the value has not been seen before.
+     *
+     * @param value the value to encode; may be {@code null}
+     * @return a string equal to {@code value} that is shared by every case holding that value,
+     *         or {@code null} if {@code value} is {@code null}
+     */
+    public String encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        lookupCount++;
+        String canonical = canonicalValues.putIfAbsent(value, value);
+        if (canonical == null) {
+            return value;
+        }
+        if (canonical != value) {
+            savedBytes += STRING_OVERHEAD_BYTES + value.length();
+        }
+        return canonical;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public int getDistinctCount() {
+        return canonicalValues.size();
+    }
+
+    public long getLookupCount() {
+        return lookupCount;
+    }
+
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+}
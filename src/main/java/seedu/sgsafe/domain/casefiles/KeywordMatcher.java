@@ -0,0 +1,219 @@
+package seedu.sgsafe.domain.casefiles;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Finds several case-insensitive keywords in a text in a single pass, using an Aho-Corasick automaton.
+ * <p>
+ * The keywords are built into a trie whose nodes also link to the longest proper suffix that is again a path
+ * in the trie. Scanning a text then follows one edge or suffix link per character, and every node records
+ * which keywords end there, so the cost of a scan depends on the length of the text and not on the number
+ * of keywords. A text matches when it contains any keyword or, if all are required, every keyword.
+ * <p>
+ * Each character of a text is lowercased as it is scanned, so texts are searched in place without making a
+ * lowercase copy of them.
+ */
+public class KeywordMatcher {
+
+    /** The most keywords one matcher can look for, so that the keywords found fit in a {@code long}. */
+    public static final int MAX_KEYWORDS = Long.SIZE;
+
+    private static final int ROOT = 0;
+    private static final int NO_NODE = -1;
+
+    /** The distinct lowercase keywords, in the order they were given. */
+    private final List<String> keywords;
+
+    /** Whether a text must contain every keyword, instead of any one of them. */
+    private final boolean isAllRequired;
+
+    /** The bits of all keywords, i.e. the value of the keywords found once every keyword has been found. */
+    private final long allKeywordsMask;
+
+    /** The characters labelling the edges out of each node, in ascending order. */
+    private final char[][] edgeLabels;
+
+    /** The node each edge leads to, in the order of {@link #edgeLabels}. */
+    private final int[][] edgeTargets;
+
+    /** The node for the longest proper suffix of each node's path that is also in the trie. */
+    private final int[] suffixLinks;
+
+    /** The bits of the keywords that end at each node, including those ending at its suffix links. */
+    private final long[] outputs;
+
+    /**
+     * Constructs a matcher for the given keywords. Keywords are compared ignoring case, and empty or repeated
+     * keywords are dropped.
+     *
+     * @param keywords      the keywords to look for; at least one and at most {@link #MAX_KEYWORDS} distinct ones
+     * @param isAllRequired whether a text must contain every keyword to match
+     */
+    public KeywordMatcher(List<String> keywords, boolean isAllRequired) {
+        Set<String> distinctKeywords = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if (!keyword.isEmpty()) {
+                distinctKeywords.add(keyword.toLowerCase());
+            }
+        }
+        assert !distinctKeywords.isEmpty() && distinctKeywords.size() <= MAX_KEYWORDS
+                : "there should be between 1 and " + MAX_KEYWORDS + " keywords";
+        this.keywords = Collections.unmodifiableList(new ArrayList<>(distinctKeywords));
+        this.isAllRequired = isAllRequired;
+        this.allKeywordsMask = this.keywords.size() == Long.SIZE ? -1L : (1L << this.keywords.size()) - 1;
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Long> keywordEnds = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        keywordEnds.add(0L);
+        for (int k = 0; k < this.keywords.size(); k++) {
+            int node = ROOT;
+            for (char ch : this.keywords.get(k).toCharArray()) {
+                Integer next = trie.get(node).get(ch);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(ch, next);
+                    trie.add(new TreeMap<>());
+                    keywordEnds.add(0L);
+                }
+                node = next;
+            }
+            keywordEnds.set(node, keywordEnds.get(node) | (1L << k));
+        }
+
+        int nodeCount = trie.size();
+        edgeLabels = new char[nodeCount][];
+        edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeLabels[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeLabels[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+        suffixLinks = new int[nodeCount];
+        outputs = new long[nodeCount];
+        linkSuffixes(keywordEnds);
+    }
+
+    /**
+     * Sets the suffix link and output of every node, visiting the nodes in breadth-first order so that the
+     * links of shallower nodes are known first.
+     */
+    private void linkSuffixes(List<Long> keywordEnds) {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            outputs[node] = keywordEnds.get(node) | (node == ROOT ? 0 : outputs[suffixLinks[node]]);
+            for (int i = 0; i < edgeLabels[node].length; i++) {
+                int child = edgeTargets[node][i];
+                suffixLinks[child] = node == ROOT ? ROOT : follow(suffixLinks[node], edgeLabels[node][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the node reached from {@code node} on {@code ch}, following suffix links while there is no edge.
+     */
+    private int follow(int node, char ch) {
+        int next = step(node, ch);
+        while (next == NO_NODE && node != ROOT) {
+            node = suffixLinks[node];
+            next = step(node, ch);
+        }
+        return next == NO_NODE ? ROOT : next;
+    }
+
+    private int step(int node, char ch) {
+        char[] labels = edgeLabels[node];
+        int low = 0;
+        int high = labels.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < ch) {
+                low = mid + 1;
+            } else if (labels[mid] > ch) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[node][mid];
+            }
+        }
+        return NO_NODE;
+    }
+
+    /**
+     * Returns which keywords occur in the given text, ignoring case and scanning it once. The scan stops as soon
+     * as the outcome of {@link #matches(CharSequence)} is known.
+     *
+     * @param text the text to scan
+     * @return a bit set with bit {@code i} set if the {@code i}-th keyword of {@link #getKeywords()} was found
+     */
+    public long findKeywords(CharSequence text) {
+        int node = ROOT;
+        long found = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = follow(node, Character.toLowerCase(text.charAt(i)));
+            found |= outputs[node];
+            if (isMatch(found)) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns whether the given text contains any keyword or, if all are required, every keyword.
+     *
+     * @param text the text to scan
+     * @return {@code true} if the text matches
+     */
+    public boolean matches(CharSequence text) {
+        return isMatch(findKeywords(text));
+    }
+
+    /**
+     * Returns whether the given fields together contain any keyword or, if all are required, every keyword.
+     * Each field is scanned on its own, so no keyword matches across two fields.
+     *
+     * @param fields the fields to scan, e.g. the title and info of a case; {@code null} fields are skipped
+     * @return {@code true} if the fields match
+     */
+    public boolean matchesFields(CharSequence... fields) {
+        long found = 0;
+        for (CharSequence field : fields) {
+            if (field == null) {
+                continue;
+            }
+            found |= findKeywords(field);
+            if (isMatch(found)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMatch(long found) {
+        return isAllRequired ? found == allKeywordsMask : found != 0;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public boolean isAllRequired() {
+        return isAllRequired;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+/**
+ * A secondary index over the cases held by {@link seedu.sgsafe.domain.casefiles.CaseManager}.
+ * <p>
+ * The manager only indexes live (non-deleted) cases. Whenever an indexed case is about to change,
+ * {@link #remove(Case)} is called while the case still holds its old values, and {@link #add(Case)}
+ * is called again once the change is complete. Implementations can therefore derive their keys
+ * from the case itself and keep themselves current with deltas instead of rescans.
+ */
+public interface CaseIndex {
+
+    /**
+     * Adds a live case to the index.
+     *
+     * @param c the case to add
+     */
+    void add(Case c);
+
+    /**
+     * Removes a case from the index. Removing a case that is not indexed has no effect.
+     *
+     * @param c the case to remove, still holding the values it was added with
+     */
+    void remove(Case c);
+
+    /**
+     * Removes every case from the index.
+     */
+    void clear();
+}
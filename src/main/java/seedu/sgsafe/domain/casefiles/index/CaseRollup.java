@@ -0,0 +1,238 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Counts the live cases per period of their incident date, category and status, kept current by applying every
+ * change as a delta.
+ * <p>
+ * Like {@link CaseStatistics}, adding a case adds one to its cell and removing it subtracts one, so a trend over
+ * any number of periods is read in time proportional to the number of periods, never the number of cases. Periods
+ * without live cases are dropped. The counts can be written out and restored on the next start, so that loading
+ * the cases need not count them again; see {@link #restore(List)}.
+ */
+public class CaseRollup implements CaseIndex {
+
+    /** Number of cells per period: one per category and status. */
+    private static final int CELL_COUNT = CaseCategory.values().length * 2;
+
+    /** Separator between the values of a saved line. */
+    private static final String SAVE_SEPARATOR = "|";
+
+    /** The length of the periods cases are counted in. */
+    private final Granularity granularity;
+
+    /** Counts per period, keyed by {@link Granularity#getPeriod(LocalDate)}; empty periods are removed. */
+    private final TreeMap<Long, int[]> periods = new TreeMap<>();
+
+    /** Number of cases still to be added that the restored counts already include. */
+    private int restoredCount = 0;
+
+    /**
+     * The length of a period.
+     */
+    public enum Granularity {
+        /** ISO weeks, starting on Monday. */
+        WEEK,
+        /** Calendar months. */
+        MONTH;
+
+        /**
+         * Returns the period containing a date: the epoch day of its Monday for weeks, or the number of months
+         * since year 0 for months.
+         */
+        public long getPeriod(LocalDate date) {
+            return this == WEEK
+                    ? date.with(DayOfWeek.MONDAY).toEpochDay()
+                    : date.getYear() * 12L + date.getMonthValue() - 1;
+        }
+
+        /**
+         * Returns the first day of a period.
+         */
+        public LocalDate getStartDate(long period) {
+            return this == WEEK
+                    ? LocalDate.ofEpochDay(period)
+                    : YearMonth.of((int) Math.floorDiv(period, 12), Math.floorMod(period, 12) + 1).atDay(1);
+        }
+
+        /**
+         * Returns the period that is {@code count} periods after the given one.
+         */
+        public long addPeriods(long period, long count) {
+            return this == WEEK ? period + 7 * count : period + count;
+        }
+    }
+
+    /**
+     * Constructs an empty {@code CaseRollup}.
+     *
+     * @param granularity the length of the periods to count cases in
+     */
+    public CaseRollup(Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    @Override
+    public void add(Case c) {
+        if (c.getDate() != null && c.getCategory() != null && restoredCount > 0) {
+            restoredCount--;
+            return;
+        }
+        apply(c, 1);
+    }
+
+    @Override
+    public void remove(Case c) {
+        apply(c, -1);
+    }
+
+    @Override
+    public void clear() {
+        periods.clear();
+        restoredCount = 0;
+    }
+
+    /**
+     * Adds ({@code sign == 1}) or subtracts ({@code sign == -1}) the contribution of a case.
+     */
+    private void apply(Case c, int sign) {
+        if (c.getDate() == null || c.getCategory() == null) {
+            return;
+        }
+        long period = granularity.getPeriod(c.getDate());
+        int[] cells = periods.computeIfAbsent(period, p -> new int[CELL_COUNT]);
+        cells[getCell(c.getCategory(), c.isOpen())] += sign;
+        if (isEmpty(cells)) {
+            periods.remove(period);
+        }
+    }
+
+    private static int getCell(CaseCategory category, boolean isOpen) {
+        return category.ordinal() * 2 + (isOpen ? 0 : 1);
+    }
+
+    private static boolean isEmpty(int[] cells) {
+        for (int cell : cells) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of cases of a category and status in a period.
+     *
+     * @param period   a period from {@link Granularity#getPeriod(LocalDate)}
+     * @param category the category, or {@code null} for every category
+     * @param isOpen   whether to count the open cases rather than the closed ones
+     * @return the number of cases
+     */
+    public int getCount(long period, CaseCategory category, boolean isOpen) {
+        int[] cells = periods.get(period);
+        if (cells == null) {
+            return 0;
+        }
+        if (category != null) {
+            return cells[getCell(category, isOpen)];
+        }
+        int total = 0;
+        for (CaseCategory each : CaseCategory.values()) {
+            total += cells[getCell(each, isOpen)];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the periods with live cases, in chronological order.
+     *
+     * @return an unmodifiable view of the periods
+     */
+    public NavigableMap<Long, int[]> getPeriods() {
+        return Collections.unmodifiableNavigableMap(periods);
+    }
+
+    /**
+     * Returns the counts as lines of text, one per period and category with cases, to be restored by
+     * {@link #restore(List)}.
+     *
+     * @return lines of the form {@code GRANULARITY|PERIOD|CATEGORY|OPEN|CLOSED}
+     */
+    public List<String> toSaveLines() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<Long, int[]> entry : periods.entrySet()) {
+            for (CaseCategory category : CaseCategory.values()) {
+                int open = entry.getValue()[getCell(category, true)];
+                int closed = entry.getValue()[getCell(category, false)];
+                if (open != 0 || closed != 0) {
+                    lines.add(String.join(SAVE_SEPARATOR, granularity.name(), entry.getKey().toString(),
+                            category.name(), String.valueOf(open), String.valueOf(closed)));
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Replaces the counts with ones saved by {@link #toSaveLines()}, for cases that are about to be added again.
+     * Lines saved by a rollup of another granularity are ignored, so the lines of several rollups can be mixed.
+     * <p>
+     * As many cases as the restored counts include are then skipped when they are added, so loading them costs
+     * nothing here. Whether every one of them arrived is checked by {@link #isRestoreComplete()}.
+     *
+     * @param lines the saved lines
+     * @return {@code true} if every line was valid; otherwise the counts are left empty
+     */
+    public boolean restore(List<String> lines) {
+        clear();
+        try {
+            for (String line : lines) {
+                String[] values = line.split("\\" + SAVE_SEPARATOR);
+                if (!values[0].equals(granularity.name())) {
+                    continue;
+                }
+                if (values.length != 5) {
+                    throw new IllegalArgumentException(line);
+                }
+                int[] cells = periods.computeIfAbsent(Long.parseLong(values[1]), p -> new int[CELL_COUNT]);
+                CaseCategory category = CaseCategory.valueOf(values[2]);
+                int open = Integer.parseInt(values[3]);
+                int closed = Integer.parseInt(values[4]);
+                if (open < 0 || closed < 0) {
+                    throw new IllegalArgumentException(line);
+                }
+                cells[getCell(category, true)] += open;
+                cells[getCell(category, false)] += closed;
+                restoredCount += open + closed;
+            }
+        } catch (IllegalArgumentException e) {
+            clear();
+            return false;
+        }
+        periods.values().removeIf(CaseRollup::isEmpty);
+        return true;
+    }
+
+    /**
+     * Returns whether every case included in the restored counts has been added since {@link #restore(List)}.
+     */
+    public boolean isRestoreComplete() {
+        return restoredCount == 0;
+    }
+}
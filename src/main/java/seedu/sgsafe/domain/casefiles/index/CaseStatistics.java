@@ -0,0 +1,181 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.domain.casefiles.type.financial.FinancialCase;
+import seedu.sgsafe.domain.casefiles.type.property.PropertyCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.violent.ViolentCase;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Aggregates over the live cases, kept current by applying every change as a delta.
+ * <p>
+ * Each case contributes to counts by category, type and status, to the sums of its numeric fields,
+ * and to the bucket of the month it occurred in. Adding a case adds its contribution and removing it
+ * subtracts the same contribution, so every aggregate is answered in O(1) without scanning the cases.
+ * Monetary values are accumulated in whole cents so that repeated deltas do not drift.
+ */
+public class CaseStatistics implements CaseIndex {
+
+    private static final int CASE_TYPE_COUNT = CaseType.values().length;
+
+    private final int[] categoryCounts = new int[CaseCategory.values().length];
+    private final int[] typeCounts = new int[CASE_TYPE_COUNT];
+    private int openCount = 0;
+    private int closedCount = 0;
+
+    private long totalFinancialValueCents = 0;
+    private long totalMonetaryDamageCents = 0;
+    private long totalVictims = 0;
+    private long totalCasualties = 0;
+
+    /** Per-month aggregates keyed by the month of the incident date; empty months are removed. */
+    private final TreeMap<YearMonth, MonthBucket> monthBuckets = new TreeMap<>();
+
+    /**
+     * Aggregates over the live cases that occurred in one month.
+     */
+    public static class MonthBucket {
+        private final int[] typeCounts = new int[CASE_TYPE_COUNT];
+        private int totalCount = 0;
+        private int openCount = 0;
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        public int getOpenCount() {
+            return openCount;
+        }
+
+        public int getTypeCount(CaseType type) {
+            return typeCounts[type.ordinal()];
+        }
+    }
+
+    @Override
+    public void add(Case c) {
+        apply(c, 1);
+    }
+
+    @Override
+    public void remove(Case c) {
+        apply(c, -1);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(categoryCounts, 0);
+        Arrays.fill(typeCounts, 0);
+        openCount = 0;
+        closedCount = 0;
+        totalFinancialValueCents = 0;
+        totalMonetaryDamageCents = 0;
+        totalVictims = 0;
+        totalCasualties = 0;
+        monthBuckets.clear();
+    }
+
+    /**
+     * Adds ({@code sign == 1}) or subtracts ({@code sign == -1}) the contribution of a case.
+     */
+    private void apply(Case c, int sign) {
+        if (c.getCategory() != null) {
+            categoryCounts[c.getCategory().ordinal()] += sign;
+        }
+        if (c.getType() != null) {
+            typeCounts[c.getType().ordinal()] += sign;
+        }
+        if (c.isOpen()) {
+            openCount += sign;
+        } else {
+            closedCount += sign;
+        }
+
+        if (c instanceof FinancialCase financialCase) {
+            totalFinancialValueCents += sign * toCents(financialCase.getFinancialValue());
+        } else if (c instanceof PropertyCase propertyCase) {
+            totalMonetaryDamageCents += sign * toCents(propertyCase.getMonetaryDamage());
+        } else if (c instanceof ViolentCase violentCase && violentCase.getNumberOfVictims() != null) {
+            totalVictims += sign * violentCase.getNumberOfVictims();
+        } else if (c instanceof AccidentCase accidentCase && accidentCase.getNumberOfCasualties() != null) {
+            totalCasualties += sign * accidentCase.getNumberOfCasualties();
+        }
+
+        applyToMonth(c, sign);
+    }
+
+    private void applyToMonth(Case c, int sign) {
+        if (c.getDate() == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(c.getDate());
+        MonthBucket bucket = monthBuckets.computeIfAbsent(month, m -> new MonthBucket());
+        bucket.totalCount += sign;
+        if (c.isOpen()) {
+            bucket.openCount += sign;
+        }
+        if (c.getType() != null) {
+            bucket.typeCounts[c.getType().ordinal()] += sign;
+        }
+        if (bucket.totalCount == 0) {
+            monthBuckets.remove(month);
+        }
+    }
+
+    private static long toCents(Double value) {
+        return value == null ? 0 : Math.round(value * 100);
+    }
+
+    public int getTotalCount() {
+        return openCount + closedCount;
+    }
+
+    public int getOpenCount() {
+        return openCount;
+    }
+
+    public int getClosedCount() {
+        return closedCount;
+    }
+
+    public int getCategoryCount(CaseCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    public int getTypeCount(CaseType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    public double getTotalFinancialValue() {
+        return totalFinancialValueCents / 100.0;
+    }
+
+    public double getTotalMonetaryDamage() {
+        return totalMonetaryDamageCents / 100.0;
+    }
+
+    public long getTotalVictims() {
+        return totalVictims;
+    }
+
+    public long getTotalCasualties() {
+        return totalCasualties;
+    }
+
+    /**
+     * Returns the per-month aggregates in chronological order. Months without live cases are omitted.
+     *
+     * @return an unmodifiable view of the month buckets
+     */
+    public NavigableMap<YearMonth, MonthBucket> getMonthBuckets() {
+        return Collections.unmodifiableNavigableMap(monthBuckets);
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Orders cases by a temporal key such as the incident date or a timestamp.
+ * <p>
+ * Keys are stored as {@code long} values (epoch days or epoch seconds) in a sorted tree, so a range query
+ * costs one binary search plus iteration over the cases in the range. Most keys belong to a single case,
+ * so a key maps directly to that {@link Case} and only switches to a set once a second case shares it.
+ */
+public class DateRangeIndex implements CaseIndex {
+
+    /** Extracts the key of a case, or {@code null} if the case has no value for the indexed field. */
+    private final Function<Case, Long> keyExtractor;
+
+    /** Sorted keys, each mapping to either a single {@link Case} or a {@code LinkedHashSet} of cases. */
+    private final TreeMap<Long, Object> entries = new TreeMap<>();
+
+    private int size = 0;
+
+    /**
+     * Constructs an empty {@code DateRangeIndex}.
+     *
+     * @param keyExtractor returns the key of a case, or {@code null} to leave the case unindexed
+     */
+    public DateRangeIndex(Function<Case, Long> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void add(Case c) {
+        Long key = keyExtractor.apply(c);
+        if (key == null) {
+            return;
+        }
+        Object existing = entries.get(key);
+        if (existing == null) {
+            entries.put(key, c);
+        } else if (existing instanceof LinkedHashSet) {
+            if (!((LinkedHashSet<Case>) existing).add(c)) {
+                return;
+            }
+        } else if (existing == c) {
+            return;
+        } else {
+            LinkedHashSet<Case> bucket = new LinkedHashSet<>();
+            bucket.add((Case) existing);
+            bucket.add(c);
+            entries.put(key, bucket);
+        }
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void remove(Case c) {
+        Long key = keyExtractor.apply(c);
+        if (key == null) {
+            return;
+        }
+        Object existing = entries.get(key);
+        if (existing == c) {
+            entries.remove(key);
+            size--;
+        } else if (existing instanceof LinkedHashSet) {
+            LinkedHashSet<Case> bucket = (LinkedHashSet<Case>) existing;
+            if (bucket.remove(c)) {
+                size--;
+            }
+            if (bucket.size() == 1) {
+                entries.put(key, bucket.iterator().next());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the cases whose key lies within the given inclusive range, in ascending key order.
+     *
+     * @param fromKey the smallest key to include
+     * @param toKey   the largest key to include
+     * @return the cases in range
+     */
+    public List<Case> findInRange(long fromKey, long toKey) {
+        List<Case> result = new ArrayList<>();
+        if (fromKey > toKey) {
+            return result;
+        }
+        for (Object value : entries.subMap(fromKey, true, toKey, true).values()) {
+            collect(value, result);
+        }
+        return result;
+    }
+
+    /**
+     * Lazily iterates over the cases whose key lies within the given inclusive range.
+     * <p>
+     * Cases are produced one at a time in key order, so a caller that stops after the first few cases
+     * only pays for those. Cases sharing a key are sorted by {@code order} when their key is reached, so
+     * {@code order} must agree with the key order in the chosen direction, e.g. by breaking ties by case ID.
+     * The index must not be modified while the iteration is in progress.
+     *
+     * @param fromKey      the smallest key to include
+     * @param toKey        the largest key to include
+     * @param isDescending whether to start from the largest key
+     * @param order        the order of the cases in the chosen direction
+     * @return the cases in range, in {@code order}
+     */
+    public Iterable<Case> iterate(long fromKey, long toKey, boolean isDescending, Comparator<Case> order) {
+        if (fromKey > toKey) {
+            return Collections.emptyList();
+        }
+        NavigableMap<Long, Object> range = entries.subMap(fromKey, true, toKey, true);
+        Iterable<Object> values = (isDescending ? range.descendingMap() : range).values();
+        return () -> new CaseIterator(values.iterator(), order);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(Object value, List<Case> result) {
+        if (value instanceof LinkedHashSet) {
+            result.addAll((LinkedHashSet<Case>) value);
+        } else {
+            result.add((Case) value);
+        }
+    }
+
+    /**
+     * Flattens the single cases and case sets stored under each key into one sequence of cases, sorting the
+     * cases of each set as it is reached.
+     */
+    private static class CaseIterator implements Iterator<Case> {
+
+        private final Iterator<Object> values;
+
+        private final Comparator<Case> order;
+
+        private Iterator<Case> bucket = Collections.emptyIterator();
+
+        private Case next;
+
+        CaseIterator(Iterator<Object> values, Comparator<Case> order) {
+            this.values = values;
+            this.order = order;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            if (next != null || bucket.hasNext()) {
+                return true;
+            }
+            if (!values.hasNext()) {
+                return false;
+            }
+            Object value = values.next();
+            if (value instanceof LinkedHashSet) {
+                List<Case> tiedCases = new ArrayList<>((LinkedHashSet<Case>) value);
+                tiedCases.sort(order);
+                bucket = tiedCases.iterator();
+            } else {
+                next = (Case) value;
+            }
+            return true;
+        }
+
+        @Override
+        public Case next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next != null) {
+                Case result = next;
+                next = null;
+                return result;
+            }
+            return bucket.next();
+        }
+    }
+}
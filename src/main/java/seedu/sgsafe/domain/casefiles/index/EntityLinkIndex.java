@@ -0,0 +1,206 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Links the live cases that share a victim, officer, vehicle plate or place, so that the cases related to one
+ * case are found without scanning the others.
+ * <p>
+ * Each normalised field value is an {@link Entity}, mapped to the cases it appears in. Reading the cases related
+ * to a case, or walking outwards from it through shared entities, therefore costs time proportional to the
+ * cases found. A road name and a burglary or property location are both places, so an accident on a road links
+ * to a burglary at the same address.
+ * <p>
+ * Nothing is kept per case: removal runs before a case changes, so its entities are read again to find it. Each
+ * distinct entity is stored once, and as in {@link DateRangeIndex} an entity of a single case maps directly to
+ * that case, switching to a list only once a second case shares it.
+ */
+public class EntityLinkIndex implements CaseIndex {
+
+    /** The kinds of entity, in display order, each with the field it is read from. */
+    private static final Map<String, List<String>> FIELDS_BY_KIND = createFieldsByKind();
+
+    /** Each entity, mapping to either its single {@link Case} or an {@code ArrayList} of its cases in added order. */
+    private final HashMap<Entity, Object> casesByEntity = new HashMap<>();
+
+    /**
+     * A normalised field value shared by cases, such as a victim's name or a vehicle plate.
+     *
+     * @param kind  {@code victim}, {@code officer}, {@code plate} or {@code place}
+     * @param value the normalised value
+     */
+    public record Entity(String kind, String value) {
+        @Override
+        public String toString() {
+            return kind + " " + value;
+        }
+    }
+
+    /**
+     * A case reached by {@link #traverse(Case, int, int)}.
+     *
+     * @param linkedCase the case
+     * @param depth      the number of links from the starting case
+     * @param via        the entity through which the case was first reached
+     */
+    public record Link(Case linkedCase, int depth, Entity via) {
+    }
+
+    private static Map<String, List<String>> createFieldsByKind() {
+        Map<String, List<String>> fieldsByKind = new LinkedHashMap<>();
+        fieldsByKind.put("victim", List.of("victim"));
+        fieldsByKind.put("officer", List.of("officer"));
+        fieldsByKind.put("plate", List.of("vehicle-plate"));
+        fieldsByKind.put("place", List.of("road-name", "location"));
+        return fieldsByKind;
+    }
+
+    /**
+     * Returns the entities of a case, read from its current field values.
+     *
+     * @param c the case, live or archived
+     * @return the distinct entities of the case, in display order
+     */
+    public static List<Entity> getEntities(Case c) {
+        List<Entity> entities = new ArrayList<>();
+        for (Map.Entry<String, List<String>> kind : FIELDS_BY_KIND.entrySet()) {
+            for (String field : kind.getValue()) {
+                Object value = c.getFieldValue(field);
+                String normalised = value == null ? null : kind.getKey().equals("plate")
+                        ? PlateIndex.normalisePlate(value.toString())
+                        : NameIndex.normaliseName(value.toString());
+                Entity entity = normalised == null ? null : new Entity(kind.getKey(), normalised);
+                if (entity != null && !entities.contains(entity)) {
+                    entities.add(entity);
+                }
+            }
+        }
+        return entities;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void add(Case c) {
+        for (Entity entity : getEntities(c)) {
+            Object existing = casesByEntity.get(entity);
+            if (existing == null) {
+                casesByEntity.put(entity, c);
+            } else if (existing instanceof ArrayList) {
+                ((ArrayList<Case>) existing).add(c);
+            } else if (existing != c) {
+                ArrayList<Case> bucket = new ArrayList<>(2);
+                bucket.add((Case) existing);
+                bucket.add(c);
+                casesByEntity.put(entity, bucket);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void remove(Case c) {
+        // Removal runs before a change, so the entities are still the ones the case was added under
+        for (Entity entity : getEntities(c)) {
+            Object existing = casesByEntity.get(entity);
+            if (existing == c) {
+                casesByEntity.remove(entity);
+            } else if (existing instanceof ArrayList) {
+                ArrayList<Case> bucket = (ArrayList<Case>) existing;
+                bucket.removeIf(bucketCase -> bucketCase == c);
+                if (bucket.size() == 1) {
+                    casesByEntity.put(entity, bucket.get(0));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        casesByEntity.clear();
+    }
+
+    /**
+     * Returns the live cases an entity appears in, in the order they were added.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Case> getCases(Entity entity) {
+        Object value = casesByEntity.get(entity);
+        if (value == null) {
+            return List.of();
+        }
+        return value instanceof ArrayList ? (ArrayList<Case>) value : List.of((Case) value);
+    }
+
+    /**
+     * Returns the live cases that share an entity with the given case, each with the entities it shares.
+     *
+     * @param c the case, live or archived
+     * @return the related cases other than {@code c}, in the order they were added, each mapped to the shared
+     *         entities in display order
+     */
+    public Map<Case, List<Entity>> getRelatedCases(Case c) {
+        Map<Case, List<Entity>> relatedCases = new LinkedHashMap<>();
+        for (Entity entity : getEntities(c)) {
+            for (Case related : getCases(entity)) {
+                if (related != c) {
+                    relatedCases.computeIfAbsent(related, key -> new ArrayList<>()).add(entity);
+                }
+            }
+        }
+        return relatedCases;
+    }
+
+    /**
+     * Walks outwards from a case through shared entities, breadth first, and returns the cases reached.
+     * <p>
+     * Each entity is expanded once, and the walk stops as soon as {@code limit} cases are reached, so an
+     * entity shared by many cases, such as a busy officer, costs at most {@code limit} steps.
+     *
+     * @param start    the case to start from, live or archived
+     * @param maxDepth the most links to follow from the starting case
+     * @param limit    the most cases to return
+     * @return the cases reached, nearest first, not including {@code start}
+     */
+    public List<Link> traverse(Case start, int maxDepth, int limit) {
+        List<Link> links = new ArrayList<>();
+        Set<Case> visitedCases = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Entity> visitedEntities = new HashSet<>();
+        visitedCases.add(start);
+        Queue<Link> pending = new ArrayDeque<>();
+        pending.add(new Link(start, 0, null));
+        while (!pending.isEmpty() && links.size() < limit) {
+            Link current = pending.poll();
+            if (current.depth() == maxDepth) {
+                continue;
+            }
+            for (Entity entity : getEntities(current.linkedCase())) {
+                if (!visitedEntities.add(entity)) {
+                    continue;
+                }
+                for (Case next : getCases(entity)) {
+                    if (links.size() == limit) {
+                        return links;
+                    }
+                    if (visitedCases.add(next)) {
+                        Link link = new Link(next, current.depth() + 1, entity);
+                        links.add(link);
+                        pending.add(link);
+                    }
+                }
+            }
+        }
+        return links;
+    }
+}
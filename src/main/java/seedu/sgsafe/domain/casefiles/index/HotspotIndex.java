@@ -0,0 +1,262 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the places, such as road names or locations, with the most recent cases, within a fixed memory budget.
+ * <p>
+ * Cases are counted per incident day in a ring of {@value #DAY_SLOT_COUNT} day slots, so only the most recent
+ * days are kept and a day's slot is reused once a case more than {@value #DAY_SLOT_COUNT} days newer arrives. Each
+ * slot holds a Count-Min Sketch of {@value #SKETCH_DEPTH} rows of {@value #SKETCH_WIDTH} counters, which never
+ * undercounts a place and rarely overcounts it, and a Space-Saving summary tracking the
+ * {@value #TRACKED_PLACE_COUNT} places most likely to be the busiest that day. A query over the last days
+ * takes the places tracked by any of those days and counts each one with the sketches, so its cost does not
+ * depend on the number of distinct places or cases.
+ * <p>
+ * Removing a case subtracts it from the sketch and from its tracked place, if that place is still tracked, so
+ * edits and deletions keep the counts exact up to sketch collisions. Nothing is kept per case: a case is counted
+ * exactly when the slot of its day still holds that day, so a removal finds its place again from the case, and
+ * reusing the slot forgets those cases too.
+ */
+public class HotspotIndex implements CaseIndex {
+
+    /** Number of days kept. Twice the longest query window, so a window can be compared with the one before. */
+    public static final int DAY_SLOT_COUNT = 64;
+
+    /** Number of rows of each sketch; a place's count is the smallest of its counters over the rows. */
+    private static final int SKETCH_DEPTH = 4;
+
+    /** Number of counters in each row of a sketch. */
+    private static final int SKETCH_WIDTH = 256;
+
+    /** Number of places tracked per day by the Space-Saving summary. */
+    private static final int TRACKED_PLACE_COUNT = 16;
+
+    /** The field holding the place of a case, such as {@code road-name}. */
+    private final String field;
+
+    /** The day slots, allocated when a case first falls on their day. */
+    private final DaySlot[] slots = new DaySlot[DAY_SLOT_COUNT];
+
+    /**
+     * A place with its number of cases in a window of days.
+     *
+     * @param place         the place as most recently written
+     * @param caseCount     the estimated number of cases in the window
+     * @param previousCount the estimated number of cases in the window of the same length before it
+     */
+    public record Hotspot(String place, int caseCount, int previousCount) {
+    }
+
+    /**
+     * The counts of one incident day.
+     */
+    private static class DaySlot {
+        private long day;
+        private final int[][] sketch = new int[SKETCH_DEPTH][SKETCH_WIDTH];
+
+        /** Space-Saving counters of the tracked places, keyed by normalised place. */
+        private final LinkedHashMap<String, TrackedPlace> trackedPlaces = new LinkedHashMap<>();
+
+        private DaySlot(long day) {
+            this.day = day;
+        }
+
+        private void reset(long newDay) {
+            day = newDay;
+            for (int[] row : sketch) {
+                Arrays.fill(row, 0);
+            }
+            trackedPlaces.clear();
+        }
+    }
+
+    private static class TrackedPlace {
+        private final String displayValue;
+        private int count;
+
+        private TrackedPlace(String displayValue, int count) {
+            this.displayValue = displayValue;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Constructs an empty {@code HotspotIndex}.
+     *
+     * @param field the field holding the place of a case, as named by the add and edit flags
+     */
+    public HotspotIndex(String field) {
+        this.field = field;
+    }
+
+    @Override
+    public void add(Case c) {
+        Object value = c.getFieldValue(field);
+        String key = getKey(value);
+        if (key == null || c.getDate() == null) {
+            return;
+        }
+        long day = c.getDate().toEpochDay();
+        int slotIndex = Math.floorMod(day, DAY_SLOT_COUNT);
+        DaySlot slot = slots[slotIndex];
+        if (slot == null) {
+            slot = new DaySlot(day);
+            slots[slotIndex] = slot;
+        } else if (slot.day < day) {
+            slot.reset(day);
+        } else if (slot.day > day) {
+            // A newer day holds the slot, so this case is too old to fall in any window
+            return;
+        }
+        updateSketch(slot, key, 1);
+        trackPlace(slot, key, value.toString().strip());
+    }
+
+    @Override
+    public void remove(Case c) {
+        // Removal runs before a change, so the date and place are still the ones the case was counted under
+        DaySlot slot = c.getDate() == null ? null : getSlot(c.getDate().toEpochDay());
+        String key = slot == null ? null : getKey(c.getFieldValue(field));
+        if (key == null) {
+            return;
+        }
+        updateSketch(slot, key, -1);
+        TrackedPlace tracked = slot.trackedPlaces.get(key);
+        if (tracked != null && --tracked.count <= 0) {
+            slot.trackedPlaces.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, null);
+    }
+
+    private static String getKey(Object value) {
+        return value == null ? null : NameIndex.normaliseName(value.toString());
+    }
+
+    /**
+     * Returns the places with the most cases in the last days up to a given day, busiest first.
+     * <p>
+     * Counts are estimates: a place may be overcounted when it shares sketch counters with a busier place, and
+     * a place that was never among the busiest of any day in the window may be missed.
+     *
+     * @param today the last day of the window, usually the current date
+     * @param days  the number of days in the window, from 1 to half of {@value #DAY_SLOT_COUNT}
+     * @param limit the most places to return
+     * @return the places with at least one case in the window, by case count, then by rise over the window
+     *         before it, then by name
+     */
+    public List<Hotspot> findHotspots(LocalDate today, int days, int limit) {
+        assert days > 0 && days <= DAY_SLOT_COUNT / 2 : "window should fit twice in the day slots";
+        long lastDay = today.toEpochDay();
+        // Newest day first, so each place is shown as most recently written
+        Map<String, String> candidates = new HashMap<>();
+        for (long day = lastDay; day > lastDay - days; day--) {
+            DaySlot slot = getSlot(day);
+            if (slot != null) {
+                for (Map.Entry<String, TrackedPlace> entry : slot.trackedPlaces.entrySet()) {
+                    candidates.putIfAbsent(entry.getKey(), entry.getValue().displayValue);
+                }
+            }
+        }
+
+        List<Hotspot> hotspots = new ArrayList<>();
+        for (Map.Entry<String, String> candidate : candidates.entrySet()) {
+            int count = estimateCount(candidate.getKey(), lastDay - days + 1, lastDay);
+            if (count > 0) {
+                int previousCount = estimateCount(candidate.getKey(), lastDay - 2 * days + 1, lastDay - days);
+                hotspots.add(new Hotspot(candidate.getValue(), count, previousCount));
+            }
+        }
+        hotspots.sort(Comparator.comparingInt(Hotspot::caseCount).reversed()
+                .thenComparing(hotspot -> hotspot.previousCount() - hotspot.caseCount())
+                .thenComparing(Hotspot::place, String.CASE_INSENSITIVE_ORDER));
+        return hotspots.size() > limit ? new ArrayList<>(hotspots.subList(0, limit)) : hotspots;
+    }
+
+    /**
+     * Returns the estimated number of cases at a place from one day to another, both included.
+     */
+    private int estimateCount(String key, long firstDay, long lastDay) {
+        long hash = hash(key);
+        int total = 0;
+        for (long day = firstDay; day <= lastDay; day++) {
+            DaySlot slot = getSlot(day);
+            if (slot == null) {
+                continue;
+            }
+            int count = Integer.MAX_VALUE;
+            for (int row = 0; row < SKETCH_DEPTH; row++) {
+                count = Math.min(count, slot.sketch[row][getColumn(hash, row)]);
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the slot holding the given day, or {@code null} if the day's counts are not kept.
+     */
+    private DaySlot getSlot(long day) {
+        DaySlot slot = slots[Math.floorMod(day, DAY_SLOT_COUNT)];
+        return slot != null && slot.day == day ? slot : null;
+    }
+
+    private static void updateSketch(DaySlot slot, String key, int delta) {
+        long hash = hash(key);
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            slot.sketch[row][getColumn(hash, row)] += delta;
+        }
+    }
+
+    /**
+     * Counts a place in the Space-Saving summary of a day. When the summary is full, the least counted place is
+     * replaced and its count carried over, so a place that becomes busy is always tracked.
+     */
+    private static void trackPlace(DaySlot slot, String key, String displayValue) {
+        TrackedPlace tracked = slot.trackedPlaces.get(key);
+        if (tracked != null) {
+            tracked.count++;
+            return;
+        }
+        if (slot.trackedPlaces.size() < TRACKED_PLACE_COUNT) {
+            slot.trackedPlaces.put(key, new TrackedPlace(displayValue, 1));
+            return;
+        }
+        Map.Entry<String, TrackedPlace> least = null;
+        for (Map.Entry<String, TrackedPlace> entry : slot.trackedPlaces.entrySet()) {
+            if (least == null || entry.getValue().count < least.getValue().count) {
+                least = entry;
+            }
+        }
+        slot.trackedPlaces.remove(least.getKey());
+        slot.trackedPlaces.put(key, new TrackedPlace(displayValue, least.getValue().count + 1));
+    }
+
+    /**
+     * Picks the counter of a place in one row, deriving the rows from two halves of one hash.
+     */
+    private static int getColumn(long hash, int row) {
+        int combined = (int) hash + row * ((int) (hash >>> 32) | 1);
+        return Math.floorMod(combined, SKETCH_WIDTH);
+    }
+
+    private static long hash(String key) {
+        long value = key.hashCode() * 0x9E3779B97F4A7C15L;
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
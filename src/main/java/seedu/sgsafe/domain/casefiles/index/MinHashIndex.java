@@ -0,0 +1,336 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the live cases whose title and info read almost the same as a given text, such as the same incident
+ * filed twice by different officers.
+ * <p>
+ * The text of each case is cut into overlapping runs of {@value #SHINGLE_LENGTH} characters, and summarised by a
+ * MinHash signature of {@value #SIGNATURE_LENGTH} values: two texts agree on about as many signature values as
+ * the share of runs they have in common. The signature is cut into {@value #BAND_COUNT} bands, and cases are
+ * filed in a hash bucket per band, so only the cases sharing a whole band with the query are compared with it.
+ * Texts with much in common almost surely share a band, and unrelated texts almost never do, so a lookup reads
+ * a handful of cases however many are indexed.
+ * <p>
+ * The signature is computed with a single hash per run: the hash picks the signature value it competes for and
+ * the smallest hash wins it, and values no run competed for are copied from the next one. Only the low 16 bits
+ * of each value are kept, a quarter of the memory of the full hashes, which barely changes the estimate.
+ * <p>
+ * Signatures are computed the first time the index is searched rather than when cases are added, since reading
+ * the info of every case is too slow to do on every start. Afterwards only new and edited cases are computed.
+ */
+public class MinHashIndex implements CaseIndex {
+
+    /** Number of values in a signature. */
+    public static final int SIGNATURE_LENGTH = 64;
+
+    /** Number of bands the signature is cut into; a case is a candidate if it shares any whole band. */
+    private static final int BAND_COUNT = 16;
+
+    private static final int ROWS_PER_BAND = SIGNATURE_LENGTH / BAND_COUNT;
+
+    /** Number of characters in each overlapping run of text. */
+    private static final int SHINGLE_LENGTH = 5;
+
+    /** Cases added since the last search, whose signatures are not computed yet. */
+    private final Set<Case> pendingCases = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** The signature each filed case was filed under. */
+    private final IdentityHashMap<Case, short[]> signatures = new IdentityHashMap<>();
+
+    /** Band hashes, each mapping to either a single {@link Case} or an {@code ArrayList} of cases. */
+    private final HashMap<Long, Object> buckets = new HashMap<>();
+
+    /**
+     * A case found by {@link #findSimilar(String, double)}.
+     *
+     * @param similarCase the case
+     * @param similarity  the estimated share of text the case has in common with the searched text, from 0 to 1
+     */
+    public record Match(Case similarCase, double similarity) {
+    }
+
+    /**
+     * Returns the text of a case that is compared: its title and info.
+     *
+     * @param title the title of a case, may be {@code null}
+     * @param info  the info of a case, may be {@code null}
+     * @return the text to compare
+     */
+    public static String getComparedText(String title, String info) {
+        return (title == null ? "" : title) + " " + (info == null ? "" : info);
+    }
+
+    /**
+     * Computes the MinHash signature of a text, ignoring letter case, punctuation and spacing.
+     *
+     * @param text the text to summarise
+     * @return the signature, or {@code null} if the text has no letters or digits
+     */
+    public static short[] computeSignature(String text) {
+        String normalised = normaliseText(text);
+        if (normalised.isEmpty()) {
+            return null;
+        }
+        long[] minimums = new long[SIGNATURE_LENGTH];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        int shingleCount = Math.max(1, normalised.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingleCount; start++) {
+            long hash = 0;
+            for (int i = start; i < Math.min(normalised.length(), start + SHINGLE_LENGTH); i++) {
+                hash = hash * 31 + normalised.charAt(i);
+            }
+            hash = mix(hash);
+            int slot = (int) (hash >>> 58);
+            long value = hash & 0x3ff_ffff_ffff_ffffL;
+            minimums[slot] = Math.min(minimums[slot], value);
+        }
+
+        short[] signature = new short[SIGNATURE_LENGTH];
+        for (int slot = 0; slot < SIGNATURE_LENGTH; slot++) {
+            int distance = 0;
+            while (minimums[(slot + distance) % SIGNATURE_LENGTH] == Long.MAX_VALUE) {
+                distance++;
+            }
+            long value = minimums[(slot + distance) % SIGNATURE_LENGTH];
+            signature[slot] = (short) (distance == 0 ? value : mix(value + distance));
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the share of text two signatures have in common.
+     *
+     * @return the share of equal signature values, from 0 to 1
+     */
+    public static double estimateSimilarity(short[] first, short[] second) {
+        int equalCount = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (first[i] == second[i]) {
+                equalCount++;
+            }
+        }
+        return (double) equalCount / SIGNATURE_LENGTH;
+    }
+
+    @Override
+    public void add(Case c) {
+        if (!signatures.containsKey(c)) {
+            pendingCases.add(c);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void remove(Case c) {
+        if (pendingCases.remove(c)) {
+            return;
+        }
+        short[] signature = signatures.remove(c);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BAND_COUNT; band++) {
+            long key = getBandKey(signature, band);
+            Object existing = buckets.get(key);
+            if (existing == c) {
+                buckets.remove(key);
+            } else if (existing instanceof ArrayList) {
+                ArrayList<Case> bucket = (ArrayList<Case>) existing;
+                bucket.remove(c);
+                if (bucket.size() == 1) {
+                    buckets.put(key, bucket.get(0));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        pendingCases.clear();
+        signatures.clear();
+        buckets.clear();
+    }
+
+    /**
+     * Returns the live cases whose title and info share at least the given part of a text, most similar first.
+     *
+     * @param text          the text to compare, usually from {@link #getComparedText(String, String)}
+     * @param minSimilarity the smallest estimated similarity to include, from 0 to 1
+     * @return the similar cases
+     */
+    public List<Match> findSimilar(String text, double minSimilarity) {
+        indexPendingCases();
+        List<Match> matches = new ArrayList<>();
+        short[] signature = computeSignature(text);
+        if (signature == null) {
+            return matches;
+        }
+        Set<Case> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int band = 0; band < BAND_COUNT; band++) {
+            candidates.addAll(getBucket(getBandKey(signature, band)));
+        }
+        for (Case candidate : candidates) {
+            double similarity = estimateSimilarity(signature, signatures.get(candidate));
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed()
+                .thenComparing(match -> match.similarCase().getId(), Comparator.nullsLast(String::compareTo)));
+        return matches;
+    }
+
+    /**
+     * Groups the live cases that are likely duplicates of each other.
+     * <p>
+     * Within each bucket, every case is compared with the first case and with the case before it, and similar
+     * cases are joined into one group. The work is proportional to the number of filed band entries rather
+     * than to the number of pairs of cases.
+     *
+     * @param minSimilarity the smallest estimated similarity for two cases to be grouped, from 0 to 1
+     * @return the groups of two or more cases, largest first, each ordered by case ID
+     */
+    @SuppressWarnings("unchecked")
+    public List<List<Case>> findGroups(double minSimilarity) {
+        indexPendingCases();
+        IdentityHashMap<Case, Case> parents = new IdentityHashMap<>();
+        for (Object value : buckets.values()) {
+            if (!(value instanceof ArrayList)) {
+                continue;
+            }
+            List<Case> bucket = (ArrayList<Case>) value;
+            for (int i = 1; i < bucket.size(); i++) {
+                joinIfSimilar(parents, bucket.get(0), bucket.get(i), minSimilarity);
+                joinIfSimilar(parents, bucket.get(i - 1), bucket.get(i), minSimilarity);
+            }
+        }
+
+        Map<Case, List<Case>> groupsByRoot = new IdentityHashMap<>();
+        for (Case c : parents.keySet()) {
+            groupsByRoot.computeIfAbsent(findRoot(parents, c), root -> new ArrayList<>()).add(c);
+        }
+        Comparator<Case> byId = Comparator.comparing(Case::getId, Comparator.nullsLast(String::compareTo));
+        List<List<Case>> groups = new ArrayList<>();
+        for (List<Case> group : groupsByRoot.values()) {
+            group.sort(byId);
+            groups.add(group);
+        }
+        groups.sort(Comparator.comparingInt((List<Case> group) -> group.size()).reversed()
+                .thenComparing(group -> group.get(0), byId));
+        return groups;
+    }
+
+    private void joinIfSimilar(IdentityHashMap<Case, Case> parents, Case first, Case second, double minSimilarity) {
+        if (first == second || estimateSimilarity(signatures.get(first), signatures.get(second)) < minSimilarity) {
+            return;
+        }
+        parents.putIfAbsent(first, first);
+        parents.putIfAbsent(second, second);
+        Case firstRoot = findRoot(parents, first);
+        Case secondRoot = findRoot(parents, second);
+        if (firstRoot != secondRoot) {
+            parents.put(secondRoot, firstRoot);
+        }
+    }
+
+    private static Case findRoot(IdentityHashMap<Case, Case> parents, Case c) {
+        Case root = c;
+        while (parents.get(root) != root) {
+            root = parents.get(root);
+        }
+        // Point the whole path at the root, so later lookups are short
+        while (parents.get(c) != root) {
+            Case next = parents.get(c);
+            parents.put(c, root);
+            c = next;
+        }
+        return root;
+    }
+
+    /**
+     * Computes the signatures of the cases added since the last search and files them in the buckets.
+     */
+    @SuppressWarnings("unchecked")
+    private void indexPendingCases() {
+        for (Case c : pendingCases) {
+            short[] signature = computeSignature(getComparedText(c.getTitle(), c.getInfo()));
+            if (signature == null) {
+                continue;
+            }
+            signatures.put(c, signature);
+            for (int band = 0; band < BAND_COUNT; band++) {
+                long key = getBandKey(signature, band);
+                Object existing = buckets.get(key);
+                if (existing == null) {
+                    buckets.put(key, c);
+                } else if (existing instanceof ArrayList) {
+                    ((ArrayList<Case>) existing).add(c);
+                } else {
+                    ArrayList<Case> bucket = new ArrayList<>();
+                    bucket.add((Case) existing);
+                    bucket.add(c);
+                    buckets.put(key, bucket);
+                }
+            }
+        }
+        pendingCases.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Case> getBucket(long key) {
+        Object value = buckets.get(key);
+        if (value == null) {
+            return List.of();
+        }
+        return value instanceof ArrayList ? (ArrayList<Case>) value : List.of((Case) value);
+    }
+
+    private static long getBandKey(short[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return mix(key);
+    }
+
+    /**
+     * Lowercases the text and replaces every run of characters other than letters and digits by one space.
+     */
+    private static String normaliseText(String text) {
+        StringBuilder normalised = new StringBuilder(text.length());
+        boolean isAfterSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(ch)) {
+                normalised.append(ch);
+                isAfterSpace = false;
+            } else if (!isAfterSpace) {
+                normalised.append(' ');
+                isAfterSpace = true;
+            }
+        }
+        int length = normalised.length();
+        return isAfterSpace && length > 0 ? normalised.substring(0, length - 1) : normalised.toString();
+    }
+
+    /**
+     * Scrambles the bits of a value, so that similar inputs give unrelated hashes.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,315 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Finds the live cases whose victim or officer name is within a small edit distance of a typed name, so that
+ * e.g. {@code "Jon Tan"} also finds the cases of {@code "John Tan"}.
+ * <p>
+ * The distinct names are kept in a BK-tree: each child of a node is filed under its Levenshtein distance to the
+ * node's name, so by the triangle inequality a search for names within distance {@code k} of a query whose
+ * distance to the node is {@code d} only descends into the children filed under {@code d - k} to {@code d + k}.
+ * Only a small part of the tree is compared with the query, however many names or cases there are.
+ * <p>
+ * Names are compared after {@link #normaliseName(String)}. As in {@link PlateIndex}, each name maps to its
+ * cases. Nothing else is kept per case: removal runs before a case changes, so its name is normalised again to
+ * find it. A name whose last case is removed stays in the tree, marked as unused, until unused names outnumber
+ * the used ones and the tree is rebuilt.
+ */
+public class NameIndex implements CaseIndex {
+
+    /** Unused names tolerated before the tree is rebuilt, so that small trees are not rebuilt constantly. */
+    private static final int MIN_REBUILD_UNUSED_COUNT = 64;
+
+    /** Extracts the indexed name of a case, or {@code null} if the case has none. */
+    private final Function<Case, String> nameExtractor;
+
+    /** Normalised names, each mapping to either a single {@link Case} or a {@code LinkedHashSet} of cases. */
+    private final HashMap<String, Object> entries = new HashMap<>();
+
+    /** The tree node of every name in the tree, used or not. */
+    private final HashMap<String, Node> nodes = new HashMap<>();
+
+    private Node root = null;
+
+    /** Number of names in the tree that no case has any more. */
+    private int unusedCount = 0;
+
+    /**
+     * A name in the BK-tree, with its children filed under their distance to the name.
+     */
+    private static class Node {
+        private final String name;
+        private int[] childDistances = new int[0];
+        private Node[] children = new Node[0];
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        Node getChild(int distance) {
+            for (int i = 0; i < childDistances.length; i++) {
+                if (childDistances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(int distance, Node child) {
+            childDistances = Arrays.copyOf(childDistances, childDistances.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            childDistances[childDistances.length - 1] = distance;
+            children[children.length - 1] = child;
+        }
+    }
+
+    /**
+     * A name found by {@link #findSimilarNames(String, int)}.
+     *
+     * @param name     the normalised name
+     * @param distance its edit distance to the searched name
+     */
+    public record Match(String name, int distance) {
+    }
+
+    /**
+     * Constructs an empty {@code NameIndex}.
+     *
+     * @param nameExtractor returns the name of a case, or {@code null} to leave the case unindexed
+     */
+    public NameIndex(Function<Case, String> nameExtractor) {
+        this.nameExtractor = nameExtractor;
+    }
+
+    /**
+     * Returns the name in the form it is compared in: lowercase, with surrounding whitespace removed and inner
+     * whitespace collapsed to single spaces. A name already in that form is returned as is, without a copy.
+     *
+     * @param name the name as typed or saved, may be {@code null}
+     * @return the normalised name, or {@code null} if the name is {@code null} or blank
+     */
+    public static String normaliseName(String name) {
+        if (name == null || isNormalised(name)) {
+            return name;
+        }
+        char[] normalised = new char[name.length()];
+        int length = 0;
+        boolean isSpacePending = false;
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                isSpacePending = length > 0;
+                continue;
+            }
+            if (isSpacePending) {
+                normalised[length++] = ' ';
+                isSpacePending = false;
+            }
+            normalised[length++] = Character.toLowerCase(ch);
+        }
+        return length == 0 ? null : new String(normalised, 0, length);
+    }
+
+    private static boolean isNormalised(String name) {
+        int last = name.length() - 1;
+        if (last < 0 || name.charAt(0) == ' ' || name.charAt(last) == ' ') {
+            return false;
+        }
+        for (int i = 0; i <= last; i++) {
+            char ch = name.charAt(i);
+            if (ch == ' ' ? name.charAt(i - 1) == ' ' : Character.isWhitespace(ch) || Character.toLowerCase(ch) != ch) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two strings: the fewest insertions, deletions and substitutions
+     * of single characters that turn one into the other.
+     *
+     * @param first  a string
+     * @param second another string
+     * @return the edit distance between the strings
+     */
+    public static int getDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char ch = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (ch == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void add(Case c) {
+        String name = normaliseName(nameExtractor.apply(c));
+        if (name == null) {
+            return;
+        }
+        Object existing = entries.get(name);
+        if (existing == null) {
+            entries.put(name, c);
+            addName(name);
+        } else if (existing instanceof LinkedHashSet) {
+            ((LinkedHashSet<Case>) existing).add(c);
+        } else if (existing != c) {
+            LinkedHashSet<Case> bucket = new LinkedHashSet<>();
+            bucket.add((Case) existing);
+            bucket.add(c);
+            entries.put(name, bucket);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void remove(Case c) {
+        // Removal runs before a change, so the name is still the one the case was added under
+        String name = normaliseName(nameExtractor.apply(c));
+        if (name == null) {
+            return;
+        }
+        Object existing = entries.get(name);
+        if (existing == c) {
+            entries.remove(name);
+            unusedCount++;
+            if (unusedCount >= MIN_REBUILD_UNUSED_COUNT && unusedCount > entries.size()) {
+                rebuild();
+            }
+        } else if (existing instanceof LinkedHashSet) {
+            LinkedHashSet<Case> bucket = (LinkedHashSet<Case>) existing;
+            bucket.remove(c);
+            if (bucket.size() == 1) {
+                entries.put(name, bucket.iterator().next());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        nodes.clear();
+        root = null;
+        unusedCount = 0;
+    }
+
+    /**
+     * Returns the number of distinct names held by live cases.
+     */
+    public int getNameCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the names of live cases within the given edit distance of a name, closest first.
+     *
+     * @param name        the name to search for, in any letter case and spacing
+     * @param maxDistance the largest edit distance to include
+     * @return the similar names, ordered by distance and then alphabetically
+     */
+    public List<Match> findSimilarNames(String name, int maxDistance) {
+        String query = normaliseName(name);
+        List<Match> matches = new ArrayList<>();
+        if (query == null || root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = getDistance(query, node.name);
+            if (distance <= maxDistance && entries.containsKey(node.name)) {
+                matches.add(new Match(node.name, distance));
+            }
+            for (int i = 0; i < node.childDistances.length; i++) {
+                if (Math.abs(node.childDistances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::name));
+        return matches;
+    }
+
+    /**
+     * Returns the live cases whose name is within the given edit distance of a name, closest names first.
+     *
+     * @param name        the name to search for, in any letter case and spacing
+     * @param maxDistance the largest edit distance to include
+     * @return the cases with similar names
+     */
+    @SuppressWarnings("unchecked")
+    public List<Case> findSimilar(String name, int maxDistance) {
+        List<Case> result = new ArrayList<>();
+        for (Match match : findSimilarNames(name, maxDistance)) {
+            Object value = entries.get(match.name());
+            if (value instanceof LinkedHashSet) {
+                result.addAll((LinkedHashSet<Case>) value);
+            } else {
+                result.add((Case) value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a name to the tree, or marks it as used again if it is already there.
+     */
+    private void addName(String name) {
+        if (nodes.containsKey(name)) {
+            unusedCount--;
+            return;
+        }
+        Node node = new Node(name);
+        nodes.put(name, node);
+        if (root == null) {
+            root = node;
+            return;
+        }
+        Node parent = root;
+        while (true) {
+            int distance = getDistance(name, parent.name);
+            Node child = parent.getChild(distance);
+            if (child == null) {
+                parent.addChild(distance, node);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the names that live cases still have.
+     */
+    private void rebuild() {
+        nodes.clear();
+        root = null;
+        unusedCount = 0;
+        for (String name : entries.keySet()) {
+            addName(name);
+        }
+    }
+}
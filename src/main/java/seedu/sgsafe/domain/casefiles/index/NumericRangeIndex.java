@@ -0,0 +1,250 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Orders cases by a numeric field such as the financial value or the exceeded speed.
+ * <p>
+ * The keys are kept as a sorted {@code double[]} beside a parallel array of cases, so a range query costs two
+ * binary searches plus a walk over the cases in the range, and the largest or smallest cases are read straight
+ * from either end. Unlike {@link DateRangeIndex}, no object is allocated per indexed case.
+ * <p>
+ * Cases added out of order are appended to an unsorted tail, which is sorted and merged into the sorted
+ * prefix before the next lookup or removal. Loading many cases therefore costs one sort instead of one array
+ * shift per case, and an edit costs one merge. Cases sharing a key stay in the order they were added.
+ */
+public class NumericRangeIndex implements CaseIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Extracts the key of a case, or {@code null} if the case has no value for the indexed field. */
+    private final Function<Case, Number> keyExtractor;
+
+    private double[] keys = new double[INITIAL_CAPACITY];
+    private Case[] cases = new Case[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /** Number of leading entries that are in key order; the entries after them are not sorted yet. */
+    private int sortedCount = 0;
+
+    /**
+     * Constructs an empty {@code NumericRangeIndex}.
+     *
+     * @param keyExtractor returns the key of a case, or {@code null} to leave the case unindexed
+     */
+    public NumericRangeIndex(Function<Case, Number> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public void add(Case c) {
+        Number value = keyExtractor.apply(c);
+        if (value == null) {
+            return;
+        }
+        double key = value.doubleValue();
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            cases = Arrays.copyOf(cases, size * 2);
+        }
+        boolean isInOrder = sortedCount == size && (size == 0 || keys[size - 1] <= key);
+        keys[size] = key;
+        cases[size] = c;
+        size++;
+        if (isInOrder) {
+            sortedCount = size;
+        }
+    }
+
+    @Override
+    public void remove(Case c) {
+        Number value = keyExtractor.apply(c);
+        if (value == null) {
+            return;
+        }
+        sort();
+        double key = value.doubleValue();
+        for (int i = lowerBound(key); i < size && keys[i] == key; i++) {
+            if (cases[i] == c) {
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                System.arraycopy(cases, i + 1, cases, i, size - i - 1);
+                cases[--size] = null;
+                sortedCount = size;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cases, 0, size, null);
+        size = 0;
+        sortedCount = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of cases whose key lies within the given inclusive range.
+     *
+     * @param min the smallest key to include
+     * @param max the largest key to include
+     * @return the number of cases in range
+     */
+    public int countInRange(double min, double max) {
+        sort();
+        return Math.max(0, upperBound(max) - lowerBound(min));
+    }
+
+    /**
+     * Returns the cases whose key lies within the given inclusive range, in ascending key order.
+     *
+     * @param min the smallest key to include
+     * @param max the largest key to include
+     * @return the cases in range
+     */
+    public List<Case> findInRange(double min, double max) {
+        List<Case> result = new ArrayList<>();
+        for (Case c : iterate(min, max, false)) {
+            result.add(c);
+        }
+        return result;
+    }
+
+    /**
+     * Lazily iterates over the cases whose key lies within the given inclusive range.
+     * <p>
+     * Cases are produced one at a time in key order, so a caller that stops after the first few cases, e.g. to
+     * find the largest values, only pays for those. The index must not be modified while the iteration is in
+     * progress.
+     *
+     * @param min          the smallest key to include
+     * @param max          the largest key to include
+     * @param isDescending whether to start from the largest key
+     * @return the cases in range, in key order
+     */
+    public Iterable<Case> iterate(double min, double max, boolean isDescending) {
+        sort();
+        int from = lowerBound(min);
+        int to = upperBound(max);
+        return () -> new RangeIterator(from, to, isDescending);
+    }
+
+    /**
+     * Returns the key the given case is indexed under, e.g. to display it beside the case.
+     *
+     * @param c the case
+     * @return the key of the case, or {@code null} if the case has no value for the indexed field
+     */
+    public Double getKey(Case c) {
+        Number value = keyExtractor.apply(c);
+        return value == null ? null : value.doubleValue();
+    }
+
+    /**
+     * Returns the position of the first key that is not smaller than the given key.
+     */
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key that is larger than the given key.
+     */
+    private int upperBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the unsorted tail and merges it into the sorted prefix. Entries of the prefix come before tail
+     * entries with the same key, so cases sharing a key keep the order they were added in.
+     */
+    private void sort() {
+        if (sortedCount == size) {
+            return;
+        }
+        int tailSize = size - sortedCount;
+        Integer[] tailOrder = new Integer[tailSize];
+        for (int i = 0; i < tailSize; i++) {
+            tailOrder[i] = sortedCount + i;
+        }
+        Arrays.sort(tailOrder, (first, second) -> Double.compare(keys[first], keys[second]));
+
+        double[] mergedKeys = new double[keys.length];
+        Case[] mergedCases = new Case[cases.length];
+        int prefix = 0;
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            boolean isFromPrefix = tail == tailSize
+                    || (prefix < sortedCount && keys[prefix] <= keys[tailOrder[tail]]);
+            int source = isFromPrefix ? prefix++ : tailOrder[tail++];
+            mergedKeys[i] = keys[source];
+            mergedCases[i] = cases[source];
+        }
+        keys = mergedKeys;
+        cases = mergedCases;
+        sortedCount = size;
+    }
+
+    /**
+     * Walks the positions of a range of the sorted arrays in either direction.
+     */
+    private class RangeIterator implements Iterator<Case> {
+
+        private final int from;
+        private final int to;
+        private final boolean isDescending;
+        private int next;
+
+        RangeIterator(int from, int to, boolean isDescending) {
+            this.from = from;
+            this.to = to;
+            this.isDescending = isDescending;
+            this.next = isDescending ? to - 1 : from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return isDescending ? next >= from : next < to;
+        }
+
+        @Override
+        public Case next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Case c = cases[next];
+            next += isDescending ? -1 : 1;
+            return c;
+        }
+    }
+}
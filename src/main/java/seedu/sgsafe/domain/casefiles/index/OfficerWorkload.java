@@ -0,0 +1,187 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Counts the open cases of each officer, kept current by applying every change as a delta.
+ * <p>
+ * Each officer, identified by the normalised name from {@link NameIndex#normaliseName(String)}, has a count of
+ * open cases per category and the open cases ordered by incident date. Opening, closing, deleting or reassigning
+ * a case moves only that case, so the workload of every officer is read in time proportional to the number of
+ * officers rather than the number of cases. Open cases without an officer are counted as unassigned.
+ */
+public class OfficerWorkload implements CaseIndex {
+
+    /** The workload of each officer with open cases, keyed by normalised name. */
+    private final HashMap<String, Workload> workloads = new HashMap<>();
+
+    /** The open cases without an officer. */
+    private final Workload unassigned = new Workload(null);
+
+    /** The workload each indexed case was counted in. */
+    private final IdentityHashMap<Case, Workload> workloadsByCase = new IdentityHashMap<>();
+
+    /** The incident date each indexed case was filed under, in epoch days. */
+    private final IdentityHashMap<Case, Long> epochDaysByCase = new IdentityHashMap<>();
+
+    /**
+     * The open cases of one officer.
+     */
+    public static class Workload {
+        private final String officer;
+        private final int[] categoryCounts = new int[CaseCategory.values().length];
+        private int openCount = 0;
+
+        /** Open cases by incident date in epoch days, each mapping to a {@link Case} or a set of cases. */
+        private final TreeMap<Long, Object> casesByDay = new TreeMap<>();
+
+        private Workload(String officer) {
+            this.officer = officer;
+        }
+
+        /**
+         * Returns the officer's name as first written, or {@code null} for the unassigned cases.
+         */
+        public String getOfficer() {
+            return officer;
+        }
+
+        public int getOpenCount() {
+            return openCount;
+        }
+
+        public int getCategoryCount(CaseCategory category) {
+            return categoryCounts[category.ordinal()];
+        }
+
+        /**
+         * Returns the open case with the earliest incident date, or {@code null} if no open case has a date.
+         * Cases on the same date are returned in the order they were counted.
+         */
+        @SuppressWarnings("unchecked")
+        public Case getOldestCase() {
+            if (casesByDay.isEmpty()) {
+                return null;
+            }
+            Object first = casesByDay.firstEntry().getValue();
+            return first instanceof LinkedHashSet ? ((LinkedHashSet<Case>) first).iterator().next() : (Case) first;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void add(Case c) {
+        if (!c.isOpen() || workloadsByCase.containsKey(c)) {
+            return;
+        }
+        String key = NameIndex.normaliseName(c.getOfficer());
+        Workload workload = key == null
+                ? unassigned
+                : workloads.computeIfAbsent(key, k -> new Workload(c.getOfficer().strip()));
+        workloadsByCase.put(c, workload);
+        workload.openCount++;
+        if (c.getCategory() != null) {
+            workload.categoryCounts[c.getCategory().ordinal()]++;
+        }
+        if (c.getDate() == null) {
+            return;
+        }
+        long day = c.getDate().toEpochDay();
+        epochDaysByCase.put(c, day);
+        Object existing = workload.casesByDay.get(day);
+        if (existing == null) {
+            workload.casesByDay.put(day, c);
+        } else if (existing instanceof LinkedHashSet) {
+            ((LinkedHashSet<Case>) existing).add(c);
+        } else {
+            LinkedHashSet<Case> bucket = new LinkedHashSet<>();
+            bucket.add((Case) existing);
+            bucket.add(c);
+            workload.casesByDay.put(day, bucket);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void remove(Case c) {
+        Workload workload = workloadsByCase.remove(c);
+        if (workload == null) {
+            return;
+        }
+        workload.openCount--;
+        if (c.getCategory() != null) {
+            workload.categoryCounts[c.getCategory().ordinal()]--;
+        }
+        Long day = epochDaysByCase.remove(c);
+        if (day != null) {
+            Object existing = workload.casesByDay.get(day);
+            if (existing == c) {
+                workload.casesByDay.remove(day);
+            } else if (existing instanceof LinkedHashSet) {
+                LinkedHashSet<Case> bucket = (LinkedHashSet<Case>) existing;
+                bucket.remove(c);
+                if (bucket.size() == 1) {
+                    workload.casesByDay.put(day, bucket.iterator().next());
+                }
+            }
+        }
+        if (workload.openCount == 0 && workload != unassigned) {
+            workloads.remove(NameIndex.normaliseName(workload.officer));
+        }
+    }
+
+    @Override
+    public void clear() {
+        workloads.clear();
+        workloadsByCase.clear();
+        epochDaysByCase.clear();
+        unassigned.openCount = 0;
+        Arrays.fill(unassigned.categoryCounts, 0);
+        unassigned.casesByDay.clear();
+    }
+
+    /**
+     * Returns the workload of one officer.
+     *
+     * @param officer the officer's name, ignoring letter case and extra spaces
+     * @return the officer's workload, or {@code null} if the officer has no open cases
+     */
+    public Workload getWorkload(String officer) {
+        String key = NameIndex.normaliseName(officer);
+        return key == null ? null : workloads.get(key);
+    }
+
+    /**
+     * Returns the open cases without an officer, counted like the cases of an officer.
+     */
+    public Workload getUnassigned() {
+        return unassigned;
+    }
+
+    /**
+     * Returns the number of officers with open cases.
+     */
+    public int getOfficerCount() {
+        return workloads.size();
+    }
+
+    /**
+     * Returns the workloads of the officers with open cases, busiest first, then by officer name.
+     */
+    public List<Workload> getWorkloadsByOpenCount() {
+        List<Workload> sorted = new ArrayList<>(workloads.values());
+        sorted.sort((first, second) -> first.openCount != second.openCount
+                ? Integer.compare(second.openCount, first.openCount)
+                : first.officer.compareToIgnoreCase(second.officer));
+        return sorted;
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps normalised vehicle plates to the live traffic cases involving them.
+ * <p>
+ * Plates are normalised by {@link #normalisePlate(String)}, so {@code "sgx 1234a"} and {@code "SGX1234A"} are
+ * the same key, and a lookup is one hash probe. As in {@link DateRangeIndex}, most plates belong to a single case,
+ * so a plate maps directly to that {@link Case} and only switches to a set once a second case shares it.
+ * The plate each case was added under is also remembered, so removing a case never reads its fields, which
+ * may have been released from memory.
+ */
+public class PlateIndex implements CaseIndex {
+
+    private static final String PLATE_FIELD = "vehicle-plate";
+
+    /** Normalised plates, each mapping to either a single {@link Case} or a {@code LinkedHashSet} of cases. */
+    private final HashMap<String, Object> entries = new HashMap<>();
+
+    /** The normalised plate each indexed case was added under. */
+    private final IdentityHashMap<Case, String> platesByCase = new IdentityHashMap<>();
+
+    /**
+     * Returns the plate in the form it is indexed under: uppercase, with all whitespace removed.
+     *
+     * @param plate the plate as typed or saved, may be {@code null}
+     * @return the normalised plate, or {@code null} if the plate is {@code null} or blank
+     */
+    public static String normalisePlate(String plate) {
+        if (plate == null) {
+            return null;
+        }
+        StringBuilder normalised = new StringBuilder(plate.length());
+        for (int i = 0; i < plate.length(); i++) {
+            char ch = plate.charAt(i);
+            if (!Character.isWhitespace(ch)) {
+                normalised.append(Character.toUpperCase(ch));
+            }
+        }
+        return normalised.length() == 0 ? null : normalised.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void add(Case c) {
+        Object value = c.getFieldValue(PLATE_FIELD);
+        String plate = value == null ? null : normalisePlate(value.toString());
+        if (plate == null || platesByCase.containsKey(c)) {
+            return;
+        }
+        platesByCase.put(c, plate);
+        Object existing = entries.get(plate);
+        if (existing == null) {
+            entries.put(plate, c);
+        } else if (existing instanceof LinkedHashSet) {
+            ((LinkedHashSet<Case>) existing).add(c);
+        } else {
+            LinkedHashSet<Case> bucket = new LinkedHashSet<>();
+            bucket.add((Case) existing);
+            bucket.add(c);
+            entries.put(plate, bucket);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void remove(Case c) {
+        String plate = platesByCase.remove(c);
+        if (plate == null) {
+            return;
+        }
+        Object existing = entries.get(plate);
+        if (existing == c) {
+            entries.remove(plate);
+        } else if (existing instanceof LinkedHashSet) {
+            LinkedHashSet<Case> bucket = (LinkedHashSet<Case>) existing;
+            bucket.remove(c);
+            if (bucket.size() == 1) {
+                entries.put(plate, bucket.iterator().next());
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        platesByCase.clear();
+    }
+
+    /**
+     * Returns the live cases involving the given plate, in the order they were indexed.
+     *
+     * @param plate the plate, in any letter case and spacing
+     * @return the cases with the plate
+     */
+    @SuppressWarnings("unchecked")
+    public List<Case> find(String plate) {
+        List<Case> result = new ArrayList<>();
+        Object value = entries.get(normalisePlate(plate));
+        if (value instanceof LinkedHashSet) {
+            result.addAll((LinkedHashSet<Case>) value);
+        } else if (value != null) {
+            result.add((Case) value);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of live cases involving each plate.
+     *
+     * @return a new map from normalised plate to its number of cases
+     */
+    public Map<String, Integer> getCaseCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            Object value = entry.getValue();
+            counts.put(entry.getKey(), value instanceof LinkedHashSet ? ((LinkedHashSet<?>) value).size() : 1);
+        }
+        return counts;
+    }
+}
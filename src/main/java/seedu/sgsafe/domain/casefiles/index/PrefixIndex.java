@@ -0,0 +1,343 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import seedu.sgsafe.domain.casefiles.Case;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Completes a typed prefix to the most common values of a text field, such as the titles or officer names of
+ * the live cases.
+ * <p>
+ * The distinct values are kept in a compressed trie: each edge is labelled with a run of characters rather than
+ * a single one, so a chain of single-child nodes takes one node. Each node counts the live cases whose value ends
+ * there and remembers the largest such count in its subtree. A search walks down to the prefix, then expands the
+ * subtree best first by that largest count, so the {@code K} most common completions are found after visiting
+ * roughly {@code K} paths, however many values share the prefix.
+ * <p>
+ * Values are compared after {@link NameIndex#normaliseName(String)}, and each completion is shown as it was last
+ * typed. As in {@link NameIndex}, nothing is kept per case: removal runs before a case changes, so its value is
+ * normalised again to find its node. The children of a node are kept in arrays sorted by their first character
+ * rather than in a map, so a node costs two small arrays.
+ */
+public class PrefixIndex implements CaseIndex {
+
+    /** Extracts the indexed value of a case, or {@code null} if the case has none. */
+    private final Function<Case, String> valueExtractor;
+
+    private final Node root = new Node("", null);
+
+    /**
+     * A node of the trie, reached from its parent by the characters of its label.
+     */
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private String label;
+        private Node parent;
+
+        /** The first character of the label of each child, in ascending order. */
+        private char[] childKeys = NO_KEYS;
+
+        /** The children, in the order of {@link #childKeys}. */
+        private Node[] children = NO_CHILDREN;
+
+        /** The value ending at this node as it was last typed. */
+        private String displayValue;
+
+        /** Number of indexed cases whose value ends at this node. */
+        private int count = 0;
+
+        /** The largest {@code count} in this node's subtree, including the node itself. */
+        private int maxCount = 0;
+
+        Node(String label, Node parent) {
+            this.label = label;
+            this.parent = parent;
+        }
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(childKeys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Adds a child, replacing the child whose label starts with the same character, if any.
+         */
+        void putChild(Node child) {
+            char key = child.label.charAt(0);
+            int index = Arrays.binarySearch(childKeys, key);
+            if (index >= 0) {
+                children[index] = child;
+                return;
+            }
+            index = -index - 1;
+            char[] keys = new char[childKeys.length + 1];
+            Node[] nodes = new Node[children.length + 1];
+            System.arraycopy(childKeys, 0, keys, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            keys[index] = key;
+            nodes[index] = child;
+            System.arraycopy(childKeys, index, keys, index + 1, childKeys.length - index);
+            System.arraycopy(children, index, nodes, index + 1, children.length - index);
+            childKeys = keys;
+            children = nodes;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(childKeys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] keys = new char[childKeys.length - 1];
+            Node[] nodes = new Node[children.length - 1];
+            System.arraycopy(childKeys, 0, keys, 0, index);
+            System.arraycopy(children, 0, nodes, 0, index);
+            System.arraycopy(childKeys, index + 1, keys, index, keys.length - index);
+            System.arraycopy(children, index + 1, nodes, index, nodes.length - index);
+            childKeys = keys.length == 0 ? NO_KEYS : keys;
+            children = nodes.length == 0 ? NO_CHILDREN : nodes;
+        }
+    }
+
+    /**
+     * A completion found by {@link #complete(String, int)}.
+     *
+     * @param value     the value as it was last typed
+     * @param caseCount the number of live cases with the value
+     */
+    public record Completion(String value, int caseCount) {
+    }
+
+    /**
+     * Constructs an empty {@code PrefixIndex}.
+     *
+     * @param valueExtractor returns the value of a case, or {@code null} to leave the case unindexed
+     */
+    public PrefixIndex(Function<Case, String> valueExtractor) {
+        this.valueExtractor = valueExtractor;
+    }
+
+    @Override
+    public void add(Case c) {
+        String value = valueExtractor.apply(c);
+        String key = NameIndex.normaliseName(value);
+        if (key == null) {
+            return;
+        }
+        Node node = insert(key);
+        node.displayValue = value.strip();
+        node.count++;
+        for (Node ancestor = node; ancestor != null && ancestor.maxCount < node.count; ancestor = ancestor.parent) {
+            ancestor.maxCount = node.count;
+        }
+    }
+
+    @Override
+    public void remove(Case c) {
+        // Removal runs before a change, so the value is still the one the case was added under
+        String key = NameIndex.normaliseName(valueExtractor.apply(c));
+        if (key == null) {
+            return;
+        }
+        Node node = findNode(key);
+        assert node != null && node.count > 0 : "an indexed value should be in the trie";
+        node.count--;
+        Node changed = node.count == 0 ? prune(node) : node;
+        for (Node ancestor = changed; ancestor != null; ancestor = ancestor.parent) {
+            int maxCount = ancestor.count;
+            for (Node child : ancestor.children) {
+                maxCount = Math.max(maxCount, child.maxCount);
+            }
+            ancestor.maxCount = maxCount;
+        }
+    }
+
+    @Override
+    public void clear() {
+        root.childKeys = Node.NO_KEYS;
+        root.children = Node.NO_CHILDREN;
+        root.maxCount = 0;
+    }
+
+    /**
+     * Returns the number of distinct values held by live cases.
+     */
+    public int getValueCount() {
+        return countValues(root);
+    }
+
+    /**
+     * Returns the most common values starting with the given prefix, most common first.
+     *
+     * @param prefix the typed prefix, in any letter case and spacing; empty to complete from every value
+     * @param limit  the most completions to return
+     * @return the completions, each with its number of live cases
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        List<Completion> completions = new ArrayList<>();
+        String key = prefix.isBlank() ? "" : NameIndex.normaliseName(prefix);
+        if (!key.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            key = key + " ";
+        }
+        Node start = findPrefixNode(key);
+        if (start == null || start.maxCount == 0) {
+            return completions;
+        }
+
+        // Subtrees are expanded by their best count; a value is final once no subtree can beat its count
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingInt(Candidate::count)
+                .reversed().thenComparing(Candidate::isExpanded, Comparator.reverseOrder()));
+        candidates.add(new Candidate(start, start.maxCount, false));
+        while (!candidates.isEmpty() && completions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            Node node = candidate.node();
+            if (candidate.isExpanded()) {
+                completions.add(new Completion(node.displayValue, node.count));
+                continue;
+            }
+            if (node.count > 0) {
+                candidates.add(new Candidate(node, node.count, true));
+            }
+            for (Node child : node.children) {
+                candidates.add(new Candidate(child, child.maxCount, false));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * A node waiting in the best-first search: either its whole subtree, bounded by {@code count}, or, once
+     * expanded, just the value ending at it.
+     */
+    private record Candidate(Node node, int count, boolean isExpanded) {
+    }
+
+    /**
+     * Returns the node the key ends at, creating it and splitting an edge if needed.
+     */
+    private Node insert(String key) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.getChild(key.charAt(position));
+            if (child == null) {
+                Node leaf = new Node(key.substring(position), node);
+                node.putChild(leaf);
+                return leaf;
+            }
+            int common = getCommonLength(child.label, key, position);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common), node);
+                middle.maxCount = child.maxCount;
+                node.putChild(middle);
+                child.label = child.label.substring(common);
+                child.parent = middle;
+                middle.putChild(child);
+                child = middle;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the node the key ends at, or {@code null} if no value ends there.
+     */
+    private Node findNode(String key) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.getChild(key.charAt(position));
+            if (node == null || !key.startsWith(node.label, position)) {
+                return null;
+            }
+            position += node.label.length();
+        }
+        return node;
+    }
+
+    /**
+     * Returns the highest node whose values all start with the prefix, or {@code null} if no value does.
+     */
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            node = node.getChild(prefix.charAt(position));
+            if (node == null) {
+                return null;
+            }
+            int common = getCommonLength(node.label, prefix, position);
+            if (position + common == prefix.length()) {
+                return node;
+            }
+            if (common < node.label.length()) {
+                return null;
+            }
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * Removes a node that no value ends at any more, merging its parent into the remaining child if the parent
+     * is left with one child and no value of its own.
+     *
+     * @return the lowest node whose subtree changed
+     */
+    private Node prune(Node node) {
+        node.displayValue = null;
+        if (node == root) {
+            return node;
+        }
+        if (node.children.length == 1) {
+            return merge(node);
+        }
+        if (node.children.length > 0) {
+            return node;
+        }
+        Node parent = node.parent;
+        parent.removeChild(node.label.charAt(0));
+        if (parent != root && parent.count == 0 && parent.children.length == 1) {
+            return merge(parent);
+        }
+        return parent;
+    }
+
+    /**
+     * Replaces a node that has one child and no value by that child, whose label absorbs the node's.
+     *
+     * @return the child
+     */
+    private Node merge(Node node) {
+        Node child = node.children[0];
+        child.label = node.label + child.label;
+        child.parent = node.parent;
+        node.parent.putChild(child);
+        return child;
+    }
+
+    private static int getCommonLength(String label, String key, int position) {
+        int length = Math.min(label.length(), key.length() - position);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(position + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static int countValues(Node node) {
+        int total = node.count > 0 ? 1 : 0;
+        for (Node child : node.children) {
+            total += countValues(child);
+        }
+        return total;
+    }
+}
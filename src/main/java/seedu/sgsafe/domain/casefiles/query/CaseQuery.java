@@ -0,0 +1,186 @@
+package seedu.sgsafe.domain.casefiles.query;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseDetailCache;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.utils.exceptions.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a compiled find query: field conditions that must all hold and an optional regular expression
+ * that must occur in the title, info, victim or officer.
+ * <p>
+ * The query is compiled once so that each case is checked as cheaply as possible. The categories whose cases
+ * have every field in the query are intersected into one set, so cases of other categories are rejected with
+ * a single bit test. The conditions are ordered by their cost times the number of categories they apply to,
+ * so that cheap numeric comparisons on rare fields are tried before text searches, and the regular expression
+ * is tried last.
+ * <p>
+ * Long lists of cases are checked in parallel on the common {@link ForkJoinPool}, and the matches are merged
+ * back in the original order. Every query has a time limit, which also stops regular expressions that
+ * backtrack catastrophically.
+ */
+public class CaseQuery {
+
+    /** The time limit of a query, unless another is given. */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 2000;
+
+    /** The fewest cases that are checked in parallel. */
+    static final int PARALLEL_THRESHOLD = 20_000;
+
+    /** The most cases one parallel task checks without splitting further. */
+    private static final int CHUNK_SIZE = 2048;
+
+    /** The number of cases checked between two readings of the clock. */
+    private static final int DEADLINE_CHECK_INTERVAL = 64;
+
+    /** The conditions, cheapest and most selective first. */
+    private final List<FieldCondition> conditions;
+
+    /** The pattern that must occur in a text field, or {@code null}. */
+    private final Pattern regex;
+
+    /** The categories whose cases have every field the conditions refer to. */
+    private final EnumSet<CaseCategory> categories;
+
+    private final long timeoutMillis;
+
+    /** The query as typed by the user, for display. */
+    private final String description;
+
+    /**
+     * Compiles a query.
+     *
+     * @param conditions    the conditions that must all hold
+     * @param regex         the pattern that must occur in the title, info, victim or officer, or {@code null}
+     * @param timeoutMillis the time limit of each run of the query, in milliseconds
+     * @param description   the query as typed by the user
+     */
+    public CaseQuery(List<FieldCondition> conditions, Pattern regex, long timeoutMillis, String description) {
+        assert timeoutMillis > 0 : "timeout should be positive";
+        this.categories = EnumSet.allOf(CaseCategory.class);
+        for (FieldCondition condition : conditions) {
+            this.categories.retainAll(condition.getCategories());
+        }
+        List<FieldCondition> orderedConditions = new ArrayList<>(conditions);
+        orderedConditions.sort(Comparator.comparingInt(
+                condition -> condition.getCost() * condition.getCategories().size()));
+        this.conditions = List.copyOf(orderedConditions);
+        this.regex = regex;
+        this.timeoutMillis = timeoutMillis;
+        this.description = description;
+    }
+
+    /**
+     * Returns the cases that satisfy the query, in the order given.
+     *
+     * @param cases the cases to check
+     * @return the matching cases
+     * @throws QueryTimeoutException if checking the cases takes longer than the time limit
+     */
+    public List<Case> filter(List<Case> cases) {
+        if (categories.isEmpty()) {
+            return new ArrayList<>();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        MatchTask task = new MatchTask(cases, 0, cases.size(), deadline);
+        if (cases.size() < PARALLEL_THRESHOLD || CaseDetailCache.isEnabled()) {
+            // The detail cache reorders its entries on every read, so it must only be used by one thread
+            return task.compute();
+        }
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * Returns whether the case satisfies every condition and contains the regular expression.
+     *
+     * @param c        the case to check
+     * @param deadline the {@link System#nanoTime()} by which the query must finish
+     */
+    private boolean matches(Case c, long deadline) {
+        if (!categories.contains(c.getCategory())) {
+            return false;
+        }
+        for (FieldCondition condition : conditions) {
+            if (!condition.test(c)) {
+                return false;
+            }
+        }
+        return regex == null || containsRegex(c.getTitle(), deadline) || containsRegex(c.getInfo(), deadline)
+                || containsRegex(c.getVictim(), deadline) || containsRegex(c.getOfficer(), deadline);
+    }
+
+    private boolean containsRegex(String text, long deadline) {
+        return text != null && regex.matcher(new DeadlineCharSequence(text, deadline)).find();
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public List<FieldCondition> getConditions() {
+        return conditions;
+    }
+
+    public Pattern getRegex() {
+        return regex;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Checks a range of cases, splitting it in halves while it is longer than {@link #CHUNK_SIZE}.
+     * The matches of the left half come before those of the right half, so the original order is kept.
+     */
+    private class MatchTask extends RecursiveTask<List<Case>> {
+        private final List<Case> cases;
+        private final int from;
+        private final int to;
+        private final long deadline;
+
+        MatchTask(List<Case> cases, int from, int to, long deadline) {
+            this.cases = cases;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected List<Case> compute() {
+            if (to - from > CHUNK_SIZE && cases.size() >= PARALLEL_THRESHOLD && !CaseDetailCache.isEnabled()) {
+                int middle = (from + to) >>> 1;
+                MatchTask right = new MatchTask(cases, middle, to, deadline);
+                right.fork();
+                List<Case> matches = new MatchTask(cases, from, middle, deadline).compute();
+                matches.addAll(right.join());
+                return matches;
+            }
+            List<Case> matches = new ArrayList<>();
+            try {
+                for (int i = from; i < to; i++) {
+                    if ((i - from) % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                        throw new QueryTimeoutException(timeoutMillis);
+                    }
+                    Case c = cases.get(i);
+                    if (matches(c, deadline)) {
+                        matches.add(c);
+                    }
+                }
+            } catch (DeadlineCharSequence.DeadlineExceededException e) {
+                throw new QueryTimeoutException(timeoutMillis);
+            }
+            return matches;
+        }
+    }
+}
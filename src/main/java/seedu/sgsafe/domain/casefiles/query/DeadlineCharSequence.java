@@ -0,0 +1,61 @@
+package seedu.sgsafe.domain.casefiles.query;
+
+/**
+ * Wraps a text so that reading it fails once a deadline has passed.
+ * <p>
+ * {@link java.util.regex.Matcher} reads its input only through {@link #charAt(int)}, so a regular expression
+ * that backtracks catastrophically on a long text is stopped within a bounded number of steps past the
+ * deadline instead of running for minutes. The clock is read once every {@value #CHECK_INTERVAL} characters.
+ */
+class DeadlineCharSequence implements CharSequence {
+
+    private static final int CHECK_INTERVAL = 4096;
+
+    private final CharSequence text;
+
+    /** The {@link System#nanoTime()} after which reading fails. */
+    private final long deadline;
+
+    /** Number of characters read since the clock was last checked. */
+    private int readCount = 0;
+
+    DeadlineCharSequence(CharSequence text, long deadline) {
+        this.text = text;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Thrown when the deadline has passed. It carries no stack trace, since it only unwinds the matcher.
+     */
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super(null, null, false, false);
+        }
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (++readCount == CHECK_INTERVAL) {
+            readCount = 0;
+            if (System.nanoTime() - deadline > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new DeadlineCharSequence(text.subSequence(start, end), deadline);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.sgsafe.domain.casefiles.query;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+import seedu.sgsafe.utils.exceptions.InvalidFindQueryException;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents one condition on a case field, e.g. {@code weapon=knife} or {@code financial-value>10000}.
+ * <p>
+ * Each condition knows the categories whose cases have its field, so a {@link CaseQuery} can skip other cases
+ * without reading the field. Text is compared ignoring case; numbers and dates are compared by value.
+ * A case whose field is not set never satisfies a condition on it.
+ */
+public class FieldCondition {
+
+    /** The fields every case has. */
+    private static final List<String> BASE_FIELDS = List.of("title", "date", "info", "victim", "officer");
+
+    /** The categories whose cases have each field. */
+    private static final Map<String, Set<CaseCategory>> categoriesByField = new HashMap<>();
+
+    static {
+        for (CaseCategory category : CaseCategory.values()) {
+            Case sample = CaseFactory.createCase(category, null, null, null, null, null, null);
+            List<String> fields = sample.getAdditionalFields();
+            fields.addAll(BASE_FIELDS);
+            for (String field : fields) {
+                categoriesByField.computeIfAbsent(field, key -> EnumSet.noneOf(CaseCategory.class)).add(category);
+            }
+        }
+        categoriesByField.replaceAll((field, categories) -> Collections.unmodifiableSet(categories));
+    }
+
+    /**
+     * Represents how a field value is compared with the operand of a condition.
+     */
+    public enum Operator {
+        EQUALS("="),
+        NOT_EQUALS("!="),
+        LESS("<"),
+        LESS_OR_EQUAL("<="),
+        GREATER(">"),
+        GREATER_OR_EQUAL(">="),
+        CONTAINS("~");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns the operator written as the given symbol, e.g. {@code ">="}.
+         *
+         * @param symbol the operator as typed by the user
+         * @return the matching operator, or {@code null} if there is none
+         */
+        public static Operator fromSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            return null;
+        }
+
+        private boolean isOrdering() {
+            return this == LESS || this == LESS_OR_EQUAL || this == GREATER || this == GREATER_OR_EQUAL;
+        }
+    }
+
+    private final String field;
+    private final Operator operator;
+
+    /** The value to compare with: a {@code String}, {@code Integer}, {@code Double} or {@code LocalDate}. */
+    private final Object operand;
+
+    /** The operand in lowercase, for text conditions. */
+    private final String lowerOperand;
+
+    /** The categories whose cases have the field. */
+    private final Set<CaseCategory> categories;
+
+    /**
+     * Constructs a condition on the named field.
+     *
+     * @param field    the field name, as used by the add and edit flags
+     * @param operator how the field value is compared with the operand
+     * @param operand  the typed value to compare with
+     * @throws InvalidFindQueryException if no case has the field, or the operator does not apply to the operand
+     */
+    public FieldCondition(String field, Operator operator, Object operand) {
+        assert operator != null && operand != null;
+        if (!isKnownField(field)) {
+            throw new InvalidFindQueryException("no case has the field '" + field + "'");
+        }
+        boolean isText = operand instanceof String;
+        if (isText ? operator.isOrdering() : operator == Operator.CONTAINS) {
+            throw new InvalidFindQueryException("'" + operator.getSymbol() + "' cannot be used with " + field);
+        }
+        this.field = field;
+        this.operator = operator;
+        this.operand = operand;
+        this.lowerOperand = isText ? ((String) operand).toLowerCase() : null;
+        this.categories = categoriesByField.get(field);
+    }
+
+    /**
+     * Returns whether any case category has the named field.
+     *
+     * @param field the field name
+     * @return {@code true} if conditions can be placed on the field
+     */
+    public static boolean isKnownField(String field) {
+        return categoriesByField.containsKey(field);
+    }
+
+    /**
+     * Returns whether the case satisfies this condition. The case should have one of {@link #getCategories()}.
+     *
+     * @param c the case to check
+     * @return {@code true} if the case's field value satisfies the condition
+     */
+    public boolean test(Case c) {
+        Object value = c.getFieldValue(field);
+        if (value == null) {
+            return false;
+        }
+        if (lowerOperand != null) {
+            String text = value.toString();
+            return switch (operator) {
+            case EQUALS -> text.equalsIgnoreCase(lowerOperand);
+            case NOT_EQUALS -> !text.equalsIgnoreCase(lowerOperand);
+            default -> text.toLowerCase().contains(lowerOperand);
+            };
+        }
+        int comparison = operand instanceof LocalDate
+                ? ((LocalDate) value).compareTo((LocalDate) operand)
+                : Double.compare(((Number) value).doubleValue(), ((Number) operand).doubleValue());
+        return switch (operator) {
+        case EQUALS -> comparison == 0;
+        case NOT_EQUALS -> comparison != 0;
+        case LESS -> comparison < 0;
+        case LESS_OR_EQUAL -> comparison <= 0;
+        case GREATER -> comparison > 0;
+        case GREATER_OR_EQUAL -> comparison >= 0;
+        case CONTAINS -> false;
+        };
+    }
+
+    /**
+     * Returns the relative cost of checking this condition on one case: numbers and dates are compared
+     * directly, while text must be compared character by character or searched.
+     *
+     * @return 1 for numbers and dates, 2 for text equality and 3 for text containment
+     */
+    public int getCost() {
+        if (lowerOperand == null) {
+            return 1;
+        }
+        return operator == Operator.CONTAINS ? 3 : 2;
+    }
+
+    public Set<CaseCategory> getCategories() {
+        return categories;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    @Override
+    public String toString() {
+        return field + operator.getSymbol() + operand;
+    }
+}
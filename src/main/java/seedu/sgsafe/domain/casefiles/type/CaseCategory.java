@@ -3,19 +3,36 @@ package seedu.sgsafe.domain.casefiles.type;
 /**
  * Represents the specific category of a case.
  * Examples include {@code SCAM}, {@code THEFT}, and {@code ARSON}.
+ * <p>
+ * Each category carries the name it is displayed with, so cases do not need to store it themselves.
  */
 public enum CaseCategory {
-    MURDER,
-    ASSAULT,
-    ROBBERY,
-    VANDALISM,
-    ARSON,
-    THEFT,
-    SCAM,
-    BURGLARY,
-    VOYEURISM,
-    RAPE,
-    SPEEDING,
-    ACCIDENT,
-    OTHERS
+    MURDER("Murder"),
+    ASSAULT("Assault"),
+    ROBBERY("Robbery"),
+    VANDALISM("Vandalism"),
+    ARSON("Arson"),
+    THEFT("Theft"),
+    SCAM("Scam"),
+    BURGLARY("Burglary"),
+    VOYEURISM("Voyeurism"),
+    RAPE("Rape"),
+    SPEEDING("Speeding"),
+    ACCIDENT("Traffic accident"),
+    OTHERS("Others");
+
+    private final String displayName;
+
+    CaseCategory(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name of this category as shown to the user, e.g. {@code "Traffic accident"}.
+     *
+     * @return the display name of this category
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
 }
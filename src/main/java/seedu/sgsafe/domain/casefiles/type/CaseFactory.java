@@ -0,0 +1,101 @@
+package seedu.sgsafe.domain.casefiles.type;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
+import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
+import seedu.sgsafe.domain.casefiles.type.sexual.RapeCase;
+import seedu.sgsafe.domain.casefiles.type.sexual.VoyeurismCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
+import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates cases of the subclass belonging to each {@link CaseCategory}.
+ * <p>
+ * Both the {@code add} command and the save file loader construct cases through this registry, so the mapping
+ * from category to subclass is kept in one place. Category names typed by the user are looked up
+ * case-insensitively in a table built once, so no lowercased copy is made for the usual spellings.
+ */
+public class CaseFactory {
+
+    /** The constructor shared by every case subclass. */
+    @FunctionalInterface
+    private interface CaseConstructor {
+        Case create(String id, String title, LocalDate date, String info, String victim, String officer);
+    }
+
+    /** The constructor of each category's subclass. */
+    private static final EnumMap<CaseCategory, CaseConstructor> constructors = new EnumMap<>(CaseCategory.class);
+
+    /** Every category by its name in lower, upper and capitalised case, e.g. {@code "theft"} and {@code "Theft"}. */
+    private static final Map<String, CaseCategory> categoriesByName = new HashMap<>();
+
+    static {
+        constructors.put(CaseCategory.MURDER, MurderCase::new);
+        constructors.put(CaseCategory.ASSAULT, AssaultCase::new);
+        constructors.put(CaseCategory.ROBBERY, RobberyCase::new);
+        constructors.put(CaseCategory.VANDALISM, VandalismCase::new);
+        constructors.put(CaseCategory.ARSON, ArsonCase::new);
+        constructors.put(CaseCategory.THEFT, TheftCase::new);
+        constructors.put(CaseCategory.SCAM, ScamCase::new);
+        constructors.put(CaseCategory.BURGLARY, BurglaryCase::new);
+        constructors.put(CaseCategory.VOYEURISM, VoyeurismCase::new);
+        constructors.put(CaseCategory.RAPE, RapeCase::new);
+        constructors.put(CaseCategory.SPEEDING, SpeedingCase::new);
+        constructors.put(CaseCategory.ACCIDENT, AccidentCase::new);
+        constructors.put(CaseCategory.OTHERS, OthersCase::new);
+        assert constructors.size() == CaseCategory.values().length : "Every category needs a constructor";
+
+        for (CaseCategory category : CaseCategory.values()) {
+            String lowerName = category.name().toLowerCase();
+            categoriesByName.put(lowerName, category);
+            categoriesByName.put(category.name(), category);
+            categoriesByName.put(Character.toUpperCase(lowerName.charAt(0)) + lowerName.substring(1), category);
+        }
+    }
+
+    private CaseFactory() {
+    }
+
+    /**
+     * Returns the category with the given name, ignoring case, e.g. {@code "theft"} or {@code "THEFT"}.
+     *
+     * @param name the category name, may be {@code null}
+     * @return the matching category, or {@code null} if there is none
+     */
+    public static CaseCategory findCategory(String name) {
+        if (name == null) {
+            return null;
+        }
+        CaseCategory category = categoriesByName.get(name);
+        return category != null ? category : categoriesByName.get(name.toLowerCase());
+    }
+
+    /**
+     * Creates a case of the subclass belonging to the given category.
+     *
+     * @param category the category of the case, must not be {@code null}
+     * @param id       the case ID
+     * @param title    the case title
+     * @param date     the date of the incident
+     * @param info     the case description
+     * @param victim   the victim name, may be {@code null}
+     * @param officer  the officer name, may be {@code null}
+     * @return the new case
+     */
+    public static Case createCase(CaseCategory category, String id, String title, LocalDate date, String info,
+            String victim, String officer) {
+        assert category != null;
+        return constructors.get(category).create(id, title, date, info, victim, officer);
+    }
+}
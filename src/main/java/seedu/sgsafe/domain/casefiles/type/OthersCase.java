@@ -1,6 +1,7 @@
 package seedu.sgsafe.domain.casefiles.type;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.FieldDictionary;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 
 import java.time.LocalDate;
@@ -22,10 +23,10 @@ public class OthersCase extends Case {
         super(id, title, date, info, victim, officer);
         this.type = CaseType.OTHERS;
         this.category = CaseCategory.OTHERS;
-        this.categoryString = "Others";
     }
 
     public String getCustomCategory() {
+        loadDetails();
         return customCategory;
     }
 
@@ -51,10 +52,11 @@ public class OthersCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("custom-category")) {
-            this.customCategory = (String) newValues.get("custom-category");
+            this.customCategory = encodeValue(FieldDictionary.CUSTOM_CATEGORY,
+                    (String) newValues.get("custom-category"));
         }
     }
 
@@ -65,6 +67,14 @@ public class OthersCase extends Case {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "custom-category" -> getCustomCategory();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
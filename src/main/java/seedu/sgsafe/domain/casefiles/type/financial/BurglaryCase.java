@@ -1,6 +1,7 @@
 package seedu.sgsafe.domain.casefiles.type.financial;
 
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
+import seedu.sgsafe.domain.casefiles.FieldDictionary;
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 
 import java.time.LocalDate;
@@ -17,10 +18,10 @@ public class BurglaryCase extends FinancialCase {
     public BurglaryCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.BURGLARY;
-        this.categoryString = "Burglary";
     }
 
     public String getLocation() {
+        loadDetails();
         return location;
     }
 
@@ -43,10 +44,10 @@ public class BurglaryCase extends FinancialCase {
                 "financial-value", "location");
     }
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("location")) {
-            this.location = (String) newValues.get("location");
+            this.location = encodeValue(FieldDictionary.LOCATION, (String) newValues.get("location"));
         }
     }
 
@@ -58,6 +59,14 @@ public class BurglaryCase extends FinancialCase {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "location" -> getLocation();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
@@ -15,8 +15,11 @@ import java.util.Map;
  * such as {@link BurglaryCase}, {@link ScamCase} and {@link TheftCase}.
  */
 public abstract class FinancialCase extends Case {
-    /** The estimated financial value lost by the victim. */
-    private Double financialValue;
+    /** Marks {@link #financialValue} as set. */
+    private static final int FINANCIAL_VALUE_FLAG = FIRST_NUMERIC_FIELD_FLAG;
+
+    /** The estimated financial value lost by the victim; only meaningful if {@link #FINANCIAL_VALUE_FLAG} is set. */
+    private double financialValue;
 
     public FinancialCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -24,7 +27,7 @@ public abstract class FinancialCase extends Case {
     }
 
     public Double getFinancialValue() {
-        return financialValue;
+        return hasNumericField(FINANCIAL_VALUE_FLAG) ? financialValue : null;
     }
 
     //@@author shennontay
@@ -32,7 +35,7 @@ public abstract class FinancialCase extends Case {
     public String[] getReadCaseDisplay() {
         List<String> displayList = getBaseDisplayLines();
 
-        String formattedValue = (financialValue == null) ? "" : String.format("%.2f", financialValue);
+        String formattedValue = hasNumericField(FINANCIAL_VALUE_FLAG) ? String.format("%.2f", financialValue) : "";
         CaseFormatter.addWrappedFieldForRead(displayList, "Financial Value", formattedValue);
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -46,10 +49,11 @@ public abstract class FinancialCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("financial-value") && newValues.get("financial-value") != null) {
             this.financialValue = (Double) newValues.get("financial-value");
+            setNumericFieldPresent(FINANCIAL_VALUE_FLAG, true);
         }
     }
 
@@ -61,10 +65,18 @@ public abstract class FinancialCase extends Case {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "financial-value" -> getFinancialValue();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
                 + "|financial-value:"
-                + (this.financialValue == null ? "" : String.format("%.2f", this.financialValue));
+                + (hasNumericField(FINANCIAL_VALUE_FLAG) ? String.format("%.2f", this.financialValue) : "");
     }
 }
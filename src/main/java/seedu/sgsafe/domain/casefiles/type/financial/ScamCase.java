@@ -11,6 +11,5 @@ public class ScamCase extends FinancialCase {
     public ScamCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.SCAM;
-        this.categoryString = "Scam";
     }
 }
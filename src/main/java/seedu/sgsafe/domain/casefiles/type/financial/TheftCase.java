@@ -18,10 +18,10 @@ public class TheftCase extends FinancialCase {
     public TheftCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.THEFT;
-        this.categoryString = "Theft";
     }
 
     public String getStolenObject () {
+        loadDetails();
         return stolenObject;
     }
 
@@ -45,8 +45,8 @@ public class TheftCase extends FinancialCase {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("stolen-object")) {
             this.stolenObject = (String) newValues.get("stolen-object");
         }
@@ -60,6 +60,14 @@ public class TheftCase extends FinancialCase {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "stolen-object" -> getStolenObject();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
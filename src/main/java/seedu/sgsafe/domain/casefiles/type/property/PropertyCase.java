@@ -1,6 +1,7 @@
 package seedu.sgsafe.domain.casefiles.type.property;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.FieldDictionary;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 
@@ -18,8 +19,14 @@ public abstract class PropertyCase extends Case {
     /** The location where the property-related case occurred. */
     private String location;
 
-    /** The estimated monetary damage caused by the incident. */
-    private Double monetaryDamage;
+    /** Marks {@link #monetaryDamage} as set. */
+    private static final int MONETARY_DAMAGE_FLAG = FIRST_NUMERIC_FIELD_FLAG;
+
+    /**
+     * The estimated monetary damage caused by the incident;
+     * only meaningful if {@link #MONETARY_DAMAGE_FLAG} is set.
+     */
+    private double monetaryDamage;
 
     public PropertyCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -27,11 +34,12 @@ public abstract class PropertyCase extends Case {
     }
 
     public String getLocation() {
+        loadDetails();
         return location;
     }
 
     public Double getMonetaryDamage() {
-        return monetaryDamage;
+        return hasNumericField(MONETARY_DAMAGE_FLAG) ? monetaryDamage : null;
     }
 
     //@@author shennontay
@@ -39,7 +47,8 @@ public abstract class PropertyCase extends Case {
     public String[] getReadCaseDisplay() {
         List<String> displayList = getBaseDisplayLines();
 
-        String formattedMonetaryDamage = (monetaryDamage == null) ? "" : String.format("%.2f", monetaryDamage);
+        String formattedMonetaryDamage = hasNumericField(MONETARY_DAMAGE_FLAG)
+                ? String.format("%.2f", monetaryDamage) : "";
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Location", this.location);
         CaseFormatter.addWrappedFieldForRead(displayList, "Monetary Damage", formattedMonetaryDamage);
@@ -55,13 +64,14 @@ public abstract class PropertyCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("location")) {
-            this.location = (String) newValues.get("location");
+            this.location = encodeValue(FieldDictionary.LOCATION, (String) newValues.get("location"));
         }
         if (newValues.containsKey("monetary-damage") && newValues.get("monetary-damage") != null) {
             this.monetaryDamage = (Double) newValues.get("monetary-damage");
+            setNumericFieldPresent(MONETARY_DAMAGE_FLAG, true);
         }
     }
 
@@ -74,10 +84,19 @@ public abstract class PropertyCase extends Case {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "location" -> getLocation();
+        case "monetary-damage" -> getMonetaryDamage();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
                 + "|location:" + (this.location == null ? "" : this.location)
-                + "|monetary-damage:" + (this.monetaryDamage == null ? "" : this.monetaryDamage);
+                + "|monetary-damage:" + (getMonetaryDamage() == null ? "" : getMonetaryDamage());
     }
 }
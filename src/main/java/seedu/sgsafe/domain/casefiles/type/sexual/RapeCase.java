@@ -11,6 +11,5 @@ public class RapeCase extends SexualCase {
     public RapeCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.RAPE;
-        this.categoryString = "Rape";
     }
 }
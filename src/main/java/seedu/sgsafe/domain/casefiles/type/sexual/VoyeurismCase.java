@@ -11,6 +11,5 @@ public class VoyeurismCase extends SexualCase {
     public VoyeurismCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.VOYEURISM;
-        this.categoryString = "Voyeurism";
     }
 }
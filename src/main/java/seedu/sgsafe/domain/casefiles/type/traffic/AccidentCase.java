@@ -11,17 +11,22 @@ import java.util.Map;
  * Represents a case involving a traffic accident.
  */
 public class AccidentCase extends TrafficCase{
-    /** The number of people killed or injured by the traffic accident. */
-    private Integer numberOfCasualties;
+    /** Marks {@link #numberOfCasualties} as set. */
+    private static final int NUMBER_OF_CASUALTIES_FLAG = FIRST_NUMERIC_FIELD_FLAG;
+
+    /**
+     * The number of people killed or injured by the traffic accident;
+     * only meaningful if {@link #NUMBER_OF_CASUALTIES_FLAG} is set.
+     */
+    private int numberOfCasualties;
 
     public AccidentCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.ACCIDENT;
-        this.categoryString = "Traffic accident";
     }
 
     public Integer getNumberOfCasualties() {
-        return numberOfCasualties;
+        return hasNumericField(NUMBER_OF_CASUALTIES_FLAG) ? numberOfCasualties : null;
     }
 
     //@@author shennontay
@@ -33,7 +38,7 @@ public class AccidentCase extends TrafficCase{
         CaseFormatter.addWrappedFieldForRead(displayList, "Vehicle Plate", this.getVehiclePlate());
         CaseFormatter.addWrappedFieldForRead(displayList, "Road Name", this.getRoadName());
         CaseFormatter.addWrappedFieldForRead(displayList,
-                "Number of Casualties", CaseFormatter.safeString(this.numberOfCasualties));
+                "Number of Casualties", CaseFormatter.safeString(this.getNumberOfCasualties()));
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -48,10 +53,11 @@ public class AccidentCase extends TrafficCase{
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("number-of-casualties") && newValues.get("number-of-casualties") != null) {
-            this.numberOfCasualties= (Integer) newValues.get("number-of-casualties");
+            this.numberOfCasualties = (Integer) newValues.get("number-of-casualties");
+            setNumericFieldPresent(NUMBER_OF_CASUALTIES_FLAG, true);
         }
     }
 
@@ -63,9 +69,17 @@ public class AccidentCase extends TrafficCase{
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "number-of-casualties" -> getNumberOfCasualties();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
-                + "|number-of-casualties:" + (this.numberOfCasualties == null ? "" : this.numberOfCasualties);
+                + "|number-of-casualties:" + (getNumberOfCasualties() == null ? "" : getNumberOfCasualties());
     }
 }
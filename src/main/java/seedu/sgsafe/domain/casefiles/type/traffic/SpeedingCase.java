@@ -12,24 +12,29 @@ import java.time.LocalDate;
  * Represents a case involving speeding offences.
  */
 public class SpeedingCase extends TrafficCase {
-    /** The speed limit of the road */
-    private Integer speedLimit;
+    /** Marks {@link #speedLimit} as set. */
+    private static final int SPEED_LIMIT_FLAG = FIRST_NUMERIC_FIELD_FLAG;
 
-    /** The actual speed the driver was driving at. */
-    private Integer exceededSpeed;
+    /** Marks {@link #exceededSpeed} as set. */
+    private static final int EXCEEDED_SPEED_FLAG = SECOND_NUMERIC_FIELD_FLAG;
+
+    /** The speed limit of the road; only meaningful if {@link #SPEED_LIMIT_FLAG} is set. */
+    private int speedLimit;
+
+    /** The actual speed the driver was driving at; only meaningful if {@link #EXCEEDED_SPEED_FLAG} is set. */
+    private int exceededSpeed;
 
     public SpeedingCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.SPEEDING;
-        this.categoryString = "Speeding";
     }
 
     public Integer getSpeedLimit() {
-        return speedLimit;
+        return hasNumericField(SPEED_LIMIT_FLAG) ? speedLimit : null;
     }
 
     public Integer getExceededSpeed() {
-        return exceededSpeed;
+        return hasNumericField(EXCEEDED_SPEED_FLAG) ? exceededSpeed : null;
     }
 
     //@@author shennontay
@@ -40,9 +45,10 @@ public class SpeedingCase extends TrafficCase {
         CaseFormatter.addWrappedFieldForRead(displayList, "Vehicle Type", this.getVehicleType());
         CaseFormatter.addWrappedFieldForRead(displayList, "Vehicle Plate", this.getVehiclePlate());
         CaseFormatter.addWrappedFieldForRead(displayList, "Road Name", this.getRoadName());
-        CaseFormatter.addWrappedFieldForRead(displayList, "Speed Limit", CaseFormatter.safeString(this.speedLimit));
+        CaseFormatter.addWrappedFieldForRead(displayList, "Speed Limit",
+                CaseFormatter.safeString(this.getSpeedLimit()));
         CaseFormatter.addWrappedFieldForRead(displayList, "Exceeded Speed",
-                CaseFormatter.safeString(this.exceededSpeed));
+                CaseFormatter.safeString(this.getExceededSpeed()));
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -58,13 +64,15 @@ public class SpeedingCase extends TrafficCase {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("speed-limit") && newValues.get("speed-limit") != null) {
             this.speedLimit = (Integer) newValues.get("speed-limit");
+            setNumericFieldPresent(SPEED_LIMIT_FLAG, true);
         }
         if (newValues.containsKey("exceeded-speed") && newValues.get("exceeded-speed") != null) {
             this.exceededSpeed = (Integer) newValues.get("exceeded-speed");
+            setNumericFieldPresent(EXCEEDED_SPEED_FLAG, true);
         }
     }
 
@@ -76,10 +84,19 @@ public class SpeedingCase extends TrafficCase {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "speed-limit" -> getSpeedLimit();
+        case "exceeded-speed" -> getExceededSpeed();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
-                + "|speed-limit:" + (this.speedLimit == null ? "" : this.speedLimit)
-                + "|exceeded-speed:" + (this.exceededSpeed == null ? "" : this.exceededSpeed);
+                + "|speed-limit:" + (getSpeedLimit() == null ? "" : getSpeedLimit())
+                + "|exceeded-speed:" + (getExceededSpeed() == null ? "" : getExceededSpeed());
     }
 }
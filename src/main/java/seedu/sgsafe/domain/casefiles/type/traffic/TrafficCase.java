@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.FieldDictionary;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 
@@ -31,14 +32,17 @@ public abstract class TrafficCase extends Case {
     }
 
     public String getVehicleType() {
+        loadDetails();
         return vehicleType;
     }
 
     public String getVehiclePlate() {
+        loadDetails();
         return vehiclePlate;
     }
 
     public String getRoadName() {
+        loadDetails();
         return roadName;
     }
 
@@ -67,16 +71,16 @@ public abstract class TrafficCase extends Case {
     }
     
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("vehicle-type")) {
-            this.vehicleType = (String) newValues.get("vehicle-type");
+            this.vehicleType = encodeValue(FieldDictionary.VEHICLE_TYPE, (String) newValues.get("vehicle-type"));
         }
         if (newValues.containsKey("vehicle-plate")) {
             this.vehiclePlate = (String) newValues.get("vehicle-plate");
         }
         if (newValues.containsKey("road-name")) {
-            this.roadName = (String) newValues.get("road-name");
+            this.roadName = encodeValue(FieldDictionary.ROAD_NAME, (String) newValues.get("road-name"));
         }
     }
 
@@ -89,6 +93,16 @@ public abstract class TrafficCase extends Case {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "vehicle-type" -> getVehicleType();
+        case "vehicle-plate" -> getVehiclePlate();
+        case "road-name" -> getRoadName();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
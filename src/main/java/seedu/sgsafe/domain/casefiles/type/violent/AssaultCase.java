@@ -11,6 +11,5 @@ public class AssaultCase extends ViolentCase{
     public AssaultCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.ASSAULT;
-        this.categoryString = "Assault";
     }
 }
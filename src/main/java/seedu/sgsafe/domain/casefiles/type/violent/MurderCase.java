@@ -10,6 +10,5 @@ public class MurderCase extends ViolentCase {
     public MurderCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.MURDER;
-        this.categoryString = "Murder";
     }
 }
@@ -11,6 +11,5 @@ public class RobberyCase extends ViolentCase{
     public RobberyCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
         this.category = CaseCategory.ROBBERY;
-        this.categoryString = "Robbery";
     }
 }
@@ -1,6 +1,7 @@
 package seedu.sgsafe.domain.casefiles.type.violent;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.FieldDictionary;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.type.CaseType;
 
@@ -18,8 +19,11 @@ public abstract class ViolentCase extends Case {
     /** The weapon used by the suspect or culprit. */
     private String weapon;
 
-    /** The number of victims affected. */
-    private Integer numberOfVictims;
+    /** Marks {@link #numberOfVictims} as set. */
+    private static final int NUMBER_OF_VICTIMS_FLAG = FIRST_NUMERIC_FIELD_FLAG;
+
+    /** The number of victims affected; only meaningful if {@link #NUMBER_OF_VICTIMS_FLAG} is set. */
+    private int numberOfVictims;
 
     public ViolentCase(String id, String title, LocalDate date, String info, String victim, String officer) {
         super(id, title, date, info, victim, officer);
@@ -28,11 +32,12 @@ public abstract class ViolentCase extends Case {
 
     //@@author shennontay
     public String getWeapon() {
+        loadDetails();
         return weapon;
     }
 
     public Integer getNumberOfVictims() {
-        return numberOfVictims;
+        return hasNumericField(NUMBER_OF_VICTIMS_FLAG) ? numberOfVictims : null;
     }
 
     @Override
@@ -41,7 +46,7 @@ public abstract class ViolentCase extends Case {
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Weapon", this.weapon);
         CaseFormatter.addWrappedFieldForRead(
-                displayList, "Number of Victims", CaseFormatter.safeString(this.numberOfVictims));
+                displayList, "Number of Victims", CaseFormatter.safeString(this.getNumberOfVictims()));
 
         CaseFormatter.addWrappedFieldForRead(displayList, "Info", getInfo());
 
@@ -54,13 +59,14 @@ public abstract class ViolentCase extends Case {
     }
 
     @Override
-    public void update(Map<String, Object> newValues) {
-        super.update(newValues);
+    protected void applyUpdate(Map<String, Object> newValues) {
+        super.applyUpdate(newValues);
         if (newValues.containsKey("weapon")) {
-            this.weapon = (String) newValues.get("weapon");
+            this.weapon = encodeValue(FieldDictionary.WEAPON, (String) newValues.get("weapon"));
         }
         if (newValues.containsKey("number-of-victims") && newValues.get("number-of-victims") != null) {
             this.numberOfVictims = (Integer) newValues.get("number-of-victims");
+            setNumericFieldPresent(NUMBER_OF_VICTIMS_FLAG, true);
         }
     }
 
@@ -73,10 +79,19 @@ public abstract class ViolentCase extends Case {
         return additionalFields;
     }
 
+    @Override
+    public Object getFieldValue(String field) {
+        return switch (field) {
+        case "weapon" -> getWeapon();
+        case "number-of-victims" -> getNumberOfVictims();
+        default -> super.getFieldValue(field);
+        };
+    }
+
     @Override
     public String toSaveString() {
         return super.toSaveString()
-                + "|number-of-victims:" + (this.numberOfVictims  == null ? "" : this.numberOfVictims)
+                + "|number-of-victims:" + (getNumberOfVictims() == null ? "" : getNumberOfVictims())
                 + "|weapon:" + (this.weapon == null ? "" : this.weapon);
     }
 }
@@ -1,25 +1,17 @@
 package seedu.sgsafe.utils.command;
 
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
-import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
-import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
-import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
-import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.RapeCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.VoyeurismCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
-import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
-import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
-import seedu.sgsafe.domain.casefiles.type.OthersCase;
-import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
-import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
 import seedu.sgsafe.utils.exceptions.InvalidCategoryException;
 import seedu.sgsafe.domain.casefiles.Case;
 import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.MinHashIndex;
 import seedu.sgsafe.utils.ui.Display;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -32,8 +24,11 @@ public class AddCommand extends Command {
 
     private static final Logger logger = Logger.getLogger(AddCommand.class.getName());
 
-    // Category of the case
-    private final String caseCategory;
+    // Most likely duplicates listed after a new case
+    private static final int MAX_DUPLICATES_SHOWN = 5;
+
+    // Category of the case, or null if the given category does not exist
+    private final CaseCategory caseCategory;
 
     // Title of the case
     private final String caseTitle;
@@ -53,7 +48,7 @@ public class AddCommand extends Command {
     /**
      * Constructs an AddCommand with the specified case details.
      *
-     * @param caseCategory The category of the case. Cannot be null.
+     * @param caseCategory The category of the case, in any letter case. Cannot be null.
      * @param caseTitle   The title of the case. Cannot be null.
      * @param caseDate    The date of the case. Cannot be null.
      * @param caseInfo    Additional information about the case. Cannot be null.
@@ -63,7 +58,7 @@ public class AddCommand extends Command {
     public AddCommand(String caseCategory, String caseTitle, LocalDate caseDate,
                       String caseInfo, String caseVictim, String caseOfficer) {
         this.commandType = CommandType.ADD;
-        this.caseCategory = caseCategory.toLowerCase();
+        this.caseCategory = CaseFactory.findCategory(caseCategory);
         this.caseTitle = caseTitle;
         this.caseDate = caseDate;
         this.caseInfo = caseInfo;
@@ -72,7 +67,7 @@ public class AddCommand extends Command {
         logger.log(Level.INFO, "AddCommand created");
     }
 
-    public String getCaseCategory() {
+    public CaseCategory getCaseCategory() {
         return caseCategory;
     }
 
@@ -100,39 +95,47 @@ public class AddCommand extends Command {
 
     /**
      * Executes the AddCommand, creating a new case based on the provided details.
-     * Each case type is instantiated according to the specified category.
-     * The case is added to the CaseManager, and a confirmation message is displayed.
+     * The case subclass is chosen by {@link CaseFactory} according to the specified category.
+     * The case is added to the CaseManager, and a confirmation message is displayed. Existing cases whose
+     * title and info read almost the same are looked up before the case is added, and listed with a warning.
      *
      * @throws InvalidCategoryException if the case category is invalid.
      */
     @Override
     public void execute() {
         String id = CaseManager.generateHexId();
-        Case newCase;
-
-        switch (caseCategory) {
-        case "scam" -> newCase = new ScamCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "theft" -> newCase = new TheftCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "burglary" -> newCase = new BurglaryCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "arson" -> newCase = new ArsonCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "vandalism" -> newCase = new VandalismCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "rape" -> newCase = new RapeCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "voyeurism" -> newCase = new VoyeurismCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "speeding" -> newCase = new SpeedingCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "accident" -> newCase = new AccidentCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "assault" -> newCase = new AssaultCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "murder" -> newCase = new MurderCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "robbery" -> newCase = new RobberyCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        case "others" -> newCase = new OthersCase(id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
-        default -> throw new InvalidCategoryException();
+        if (caseCategory == null) {
+            throw new InvalidCategoryException();
         }
+        Case newCase = CaseFactory.createCase(caseCategory, id, caseTitle, caseDate, caseInfo, caseVictim, caseOfficer);
+        List<MinHashIndex.Match> duplicates = CaseManager.findLikelyDuplicates(caseTitle, caseInfo);
 
         CaseManager.addCase(newCase);
-        Display.printMessage("New case added:", generateListTableHeaderMessage(), newCase.getDisplayLine());
+        List<String> lines = new ArrayList<>(List.of("New case added:", generateListTableHeaderMessage(),
+                newCase.getDisplayLine()));
+        if (!duplicates.isEmpty()) {
+            lines.addAll(getDuplicateWarningLines(duplicates));
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+
+    /**
+     * Lists the most similar existing cases under a warning that the new case may duplicate them.
+     */
+    private List<String> getDuplicateWarningLines(List<MinHashIndex.Match> duplicates) {
+        logger.log(Level.INFO, "New case resembles " + duplicates.size() + " existing case(s)");
+        List<String> lines = new ArrayList<>();
+        lines.add("Warning: this case reads like " + duplicates.size() + " existing case(s) and may be a duplicate:");
+        lines.add(String.format("%-9s", "SIMILAR") + generateListTableHeaderMessage());
+        for (MinHashIndex.Match duplicate : duplicates.subList(0, Math.min(MAX_DUPLICATES_SHOWN, duplicates.size()))) {
+            lines.add(String.format("%-9s", Math.round(duplicate.similarity() * 100) + "%")
+                    + duplicate.similarCase().getDisplayLine());
+        }
+        return lines;
     }
 
     private String generateListTableHeaderMessage() {
-        return String.format(CaseFormatter.SUMMARY_FORMAT_STRING, "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
+        return String.format(CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
     }
 
 }
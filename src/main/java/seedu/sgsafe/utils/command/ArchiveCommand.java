@@ -0,0 +1,79 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.storage.ArchiveStore;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command that moves closed cases last updated before a cut-off date to the {@link ArchiveStore}.
+ * <p>
+ * The archived cases are written to a new segment and then removed from the {@link CaseManager}, so they are no
+ * longer listed, searched by default or rewritten on every save. They can still be viewed with {@code read}.
+ * In dry-run mode only the number of cases that would be archived is reported.
+ */
+public class ArchiveCommand extends Command {
+    private static final Logger logger = Logger.getLogger(ArchiveCommand.class.getName());
+
+    /** Closed cases last updated before the start of this day are archived. */
+    private final LocalDate closedBefore;
+
+    /** Whether to only count the cases that would be archived. */
+    private final boolean isDryRun;
+
+    /**
+     * Constructs an {@code ArchiveCommand}.
+     *
+     * @param closedBefore the cut-off date
+     * @param isDryRun     whether to only count the cases that would be archived
+     */
+    public ArchiveCommand(LocalDate closedBefore, boolean isDryRun) {
+        assert closedBefore != null;
+        this.commandType = CommandType.ARCHIVE;
+        this.closedBefore = closedBefore;
+        this.isDryRun = isDryRun;
+    }
+
+    public LocalDate getClosedBefore() {
+        return closedBefore;
+    }
+
+    public boolean isDryRun() {
+        return isDryRun;
+    }
+
+    @Override
+    public void execute() {
+        if (!ArchiveStore.isEnabled()) {
+            Display.printMessage("The archive is not available.");
+            return;
+        }
+        List<Case> cases = CaseManager.findCasesClosedBefore(closedBefore.atStartOfDay());
+        if (isDryRun) {
+            Display.printMessage("Dry run, no cases were archived.", cases.size() + " case(s) would be archived.");
+            return;
+        }
+        if (cases.isEmpty()) {
+            Display.printMessage("No closed cases to archive.");
+            return;
+        }
+
+        String segment;
+        try {
+            segment = ArchiveStore.writeSegment(cases);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not write archive segment", e);
+            Display.printMessage("Something went wrong while archiving: " + e.getMessage(), "No cases were archived.");
+            return;
+        }
+        CaseManager.removeCases(cases);
+        Display.printMessage(cases.size() + " case(s) archived to " + segment + ".",
+                "Archived cases can still be viewed with: read CASE_ID");
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.BulkAction;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command that closes, opens, deletes or edits every case matching a filter.
+ * <p>
+ * The mutation is applied in a single pass by {@link CaseManager#bulkUpdate(CaseFilter, BulkAction, Map, boolean)},
+ * so the whole operation is saved once regardless of how many cases it touches. In dry-run mode
+ * only the number of affected cases is reported.
+ */
+public class BulkCommand extends Command {
+    private static final Logger logger = Logger.getLogger(BulkCommand.class.getName());
+
+    /** The mutation to apply to each matching case. */
+    private final BulkAction action;
+
+    /** The criteria selecting the cases to mutate. */
+    private final CaseFilter filter;
+
+    /** The new field values for a bulk edit; empty for other actions. */
+    private final Map<String, Object> newValues;
+
+    /** Whether to only count the affected cases. */
+    private final boolean isDryRun;
+
+    /**
+     * Constructs a {@code BulkCommand}.
+     *
+     * @param action    the mutation to apply
+     * @param filter    the criteria selecting the cases
+     * @param newValues the new field values for {@link BulkAction#EDIT}
+     * @param isDryRun  whether to only count the affected cases
+     */
+    public BulkCommand(BulkAction action, CaseFilter filter, Map<String, Object> newValues, boolean isDryRun) {
+        assert action != null && filter != null && newValues != null;
+        this.commandType = CommandType.BULK;
+        this.action = action;
+        this.filter = filter;
+        this.newValues = newValues;
+        this.isDryRun = isDryRun;
+        logger.log(Level.INFO, "BulkCommand created");
+    }
+
+    public BulkAction getAction() {
+        return action;
+    }
+
+    public boolean isDryRun() {
+        return isDryRun;
+    }
+
+    @Override
+    public void execute() {
+        CaseManager.BulkResult result = CaseManager.bulkUpdate(filter, action, newValues, isDryRun);
+        Display.printMessage(getResultMessages(result));
+    }
+
+    /**
+     * Builds the lines reporting the outcome of the bulk operation.
+     *
+     * @param result the counts returned by {@link CaseManager}
+     * @return the lines to display
+     */
+    String[] getResultMessages(CaseManager.BulkResult result) {
+        String verb = getPastTenseVerb();
+        String matchedLine = result.matched() + " case(s) matched the filter.";
+        if (isDryRun) {
+            return new String[] {"Dry run, no cases were changed.", matchedLine,
+                result.changed() + " case(s) would be " + verb + "."};
+        }
+        if (result.skipped() == 0) {
+            return new String[] {matchedLine, result.changed() + " case(s) " + verb + "."};
+        }
+        return new String[] {matchedLine, result.changed() + " case(s) " + verb + ".",
+            result.skipped() + " case(s) skipped as the action does not apply to them."};
+    }
+
+    private String getPastTenseVerb() {
+        return switch (action) {
+        case CLOSE -> "closed";
+        case OPEN -> "reopened";
+        case DELETE -> "deleted";
+        case EDIT -> "edited";
+        };
+    }
+}
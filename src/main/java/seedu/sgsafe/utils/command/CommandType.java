@@ -11,5 +11,16 @@ public enum CommandType {
     HELP,
     FIND,
     SETTING,
-    READ
+    READ,
+    BULK,
+    STATS,
+    ARCHIVE,
+    PURGE,
+    RANGE,
+    SUGGEST,
+    DEDUPE,
+    GRAPH,
+    WORKLOAD,
+    HOTSPOTS,
+    TREND
 }
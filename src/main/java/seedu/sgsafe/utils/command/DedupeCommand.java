@@ -0,0 +1,72 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseFormatter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.storage.ArchiveStore;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command that lists the groups of cases that are likely duplicates of each other, such as the same
+ * incident filed twice with slightly different titles and info.
+ * <p>
+ * Cases are grouped through the MinHash signatures of their title and info, so the report costs about one
+ * signature per case instead of one comparison per pair of cases.
+ */
+public class DedupeCommand extends Command {
+
+    /** The smallest estimated share of text two cases must have in common to be grouped, from 0 to 1. */
+    private final double minSimilarity;
+
+    /** Whether archived cases are grouped as well. */
+    private final boolean isArchiveIncluded;
+
+    /**
+     * Constructs a {@code DedupeCommand}.
+     *
+     * @param minSimilarity     the smallest similarity for two cases to be grouped, from 0 to 1
+     * @param isArchiveIncluded whether to group the archived cases as well
+     */
+    public DedupeCommand(double minSimilarity, boolean isArchiveIncluded) {
+        this.commandType = CommandType.DEDUPE;
+        this.minSimilarity = minSimilarity;
+        this.isArchiveIncluded = isArchiveIncluded;
+    }
+
+    public double getMinSimilarity() {
+        return minSimilarity;
+    }
+
+    public boolean isArchiveIncluded() {
+        return isArchiveIncluded;
+    }
+
+    @Override
+    public void execute() {
+        List<Case> archivedCases = isArchiveIncluded && ArchiveStore.isEnabled()
+                ? ArchiveStore.findMatchingCases(new CaseFilter())
+                : List.of();
+        List<List<Case>> groups = CaseManager.findLikelyDuplicateGroups(minSimilarity, archivedCases);
+        if (groups.isEmpty()) {
+            Display.printMessage("No likely duplicate cases found.");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(groups.size() + " group(s) of likely duplicate cases found:");
+        lines.add("To view more details of a case, use the command: read CASE_ID");
+        for (int i = 0; i < groups.size(); i++) {
+            lines.add("Group " + (i + 1) + " (" + groups.get(i).size() + " cases):");
+            lines.add(String.format(CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE",
+                    "TITLE"));
+            for (Case c : groups.get(i)) {
+                lines.add(c.getDisplayLine());
+            }
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+}
@@ -40,6 +40,6 @@ public class DeleteCommand extends Command {
     }
 
     private String generateListTableHeaderMessage() {
-        return String.format(CaseFormatter.SUMMARY_FORMAT_STRING, "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
+        return String.format(CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
     }
 }
@@ -1,8 +1,12 @@
 package seedu.sgsafe.utils.command;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.KeywordMatcher;
+import seedu.sgsafe.domain.casefiles.query.CaseQuery;
+import seedu.sgsafe.utils.storage.ArchiveStore;
 import seedu.sgsafe.utils.ui.Display;
 
 import java.util.ArrayList;
@@ -11,14 +15,32 @@ import java.util.List;
 
 /**
  * Represents a command to find cases based on a keyword and listing mode.
+ * <p>
+ * A single keyword is looked for in the case titles. Several keywords are looked for together in the title,
+ * info, victim and officer of each case, and a case matches if it contains any or all of them. A
+ * {@link CaseQuery} of field conditions and a regular expression can narrow the search further, or be used
+ * without any keyword. A vehicle plate in the filter is looked up in the plate indexes of the live and
+ * archived cases, and a victim or officer name in the filter also finds the cases of similarly spelt names.
  */
 public class FindCommand extends Command {
-    /** The keyword to search for in case records. */
+    /** The keyword to search for in case titles, or {@code null} when searching for several keywords. */
     private final String keyword;
 
+    /** The keywords to search for in case records, or {@code null} when searching for a single keyword. */
+    private final KeywordMatcher keywordMatcher;
+
+    /** The field conditions and regular expression the found cases must satisfy, or {@code null}. */
+    private final CaseQuery query;
+
     /** The mode that determines which cases to include in the listing. */
     private final CaseListingMode listingMode;
 
+    /** The date, plate and name criteria the found cases must satisfy, or {@code null} to search every case. */
+    private final CaseFilter timeFilter;
+
+    /** Whether archived cases are searched as well. */
+    private final boolean isArchiveIncluded;
+
     /**
      * Constructs a FindCommand with the specified keyword and listing mode.
      *
@@ -26,8 +48,82 @@ public class FindCommand extends Command {
      * @param listingMode The mode that determines which cases to include in the listing.
      */
     public FindCommand(String keyword, CaseListingMode listingMode) {
+        this(keyword, listingMode, null);
+    }
+
+    /**
+     * Constructs a FindCommand that only searches the cases matching the given date criteria.
+     *
+     * @param keyword     The keyword to search for in case records.
+     * @param listingMode The mode that determines which cases to include in the listing.
+     * @param timeFilter  The date criteria to satisfy, or {@code null} to search every case.
+     */
+    public FindCommand(String keyword, CaseListingMode listingMode, CaseFilter timeFilter) {
+        this(keyword, listingMode, timeFilter, false);
+    }
+
+    /**
+     * Constructs a FindCommand that may also search the archived cases.
+     *
+     * @param keyword           The keyword to search for in case records.
+     * @param listingMode       The mode that determines which cases to include in the listing.
+     * @param timeFilter        The date criteria to satisfy, or {@code null} to search every case.
+     * @param isArchiveIncluded Whether to search the archived cases as well.
+     */
+    public FindCommand(String keyword, CaseListingMode listingMode, CaseFilter timeFilter,
+                       boolean isArchiveIncluded) {
+        this(keyword, null, null, listingMode, timeFilter, isArchiveIncluded);
+    }
+
+    /**
+     * Constructs a FindCommand that searches for several keywords at once.
+     *
+     * @param keywordMatcher    The keywords to search for, and whether all of them must be found.
+     * @param listingMode       The mode that determines which cases to include in the listing.
+     * @param timeFilter        The date criteria to satisfy, or {@code null} to search every case.
+     * @param isArchiveIncluded Whether to search the archived cases as well.
+     */
+    public FindCommand(KeywordMatcher keywordMatcher, CaseListingMode listingMode, CaseFilter timeFilter,
+                       boolean isArchiveIncluded) {
+        this(null, keywordMatcher, null, listingMode, timeFilter, isArchiveIncluded);
+    }
+
+    /**
+     * Constructs a FindCommand from every search criterion. At most one of {@code keyword} and
+     * {@code keywordMatcher} is given, and if neither is, every case satisfying the query and the vehicle plate
+     * or similar names of the filter is found.
+     *
+     * @param keyword           The keyword to search for in case titles, or {@code null}.
+     * @param keywordMatcher    The keywords to search for in case records, or {@code null}.
+     * @param query             The field conditions and regular expression to satisfy, or {@code null}.
+     * @param listingMode       The mode that determines which cases to include in the listing.
+     * @param timeFilter        The date, plate and name criteria to satisfy, or {@code null} to search every case.
+     * @param isArchiveIncluded Whether to search the archived cases as well.
+     */
+    public FindCommand(String keyword, KeywordMatcher keywordMatcher, CaseQuery query, CaseListingMode listingMode,
+                       CaseFilter timeFilter, boolean isArchiveIncluded) {
+        assert keyword == null || keywordMatcher == null : "only one kind of keyword search is supported";
+        assert keyword != null || keywordMatcher != null || query != null || (timeFilter != null
+                && (timeFilter.getVehiclePlate() != null || timeFilter.getSimilarVictim() != null
+                || timeFilter.getSimilarOfficer() != null)) : "there should be a search criterion";
         this.keyword = keyword;
+        this.keywordMatcher = keywordMatcher;
+        this.query = query;
         this.listingMode = listingMode;
+        this.timeFilter = timeFilter;
+        this.isArchiveIncluded = isArchiveIncluded;
+    }
+
+    public boolean isArchiveIncluded() {
+        return isArchiveIncluded;
+    }
+
+    public KeywordMatcher getKeywordMatcher() {
+        return keywordMatcher;
+    }
+
+    public CaseQuery getQuery() {
+        return query;
     }
 
     /**
@@ -50,7 +146,7 @@ public class FindCommand extends Command {
      * @return A formatted string representing the table header.
      */
     private String generateListTableHeaderMessage() {
-        return String.format(CaseFormatter.SUMMARY_FORMAT_STRING, "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
+        return String.format(CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
     }
 
     /**
@@ -68,7 +164,7 @@ public class FindCommand extends Command {
             return outputLines.toArray(new String[0]);
         }
 
-        outputLines.add("A total of " + count + " case(s) found matching the keyword: \"" + keyword + "\"");
+        outputLines.add("A total of " + count + " case(s) found matching " + describeKeywords());
 
         outputLines.add("To view more details of a case, use the command: read CASE_ID");
 
@@ -81,47 +177,96 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Filters the provided list of cases based on their visibility and the listing mode.
-     *
-     * @param caseList The list of cases to filter.
-     * @return A filtered list of cases.
+     * Describes the searched keywords, query, plate and names, e.g. {@code all of the keywords: "knife", "tan"}.
      */
-    private ArrayList<Case> filterCases(ArrayList<Case> caseList) {
-        ArrayList<Case> filteredCases = new ArrayList<>();
-        for (Case c : caseList) {
-            if (isCaseVisible(c)) {
-                filteredCases.add(c);
-            }
+    private String describeKeywords() {
+        String filterDescription = describeFilter();
+        String queryDescription = (query == null ? "" : " and the query: " + query)
+                + (filterDescription.isEmpty() ? "" : " and " + filterDescription);
+        if (keyword != null) {
+            return "the keyword: \"" + keyword + "\"" + queryDescription;
+        }
+        if (keywordMatcher == null) {
+            return query == null ? filterDescription : "the query: " + query
+                    + (filterDescription.isEmpty() ? "" : " and " + filterDescription);
+        }
+        StringBuilder description = new StringBuilder(keywordMatcher.isAllRequired() ? "all" : "any");
+        description.append(" of the keywords: ");
+        List<String> keywords = keywordMatcher.getKeywords();
+        for (int i = 0; i < keywords.size(); i++) {
+            description.append(i == 0 ? "" : ", ").append('"').append(keywords.get(i)).append('"');
         }
-        return filteredCases;
+        return description.append(queryDescription).toString();
     }
 
     /**
-     * Determines whether a case is visible based on its status and the listing mode.
-     *
-     * @param caseToCheck The case to check for visibility.
-     * @return True if the case is visible, false otherwise.
+     * Describes the plate and similar names of the filter, e.g. {@code the victim ~ "jon tan" (distance 2)}.
      */
-    private Boolean isCaseVisible(Case caseToCheck) {
-        if (caseToCheck.isDeleted()) {
-            return false;
+    private String describeFilter() {
+        if (timeFilter == null) {
+            return "";
+        }
+        List<String> descriptions = new ArrayList<>();
+        if (timeFilter.getVehiclePlate() != null) {
+            descriptions.add("the vehicle plate: \"" + timeFilter.getVehiclePlate() + "\"");
+        }
+        String distance = " (distance " + timeFilter.getMaxNameDistance() + ")";
+        if (timeFilter.getSimilarVictim() != null) {
+            descriptions.add("the victim ~ \"" + timeFilter.getSimilarVictim() + "\"" + distance);
         }
+        if (timeFilter.getSimilarOfficer() != null) {
+            descriptions.add("the officer ~ \"" + timeFilter.getSimilarOfficer() + "\"" + distance);
+        }
+        return String.join(" and ", descriptions);
+    }
+
+    /**
+     * Returns the status a found case must have under the listing mode, or {@code null} for any status.
+     */
+    private Boolean getStatusCriterion() {
         return switch (this.listingMode) {
-        case OPEN_ONLY -> caseToCheck.isOpen();
-        case CLOSED_ONLY -> !caseToCheck.isOpen();
-        default -> true;
+        case OPEN_ONLY -> true;
+        case CLOSED_ONLY -> false;
+        default -> null;
         };
     }
 
+    private List<Case> findLiveCases(CaseFilter filter) {
+        List<Case> cases;
+        if (keyword != null) {
+            cases = CaseManager.findCasesByKeyword(keyword, filter);
+        } else if (keywordMatcher != null) {
+            cases = CaseManager.findCasesByKeywords(keywordMatcher, filter);
+        } else {
+            cases = CaseManager.findMatchingCases(filter);
+        }
+        return query == null ? cases : query.filter(cases);
+    }
+
+    private List<Case> findArchivedCases(CaseFilter filter) {
+        List<Case> cases;
+        if (keyword != null) {
+            cases = ArchiveStore.findCasesByKeyword(keyword, filter);
+        } else if (keywordMatcher != null) {
+            cases = ArchiveStore.findCasesByKeywords(keywordMatcher, filter);
+        } else {
+            cases = ArchiveStore.findMatchingCases(filter);
+        }
+        return query == null ? cases : query.filter(cases);
+    }
+
     /**
-     * Executes the FindCommand by searching for cases matching the keyword,
-     * filtering them based on the listing mode, and displaying the results.
+     * Executes the FindCommand by searching the cases matching the listing mode and date filter
+     * for the keyword or keywords, and displaying the results. Archived cases are listed after the others.
      */
     @Override
     public void execute() {
-        ArrayList<Case> caseList = CaseManager.findCasesByKeyword(keyword);
-        ArrayList<Case> filteredCaseList = filterCases(caseList);
-        String[] caseDescriptions = getCaseDescriptions(filteredCaseList);
+        CaseFilter filter = (timeFilter == null ? new CaseFilter() : timeFilter).withStatus(getStatusCriterion());
+        ArrayList<Case> caseList = new ArrayList<>(findLiveCases(filter));
+        if (isArchiveIncluded && ArchiveStore.isEnabled()) {
+            caseList.addAll(findArchivedCases(filter));
+        }
+        String[] caseDescriptions = getCaseDescriptions(caseList);
         Display.printMessage(caseDescriptions);
     }
 }
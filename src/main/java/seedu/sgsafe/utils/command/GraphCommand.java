@@ -0,0 +1,89 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFormatter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.EntityLinkIndex;
+import seedu.sgsafe.utils.exceptions.CaseNotFoundException;
+import seedu.sgsafe.utils.storage.ArchiveStore;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command that lists the live cases linked to a case through a chain of shared victims, officers,
+ * vehicle plates or places, such as a victim's earlier case handled by an officer who also attended a later one.
+ * <p>
+ * The cases are found by a breadth-first walk over the entity index in {@link CaseManager}, which stops at the
+ * given depth and as soon as the given number of cases are found.
+ */
+public class GraphCommand extends Command {
+
+    /** Format of a linked case row: the number of links from the starting case, then its summary. */
+    private static final String LINK_ROW_FORMAT = "%-5s  %s";
+
+    /** The ID of the case to start from. */
+    private final String caseId;
+
+    /** The most links to follow from the starting case. */
+    private final int depth;
+
+    /** The most cases to list. */
+    private final int limit;
+
+    /**
+     * Constructs a {@code GraphCommand}.
+     *
+     * @param caseId the ID of the case to start from, live or archived
+     * @param depth  the most links to follow
+     * @param limit  the most cases to list
+     */
+    public GraphCommand(String caseId, int depth, int limit) {
+        this.commandType = CommandType.GRAPH;
+        this.caseId = caseId;
+        this.depth = depth;
+        this.limit = limit;
+    }
+
+    public String getCaseId() {
+        return caseId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void execute() {
+        Case start = CaseManager.getCaseById(caseId);
+        if (start == null && ArchiveStore.isEnabled()) {
+            start = ArchiveStore.findCase(caseId);
+        }
+        if (start == null) {
+            Display.printMessage(new CaseNotFoundException(caseId).getErrorMessage());
+            return;
+        }
+
+        List<EntityLinkIndex.Link> links = CaseManager.findLinkedCases(start, depth, limit);
+        if (links.isEmpty()) {
+            Display.printMessage("No case is linked to case " + start.getId() + ".");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(links.size() + " case(s) linked to case " + start.getId() + " within " + depth + " link(s):");
+        lines.add("To view more details of a case, use the command: read CASE_ID");
+        lines.add(String.format(LINK_ROW_FORMAT, "DEPTH", String.format(CaseFormatter.getSummaryFormatString(),
+                "STATUS", "CATEGORY", "ID", "DATE", "TITLE")));
+        for (EntityLinkIndex.Link link : links) {
+            lines.add(String.format(LINK_ROW_FORMAT, link.depth(), link.linkedCase().getDisplayLine()));
+            lines.add("       Via: " + link.via());
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+}
@@ -49,12 +49,19 @@ public class HelpCommand extends Command {
                     "and output detail.\n" +
                     "\n" +
                     "\tUsage:\n" +
-                    "\t\tlist [--status open|closed] [--mode verbose]\n" +
+                    "\t\tlist [--status open|closed] [--mode verbose] [--from DATE] [--to DATE]\n" +
+                    "\t\t     [--updated-since DATE] [--created-since DATE]\n" +
+                    "\t\t     [--sort date|updated|category|title] [--order asc|desc] [--limit N] [--page P]\n" +
+                    "\t\tlist [--status open|closed] [--mode verbose] --as-of DATE\n" +
                     "\n" +
                     "\tExamples:\n" +
                     "\t\tlist\n" +
                     "\t\tlist --status closed\n" +
                     "\t\tlist --status open --mode verbose\n" +
+                    "\t\tlist --from 01/01/2024 --to 31/03/2024\n" +
+                    "\t\tlist --updated-since 01/10/2024\n" +
+                    "\t\tlist --sort title --order desc --limit 10 --page 2\n" +
+                    "\t\tlist --status open --as-of 31/03/2024\n" +
                     "\n" +
                     "\tFlags:\n" +
                     "\t\t--status value    Filters cases by their status.\n" +
@@ -64,6 +71,20 @@ public class HelpCommand extends Command {
                     "\t\t--mode value      Controls the output detail level.\n" +
                     "\t\t\tverbose → Detailed multi-line output\n" +
                     "\n" +
+                    "\t\t--from DATE            Shows only cases that occurred on or after DATE.\n" +
+                    "\t\t--to DATE              Shows only cases that occurred on or before DATE.\n" +
+                    "\t\t--updated-since DATE   Shows only cases last updated on or after DATE.\n" +
+                    "\t\t--created-since DATE   Shows only cases created on or after DATE.\n" +
+                    "\t\tCases matching date flags are listed in order of incident date.\n" +
+                    "\n" +
+                    "\t\t--sort value      Sorts the cases and shows one page of them (default: date).\n" +
+                    "\t\t--order value     asc (default) or desc.\n" +
+                    "\t\t--limit N         Number of cases per page, from 1 to 1000 (default: 20).\n" +
+                    "\t\t--page P          Page to show, starting from 1 (default: 1).\n" +
+                    "\n" +
+                    "\t\t--as-of DATE      Shows the cases as they were at the end of DATE. Cannot be combined\n" +
+                    "\t\t                  with the date, sort and page flags.\n" +
+                    "\n" +
                     "\tDisplayed Fields (Default mode):\n" +
                     "\t\t• Status (Open/Closed)\n" +
                     "\t\t• Category\n" +
@@ -95,10 +116,12 @@ public class HelpCommand extends Command {
                     "\t\tThis provides the most complete view of a case record.\n" +
                     "\n" +
                     "\tUsage:\n" +
-                    "\t\tread CASEID\n" +
+                    "\t\tread CASEID [--related | --as-of DATE]\n" +
                     "\n" +
                     "\tExamples:\n" +
                     "\t\tread 00000b\n" +
+                    "\t\tread 00000b --related\n" +
+                    "\t\tread 00000b --as-of 01/10/2024\n" +
                     "\n" +
                     "\tDisplayed Fields:\n" +
                     "\t\t• Title\n" +
@@ -113,8 +136,12 @@ public class HelpCommand extends Command {
                     "\t\t• Additional category-specific fields (e.g., Weapon, Road name, Vehicle type, etc.)\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 16 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be read.\n" +
+                    "\t\t• --related also lists the cases sharing a victim, officer, vehicle plate or place\n" +
+                    "\t\t  (a road name or location) with the case.\n" +
+                    "\t\t• --as-of shows the case as it was at the end of DATE. Changes made before this\n" +
+                    "\t\t  version of SGSafe kept a history are not known.\n" +
                     "\t___________________________________________________________________________________________" +
                     "________________________\n" +
                     "\n" +
@@ -138,7 +165,7 @@ public class HelpCommand extends Command {
                     "\tNotes:\n" +
                     "\t\t• All flags must correspond to valid editable fields for that case type.\n" +
                     "\t\t• Invalid flags will cancel the update and display an error message.\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 16 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be edited.\n" +
                     "\t\t• Date format defaults to dd/MM/yyyy. You can change it using the 'setting' command.\n" +
                     "\t___________________________________________________________________________________________" +
@@ -156,7 +183,7 @@ public class HelpCommand extends Command {
                     "\t\tclose 000003\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 16 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be closed.\n" +
                     "\t___________________________________________________________________________________________" +
                     "________________________\n" +
@@ -173,7 +200,7 @@ public class HelpCommand extends Command {
                     "\t\topen 000003\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 16 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be opened.\n" +
                     "\t___________________________________________________________________________________________" +
                     "________________________\n" +
@@ -190,11 +217,226 @@ public class HelpCommand extends Command {
                     "\t\tdelete 00012a\n" +
                     "\n" +
                     "\tNotes:\n" +
-                    "\t\t• The case ID must be exactly 6 hexadecimal digits (e.g., 000001, 00beef).\n" +
+                    "\t\t• The case ID must be 6 to 16 hexadecimal digits (e.g., 000001, 00beef).\n" +
                     "\t\t• Use 'list' to check the case ID of the case to be deleted.\n" +
                     "\t___________________________________________________________________________________________" +
                     "________________________\n" +
                     "\n" +
+                    "\tBULK — Close, open, delete or edit many cases at once\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tApplies one action to every case matching the given filters in a single pass.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tbulk <close|open|delete|edit> [--category CATEGORY] [--status <open|closed>] " +
+                    "[--from DATE] [--to DATE]\n" +
+                    "\t\t     [--updated-since DATE] [--created-since DATE]\n" +
+                    "\t\t     [--officer OFFICER] [--ids ID,ID,...] [--set-FIELD VALUE ...] [--mode dry-run]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tbulk close --category speeding --from 01/01/2023 --to 31/12/2023\n" +
+                    "\t\tbulk edit --officer Tan --status open --set-officer Lee --mode dry-run\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• At least one filter is required. Dates are matched against the case date.\n" +
+                    "\t\t• --set-FIELD flags (e.g. --set-title) are only accepted by edit.\n" +
+                    "\t\t• --mode dry-run only reports how many cases would be changed.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tPURGE — Permanently remove deleted cases\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tRemoves every deleted case from memory and from the save file.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tpurge [--mode dry-run]\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• Remaining cases keep their IDs, and purged IDs are never given to new cases.\n" +
+                    "\t\t• --mode dry-run only reports how many cases would be purged.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tARCHIVE — Move old closed cases out of the case list\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tMoves closed cases last updated before the given date to compressed archive files.\n" +
+                    "\t\tArchived cases are no longer listed, but can still be viewed with read.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tarchive --closed-before DATE [--mode dry-run]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tarchive --closed-before 01/01/2020 --mode dry-run\n" +
+                    "\t\tarchive --closed-before 01/01/2020\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• Archived cases cannot be edited, closed, reopened or deleted.\n" +
+                    "\t\t• Use find --include-archived yes to search their titles.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tSTATS — View case statistics\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tShows counts by status, type and category, and totals of financial value, property\n" +
+                    "\t\tdamage, victims and casualties. Deleted cases are excluded.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tstats [--view summary|month|heap|plates]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tstats\n" +
+                    "\t\tstats --view month\n" +
+                    "\n" +
+                    "\tFlags:\n" +
+                    "\t\t--view value      Selects the breakdown to show.\n" +
+                    "\t\t\tsummary → Overall counts and totals (default)\n" +
+                    "\t\t\tmonth   → Counts for each month, by case type\n" +
+                    "\t\t\theap    → Memory saved by sharing repeated names, places and weapons\n" +
+                    "\t\t\tplates  → Vehicle plates involved in more than one case, archived ones included\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tRANGE — Query cases by a numeric field\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tLists the cases whose numeric field lies within a range, or those with the largest or\n" +
+                    "\t\tsmallest values.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\trange --field FIELD [--min VALUE] [--max VALUE] [--top N | --bottom N]\n" +
+                    "\t\t      [--category CATEGORY] [--status <open|closed>]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\trange --field financial-value --min 50000 --category scam\n" +
+                    "\t\trange --field over-limit --min 40 --top 10\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• FIELD is financial-value, monetary-damage, speed-limit, exceeded-speed,\n" +
+                    "\t\t  number-of-victims, number-of-casualties or over-limit (speed above the limit).\n" +
+                    "\t\t• --min and --max are inclusive. --top N lists the N largest values, --bottom N the\n" +
+                    "\t\t  N smallest; otherwise every case in the range is listed, smallest first.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tSUGGEST — Complete names and titles\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tLists the most common values of a field that start with the given prefix.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tsuggest --field FIELD --prefix PREFIX [--limit N]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tsuggest --field officer --prefix sgt ta\n" +
+                    "\t\tsuggest --field title --prefix stolen --limit 10\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• FIELD is title, officer, victim or road-name.\n" +
+                    "\t\t• The prefix ignores case and extra spaces. N is from 1 to 50 (5 by default).\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tDEDUPE — Find likely duplicate cases\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tLists the groups of cases whose titles and info read almost the same.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tdedupe [--similarity PERCENT] [--include-archived <yes|no>]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tdedupe\n" +
+                    "\t\tdedupe --similarity 90 --include-archived yes\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• PERCENT is the share of text two cases must have in common, from 1 to 100\n" +
+                    "\t\t  (60 by default).\n" +
+                    "\t\t• Adding a case also warns when it reads like an existing case.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tGRAPH — List the cases linked to a case\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tLists the cases reached from a case through shared victims, officers, vehicle plates\n" +
+                    "\t\tand places, nearest first.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tgraph CASEID [--depth N] [--limit N]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tgraph 00000b\n" +
+                    "\t\tgraph 00000b --depth 3 --limit 100\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• The depth is the most links followed, from 1 to 4 (2 by default).\n" +
+                    "\t\t• The limit is the most cases listed, from 1 to 500 (50 by default).\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tWORKLOAD — Show the open cases of each officer\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tLists the officers with open cases, busiest first, with each officer's oldest open case.\n" +
+                    "\t\tWith --officer, also breaks the officer's open cases down by category.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\tworkload [--officer OFFICER]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\tworkload\n" +
+                    "\t\tworkload --officer Sgt Tan\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• Officer names ignore letter case and extra spaces.\n" +
+                    "\t\t• Open cases without an officer are counted as (unassigned).\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tHOTSPOTS — List the busiest road names and locations\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tLists the road names and locations with the most cases over the last days, with their\n" +
+                    "\t\tcounts over the same number of days before, so that emerging hotspots stand out.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\thotspots [--field FIELD] [--days N] [--limit N]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\thotspots\n" +
+                    "\t\thotspots --field road-name --days 30 --limit 5\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• FIELD is road-name or location; both are listed by default.\n" +
+                    "\t\t• The days end today and are from 1 to 30 (7 by default). The limit is from 1 to 50\n" +
+                    "\t\t  (10 by default).\n" +
+                    "\t\t• Counts are estimates and may be slightly high.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
+                    "\tTREND — Show the cases per week or month\n" +
+                    "\n" +
+                    "\tDescription:\n" +
+                    "\t\tShows the open and closed cases per week or month of incident, ending with the current\n" +
+                    "\t\tperiod, and optionally exports them as CSV.\n" +
+                    "\n" +
+                    "\tUsage:\n" +
+                    "\t\ttrend [--by week|month] [--periods N] [--category CATEGORY] [--export FILE]\n" +
+                    "\n" +
+                    "\tExamples:\n" +
+                    "\t\ttrend\n" +
+                    "\t\ttrend --by week --periods 8 --category theft\n" +
+                    "\t\ttrend --export trend.csv\n" +
+                    "\n" +
+                    "\tNotes:\n" +
+                    "\t\t• Months are counted by default. The periods are from 1 to 520 (12 by default).\n" +
+                    "\t\t• The CSV file has one row per period and category with cases, and is overwritten.\n" +
+                    "\t___________________________________________________________________________________________" +
+                    "________________________\n" +
+                    "\n" +
                     "\tSETTING — Configure program settings\n" +
                     "\n" +
                     "\tDescription:\n" +
@@ -220,16 +462,38 @@ public class HelpCommand extends Command {
                     "\t\tDisplays all cases whose titles match the keyword(s) provided.\n" +
                     "\n" +
                     "\tUsage:\n" +
-                    "\t\tfind --keyword KEYWORD [--status <open|closed>] \n" +
+                    "\t\tfind --keyword KEYWORD [--status <open|closed>] [--from DATE] [--to DATE]\n" +
+                    "\t\t     [--updated-since DATE] [--created-since DATE] [--include-archived <yes|no>]\n" +
+                    "\t\tfind --keywords KEYWORD, KEYWORD... [--match <any|all>] [other find flags]\n" +
+                    "\t\tfind [--where CONDITION, CONDITION...] [--regex PATTERN] [other find flags]\n" +
+                    "\t\tfind --plate PLATE [other find flags]\n" +
+                    "\t\tfind [--victim~ NAME] [--officer~ NAME] [--distance N] [other find flags]\n" +
                     "\n" +
                     "\tExamples:\n" +
                     "\t\tfind --keyword homicide \n" +
                     "\t\tfind --keyword murder at home --status open\n" +
+                    "\t\tfind --keyword theft --from 01/01/2024\n" +
+                    "\t\tfind --keywords tan, knife, SGX12 --match all\n" +
+                    "\t\tfind --where weapon=knife, number-of-victims>=2 --regex stab(bed|bing)\n" +
+                    "\t\tfind --plate sgx 1234a --include-archived yes\n" +
+                    "\t\tfind --victim~ jon tan --distance 1\n" +
                     "\n" +
                     "\tNotes:\n" +
                     "\t\t• KEYWORD is a string literal that will be matched. However, it is case-insensitive.\n" +
                     "\t\t• This search is not case-sensitive and finds all cases where the title contains " +
                             "the KEYWORD string.\n" +
+                    "\t\t• --keywords searches the title, info, victim and officer for several comma-separated\n" +
+                    "\t\t  keywords at once. A case matches if it contains any of them, or all of them with\n" +
+                    "\t\t  --match all.\n" +
+                    "\t\t• --where checks fields of any case type: = and != for exact values, ~ for text that\n" +
+                    "\t\t  contains the value, and <, <=, >, >= for numbers and dates. All conditions must hold.\n" +
+                    "\t\t• --regex looks for a regular expression in the title, info, victim and officer.\n" +
+                    "\t\t  A search that takes longer than 2 seconds is stopped.\n" +
+                    "\t\t• --plate finds the traffic cases involving a vehicle plate, ignoring case and spaces.\n" +
+                    "\t\t• --victim~ and --officer~ also find names spelt slightly differently: N is the most\n" +
+                    "\t\t  letters that may be added, removed or changed, from 0 to 3 (2 by default).\n" +
+                    "\t\t• The date flags work the same way as in the list command.\n" +
+                    "\t\t• --include-archived yes also searches the archived cases, which is slower.\n" +
                     "\t___________________________________________________________________________________________" +
                     "________________________\n" +
                     "\n" +
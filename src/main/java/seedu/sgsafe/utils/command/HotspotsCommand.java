@@ -0,0 +1,80 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.HotspotIndex;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command that lists the road names and locations with the most cases over the last days, with
+ * their counts over the same number of days before, so that emerging hotspots stand out.
+ * <p>
+ * The counts are read from the hotspot indexes in {@link CaseManager}, which keep a fixed-size sketch per recent
+ * day, so the command answers in time independent of the number of cases.
+ */
+public class HotspotsCommand extends Command {
+
+    /** Format of a hotspot row: the cases in the window, the cases in the window before, then the place. */
+    private static final String HOTSPOT_ROW_FORMAT = "%6s  %6s  %s";
+
+    /** The place fields to list. */
+    private final List<String> fields;
+
+    /** The number of days, ending today, to count cases over. */
+    private final int days;
+
+    /** The most places to list per field. */
+    private final int limit;
+
+    /**
+     * Constructs a {@code HotspotsCommand}.
+     *
+     * @param fields fields from {@link CaseManager#getHotspotFields()}
+     * @param days   the number of days, ending today, to count cases over
+     * @param limit  the most places to list per field
+     */
+    public HotspotsCommand(List<String> fields, int days, int limit) {
+        this.commandType = CommandType.HOTSPOTS;
+        this.fields = fields;
+        this.days = days;
+        this.limit = limit;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void execute() {
+        List<String> lines = new ArrayList<>();
+        for (String field : fields) {
+            if (!lines.isEmpty()) {
+                lines.add("");
+            }
+            List<HotspotIndex.Hotspot> hotspots = CaseManager.findHotspots(field, days, limit);
+            if (hotspots.isEmpty()) {
+                lines.add("No case has a " + field + " in the last " + days + " day(s).");
+                continue;
+            }
+            lines.add("Busiest " + field + " values in the last " + days + " day(s):");
+            lines.add(String.format(HOTSPOT_ROW_FORMAT, "CASES", "BEFORE", field.toUpperCase()));
+            for (HotspotIndex.Hotspot hotspot : hotspots) {
+                lines.add(String.format(HOTSPOT_ROW_FORMAT, hotspot.caseCount(), hotspot.previousCount(),
+                        hotspot.place()));
+            }
+        }
+        lines.add("BEFORE counts the cases in the " + days + " day(s) before. Counts are estimates and may be "
+                + "slightly high.");
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+}
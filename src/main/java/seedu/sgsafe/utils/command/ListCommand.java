@@ -1,12 +1,17 @@
 package seedu.sgsafe.utils.command;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
 import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CasePageRequest;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.ui.DateFormatter;
 import seedu.sgsafe.utils.ui.Display;
 
 /**
@@ -15,7 +20,10 @@ import seedu.sgsafe.utils.ui.Display;
  * This command supports multiple listing modes to filter cases:
  * {@link CaseListingMode#OPEN_ONLY}, {@link CaseListingMode#CLOSED_ONLY},
  * and {@link CaseListingMode#DEFAULT}.
- * It also supports verbose mode to display detailed case information.
+ * It also supports verbose mode to display detailed case information, an optional
+ * {@link CaseFilter} restricting the listing to a date or timestamp range, and an optional
+ * {@link CasePageRequest} that sorts the listing and shows a single page of it. Alternatively, the cases can be
+ * listed as they were at the end of an earlier day.
  */
 public class ListCommand extends Command {
 
@@ -25,6 +33,15 @@ public class ListCommand extends Command {
     /** Whether to display cases in verbose (multi-line) format. */
     private final boolean isVerbose;
 
+    /** The date criteria the listed cases must satisfy, or {@code null} to list every case. */
+    private final CaseFilter timeFilter;
+
+    /** The sort order and page to display, or {@code null} to list every case in insertion order. */
+    private final CasePageRequest pageRequest;
+
+    /** The day at the end of which to list the cases as they were, or {@code null} to list them as they are. */
+    private final LocalDate asOfDate;
+
     /**
      * Constructs a {@code ListCommand} with the specified listing mode and verbosity.
      *
@@ -32,9 +49,52 @@ public class ListCommand extends Command {
      * @param isVerbose   whether to display cases in verbose format
      */
     public ListCommand(CaseListingMode listingMode, boolean isVerbose) {
+        this(listingMode, isVerbose, (CaseFilter) null);
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that lists only the cases matching the given date criteria.
+     *
+     * @param listingMode the mode used to filter cases for display
+     * @param isVerbose   whether to display cases in verbose format
+     * @param timeFilter  the date criteria to satisfy, or {@code null} to list every case
+     */
+    public ListCommand(CaseListingMode listingMode, boolean isVerbose, CaseFilter timeFilter) {
+        this(listingMode, isVerbose, timeFilter, null);
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that displays one sorted page of the matching cases.
+     *
+     * @param listingMode the mode used to filter cases for display
+     * @param isVerbose   whether to display cases in verbose format
+     * @param timeFilter  the date criteria to satisfy, or {@code null} to list every case
+     * @param pageRequest the sort order and page to display, or {@code null} to list every case unsorted
+     */
+    public ListCommand(CaseListingMode listingMode, boolean isVerbose, CaseFilter timeFilter,
+                       CasePageRequest pageRequest) {
         this.commandType = CommandType.LIST;
         this.listingMode = listingMode;
         this.isVerbose = isVerbose;
+        this.timeFilter = timeFilter;
+        this.pageRequest = pageRequest;
+        this.asOfDate = null;
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that lists the cases as they were at the end of an earlier day.
+     *
+     * @param listingMode the mode used to filter cases for display, by their status on that day
+     * @param isVerbose   whether to display cases in verbose format
+     * @param asOfDate    the day at the end of which to list the cases
+     */
+    public ListCommand(CaseListingMode listingMode, boolean isVerbose, LocalDate asOfDate) {
+        this.commandType = CommandType.LIST;
+        this.listingMode = listingMode;
+        this.isVerbose = isVerbose;
+        this.timeFilter = null;
+        this.pageRequest = null;
+        this.asOfDate = asOfDate;
     }
 
     /**
@@ -46,22 +106,36 @@ public class ListCommand extends Command {
         return this.listingMode;
     }
 
+    public CaseFilter getTimeFilter() {
+        return this.timeFilter;
+    }
+
+    public CasePageRequest getPageRequest() {
+        return this.pageRequest;
+    }
+
+    public LocalDate getAsOfDate() {
+        return this.asOfDate;
+    }
+
     /**
      * Executes the command by retrieving and displaying the filtered list of cases.
      * <p>
-     * The case list is obtained from {@link CaseManager#getCaseList()},
-     * formatted using {@link #getCaseDescriptions(ArrayList)}, and printed via {@link Display#printMessage(String[])}.
+     * The cases matching the listing mode and date filter are obtained from
+     * {@link CaseManager#findMatchingCases(CaseFilter)}, which scans the column store rather than every case,
+     * formatted, and printed via {@link Display#printMessage(String[])}.
+     * A sorted listing only retrieves its page from {@link CaseManager#getSortedPage(CaseFilter, CasePageRequest)}.
+     * A listing as of an earlier day is rebuilt from the case histories by
+     * {@link CaseManager#findCasesAsOf(LocalDate, Boolean)}.
      */
     @Override
     public void execute() {
-        ArrayList<Case> caseList = CaseManager.getCaseList();
-        String[] caseDescriptions = getCaseDescriptions(caseList);
-        Display.printMessage(caseDescriptions);
+        Display.printMessage(getCaseDescriptions());
     }
 
     /**
-     * Generates a formatted array of case descriptions based on the current {@link CaseListingMode}
-     * and verbosity setting.
+     * Generates a formatted array of case descriptions based on the current {@link CaseListingMode},
+     * date criteria, page and verbosity setting.
      * <p>
      * The output includes:
      * <ul>
@@ -75,11 +149,32 @@ public class ListCommand extends Command {
      *   </li>
      * </ul>
      *
-     * @param caseList the full list of cases to filter and format
-     * @return an array of formatted strings representing the filtered and formatted case descriptions
+     * @return an array of formatted strings representing the matching cases
+     */
+    String[] getCaseDescriptions() {
+        if (asOfDate != null) {
+            return describeMatchingCases(CaseManager.findCasesAsOf(asOfDate, getStatusCriterion()));
+        }
+        CaseFilter filter = (timeFilter == null ? new CaseFilter() : timeFilter).withStatus(getStatusCriterion());
+        if (pageRequest != null) {
+            // One case past the page tells whether there is a next page
+            List<Case> page = CaseManager.getSortedPage(filter, pageRequest, 1);
+            boolean hasNextPage = page.size() > pageRequest.limit();
+            if (hasNextPage) {
+                page.remove(page.size() - 1);
+            }
+            return getPageDescriptions(page, hasNextPage);
+        }
+        return describeMatchingCases(CaseManager.findMatchingCases(filter));
+    }
+
+    /**
+     * Generates the output lines for cases that are already known to match the listing mode.
+     *
+     * @param matchingCases the cases to list
+     * @return an array of formatted strings representing the cases
      */
-    String[] getCaseDescriptions(ArrayList<Case> caseList) {
-        ArrayList<Case> matchingCases = filterCasesByMode(caseList);
+    private String[] describeMatchingCases(List<Case> matchingCases) {
         int count = matchingCases.size();
         List<String> outputLines = new ArrayList<>();
 
@@ -107,6 +202,48 @@ public class ListCommand extends Command {
         return outputLines.toArray(new String[0]);
     }
 
+    /**
+     * Generates the output lines for one page of a sorted listing.
+     * <p>
+     * The output consists of a line describing the page and its sort order, the table header
+     * (only in non-verbose mode), the formatted cases, and a hint for the next page if there is one.
+     *
+     * @param page        the cases on the requested page, already sorted
+     * @param hasNextPage whether any case comes after this page
+     * @return an array of formatted strings representing the page
+     */
+    String[] getPageDescriptions(List<Case> page, boolean hasNextPage) {
+        List<String> outputLines = new ArrayList<>();
+        if (page.isEmpty()) {
+            outputLines.add(pageRequest.page() == 1
+                    ? "No cases found."
+                    : "There are no cases on page " + pageRequest.page() + ".");
+            return outputLines.toArray(new String[0]);
+        }
+
+        long firstPosition = pageRequest.getOffset() + 1;
+        long lastPosition = pageRequest.getOffset() + page.size();
+        outputLines.add("Showing cases " + firstPosition + " to " + lastPosition + " (page " + pageRequest.page()
+                + "), sorted by " + pageRequest.sortKey().getDisplayName()
+                + (pageRequest.isDescending() ? " in descending order" : " in ascending order"));
+        if (!isVerbose) {
+            outputLines.add(generateListTableHeaderMessage());
+        }
+        outputLines.addAll(formatCases(page));
+        if (hasNextPage) {
+            outputLines.add("To see more cases, run the same command with --page " + (pageRequest.page() + 1));
+        }
+        return outputLines.toArray(new String[0]);
+    }
+
+    private Boolean getStatusCriterion() {
+        return switch (this.listingMode) {
+        case OPEN_ONLY -> true;
+        case CLOSED_ONLY -> false;
+        case DEFAULT -> null;
+        };
+    }
+
     /**
      * Generates a header line for the case listing table in summary mode.
      * <p>
@@ -116,7 +253,7 @@ public class ListCommand extends Command {
      * @return a formatted header string for the case list table
      */
     private String generateListTableHeaderMessage() {
-        return String.format(CaseFormatter.SUMMARY_FORMAT_STRING, "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
+        return String.format(CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE", "TITLE");
     }
 
     /**
@@ -144,39 +281,6 @@ public class ListCommand extends Command {
         return lines;
     }
 
-    /**
-     * Filters the provided list of cases based on the current {@link CaseListingMode}.
-     *
-     * @param caseList the full list of cases to filter
-     * @return a new list containing only the cases that match the filter criteria
-     */
-    private ArrayList<Case> filterCasesByMode(ArrayList<Case> caseList) {
-        ArrayList<Case> filtered = new ArrayList<>(
-                caseList.stream()
-                        .filter(this::isCaseVisible)
-                        .toList()
-        );
-        assert filtered.stream().noneMatch(Case::isDeleted) : "Deleted cases should not be included";
-        return filtered;
-    }
-
-    /**
-     * Determines whether a given case should be included in the listing based on the current mode.
-     *
-     * @param caseRecord the case to evaluate
-     * @return {@code true} if the case matches the filter criteria; {@code false} otherwise
-     */
-    private boolean isCaseVisible(Case caseRecord) {
-        if (caseRecord.isDeleted()) {
-            return false;
-        }
-        return switch (this.listingMode) {
-        case OPEN_ONLY -> caseRecord.isOpen();
-        case CLOSED_ONLY -> !caseRecord.isOpen();
-        case DEFAULT -> true;
-        };
-    }
-
     /**
      * Generates a summary header message based on the number of matching cases and the current {@link CaseListingMode}.
      * <p>
@@ -192,6 +296,8 @@ public class ListCommand extends Command {
      *   <li>{@code CLOSED_ONLY} → "closed"</li>
      *   <li>{@code DEFAULT} → "in total"</li>
      * </ul>
+     * When a date filter is given, the message reports the number of cases matching it instead, and when the
+     * cases are listed as of an earlier day, the number of cases on that day.
      *
      * @param caseCount the number of cases matching the current listing mode
      * @return a formatted summary message describing the case count and status
@@ -203,6 +309,20 @@ public class ListCommand extends Command {
         case DEFAULT -> "in total";
         };
 
+        if (asOfDate != null) {
+            String dateString = DateFormatter.formatDate(asOfDate, Settings.getOutputDateFormat());
+            String label = listingMode == CaseListingMode.DEFAULT ? "" : statusLabel + " ";
+            return caseCount == 0
+                    ? "There were no " + label + "cases at the end of " + dateString + "."
+                    : "There were " + caseCount + " " + label + "case(s) at the end of " + dateString;
+        }
+
+        if (timeFilter != null) {
+            return caseCount == 0
+                    ? "No cases found matching the given dates."
+                    : "A total of " + caseCount + " case(s) found matching the given dates";
+        }
+
         if (caseCount == 0) {
             return "You currently have no cases " + statusLabel + ". Add some now!";
         } else if (caseCount == 1) {
@@ -0,0 +1,41 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.ui.Display;
+
+/**
+ * Represents a command that permanently removes deleted cases from memory and from the save file.
+ * <p>
+ * Deleting a case only marks it as deleted. Purging drops the marked cases, so they are no longer scanned by other
+ * commands or rewritten on every save. Every remaining case keeps its ID, and the IDs of purged cases are not
+ * given to new cases. In dry-run mode only the number of deleted cases is reported.
+ */
+public class PurgeCommand extends Command {
+
+    /** Whether to only count the deleted cases. */
+    private final boolean isDryRun;
+
+    /**
+     * Constructs a {@code PurgeCommand}.
+     *
+     * @param isDryRun whether to only count the deleted cases
+     */
+    public PurgeCommand(boolean isDryRun) {
+        this.commandType = CommandType.PURGE;
+        this.isDryRun = isDryRun;
+    }
+
+    public boolean isDryRun() {
+        return isDryRun;
+    }
+
+    @Override
+    public void execute() {
+        int count = CaseManager.purgeDeletedCases(isDryRun);
+        if (isDryRun) {
+            Display.printMessage("Dry run, no cases were purged.", count + " deleted case(s) would be purged.");
+        } else {
+            Display.printMessage(count + " deleted case(s) purged.");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseFormatter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command that lists the cases whose numeric field lies within a range, e.g. the scams above
+ * $50,000 or the ten speeding cases furthest over the limit.
+ * <p>
+ * The cases are read from the field's range index in {@link CaseManager}, so only the cases in the range, or
+ * only the requested number of largest or smallest ones, are visited.
+ */
+public class RangeCommand extends Command {
+
+    /** Format of the value column placed before each case summary. */
+    private static final String VALUE_COLUMN_FORMAT = "%14s  ";
+
+    /** The numeric field to order the cases by. */
+    private final String field;
+
+    /** The smallest value to include. */
+    private final double min;
+
+    /** The largest value to include. */
+    private final double max;
+
+    /** The most cases to list. */
+    private final int limit;
+
+    /** Whether the largest values are listed first. */
+    private final boolean isDescending;
+
+    /** The other criteria the listed cases must satisfy. */
+    private final CaseFilter filter;
+
+    /**
+     * Constructs a {@code RangeCommand}.
+     *
+     * @param field        a field from {@link CaseManager#getRangeFields()}
+     * @param min          the smallest value to include
+     * @param max          the largest value to include
+     * @param limit        the most cases to list
+     * @param isDescending whether to list the largest values first
+     * @param filter       the other criteria the listed cases must satisfy
+     */
+    public RangeCommand(String field, double min, double max, int limit, boolean isDescending, CaseFilter filter) {
+        this.commandType = CommandType.RANGE;
+        this.field = field;
+        this.min = min;
+        this.max = max;
+        this.limit = limit;
+        this.isDescending = isDescending;
+        this.filter = filter;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    @Override
+    public void execute() {
+        List<Case> cases = CaseManager.findCasesInRange(field, min, max, filter, limit, isDescending);
+        if (cases.isEmpty()) {
+            Display.printMessage("No cases found with " + field + " in the given range.");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(cases.size() + " case(s) found, ordered by " + field + (isDescending ? " (largest first)" : ""));
+        lines.add("To view more details of a case, use the command: read CASE_ID");
+        lines.add(String.format(VALUE_COLUMN_FORMAT, "VALUE") + String.format(
+                CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE", "TITLE"));
+        for (Case c : cases) {
+            lines.add(String.format(VALUE_COLUMN_FORMAT, formatValue(CaseManager.getRangeFieldValue(field, c)))
+                    + c.getDisplayLine());
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+
+    /**
+     * Formats a value as a whole number if it has no fraction, or with two decimals otherwise.
+     */
+    private static String formatValue(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.format("%.2f", value);
+    }
+}
@@ -1,27 +1,145 @@
 package seedu.sgsafe.utils.command;
 
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFormatter;
 import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.EntityLinkIndex;
 import seedu.sgsafe.utils.exceptions.CaseNotFoundException;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.storage.ArchiveStore;
+import seedu.sgsafe.utils.ui.DateFormatter;
 import seedu.sgsafe.utils.ui.Display;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public class ReadCommand extends Command {
     private final String caseId;
 
+    /** Whether the cases sharing a victim, officer, plate or place with the case are listed as well. */
+    private final boolean isRelatedIncluded;
+
+    /** The day at the end of which to show the case as it was, or {@code null} to show it as it is. */
+    private final LocalDate asOfDate;
+
     public ReadCommand(String caseId) {
+        this(caseId, false);
+    }
+
+    /**
+     * Constructs a {@code ReadCommand}.
+     *
+     * @param caseId            the ID of the case to read
+     * @param isRelatedIncluded whether to list the live cases related to the case as well
+     */
+    public ReadCommand(String caseId, boolean isRelatedIncluded) {
         this.commandType = CommandType.READ;
         this.caseId = caseId;
+        this.isRelatedIncluded = isRelatedIncluded;
+        this.asOfDate = null;
+    }
+
+    /**
+     * Constructs a {@code ReadCommand} that shows a case as it was at the end of an earlier day.
+     *
+     * @param caseId   the ID of the case to read
+     * @param asOfDate the day at the end of which to show the case
+     */
+    public ReadCommand(String caseId, LocalDate asOfDate) {
+        this.commandType = CommandType.READ;
+        this.caseId = caseId;
+        this.isRelatedIncluded = false;
+        this.asOfDate = asOfDate;
+    }
+
+    public boolean isRelatedIncluded() {
+        return isRelatedIncluded;
+    }
+
+    public LocalDate getAsOfDate() {
+        return asOfDate;
     }
 
     @Override
     public void execute() {
+        if (asOfDate != null) {
+            Display.printMessage(readCaseAsOf());
+            return;
+        }
         String [] display = null;
+        Case caseRead = null;
         try {
             display = CaseManager.readCase(caseId);
+            caseRead = CaseManager.getCaseById(caseId);
         } catch (CaseNotFoundException e) {
-            Display.printMessage(e.getErrorMessage());
+            caseRead = ArchiveStore.isEnabled() ? ArchiveStore.findCase(caseId) : null;
+            display = caseRead == null ? null : readArchivedCase(caseRead);
+            if (display == null) {
+                Display.printMessage(e.getErrorMessage());
+            }
+        }
+        if (display == null) {
+            return;
         }
-        if (display != null) {
+        if (!isRelatedIncluded) {
             Display.printMessage(display);
+            return;
+        }
+        List<String> lines = new ArrayList<>(List.of(display));
+        lines.add("");
+        lines.addAll(readRelatedCases(caseRead));
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the display of the case as it was at the end of {@code asOfDate}, rebuilt from its history.
+     */
+    private String[] readCaseAsOf() {
+        if (!CaseManager.isIdInUse(caseId)) {
+            return new CaseNotFoundException(caseId).getErrorMessage();
+        }
+        String dateString = DateFormatter.formatDate(asOfDate, Settings.getOutputDateFormat());
+        Case caseAsOf = CaseManager.getCaseAsOf(caseId, asOfDate);
+        if (caseAsOf == null) {
+            return new String[] {"Case " + caseId + " had not been created, or had been deleted, by the end of "
+                    + dateString + "."};
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("Case " + caseAsOf.getId() + " as it was at the end of " + dateString + ":");
+        lines.addAll(List.of(caseAsOf.getReadCaseDisplay()));
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the display of a case read from the archive.
+     */
+    private String[] readArchivedCase(Case archivedCase) {
+        List<String> lines = new ArrayList<>();
+        lines.add("This case is archived and can no longer be changed.");
+        lines.addAll(List.of(archivedCase.getReadCaseDisplay()));
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the lines listing the live cases related to a case, each followed by the entities it shares.
+     */
+    private List<String> readRelatedCases(Case c) {
+        Map<Case, List<EntityLinkIndex.Entity>> relatedCases = CaseManager.getRelatedCases(c);
+        if (relatedCases.isEmpty()) {
+            return List.of("No other case shares a victim, officer, vehicle plate or place with this case.");
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(relatedCases.size() + " related case(s) share a victim, officer, vehicle plate or place:");
+        lines.add(String.format(CaseFormatter.getSummaryFormatString(), "STATUS", "CATEGORY", "ID", "DATE",
+                "TITLE"));
+        for (Map.Entry<Case, List<EntityLinkIndex.Entity>> related : relatedCases.entrySet()) {
+            lines.add(related.getKey().getDisplayLine());
+            lines.add("    Linked by: " + related.getValue().stream().map(EntityLinkIndex.Entity::toString)
+                    .collect(Collectors.joining(", ")));
         }
+        return lines;
     }
 }
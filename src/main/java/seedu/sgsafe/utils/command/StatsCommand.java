@@ -0,0 +1,220 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseDetailCache;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.FieldDictionary;
+import seedu.sgsafe.domain.casefiles.index.CaseStatistics;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.utils.storage.ArchiveStore;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a command that displays aggregate statistics over all cases that have not been deleted.
+ * <p>
+ * The figures are read from {@link CaseManager#getStatistics()}, which is maintained incrementally,
+ * so the command does not scan the case list.
+ */
+public class StatsCommand extends Command {
+
+    /** Format of a labelled figure in the summary view. */
+    private static final String SUMMARY_LINE_FORMAT = "  %-22s : %s";
+
+    /** Width of each count column in the month view. */
+    private static final String MONTH_COLUMN_FORMAT = "%10s";
+
+    /** Format of a row in the heap view. */
+    private static final String HEAP_ROW_FORMAT = "%-16s %10s %10s %14s";
+
+    /** Format of a row in the plates view. */
+    private static final String PLATE_ROW_FORMAT = "%-16s %10s";
+
+    /** The fewest cases a plate must be involved in to be listed as a repeat offender. */
+    private static final int REPEAT_OFFENDER_CASE_COUNT = 2;
+
+    private static final long BYTES_PER_KIB = 1024;
+
+    /** The breakdown to display. */
+    private final StatsView view;
+
+    /**
+     * Constructs a {@code StatsCommand} for the given view.
+     *
+     * @param view the breakdown to display
+     */
+    public StatsCommand(StatsView view) {
+        this.commandType = CommandType.STATS;
+        this.view = view;
+    }
+
+    public StatsView getView() {
+        return view;
+    }
+
+    @Override
+    public void execute() {
+        CaseStatistics statistics = CaseManager.getStatistics();
+        String[] lines = switch (view) {
+        case SUMMARY -> getSummaryLines(statistics);
+        case MONTH -> getMonthLines(statistics);
+        case HEAP -> getHeapLines();
+        case PLATES -> getPlateLines(getPlateCaseCounts());
+        };
+        Display.printMessage(lines);
+    }
+
+    /**
+     * Builds the summary view: counts by status, type and category, followed by the totals of the numeric fields.
+     *
+     * @param statistics the statistics to display
+     * @return the lines to display
+     */
+    String[] getSummaryLines(CaseStatistics statistics) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Case statistics (deleted cases are excluded)");
+        lines.add(formatSummaryLine("Total cases", statistics.getTotalCount()
+                + " (" + statistics.getOpenCount() + " open, " + statistics.getClosedCount() + " closed)"));
+
+        lines.add("By type:");
+        for (CaseType type : CaseType.values()) {
+            lines.add(formatSummaryLine(toDisplayName(type.name()), statistics.getTypeCount(type)));
+        }
+
+        lines.add("By category:");
+        for (CaseCategory category : CaseCategory.values()) {
+            int count = statistics.getCategoryCount(category);
+            if (count > 0) {
+                lines.add(formatSummaryLine(category.getDisplayName(), count));
+            }
+        }
+
+        lines.add("Totals:");
+        lines.add(formatSummaryLine("Financial value lost",
+                String.format("%.2f", statistics.getTotalFinancialValue())));
+        lines.add(formatSummaryLine("Property damage",
+                String.format("%.2f", statistics.getTotalMonetaryDamage())));
+        lines.add(formatSummaryLine("Victims of violence", statistics.getTotalVictims()));
+        lines.add(formatSummaryLine("Accident casualties", statistics.getTotalCasualties()));
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Builds the month view: one row per month with cases, giving the total, open and per-type counts.
+     *
+     * @param statistics the statistics to display
+     * @return the lines to display
+     */
+    String[] getMonthLines(CaseStatistics statistics) {
+        Map<YearMonth, CaseStatistics.MonthBucket> buckets = statistics.getMonthBuckets();
+        if (buckets.isEmpty()) {
+            return new String[] {"There are no cases to summarise."};
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Cases by month of incident (deleted cases are excluded)");
+        StringBuilder header = new StringBuilder(String.format("%-8s", "MONTH"));
+        header.append(String.format(MONTH_COLUMN_FORMAT, "TOTAL")).append(String.format(MONTH_COLUMN_FORMAT, "OPEN"));
+        for (CaseType type : CaseType.values()) {
+            header.append(String.format(MONTH_COLUMN_FORMAT, type.name()));
+        }
+        lines.add(header.toString());
+
+        for (Map.Entry<YearMonth, CaseStatistics.MonthBucket> entry : buckets.entrySet()) {
+            CaseStatistics.MonthBucket bucket = entry.getValue();
+            StringBuilder row = new StringBuilder(String.format("%-8s", entry.getKey()));
+            row.append(String.format(MONTH_COLUMN_FORMAT, bucket.getTotalCount()))
+                    .append(String.format(MONTH_COLUMN_FORMAT, bucket.getOpenCount()));
+            for (CaseType type : CaseType.values()) {
+                row.append(String.format(MONTH_COLUMN_FORMAT, bucket.getTypeCount(type)));
+            }
+            lines.add(row.toString());
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Builds the heap view: for each shared string field, the number of distinct values, the number of
+     * values stored, and the estimated heap saved by sharing duplicates, followed by the use of the case detail
+     * cache if it is enabled and the current JVM heap usage.
+     *
+     * @return the lines to display
+     */
+    String[] getHeapLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Shared string fields (estimated savings since start-up)");
+        lines.add(String.format(HEAP_ROW_FORMAT, "FIELD", "DISTINCT", "STORED", "SAVED (KiB)"));
+
+        long totalSavedBytes = 0;
+        for (FieldDictionary dictionary : FieldDictionary.getAll()) {
+            totalSavedBytes += dictionary.getSavedBytes();
+            lines.add(String.format(HEAP_ROW_FORMAT, dictionary.getFieldName(), dictionary.getDistinctCount(),
+                    dictionary.getLookupCount(), dictionary.getSavedBytes() / BYTES_PER_KIB));
+        }
+        lines.add(String.format(HEAP_ROW_FORMAT, "total", "", "", totalSavedBytes / BYTES_PER_KIB));
+
+        if (CaseDetailCache.isEnabled()) {
+            lines.add("Cases with details in memory: " + CaseDetailCache.getLoadedCount() + " (limit "
+                    + CaseDetailCache.getCapacity() + "), read back from the save file "
+                    + CaseDetailCache.getRestoreCount() + " times");
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+        lines.add("JVM heap in use: " + usedBytes / BYTES_PER_KIB / BYTES_PER_KIB + " MiB of "
+                + runtime.maxMemory() / BYTES_PER_KIB / BYTES_PER_KIB + " MiB");
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Builds the plates view: the vehicle plates involved in more than one case, most cases first.
+     *
+     * @param plateCounts the number of cases involving each normalised plate
+     * @return the lines to display
+     */
+    String[] getPlateLines(Map<String, Integer> plateCounts) {
+        List<Map.Entry<String, Integer>> repeatOffenders = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : plateCounts.entrySet()) {
+            if (entry.getValue() >= REPEAT_OFFENDER_CASE_COUNT) {
+                repeatOffenders.add(entry);
+            }
+        }
+        if (repeatOffenders.isEmpty()) {
+            return new String[] {"No vehicle plate is involved in more than one case."};
+        }
+        repeatOffenders.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Vehicle plates involved in more than one case (deleted cases are excluded)");
+        lines.add(String.format(PLATE_ROW_FORMAT, "PLATE", "CASES"));
+        for (Map.Entry<String, Integer> entry : repeatOffenders) {
+            lines.add(String.format(PLATE_ROW_FORMAT, entry.getKey(), entry.getValue()));
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the number of live and archived cases involving each vehicle plate, from the plate indexes.
+     */
+    private static Map<String, Integer> getPlateCaseCounts() {
+        Map<String, Integer> plateCounts = new HashMap<>(CaseManager.getPlateCaseCounts());
+        if (ArchiveStore.isEnabled()) {
+            ArchiveStore.getPlateCaseCounts().forEach((plate, count) -> plateCounts.merge(plate, count, Integer::sum));
+        }
+        return plateCounts;
+    }
+
+    private static String formatSummaryLine(String label, Object value) {
+        return String.format(SUMMARY_LINE_FORMAT, label, value);
+    }
+
+    private static String toDisplayName(String enumName) {
+        return enumName.charAt(0) + enumName.substring(1).toLowerCase();
+    }
+}
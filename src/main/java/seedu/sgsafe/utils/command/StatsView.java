@@ -0,0 +1,11 @@
+package seedu.sgsafe.utils.command;
+
+/**
+ * Specifies which breakdown the {@code stats} command displays.
+ */
+public enum StatsView {
+    SUMMARY,
+    MONTH,
+    HEAP,
+    PLATES
+}
@@ -0,0 +1,73 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.PrefixIndex;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command that completes a typed prefix to the most common titles, officer names, victim names or
+ * road names of the live cases, so that long values need not be typed in full.
+ * <p>
+ * The completions are read from the field's prefix index in {@link CaseManager}, so the command answers in
+ * time independent of the number of cases.
+ */
+public class SuggestCommand extends Command {
+
+    /** Format of a completion row: the number of cases, then the value. */
+    private static final String SUGGESTION_ROW_FORMAT = "%6s  %s";
+
+    /** The text field to complete. */
+    private final String field;
+
+    /** The typed prefix. */
+    private final String prefix;
+
+    /** The most completions to list. */
+    private final int limit;
+
+    /**
+     * Constructs a {@code SuggestCommand}.
+     *
+     * @param field  a field from {@link CaseManager#getSuggestFields()}
+     * @param prefix the typed prefix
+     * @param limit  the most completions to list
+     */
+    public SuggestCommand(String field, String prefix, int limit) {
+        this.commandType = CommandType.SUGGEST;
+        this.field = field;
+        this.prefix = prefix;
+        this.limit = limit;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void execute() {
+        List<PrefixIndex.Completion> completions = CaseManager.suggest(field, prefix, limit);
+        if (completions.isEmpty()) {
+            Display.printMessage("No " + field + " starts with \"" + prefix + "\".");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(completions.size() + " suggestion(s) for " + field + " starting with \"" + prefix + "\":");
+        lines.add(String.format(SUGGESTION_ROW_FORMAT, "CASES", field.toUpperCase()));
+        for (PrefixIndex.Completion completion : completions) {
+            lines.add(String.format(SUGGESTION_ROW_FORMAT, completion.caseCount(), completion.value()));
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+}
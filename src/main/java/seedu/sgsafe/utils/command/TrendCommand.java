@@ -0,0 +1,174 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.CaseRollup;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.ui.DateFormatter;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command that shows the number of open and closed cases per week or month of incident, ending with
+ * the current period, and optionally exports them as CSV.
+ * <p>
+ * The counts are read from the rollups in {@link CaseManager}, which are maintained incrementally, so the command
+ * costs time proportional to the number of periods shown, never the number of cases.
+ */
+public class TrendCommand extends Command {
+
+    private static final Logger logger = Logger.getLogger(TrendCommand.class.getName());
+
+    /** Format of a trend row: the period, the open, closed and total counts, then a bar of the total. */
+    private static final String TREND_ROW_FORMAT = "%-10s %6s %6s %6s  %s";
+
+    /** Header of an exported CSV file. */
+    private static final String CSV_HEADER = "period_start,category,open,closed,total";
+
+    /** Width of the bar of the busiest period. */
+    private static final int MAX_BAR_WIDTH = 30;
+
+    private static final String BAR_CHARACTER = "#";
+
+    /** Whether to count per week or per month. */
+    private final CaseRollup.Granularity granularity;
+
+    /** The number of periods to show, ending with the current one. */
+    private final int periodCount;
+
+    /** The category to count, or {@code null} for every category. */
+    private final CaseCategory category;
+
+    /** The file to export the counts to, or {@code null} to only display them. */
+    private final String exportPath;
+
+    /**
+     * Constructs a {@code TrendCommand}.
+     *
+     * @param granularity whether to count per week or per month
+     * @param periodCount the number of periods to show, ending with the current one
+     * @param category    the category to count, or {@code null} for every category
+     * @param exportPath  the file to export the counts to as CSV, or {@code null} to only display them
+     */
+    public TrendCommand(CaseRollup.Granularity granularity, int periodCount, CaseCategory category,
+            String exportPath) {
+        this.commandType = CommandType.TREND;
+        this.granularity = granularity;
+        this.periodCount = periodCount;
+        this.category = category;
+        this.exportPath = exportPath;
+    }
+
+    public CaseRollup.Granularity getGranularity() {
+        return granularity;
+    }
+
+    public int getPeriodCount() {
+        return periodCount;
+    }
+
+    public CaseCategory getCategory() {
+        return category;
+    }
+
+    public String getExportPath() {
+        return exportPath;
+    }
+
+    @Override
+    public void execute() {
+        CaseRollup rollup = CaseManager.getRollup(granularity);
+        LocalDate today = LocalDate.now();
+        List<String> lines = new ArrayList<>(getTrendLines(rollup, today));
+        if (exportPath != null) {
+            try {
+                Files.write(Path.of(exportPath), getCsvLines(rollup, today), StandardCharsets.UTF_8);
+                lines.add("Exported to " + exportPath);
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to export trend", e);
+                lines.add("Could not export to " + exportPath + ": " + e.getMessage());
+            }
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+
+    /**
+     * Builds the trend table, one row per period from the oldest to the current one.
+     *
+     * @param rollup the rollup to read, of this command's granularity
+     * @param today  the date whose period is shown last
+     * @return the lines to display
+     */
+    List<String> getTrendLines(CaseRollup rollup, LocalDate today) {
+        long lastPeriod = granularity.getPeriod(today);
+        long firstPeriod = granularity.addPeriods(lastPeriod, 1 - periodCount);
+        int[][] counts = new int[periodCount][];
+        int maxTotal = 0;
+        for (int i = 0; i < periodCount; i++) {
+            long period = granularity.addPeriods(firstPeriod, i);
+            int open = rollup.getCount(period, category, true);
+            int closed = rollup.getCount(period, category, false);
+            counts[i] = new int[] {open, closed};
+            maxTotal = Math.max(maxTotal, open + closed);
+        }
+
+        List<String> lines = new ArrayList<>();
+        String unit = granularity == CaseRollup.Granularity.WEEK ? "week" : "month";
+        lines.add("Cases per " + unit + " of incident, last " + periodCount + " " + unit + "(s)"
+                + (category == null ? "" : ", " + category.getDisplayName() + " only") + ":");
+        lines.add(String.format(TREND_ROW_FORMAT, unit.toUpperCase(), "OPEN", "CLOSED", "TOTAL", "").stripTrailing());
+        for (int i = 0; i < periodCount; i++) {
+            long period = granularity.addPeriods(firstPeriod, i);
+            int total = counts[i][0] + counts[i][1];
+            int barWidth = maxTotal == 0 ? 0 : (int) Math.ceil((double) total * MAX_BAR_WIDTH / maxTotal);
+            lines.add(String.format(TREND_ROW_FORMAT, getPeriodLabel(period), counts[i][0], counts[i][1], total,
+                    BAR_CHARACTER.repeat(barWidth)).stripTrailing());
+        }
+        return lines;
+    }
+
+    /**
+     * Builds the CSV export, one row per period and category with cases, from the oldest period to the current
+     * one. Periods are written as their first day in ISO format, so the file sorts and imports consistently.
+     *
+     * @param rollup the rollup to read, of this command's granularity
+     * @param today  the date whose period is exported last
+     * @return the lines of the file, starting with the header
+     */
+    List<String> getCsvLines(CaseRollup rollup, LocalDate today) {
+        long lastPeriod = granularity.getPeriod(today);
+        long firstPeriod = granularity.addPeriods(lastPeriod, 1 - periodCount);
+        List<CaseCategory> categories = category == null ? List.of(CaseCategory.values()) : List.of(category);
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (int i = 0; i < periodCount; i++) {
+            long period = granularity.addPeriods(firstPeriod, i);
+            for (CaseCategory each : categories) {
+                int open = rollup.getCount(period, each, true);
+                int closed = rollup.getCount(period, each, false);
+                if (open + closed > 0) {
+                    lines.add(String.join(",", granularity.getStartDate(period).toString(), each.name(),
+                            String.valueOf(open), String.valueOf(closed), String.valueOf(open + closed)));
+                }
+            }
+        }
+        return lines;
+    }
+
+    private String getPeriodLabel(long period) {
+        LocalDate start = granularity.getStartDate(period);
+        return granularity == CaseRollup.Granularity.WEEK
+                ? DateFormatter.formatDate(start, Settings.getOutputDateFormat())
+                : YearMonth.from(start).toString();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.sgsafe.utils.command;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.OfficerWorkload;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.ui.DateFormatter;
+import seedu.sgsafe.utils.ui.Display;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a command that shows the open cases of each officer: how many there are, the oldest one and how
+ * they split across categories, so that supervisors can rebalance the load.
+ * <p>
+ * The workloads are read from counters in {@link CaseManager} that every open, close, delete and officer edit
+ * keeps current, so the command answers in time proportional to the number of officers.
+ */
+public class WorkloadCommand extends Command {
+
+    /** Format of an officer row: the officer, the open count, the oldest open case and its date. */
+    private static final String WORKLOAD_ROW_FORMAT = "%-24s %5s  %-16s %s";
+
+    /** Label of the row counting the open cases without an officer. */
+    private static final String UNASSIGNED_LABEL = "(unassigned)";
+
+    /** The officer to show, or {@code null} to show every officer. */
+    private final String officer;
+
+    /**
+     * Constructs a {@code WorkloadCommand}.
+     *
+     * @param officer the officer to show with a breakdown by category, or {@code null} for every officer
+     */
+    public WorkloadCommand(String officer) {
+        this.commandType = CommandType.WORKLOAD;
+        this.officer = officer;
+    }
+
+    public String getOfficer() {
+        return officer;
+    }
+
+    @Override
+    public void execute() {
+        if (officer != null) {
+            showOfficer();
+            return;
+        }
+        List<OfficerWorkload.Workload> workloads = CaseManager.getOfficerWorkloads();
+        OfficerWorkload.Workload unassigned = CaseManager.getUnassignedWorkload();
+        if (workloads.isEmpty() && unassigned.getOpenCount() == 0) {
+            Display.printMessage("There are no open cases.");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(workloads.size() + " officer(s) have open cases:");
+        lines.add(String.format(WORKLOAD_ROW_FORMAT, "OFFICER", "OPEN", "OLDEST CASE", "DATE"));
+        for (OfficerWorkload.Workload workload : workloads) {
+            lines.add(formatRow(workload.getOfficer(), workload));
+        }
+        if (unassigned.getOpenCount() > 0) {
+            lines.add(formatRow(UNASSIGNED_LABEL, unassigned));
+        }
+        lines.add("For a breakdown by category, use the command: workload --officer OFFICER");
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+
+    /**
+     * Shows the open cases of one officer with a breakdown by category.
+     */
+    private void showOfficer() {
+        OfficerWorkload.Workload workload = CaseManager.getOfficerWorkload(officer);
+        if (workload == null) {
+            Display.printMessage("Officer " + officer + " has no open cases.");
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(WORKLOAD_ROW_FORMAT, "OFFICER", "OPEN", "OLDEST CASE", "DATE"));
+        lines.add(formatRow(workload.getOfficer(), workload));
+        lines.add("Open cases by category:");
+        for (CaseCategory category : CaseCategory.values()) {
+            int count = workload.getCategoryCount(category);
+            if (count > 0) {
+                lines.add(String.format("  %-16s %5d", category.getDisplayName(), count));
+            }
+        }
+        Display.printMessage(lines.toArray(new String[0]));
+    }
+
+    private static String formatRow(String label, OfficerWorkload.Workload workload) {
+        Case oldest = workload.getOldestCase();
+        String oldestId = oldest == null ? "-" : oldest.getId();
+        String oldestDate = oldest == null ? "-" : DateFormatter.formatDate(oldest.getDate(),
+                Settings.getOutputDateFormat());
+        return String.format(WORKLOAD_ROW_FORMAT, label, workload.getOpenCount(), oldestId, oldestDate);
+    }
+}
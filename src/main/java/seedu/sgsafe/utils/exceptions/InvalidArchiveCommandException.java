@@ -0,0 +1,16 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when an archive command is missing its cut-off date or has an unknown flag or mode.
+ */
+public class InvalidArchiveCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your archive command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for an archive command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "archive --closed-before DATE [--mode dry-run]";
+    private static final String EXAMPLE_COMMAND = "Example: archive --closed-before 01/01/2020 --mode dry-run";
+    private static final String TIP = "Only closed cases last updated before DATE are archived.";
+
+    public InvalidArchiveCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a bulk command is malformed, has no filter,
+ * or passes new field values to an action other than {@code edit}.
+ */
+public class InvalidBulkCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your bulk command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a bulk command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "bulk <close|open|delete|edit> [--category CATEGORY] "
+            + "[--status <open|closed>] [--from DATE] [--to DATE] [--updated-since DATE] [--created-since DATE] "
+            + "[--officer OFFICER] [--ids ID,ID,...] [--set-FIELD VALUE ...] [--mode dry-run]";
+    private static final String EXAMPLE_COMMAND = "Example: bulk close --category speeding --from 01/01/2023 "
+            + "--to 31/12/2023 --mode dry-run";
+    private static final String TIP = "At least one filter is required. --set-FIELD flags are only used by edit.";
+
+    public InvalidBulkCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a dedupe command has an unknown flag or an invalid similarity.
+ */
+public class InvalidDedupeCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your dedupe command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a dedupe command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "dedupe [--similarity PERCENT] [--include-archived <yes|no>]";
+    private static final String EXAMPLE_COMMAND = "Example: dedupe --similarity 80 --include-archived yes";
+    private static final String TIP = "PERCENT is a whole number from 1 to 100, and is 60 by default.";
+
+    public InvalidDedupeCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
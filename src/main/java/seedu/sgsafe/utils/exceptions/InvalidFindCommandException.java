@@ -4,7 +4,11 @@ public class InvalidFindCommandException extends InvalidCommandException {
     private static final String ERROR_MESSAGE = "Your find command format is incorrect.";
     private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a find command is";
     private static final String EXAMPLE_COMMAND =
-            "find --keyword KEYWORD [--status <open|closed>]";
+            "find [--keyword KEYWORD | --keywords KEYWORD, KEYWORD... [--match <any|all>]]"
+            + " [--where CONDITION, CONDITION...] [--regex PATTERN] [--plate PLATE]"
+            + " [--victim~ NAME] [--officer~ NAME] [--distance N] [--status <open|closed>]"
+            + " [--from DATE] [--to DATE] [--updated-since DATE] [--created-since DATE]"
+            + " [--include-archived <yes|no>]";
 
     public InvalidFindCommandException() {
         super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, EXAMPLE_COMMAND);
@@ -0,0 +1,17 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a {@code --where} condition or {@code --regex} pattern of a find command
+ * cannot be understood.
+ */
+public class InvalidFindQueryException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "The find query is not valid: ";
+    private static final String CONDITION_FORMAT =
+            "Conditions have the form FIELD OPERATOR VALUE, e.g. weapon=knife, financial-value>10000";
+    private static final String TIP = "Operators are =, !=, <, <=, >, >= and ~ (contains). "
+            + "Only numbers and dates can be compared with < and >.";
+
+    public InvalidFindQueryException(String reason) {
+        super(ERROR_MESSAGE + reason, CONDITION_FORMAT, TIP);
+    }
+}
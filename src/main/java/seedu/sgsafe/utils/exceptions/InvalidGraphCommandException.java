@@ -0,0 +1,17 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a graph command has an invalid case ID, an unknown flag or a depth or limit
+ * out of range.
+ */
+public class InvalidGraphCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your graph command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a graph command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "graph <case ID> [--depth N] [--limit N]";
+    private static final String EXAMPLE_COMMAND = "Example: graph 000001 --depth 3";
+    private static final String TIP = "The depth is from 1 to 4 and the limit is from 1 to 500.";
+
+    public InvalidGraphCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a hotspots command has an unknown field or flag, or a number of days or
+ * limit out of range.
+ */
+public class InvalidHotspotsCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your hotspots command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a hotspots command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "hotspots [--field FIELD] [--days N] [--limit N]";
+    private static final String EXAMPLE_COMMAND = "Example: hotspots --field road-name --days 30";
+    private static final String TIP = "FIELD is road-name or location, the days are from 1 to 30 and the limit is "
+            + "from 1 to 50.";
+
+    public InvalidHotspotsCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
@@ -9,9 +9,12 @@ public class InvalidListCommandException extends InvalidCommandException {
 
     private static final String ERROR_MESSAGE = "Your list command format is incorrect.";
     private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a list command is:";
-    private static final String CORRECT_COMMAND_FORMAT = "list [--status <open|closed>] [--mode verbose]";
+    private static final String CORRECT_COMMAND_FORMAT = "list [--status <open|closed>] [--mode verbose]"
+            + " [--from DATE] [--to DATE] [--updated-since DATE] [--created-since DATE]"
+            + " [--sort <date|updated|category|title>] [--order <asc|desc>] [--limit N] [--page P]"
+            + " or list [--status <open|closed>] [--mode verbose] --as-of DATE";
     private static final String EXAMPLE_COMMAND = "Example: list --status closed --mode verbose";
-    private static final String TIP = "The items in [ ] are optional.";
+    private static final String TIP = "The items in [ ] are optional. --limit must be between 1 and 1000.";
 
     /**
      * Constructs a {@code ListCommandException} with a predefined error message and usage example.
@@ -0,0 +1,15 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a purge command has an unknown flag or mode.
+ */
+public class InvalidPurgeCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your purge command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a purge command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "purge [--mode dry-run]";
+    private static final String EXAMPLE_COMMAND = "Example: purge --mode dry-run";
+
+    public InvalidPurgeCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a range command has no numeric field, an unknown flag or an invalid bound.
+ */
+public class InvalidRangeCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your range command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a range command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "range --field FIELD [--min VALUE] [--max VALUE]"
+            + " [--top N | --bottom N] [--category CATEGORY] [--status <open|closed>]";
+    private static final String EXAMPLE_COMMAND = "Example: range --field financial-value --min 50000 --category scam";
+    private static final String TIP = "FIELD is one of financial-value, monetary-damage, speed-limit, exceeded-speed,"
+            + " number-of-victims, number-of-casualties and over-limit.";
+
+    public InvalidRangeCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
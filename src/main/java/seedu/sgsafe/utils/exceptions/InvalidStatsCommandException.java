@@ -0,0 +1,15 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a stats command contains invalid arguments.
+ */
+public class InvalidStatsCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your stats command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a stats command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "stats [--view <summary|month|heap|plates>]";
+    private static final String EXAMPLE_COMMAND = "Example: stats --view month";
+
+    public InvalidStatsCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND);
+    }
+}
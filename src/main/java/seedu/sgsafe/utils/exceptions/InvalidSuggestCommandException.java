@@ -0,0 +1,16 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a suggest command has an unknown field, no prefix or an invalid limit.
+ */
+public class InvalidSuggestCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your suggest command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a suggest command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "suggest --field FIELD --prefix PREFIX [--limit N]";
+    private static final String EXAMPLE_COMMAND = "Example: suggest --field officer --prefix sgt ta";
+    private static final String TIP = "FIELD is one of title, officer, victim and road-name, and N is from 1 to 50.";
+
+    public InvalidSuggestCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a trend command has an unknown flag or granularity, or a number of periods
+ * out of range.
+ */
+public class InvalidTrendCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your trend command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a trend command is:";
+    private static final String CORRECT_COMMAND_FORMAT =
+            "trend [--by week|month] [--periods N] [--category CATEGORY] [--export FILE]";
+    private static final String EXAMPLE_COMMAND = "Example: trend --by week --periods 8 --category theft";
+    private static final String TIP = "The periods are from 1 to 520 and end with the current week or month.";
+
+    public InvalidTrendCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND, TIP);
+    }
+}
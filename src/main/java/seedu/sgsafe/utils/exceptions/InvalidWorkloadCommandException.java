@@ -0,0 +1,15 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a workload command has an unknown flag or an empty officer name.
+ */
+public class InvalidWorkloadCommandException extends InvalidCommandException {
+    private static final String ERROR_MESSAGE = "Your workload command format is incorrect.";
+    private static final String CORRECT_FORMAT_MESSAGE = "The correct format for a workload command is:";
+    private static final String CORRECT_COMMAND_FORMAT = "workload [--officer OFFICER]";
+    private static final String EXAMPLE_COMMAND = "Example: workload --officer Sgt Tan";
+
+    public InvalidWorkloadCommandException() {
+        super(ERROR_MESSAGE, CORRECT_FORMAT_MESSAGE, CORRECT_COMMAND_FORMAT, EXAMPLE_COMMAND);
+    }
+}
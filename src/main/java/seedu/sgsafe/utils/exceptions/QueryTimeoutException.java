@@ -0,0 +1,15 @@
+package seedu.sgsafe.utils.exceptions;
+
+/**
+ * Represents an exception thrown when a find query runs longer than its time limit, usually because of a
+ * regular expression that backtracks heavily.
+ */
+public class QueryTimeoutException extends InvalidCommandException {
+    private static final String STARTING_MESSAGE = "The search was stopped after ";
+    private static final String ENDING_MESSAGE = " ms.";
+    private static final String TIP = "Try a simpler --regex, or narrow the search with --where or the date flags.";
+
+    public QueryTimeoutException(long timeoutMillis) {
+        super(STARTING_MESSAGE + timeoutMillis + ENDING_MESSAGE, TIP);
+    }
+}
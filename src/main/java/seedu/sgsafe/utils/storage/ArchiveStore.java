@@ -0,0 +1,507 @@
+package seedu.sgsafe.utils.storage;
+
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseDetailCache;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.KeywordMatcher;
+import seedu.sgsafe.domain.casefiles.index.PlateIndex;
+import seedu.sgsafe.utils.exceptions.InvalidSaveStringException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps old closed cases out of memory and out of the save file, in compressed, immutable segment files.
+ * <p>
+ * Each call to {@link #writeSegment(List)} writes one segment: a gzip file holding the save strings of the archived
+ * cases, and a small index file holding the number of cases, the IDs they reserve and a {@link BloomFilter} over
+ * their IDs, vehicle plates and victim and officer names, followed by the number of cases involving each
+ * normalised vehicle plate. Only the index files are read when the store is opened. A lookup decompresses just the
+ * segments whose filter might contain the looked-up key, and a plate lookup just the segments known to hold the
+ * plate, while keyword searches read every segment.
+ * <p>
+ * A segment is complete once its index file exists, so a segment interrupted while being written is ignored.
+ * Archived cases can be read but not changed.
+ */
+public class ArchiveStore {
+
+    /** Identifies segment index files, with the format version in the last byte. */
+    private static final int INDEX_MAGIC = 0x53474133;
+
+    /** Identifies index files written before plates were indexed, which end after the Bloom filter. */
+    private static final int NO_PLATE_INDEX_MAGIC = 0x53474132;
+
+    /** Identifies index files written before IDs grew beyond six digits, which store the next ID as an int. */
+    private static final int INT_ID_INDEX_MAGIC = 0x53474131;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String DATA_SUFFIX = ".gz";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String SEGMENT_NUMBER_FORMAT = "%06d";
+
+    /** Rate of lookups that decompress a segment not holding the key. */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private static final String ID_KEY_PREFIX = "id:";
+    private static final String PLATE_KEY_PREFIX = "plate:";
+    private static final String NAME_KEY_PREFIX = "name:";
+
+    private static final Logger logger = Logger.getLogger(ArchiveStore.class.getName());
+
+    /** The directory holding the segment files, or {@code null} while the store is closed. */
+    private static Path directory = null;
+
+    /** Used to turn archived save strings back into cases. */
+    private static Storage storage = null;
+
+    /** The complete segments, oldest first. */
+    private static final List<Segment> segments = new ArrayList<>();
+
+    /** The segments holding each normalised vehicle plate, oldest first. */
+    private static final HashMap<String, List<Segment>> segmentsByPlate = new HashMap<>();
+
+    /** The number of segments whose index was written before plates were indexed. */
+    private static int unindexedPlateSegmentCount = 0;
+
+    /**
+     * The index of a segment, kept in memory while its cases stay on disk.
+     *
+     * @param dataFile    the gzip file holding the save strings
+     * @param caseCount   the number of archived cases in the segment
+     * @param nextIdValue one more than the largest canonical ID in the segment
+     * @param keys        the filter over the IDs, plates and names in the segment
+     * @param plateCounts the number of cases involving each normalised plate, or {@code null} if the index was
+     *                    written before plates were indexed
+     */
+    private record Segment(Path dataFile, int caseCount, long nextIdValue, BloomFilter keys,
+                           Map<String, Integer> plateCounts) {
+    }
+
+    /**
+     * Opens the archive in the given directory and reads the indexes of its segments.
+     * <p>
+     * The directory is created when the first segment is written. The IDs held by archived cases are reserved,
+     * so that new cases never reuse them.
+     *
+     * @param directory the directory holding the segment files
+     * @param storage   the storage used to parse archived save strings
+     */
+    public static void open(Path directory, Storage storage) {
+        close();
+        ArchiveStore.directory = directory;
+        ArchiveStore.storage = storage;
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*"
+                + INDEX_SUFFIX)) {
+            List<Path> sortedIndexFiles = new ArrayList<>();
+            indexFiles.forEach(sortedIndexFiles::add);
+            sortedIndexFiles.sort(null);
+            for (Path indexFile : sortedIndexFiles) {
+                addSegment(readIndex(indexFile));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not read the archive in " + directory, e);
+        }
+        CaseManager.reserveIdsBelow(getNextIdValue());
+        logger.log(Level.INFO, "Opened archive with " + segments.size() + " segment(s)");
+    }
+
+    /**
+     * Closes the archive. Archived cases are no longer found and no IDs stay reserved, so this is only called
+     * before cases are loaded or by tests.
+     */
+    public static void close() {
+        directory = null;
+        storage = null;
+        segments.clear();
+        segmentsByPlate.clear();
+        unindexedPlateSegmentCount = 0;
+        CaseManager.clearReservedIds();
+    }
+
+    public static boolean isEnabled() {
+        return directory != null;
+    }
+
+    public static int getSegmentCount() {
+        return segments.size();
+    }
+
+    public static int getArchivedCaseCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.caseCount();
+        }
+        return count;
+    }
+
+    /**
+     * Writes the given cases to a new segment. The cases are not removed from the {@link CaseManager}.
+     *
+     * @param cases the cases to archive; not empty
+     * @return the name of the new segment
+     * @throws IOException if the segment could not be written, in which case no segment is added
+     */
+    public static String writeSegment(List<Case> cases) throws IOException {
+        assert isEnabled() && !cases.isEmpty() : "Archive should be open and cases should not be empty";
+        Files.createDirectories(directory);
+        String name = SEGMENT_PREFIX + String.format(SEGMENT_NUMBER_FORMAT, getNextSegmentNumber());
+        Path dataFile = directory.resolve(name + DATA_SUFFIX);
+        Path indexFile = directory.resolve(name + INDEX_SUFFIX);
+        Path tempFile = directory.resolve(name + ".tmp");
+
+        BloomFilter keys = BloomFilter.create(cases.size() * 4, FALSE_POSITIVE_RATE);
+        Map<String, Integer> plateCounts = new HashMap<>();
+        long nextIdValue = 0;
+        try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+            for (Case c : cases) {
+                String line = CaseDetailCache.getSaveString(c);
+                out.write(line);
+                out.newLine();
+                Map<String, String> fields = Storage.getFields(line);
+                addKeys(keys, fields);
+                countPlate(plateCounts, fields);
+                nextIdValue = Math.max(nextIdValue, Case.parseIdValue(fields.get("id")) + 1);
+            }
+        }
+        Files.move(tempFile, dataFile, StandardCopyOption.REPLACE_EXISTING);
+
+        Segment segment = new Segment(dataFile, cases.size(), nextIdValue, keys, plateCounts);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(segment.caseCount());
+            out.writeLong(segment.nextIdValue());
+            keys.writeTo(out);
+            out.writeInt(plateCounts.size());
+            for (Map.Entry<String, Integer> entry : plateCounts.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+
+        addSegment(segment);
+        CaseManager.reserveIdsBelow(getNextIdValue());
+        logger.log(Level.INFO, "Archived " + cases.size() + " case(s) to " + name);
+        return name;
+    }
+
+    /**
+     * Finds an archived case by its ID.
+     *
+     * @param id the case ID, in any letter case
+     * @return the archived case, or {@code null} if no archived case has the ID
+     */
+    public static Case findCase(String id) {
+        String lowerId = Case.normaliseId(id).toLowerCase();
+        List<Case> casesFound = findCases(ID_KEY_PREFIX + lowerId,
+                fields -> fields.containsKey("id") && lowerId.equalsIgnoreCase(Case.normaliseId(fields.get("id"))));
+        return casesFound.isEmpty() ? null : casesFound.get(0);
+    }
+
+    /**
+     * Finds the archived traffic cases involving a vehicle plate.
+     * <p>
+     * Only the segments whose index lists the plate are read. Segments indexed before plates were are read once
+     * to count their plates, the first time a plate is looked up.
+     *
+     * @param plate the vehicle plate, in any letter case and spacing
+     * @return the archived cases with the plate
+     */
+    public static List<Case> findCasesByPlate(String plate) {
+        String key = PlateIndex.normalisePlate(plate);
+        List<Case> casesFound = new ArrayList<>();
+        if (key == null) {
+            return casesFound;
+        }
+        indexAllPlates();
+        Predicate<Map<String, String>> hasPlate =
+                fields -> key.equals(PlateIndex.normalisePlate(fields.get("vehicle-plate")));
+        for (Segment segment : segmentsByPlate.getOrDefault(key, List.of())) {
+            casesFound.addAll(readCases(segment, hasPlate));
+        }
+        return casesFound;
+    }
+
+    /**
+     * Returns the number of archived cases involving each vehicle plate.
+     *
+     * @return a new map from normalised plate to its number of archived cases
+     */
+    public static Map<String, Integer> getPlateCaseCounts() {
+        indexAllPlates();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.plateCounts().forEach((plate, count) -> counts.merge(plate, count, Integer::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * Finds the archived cases with the given victim or officer.
+     *
+     * @param name the victim or officer name, in any letter case
+     * @return the archived cases naming the person
+     */
+    public static List<Case> findCasesByName(String name) {
+        String key = name.strip();
+        return findCases(NAME_KEY_PREFIX + key.toLowerCase(),
+                fields -> key.equalsIgnoreCase(fields.get("victim")) || key.equalsIgnoreCase(fields.get("officer")));
+    }
+
+    /**
+     * Finds the archived cases whose title contains the keyword among those matching the filter.
+     * Every segment is read, since titles are not in the segment filters.
+     *
+     * @param keyword the case-insensitive keyword to look for in titles
+     * @param filter  the criteria narrowing the search
+     * @return the matching archived cases
+     */
+    public static List<Case> findCasesByKeyword(String keyword, CaseFilter filter) {
+        String lowerKeyword = keyword.toLowerCase();
+        List<Case> casesFound = new ArrayList<>();
+        Predicate<Map<String, String>> hasKeyword =
+                fields -> fields.containsKey("title") && fields.get("title").toLowerCase().contains(lowerKeyword);
+        for (Segment segment : segments) {
+            for (Case c : readCases(segment, hasKeyword)) {
+                if (filter.matches(c)) {
+                    casesFound.add(c);
+                }
+            }
+        }
+        return casesFound;
+    }
+
+    /**
+     * Returns every archived case matching the filter. Every segment is read, unless the filter has a vehicle
+     * plate, in which case only the segments holding the plate are. Similar victim or officer names are checked
+     * case by case, since the segments keep no tree of names.
+     *
+     * @param filter the criteria the cases must satisfy
+     * @return the matching archived cases
+     */
+    public static List<Case> findMatchingCases(CaseFilter filter) {
+        List<Case> casesFound = new ArrayList<>();
+        if (filter.getVehiclePlate() != null) {
+            for (Case c : findCasesByPlate(filter.getVehiclePlate())) {
+                if (filter.matches(c)) {
+                    casesFound.add(c);
+                }
+            }
+            return casesFound;
+        }
+        for (Segment segment : segments) {
+            for (Case c : readCases(segment, fields -> true)) {
+                if (filter.matches(c)) {
+                    casesFound.add(c);
+                }
+            }
+        }
+        return casesFound;
+    }
+
+    /**
+     * Finds the archived cases whose title, info, victim or officer contain any or all of the matcher's keywords,
+     * among those matching the filter. Every segment is read, since these fields are not in the segment filters.
+     *
+     * @param matcher the keywords to look for
+     * @param filter  the criteria narrowing the search
+     * @return the matching archived cases
+     */
+    public static List<Case> findCasesByKeywords(KeywordMatcher matcher, CaseFilter filter) {
+        List<Case> casesFound = new ArrayList<>();
+        Predicate<Map<String, String>> hasKeywords = fields -> matcher.matchesFields(
+                fields.get("title"), fields.get("info"), fields.get("victim"), fields.get("officer"));
+        for (Segment segment : segments) {
+            for (Case c : readCases(segment, hasKeywords)) {
+                if (filter.matches(c)) {
+                    casesFound.add(c);
+                }
+            }
+        }
+        return casesFound;
+    }
+
+    private static List<Case> findCases(String key, Predicate<Map<String, String>> condition) {
+        List<Case> casesFound = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment.keys().mightContain(key)) {
+                casesFound.addAll(readCases(segment, condition));
+            }
+        }
+        return casesFound;
+    }
+
+    /**
+     * Decompresses a segment and parses the cases whose saved fields satisfy the condition.
+     * Cases whose ID is back in the case list, e.g. because the save file was not written after archiving, are
+     * skipped so that only the live copy is shown.
+     */
+    private static List<Case> readCases(Segment segment, Predicate<Map<String, String>> condition) {
+        List<Case> cases = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(segment.dataFile()))),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                Map<String, String> fields = Storage.getFields(line);
+                String id = fields.get("id");
+                if (!condition.test(fields) || id == null || CaseManager.isIdInUse(id)) {
+                    continue;
+                }
+                try {
+                    cases.add(storage.getCaseFromSaveString(line));
+                } catch (InvalidSaveStringException e) {
+                    logger.log(Level.WARNING, "Skipping invalid archived case in " + segment.dataFile());
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not read archive segment " + segment.dataFile(), e);
+        }
+        return cases;
+    }
+
+    private static void addKeys(BloomFilter keys, Map<String, String> fields) {
+        addKey(keys, ID_KEY_PREFIX, fields.containsKey("id") ? Case.normaliseId(fields.get("id")) : null);
+        addKey(keys, PLATE_KEY_PREFIX, fields.get("vehicle-plate"));
+        addKey(keys, NAME_KEY_PREFIX, fields.get("victim"));
+        addKey(keys, NAME_KEY_PREFIX, fields.get("officer"));
+    }
+
+    private static void countPlate(Map<String, Integer> plateCounts, Map<String, String> fields) {
+        String plate = PlateIndex.normalisePlate(fields.get("vehicle-plate"));
+        if (plate != null) {
+            plateCounts.merge(plate, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns a copy of a segment indexed before plates were, with the plates counted from its data file.
+     */
+    private static Segment countPlates(Segment segment) {
+        Map<String, Integer> plateCounts = new HashMap<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(segment.dataFile()))),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                countPlate(plateCounts, Storage.getFields(line));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not read archive segment " + segment.dataFile(), e);
+        }
+        return new Segment(segment.dataFile(), segment.caseCount(), segment.nextIdValue(), segment.keys(),
+                plateCounts);
+    }
+
+    /**
+     * Counts the plates of the segments indexed before plates were, so that every segment is in
+     * {@code segmentsByPlate}. Each such segment is read once per opening of the archive.
+     */
+    private static void indexAllPlates() {
+        if (unindexedPlateSegmentCount == 0) {
+            return;
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            if (segment.plateCounts() == null) {
+                segment = countPlates(segment);
+                segments.set(i, segment);
+                indexPlates(segment);
+            }
+        }
+        unindexedPlateSegmentCount = 0;
+        // Segments were added to each plate in the order they were counted, so restore the oldest-first order
+        for (List<Segment> plateSegments : segmentsByPlate.values()) {
+            plateSegments.sort(Comparator.comparing(Segment::dataFile));
+        }
+    }
+
+    private static void addSegment(Segment segment) {
+        segments.add(segment);
+        indexPlates(segment);
+    }
+
+    private static void indexPlates(Segment segment) {
+        if (segment.plateCounts() == null) {
+            unindexedPlateSegmentCount++;
+            return;
+        }
+        for (String plate : segment.plateCounts().keySet()) {
+            segmentsByPlate.computeIfAbsent(plate, key -> new ArrayList<>()).add(segment);
+        }
+    }
+
+    private static void addKey(BloomFilter keys, String prefix, String value) {
+        if (value != null) {
+            keys.add(prefix + value.toLowerCase());
+        }
+    }
+
+    private static Segment readIndex(Path indexFile) throws IOException {
+        String fileName = indexFile.getFileName().toString();
+        Path dataFile = indexFile.resolveSibling(fileName.substring(0, fileName.length() - INDEX_SUFFIX.length())
+                + DATA_SUFFIX);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            int magic = in.readInt();
+            if (magic != INDEX_MAGIC && magic != NO_PLATE_INDEX_MAGIC && magic != INT_ID_INDEX_MAGIC) {
+                throw new IOException("Not an archive index: " + indexFile);
+            }
+            int caseCount = in.readInt();
+            long nextIdValue = magic == INT_ID_INDEX_MAGIC ? in.readInt() : in.readLong();
+            BloomFilter keys = BloomFilter.readFrom(in);
+            if (magic != INDEX_MAGIC) {
+                return new Segment(dataFile, caseCount, nextIdValue, keys, null);
+            }
+            int plateCount = in.readInt();
+            Map<String, Integer> plateCounts = new HashMap<>();
+            for (int i = 0; i < plateCount; i++) {
+                plateCounts.put(in.readUTF(), in.readInt());
+            }
+            return new Segment(dataFile, caseCount, nextIdValue, keys, plateCounts);
+        }
+    }
+
+    private static long getNextIdValue() {
+        long nextIdValue = 0;
+        for (Segment segment : segments) {
+            nextIdValue = Math.max(nextIdValue, segment.nextIdValue());
+        }
+        return nextIdValue;
+    }
+
+    private static int getNextSegmentNumber() {
+        if (segments.isEmpty()) {
+            return 1;
+        }
+        String lastName = segments.get(segments.size() - 1).dataFile().getFileName().toString();
+        return Integer.parseInt(lastName.substring(SEGMENT_PREFIX.length(),
+                lastName.length() - DATA_SUFFIX.length())) + 1;
+    }
+}
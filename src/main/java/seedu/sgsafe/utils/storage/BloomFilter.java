@@ -0,0 +1,107 @@
+package seedu.sgsafe.utils.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A fixed-size Bloom filter over strings, used to skip archive segments that cannot hold a looked-up key.
+ * <p>
+ * {@link #mightContain(String)} never returns {@code false} for a key that was added, and returns {@code true}
+ * for a key that was not added with roughly the false positive rate the filter was sized for.
+ * The bit positions are derived from two 64-bit hashes of the key by double hashing.
+ */
+class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** The bits of the filter, 64 per word. */
+    private final long[] words;
+
+    /** Number of bits set for each key. */
+    private final int hashCount;
+
+    private BloomFilter(long[] words, int hashCount) {
+        this.words = words;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates an empty filter sized for the given number of keys and false positive rate.
+     *
+     * @param expectedKeys      the number of keys that will be added; at least 1
+     * @param falsePositiveRate the acceptable rate of false positives, between 0 and 1 exclusive
+     * @return an empty filter
+     */
+    static BloomFilter create(int expectedKeys, double falsePositiveRate) {
+        assert expectedKeys > 0 && falsePositiveRate > 0 && falsePositiveRate < 1;
+        double ln2 = Math.log(2);
+        long bitCount = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.max(1, (bitCount + 63) / 64);
+        int hashCount = (int) Math.max(1, Math.round((double) wordCount * 64 / expectedKeys * ln2));
+        return new BloomFilter(new long[wordCount], hashCount);
+    }
+
+    void add(String key) {
+        long hash = hash(key);
+        long step = mix(hash);
+        long bitCount = (long) words.length * 64;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        long step = mix(hash);
+        long bitCount = (long) words.length * 64;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(hashCount);
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    static BloomFilter readFrom(DataInputStream in) throws IOException {
+        int hashCount = in.readInt();
+        int wordCount = in.readInt();
+        if (hashCount <= 0 || wordCount <= 0) {
+            throw new IOException("Corrupted Bloom filter");
+        }
+        long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = in.readLong();
+        }
+        return new BloomFilter(words, hashCount);
+    }
+
+    /** FNV-1a over the characters of the key. */
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /** Derives the second, odd hash from the first with the finaliser of SplitMix64. */
+    private static long mix(long hash) {
+        long z = hash + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) | 1;
+    }
+}
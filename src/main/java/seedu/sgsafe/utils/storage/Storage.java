@@ -1,22 +1,12 @@
 package seedu.sgsafe.utils.storage;
 
 import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseDetailCache;
+import seedu.sgsafe.domain.casefiles.CaseHistory;
 import seedu.sgsafe.domain.casefiles.CaseManager;
 import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
 import seedu.sgsafe.domain.casefiles.type.InvalidCase;
-import seedu.sgsafe.domain.casefiles.type.OthersCase;
-import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
-import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
-import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
-import seedu.sgsafe.domain.casefiles.type.property.ArsonCase;
-import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.RapeCase;
-import seedu.sgsafe.domain.casefiles.type.sexual.VoyeurismCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
-import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
-import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
-import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
-import seedu.sgsafe.domain.casefiles.type.violent.RobberyCase;
 
 import seedu.sgsafe.utils.exceptions.InvalidSaveStringException;
 import seedu.sgsafe.utils.exceptions.InvalidSavedCategoryException;
@@ -29,9 +19,22 @@ import seedu.sgsafe.utils.ui.Validator;
 
 import seedu.sgsafe.utils.settings.Settings;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,7 +44,6 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.List;
 
 /**
@@ -60,8 +62,30 @@ public class Storage {
     /** The date-time pattern used for saving and parsing timestamps (e.g., 29/10/2025 13:45:22). */
     private static final String SAVE_DATETIME_PATTERN = "dd/MM/yyyy HH:mm:ss";
 
+    /** Shared formatter for {@link #SAVE_DATE_PATTERN}, built once rather than per saved or loaded case. */
+    private static final DateTimeFormatter SAVE_DATE_FORMATTER = DateTimeFormatter.ofPattern(SAVE_DATE_PATTERN);
+
+    /** Shared formatter for {@link #SAVE_DATETIME_PATTERN}, built once rather than per saved or loaded case. */
+    private static final DateTimeFormatter SAVE_DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern(SAVE_DATETIME_PATTERN);
+
     private static final String SETTING_PREFIX = "settings:";
 
+    /** Prefix of the line holding the ID the next new case gets, so IDs are never reused across restarts. */
+    private static final String NEXT_ID_PREFIX = "next-id:";
+
+    /** Suffix of the file next to the save file that holds the case rollups. */
+    private static final String ROLLUP_FILE_SUFFIX = ".rollup";
+
+    /** Prefix of the first line of the rollup file, followed by the size and modification time of the save file. */
+    private static final String ROLLUP_SOURCE_PREFIX = "rollup-of:";
+
+    /** Suffix of the file next to the save file that the versions of changed cases are appended to. */
+    private static final String HISTORY_FILE_SUFFIX = ".history";
+
+    /** Number of bytes of the save file read at a time while loading. */
+    private static final int LOAD_BUFFER_SIZE = 1 << 16;
+
     /** The filename where cases are stored. */
     private final String filename;
 
@@ -94,6 +118,24 @@ public class Storage {
         return SAVE_DATETIME_PATTERN;
     }
 
+    /**
+     * Returns the formatter for the save date pattern.
+     *
+     * @return the shared formatter used for saving and parsing dates
+     */
+    public static DateTimeFormatter getSaveDateFormatter() {
+        return SAVE_DATE_FORMATTER;
+    }
+
+    /**
+     * Returns the formatter for the save date-time pattern.
+     *
+     * @return the shared formatter used for saving and parsing date-times
+     */
+    public static DateTimeFormatter getSaveDateTimeFormatter() {
+        return SAVE_DATETIME_FORMATTER;
+    }
+
     /**
      * Parses a serialized save string into a map of field names and their corresponding values.
      * Fields are separated by {@code |}, and key-value pairs are separated by {@code :}.
@@ -101,7 +143,7 @@ public class Storage {
      * @param saveString the serialized string representation of a case
      * @return a map containing field names as keys and their string values
      */
-    private Map<String, String> getFields(String saveString) {
+    public static Map<String, String> getFields(String saveString) {
         Map<String, String> fields = new HashMap<>();
         for (String field : saveString.split("\\|")) {
             String[] splitField = field.split(":", 2);
@@ -144,10 +186,10 @@ public class Storage {
             throw new InvalidSavedFieldsException(line);
         }
 
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(getSaveDatePattern());
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(getSaveDateTimePattern());
+        DateTimeFormatter dateFormatter = getSaveDateFormatter();
+        DateTimeFormatter dateTimeFormatter = getSaveDateTimeFormatter();
 
-        String id = CaseManager.generateHexId();
+        String id = getSavedId(fields.get("id"));
 
         // Parse base attributes
         String title = fields.get("title");
@@ -177,21 +219,7 @@ public class Storage {
         }
 
         // Instantiate the appropriate subclass of Case
-        Case newCase = switch (caseCategory) {
-        case BURGLARY -> new BurglaryCase(id, title, date, info, victim, officer);
-        case SCAM -> new ScamCase(id, title, date, info, victim, officer);
-        case THEFT -> new TheftCase(id, title, date, info, victim, officer);
-        case ARSON -> new ArsonCase(id, title, date, info, victim, officer);
-        case VANDALISM -> new VandalismCase(id, title, date, info, victim, officer);
-        case RAPE -> new RapeCase(id, title, date, info, victim, officer);
-        case VOYEURISM -> new VoyeurismCase(id, title, date, info, victim, officer);
-        case ACCIDENT -> new AccidentCase(id, title, date, info, victim, officer);
-        case SPEEDING -> new SpeedingCase(id, title, date, info, victim, officer);
-        case ASSAULT -> new AssaultCase(id, title, date, info, victim, officer);
-        case MURDER -> new MurderCase(id, title, date, info, victim, officer);
-        case ROBBERY -> new RobberyCase(id, title, date, info, victim, officer);
-        case OTHERS -> new OthersCase(id, title, date, info, victim, officer);
-        };
+        Case newCase = CaseFactory.createCase(caseCategory, id, title, date, info, victim, officer);
 
         // Only retain additional fields that are specific to the subclass
         List<String> additionalFields = newCase.getAdditionalFields();
@@ -207,6 +235,27 @@ public class Storage {
         return newCase;
     }
 
+    /**
+     * Returns the ID saved with a case, or a newly generated one if the line has no valid ID or its ID is
+     * already taken, as in save files written before IDs were saved.
+     *
+     * @param savedId the value of the {@code id} field, or {@code null} if it is absent
+     * @return the ID to give the case
+     */
+    private String getSavedId(String savedId) {
+        if (validator.isValidCaseId(savedId) && !CaseManager.isIdInUse(savedId)) {
+            return Case.normaliseId(savedId);
+        }
+        return CaseManager.generateHexId();
+    }
+
+    private void loadNextId(String nextId) {
+        long nextIdValue = Case.parseIdValue(nextId);
+        if (nextIdValue != Case.NO_ID_VALUE) {
+            CaseManager.reserveIdsBelow(nextIdValue);
+        }
+    }
+
     private void loadSettings(String settingString) throws IllegalArgumentException {
         String[] settings = settingString.substring(SETTING_PREFIX.length()).split("\\|");
         if (settings.length != 3) {
@@ -218,7 +267,13 @@ public class Storage {
         Settings.setDateTimeFormat(settings[2].strip());
     }
 
-    private void parseLine(String line) {
+    /**
+     * Applies one line of the save file: a settings line, or a case that is added to the {@link CaseManager}.
+     *
+     * @param line the line without its line separator
+     * @return the case added, or {@code null} if the line did not hold a case
+     */
+    private Case parseLine(String line) {
         if (line.startsWith(SETTING_PREFIX)) {
             ArrayList<String> settingResult = new ArrayList<>();
             settingResult.add("Loading settings from save...");
@@ -235,50 +290,193 @@ public class Storage {
             settingResult.add("Timestamp output format was set to: " + Settings.getDateTimeFormat());
 
             Display.printMessage(settingResult.toArray(new String[0]));
+        } else if (line.startsWith(NEXT_ID_PREFIX)) {
+            loadNextId(line.substring(NEXT_ID_PREFIX.length()).strip());
         } else if (!line.trim().isEmpty()) {
+            Case newCase;
             try {
-                Case newCase = getCaseFromSaveString(line);
-                CaseManager.addCase(newCase);
+                newCase = getCaseFromSaveString(line);
             } catch (InvalidSaveStringException e) {
                 Display.printMessage(e.getErrorMessage());
-                CaseManager.addCase(new InvalidCase(line));
+                newCase = new InvalidCase(line);
             }
+            CaseManager.addCase(newCase);
+            return newCase;
         }
+        return null;
     }
 
     /**
      * Loads all cases from the file into the {@link CaseManager}.
      * <p>
      * Each non-empty line in the file represents a serialized {@link Case} object.
-     * If the file does not exist, this method does nothing.
+     * If the file does not exist, this method does nothing. The byte offset of each case's line is passed to the
+     * {@link CaseDetailCache} when it is enabled, so that its details can be released and read back later.
+     * The history of the loaded cases is then read back from the history file.
      */
     public void loadCaseManager() {
         File file = new File(this.filename);
+        boolean isRollupRestored = file.exists() && restoreRollups(file);
         if (file.exists()) {
-            try (Scanner s = new Scanner(file)) {
-                while (s.hasNextLine()) {
-                    String line = s.nextLine();
-                    parseLine(line);
+            try (InputStream in = new FileInputStream(file)) {
+                byte[] buffer = new byte[LOAD_BUFFER_SIZE];
+                // The start of a line that continues into the next read, if any
+                ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+                long bufferStart = 0;
+                long lineStart = 0;
+                int count;
+                while ((count = in.read(buffer)) != -1) {
+                    int start = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (buffer[i] != '\n') {
+                            continue;
+                        }
+                        if (partialLine.size() == 0) {
+                            loadLine(buffer, start, i - start, lineStart);
+                        } else {
+                            partialLine.write(buffer, start, i - start);
+                            loadLine(partialLine.toByteArray(), 0, partialLine.size(), lineStart);
+                            partialLine.reset();
+                        }
+                        start = i + 1;
+                        lineStart = bufferStart + start;
+                    }
+                    partialLine.write(buffer, start, count - start);
+                    bufferStart += count;
                 }
+                loadLine(partialLine.toByteArray(), 0, partialLine.size(), lineStart);
             } catch (IOException e) {
                 System.out.println("Something went wrong while loading from the save file: " + e.getMessage());
             }
         }
+        if (isRollupRestored) {
+            CaseManager.completeRollupRestore();
+        }
+        loadHistory(file.exists());
+    }
+
+    /**
+     * Reads the versions of the loaded cases back from the history file. A history file without a save file
+     * belongs to cases that no longer exist, so it is removed before new IDs can be matched to it.
+     *
+     * @param isSaveFileLoaded whether the cases were loaded from a save file
+     */
+    private void loadHistory(boolean isSaveFileLoaded) {
+        Path historyPath = Path.of(this.filename + HISTORY_FILE_SUFFIX);
+        try {
+            if (!isSaveFileLoaded) {
+                Files.deleteIfExists(historyPath);
+            } else if (Files.exists(historyPath)) {
+                CaseManager.restoreHistory(Files.readAllLines(historyPath, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            System.out.println("Something went wrong while loading the case history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends the versions recorded since the last save to the history file.
+     * <p>
+     * Once a case has been purged or archived, the history file is instead rewritten with the versions of the
+     * cases still kept, like the rollup file, so it does not keep growing with the versions of cases that are gone.
+     */
+    private void saveHistory() {
+        Path historyPath = Path.of(this.filename + HISTORY_FILE_SUFFIX);
+        try {
+            if (CaseHistory.isRewriteNeeded()) {
+                Path tempPath = Path.of(this.filename + HISTORY_FILE_SUFFIX + ".tmp");
+                Files.write(tempPath, CaseHistory.getSaveLines(), StandardCharsets.UTF_8);
+                Files.move(tempPath, historyPath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                List<String> lines = CaseHistory.getUnsavedLines();
+                if (lines.isEmpty()) {
+                    return;
+                }
+                Files.write(historyPath, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            CaseHistory.clearUnsavedLines();
+        } catch (IOException e) {
+            System.out.println("Something went wrong while saving the case history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the case rollups from the rollup file, if it was written with the current save file.
+     * <p>
+     * The rollup file records the size and modification time of the save file it was written with, so rollups
+     * are only restored for the save file they count. Otherwise the cases are counted as they are loaded.
+     *
+     * @param saveFile the save file about to be loaded
+     * @return {@code true} if the rollups were restored
+     */
+    private boolean restoreRollups(File saveFile) {
+        Path rollupPath = Path.of(this.filename + ROLLUP_FILE_SUFFIX);
+        if (!Files.exists(rollupPath)) {
+            return false;
+        }
+        try {
+            List<String> lines = Files.readAllLines(rollupPath, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !lines.get(0).equals(getRollupSourceLine(saveFile))) {
+                return false;
+            }
+            return CaseManager.restoreRollups(lines.subList(1, lines.size()));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the case rollups next to the save file, with the size and modification time of the save file.
+     * The file is written next to the rollup file and then moved over it, so it is never left half written.
+     */
+    private void saveRollups() {
+        Path rollupPath = Path.of(this.filename + ROLLUP_FILE_SUFFIX);
+        Path tempPath = Path.of(this.filename + ROLLUP_FILE_SUFFIX + ".tmp");
+        List<String> lines = new ArrayList<>();
+        lines.add(getRollupSourceLine(new File(this.filename)));
+        lines.addAll(CaseManager.getRollupSaveLines());
+        try {
+            Files.write(tempPath, lines, StandardCharsets.UTF_8);
+            Files.move(tempPath, rollupPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Something went wrong while saving the case rollups: " + e.getMessage());
+        }
+    }
+
+    private static String getRollupSourceLine(File saveFile) {
+        return ROLLUP_SOURCE_PREFIX + saveFile.length() + "|" + saveFile.lastModified();
+    }
+
+    private void loadLine(byte[] bytes, int offset, int length, long lineStart) {
+        if (length > 0 && bytes[offset + length - 1] == '\r') {
+            length--;
+        }
+        Case newCase = parseLine(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        if (newCase != null && CaseDetailCache.isEnabled()) {
+            CaseDetailCache.setSavedLocation(newCase, lineStart, length);
+        }
     }
 
     /**
      * Saves all cases currently managed by {@link CaseManager} to the file.
      * <p>
-     * Each case is written to the file in its serialized string format,
-     * with one line per case.
+     * The settings line and the ID of the next new case are written first. Each case is then written to the file
+     * in its serialized string format, with one line per case. Output is buffered so that large case lists are written
+     * in a few large writes instead of one write per field.
      */
     public void saveToFile() {
+        if (CaseDetailCache.isEnabled()) {
+            saveWithSavedLocations();
+            return;
+        }
         ArrayList<Case> cases = CaseManager.getCaseList();
-        try (FileWriter fw = new FileWriter(this.filename)) {
+        try (BufferedWriter fw = new BufferedWriter(new FileWriter(this.filename, StandardCharsets.UTF_8))) {
             fw.append(SETTING_PREFIX);
             fw.append(Settings.getInputDateFormat()).append("|");
             fw.append(Settings.getOutputDateFormat()).append("|");
             fw.append(Settings.getDateTimeFormat()).append(System.lineSeparator());
+            fw.append(NEXT_ID_PREFIX).append(CaseManager.generateHexId()).append(System.lineSeparator());
             for (Case c : cases) {
                 fw.append(c.toSaveString());
                 fw.append(System.lineSeparator());
@@ -286,6 +484,73 @@ public class Storage {
             fw.flush();
         } catch (IOException e) {
             System.out.println("Something went wrong while saving: " + e.getMessage());
+            return;
+        }
+        saveRollups();
+        saveHistory();
+    }
+
+    /**
+     * Saves all cases like {@link #saveToFile()}, for use while the {@link CaseDetailCache} is enabled.
+     * <p>
+     * Lines of cases that have not changed since the last save are copied from the previous save file, so their
+     * released details are not loaded. The new file is written next to the save file and then moved over it,
+     * after which the new location of every line is recorded.
+     */
+    private void saveWithSavedLocations() {
+        ArrayList<Case> cases = CaseManager.getCaseList();
+        Path savePath = Path.of(this.filename);
+        Path tempPath = Path.of(this.filename + ".tmp");
+        long[] offsets = new long[cases.size()];
+        int[] lengths = new int[cases.size()];
+        byte[] separator = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+             RandomAccessFile previous = Files.exists(savePath)
+                     ? new RandomAccessFile(savePath.toFile(), "r") : null) {
+            byte[] settingsLine = (SETTING_PREFIX + Settings.getInputDateFormat() + "|"
+                    + Settings.getOutputDateFormat() + "|" + Settings.getDateTimeFormat())
+                    .getBytes(StandardCharsets.UTF_8);
+            byte[] nextIdLine = (NEXT_ID_PREFIX + CaseManager.generateHexId()).getBytes(StandardCharsets.UTF_8);
+            out.write(settingsLine);
+            out.write(separator);
+            out.write(nextIdLine);
+            out.write(separator);
+            long offset = settingsLine.length + nextIdLine.length + 2L * separator.length;
+
+            for (int i = 0; i < cases.size(); i++) {
+                Case c = cases.get(i);
+                byte[] line;
+                if (previous != null && CaseDetailCache.hasCurrentSavedLine(c)) {
+                    line = new byte[CaseDetailCache.getSavedLength(c)];
+                    previous.seek(CaseDetailCache.getSavedOffset(c));
+                    previous.readFully(line);
+                } else {
+                    line = CaseDetailCache.getSaveString(c).getBytes(StandardCharsets.UTF_8);
+                }
+                out.write(line);
+                out.write(separator);
+                offsets[i] = offset;
+                lengths[i] = line.length;
+                offset += line.length + separator.length;
+            }
+        } catch (IOException e) {
+            System.out.println("Something went wrong while saving: " + e.getMessage());
+            return;
+        }
+
+        try {
+            // Details read after the move must come from the new file
+            CaseDetailCache.closeSaveFile();
+            Files.move(tempPath, savePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Something went wrong while saving: " + e.getMessage());
+            return;
+        }
+        for (int i = 0; i < cases.size(); i++) {
+            CaseDetailCache.setSavedLocation(cases.get(i), offsets[i], lengths[i]);
         }
+        saveRollups();
+        saveHistory();
     }
 }
@@ -0,0 +1,149 @@
+package seedu.sgsafe.utils.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps long text fields of cases outside the Java heap, in an append-only memory-mapped file.
+ * <p>
+ * When enabled, {@link #store(String)} writes a text as UTF-8 to the end of the file and returns a handle
+ * packing its offset and length into a {@code long}. The case keeps only the handle and decodes the text
+ * with {@link #load(long)} when it is displayed, so long texts add neither heap nor garbage collection work.
+ * <p>
+ * The file is only a cache of texts that are also written to the save file. It is truncated when the store
+ * is enabled and deleted when the application exits, and texts replaced by an edit are not reclaimed until then.
+ * The file is mapped in fixed-size segments, and a text never spans two segments.
+ */
+public class TextBlobStore {
+
+    /** Handle returned when a text is not held by the store. */
+    public static final long NO_BLOB = -1;
+
+    /** Texts shorter than this are cheaper to keep on the heap than to map. */
+    public static final int MIN_BLOB_LENGTH = 128;
+
+    private static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    /** Number of low bits of a handle that hold the length in bytes. */
+    private static final int LENGTH_BITS = 24;
+
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+
+    private static final Logger logger = Logger.getLogger(TextBlobStore.class.getName());
+
+    private static FileChannel channel = null;
+
+    /** The mapped segments of the file, in file order. */
+    private static final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    /** Offset in the file at which the next text is written. */
+    private static long nextOffset = 0;
+
+    /**
+     * Starts keeping long texts in the given file, replacing any previous content of the file.
+     * <p>
+     * If the file cannot be opened, a warning is logged and texts stay on the heap.
+     *
+     * @param file the file to map
+     */
+    public static void enable(Path file) {
+        disable();
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            file.toFile().deleteOnExit();
+            logger.log(Level.INFO, "Keeping long case texts in " + file);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not open text blob file " + file + ", keeping texts on the heap", e);
+            channel = null;
+        }
+    }
+
+    /**
+     * Stops using the store. Handles returned earlier become invalid, so this is only called before cases
+     * are loaded or by tests.
+     */
+    public static void disable() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not close text blob file", e);
+            }
+        }
+        channel = null;
+        segments.clear();
+        nextOffset = 0;
+    }
+
+    public static boolean isEnabled() {
+        return channel != null;
+    }
+
+    /**
+     * Appends a text to the store if it is enabled and the text is long enough to be worth mapping.
+     *
+     * @param text the text to store
+     * @return the handle of the stored text, or {@link #NO_BLOB} if the caller should keep the text itself
+     */
+    public static long store(String text) {
+        if (channel == null || text == null || text.length() < MIN_BLOB_LENGTH) {
+            return NO_BLOB;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > LENGTH_MASK || bytes.length > SEGMENT_SIZE) {
+            return NO_BLOB;
+        }
+
+        long positionInSegment = nextOffset % SEGMENT_SIZE;
+        if (positionInSegment + bytes.length > SEGMENT_SIZE) {
+            nextOffset += SEGMENT_SIZE - positionInSegment;
+        }
+        int segmentIndex = (int) (nextOffset / SEGMENT_SIZE);
+        try {
+            while (segments.size() <= segmentIndex) {
+                long segmentStart = (long) segments.size() * SEGMENT_SIZE;
+                segments.add(channel.map(FileChannel.MapMode.READ_WRITE, segmentStart, SEGMENT_SIZE));
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not grow text blob file, keeping text on the heap", e);
+            return NO_BLOB;
+        }
+
+        segments.get(segmentIndex).put((int) (nextOffset % SEGMENT_SIZE), bytes);
+        long handle = (nextOffset << LENGTH_BITS) | bytes.length;
+        nextOffset += bytes.length;
+        return handle;
+    }
+
+    /**
+     * Decodes a text previously returned by {@link #store(String)}.
+     *
+     * @param handle the handle of the text
+     * @return the text
+     */
+    public static String load(long handle) {
+        assert handle != NO_BLOB && channel != null : "No stored text for handle";
+        long offset = handle >>> LENGTH_BITS;
+        byte[] bytes = new byte[(int) (handle & LENGTH_MASK)];
+        segments.get((int) (offset / SEGMENT_SIZE)).get((int) (offset % SEGMENT_SIZE), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of bytes written to the file so far, including padding at segment ends.
+     *
+     * @return the size of the used part of the file
+     */
+    public static long getUsedBytes() {
+        return nextOffset;
+    }
+}
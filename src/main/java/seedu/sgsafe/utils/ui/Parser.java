@@ -1,12 +1,29 @@
 package seedu.sgsafe.utils.ui;
 
+import seedu.sgsafe.domain.casefiles.BulkAction;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.CasePageRequest;
+import seedu.sgsafe.domain.casefiles.CaseSortKey;
+import seedu.sgsafe.domain.casefiles.KeywordMatcher;
+import seedu.sgsafe.domain.casefiles.index.CaseRollup;
+import seedu.sgsafe.domain.casefiles.query.CaseQuery;
+import seedu.sgsafe.domain.casefiles.query.FieldCondition;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
 import seedu.sgsafe.utils.command.AddCommand;
+import seedu.sgsafe.utils.command.ArchiveCommand;
+import seedu.sgsafe.utils.command.BulkCommand;
 import seedu.sgsafe.utils.command.ByeCommand;
 import seedu.sgsafe.utils.command.CaseListingMode;
 import seedu.sgsafe.utils.command.CloseCommand;
 import seedu.sgsafe.utils.command.Command;
+import seedu.sgsafe.utils.command.DedupeCommand;
 import seedu.sgsafe.utils.command.FindCommand;
+import seedu.sgsafe.utils.command.GraphCommand;
 import seedu.sgsafe.utils.command.HelpCommand;
+import seedu.sgsafe.utils.command.HotspotsCommand;
 import seedu.sgsafe.utils.command.ListCommand;
 import seedu.sgsafe.utils.command.EditCommand;
 import seedu.sgsafe.utils.command.EditPromptCommand;
@@ -14,39 +31,67 @@ import seedu.sgsafe.utils.command.DeleteCommand;
 import seedu.sgsafe.utils.command.ReadCommand;
 
 import seedu.sgsafe.utils.command.OpenCommand;
+import seedu.sgsafe.utils.command.PurgeCommand;
+import seedu.sgsafe.utils.command.RangeCommand;
 import seedu.sgsafe.utils.command.SettingCommand;
 import seedu.sgsafe.utils.command.SettingType;
+import seedu.sgsafe.utils.command.StatsCommand;
+import seedu.sgsafe.utils.command.StatsView;
+import seedu.sgsafe.utils.command.SuggestCommand;
+import seedu.sgsafe.utils.command.TrendCommand;
+import seedu.sgsafe.utils.command.WorkloadCommand;
 import seedu.sgsafe.utils.exceptions.DoubleLengthExceededException;
 import seedu.sgsafe.utils.exceptions.DuplicateFlagException;
 import seedu.sgsafe.utils.exceptions.EmptyCommandException;
 import seedu.sgsafe.utils.exceptions.IncorrectFlagException;
 import seedu.sgsafe.utils.exceptions.InputLengthExceededException;
+import seedu.sgsafe.utils.exceptions.InvalidArchiveCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidBulkCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidByeCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidCategoryException;
 import seedu.sgsafe.utils.exceptions.InvalidCaseIdException;
 import seedu.sgsafe.utils.exceptions.InvalidCloseCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidDedupeCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidDateInputException;
 import seedu.sgsafe.utils.exceptions.InvalidDoubleException;
 import seedu.sgsafe.utils.exceptions.InvalidEditCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidFindCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidFindQueryException;
 import seedu.sgsafe.utils.exceptions.InvalidFormatStringException;
+import seedu.sgsafe.utils.exceptions.InvalidGraphCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidHotspotsCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidHelpCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidIntegerException;
 import seedu.sgsafe.utils.exceptions.InvalidListCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidAddCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidNumberException;
 import seedu.sgsafe.utils.exceptions.InvalidOpenCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidPurgeCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidRangeCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidReadCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidSettingCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidStatsCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidStatusException;
+import seedu.sgsafe.utils.exceptions.InvalidSuggestCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidTrendCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidWorkloadCommandException;
 import seedu.sgsafe.utils.exceptions.UnknownCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidDeleteCommandException;
 import  seedu.sgsafe.utils.exceptions.InvalidCharacterException;
 import seedu.sgsafe.utils.settings.Settings;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -74,6 +119,71 @@ public class Parser {
     // Maximum allowed value for double
     private static final double MAX_DOUBLE = 1_000_000_000_000.0; // adjust per domain
 
+    // Prefix marking the new field values of a bulk edit, e.g. --set-officer
+    private static final String BULK_SET_FLAG_PREFIX = "set-";
+
+    // Flags that select the cases a bulk command operates on
+    private static final List<String> BULK_FILTER_FLAGS = List.of("category", "status", "from", "to",
+            "updated-since", "created-since", "officer", "ids");
+
+    // Flags that restrict list and find to cases within a date or timestamp range
+    private static final List<String> TIME_FILTER_FLAGS = List.of("from", "to", "updated-since", "created-since");
+
+    // A --where condition: a field name, a comparison operator and a value
+    private static final Pattern FIELD_CONDITION_PATTERN =
+            Pattern.compile("([A-Za-z-]+)\\s*(<=|>=|!=|=|<|>|~)\\s*(\\S.*)");
+
+    // Flags that sort a listing and select one page of it
+    private static final List<String> PAGE_FLAGS = List.of("sort", "order", "limit", "page");
+
+    // Number of cases on a page when --limit is not given
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    // Maximum allowed value for --limit
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    // Maximum allowed value for --distance in a find command
+    private static final int MAX_NAME_DISTANCE = 3;
+
+    // Number of completions listed by suggest when --limit is not given
+    private static final int DEFAULT_SUGGESTION_COUNT = 5;
+
+    // Maximum allowed value for --limit in a suggest command
+    private static final int MAX_SUGGESTION_COUNT = 50;
+
+    // Number of links followed by graph when --depth is not given
+    private static final int DEFAULT_GRAPH_DEPTH = 2;
+
+    // Maximum allowed value for --depth in a graph command
+    private static final int MAX_GRAPH_DEPTH = 4;
+
+    // Number of cases listed by graph when --limit is not given
+    private static final int DEFAULT_GRAPH_LIMIT = 50;
+
+    // Maximum allowed value for --limit in a graph command
+    private static final int MAX_GRAPH_LIMIT = 500;
+
+    // Number of days counted by hotspots when --days is not given
+    private static final int DEFAULT_HOTSPOT_DAYS = 7;
+
+    // Maximum allowed value for --days in a hotspots command
+    private static final int MAX_HOTSPOT_DAYS = 30;
+
+    // Number of places listed per field by hotspots when --limit is not given
+    private static final int DEFAULT_HOTSPOT_LIMIT = 10;
+
+    // Maximum allowed value for --limit in a hotspots command
+    private static final int MAX_HOTSPOT_LIMIT = 50;
+
+    // Number of periods shown by trend when --periods is not given
+    private static final int DEFAULT_TREND_PERIODS = 12;
+
+    // Maximum allowed value for --periods in a trend command, ten years of weeks
+    private static final int MAX_TREND_PERIODS = 520;
+
+    // Flag of a read command that lists the cases related to the case read
+    private static final String RELATED_FLAG = FLAG_PREFIX + "related";
+
     // Placeholder for escaped flag sequences
     private static final String ESCAPED_FLAG_PLACEHOLDER = "<<<ESCAPED_DOUBLE_DASH>>>";
 
@@ -93,7 +203,8 @@ public class Parser {
         String cleanedUserInput = cleanUserInput(userInput);
         String keyword = getKeywordFromUserInput(cleanedUserInput).toLowerCase();
         String remainder = getRemainderFromUserInput(cleanedUserInput);
-        if (remainder.contains("|")) {
+        // '|' separates the fields of a save line; find is never saved, so its regex may use alternation
+        if (remainder.contains("|") && !keyword.equals("find")) {
             throw new InvalidCharacterException();
         }
 
@@ -109,6 +220,17 @@ public class Parser {
         case "setting" -> parseSettingCommand(remainder);
         case "read" -> parseReadCommand(remainder);
         case "find" -> parseFindCommand(remainder);
+        case "bulk" -> parseBulkCommand(remainder);
+        case "stats" -> parseStatsCommand(remainder);
+        case "archive" -> parseArchiveCommand(remainder);
+        case "purge" -> parsePurgeCommand(remainder);
+        case "range" -> parseRangeCommand(remainder);
+        case "suggest" -> parseSuggestCommand(remainder);
+        case "dedupe" -> parseDedupeCommand(remainder);
+        case "graph" -> parseGraphCommand(remainder);
+        case "workload" -> parseWorkloadCommand(remainder);
+        case "hotspots" -> parseHotspotsCommand(remainder);
+        case "trend" -> parseTrendCommand(remainder);
         default -> throw new UnknownCommandException(userInput, keyword);
         };
     }
@@ -175,6 +297,7 @@ public class Parser {
      * </ul>
      * If {@code --status} is present, its value must be one of {@code open}, {@code closed}, or {@code all}.
      * If {@code --mode} is present, its value must be either {@code verbose} or {@code summary}.
+     * The date, paging and {@code --as-of} flags are handled by {@link #buildListCommand}.
      * Any invalid flag or value will result in a {@link IncorrectFlagException}.
      *
      * @param remainder the portion of the input following the {@code list} keyword
@@ -187,7 +310,9 @@ public class Parser {
         }
 
         Map<String, String> flagValues = extractFlagValues(remainder);
-        List<String> validFlags = List.of("status", "mode");
+        List<String> validFlags = new ArrayList<>(List.of("status", "mode", "as-of"));
+        validFlags.addAll(TIME_FILTER_FLAGS);
+        validFlags.addAll(PAGE_FLAGS);
 
         if (!validator.haveValidFlags(flagValues, validFlags)) {
             throw new InvalidListCommandException();
@@ -196,7 +321,7 @@ public class Parser {
         CaseListingMode listingMode = parseListStatus(flagValues.get("status"));
         boolean isVerbose = parseListMode(flagValues.get("mode"));
 
-        return new ListCommand(listingMode, isVerbose);
+        return buildListCommand(flagValues, listingMode, isVerbose);
     }
 
     /**
@@ -253,6 +378,89 @@ public class Parser {
 
     //@@ author
 
+    /**
+     * Builds the {@link ListCommand} for the date, paging and {@code --as-of} flags of a {@code list} command.
+     * <p>
+     * Supported formats include:
+     * <ul>
+     *   <li>{@code list --from 01/01/2024 --to 31/03/2024} — Lists only cases that occurred in the range</li>
+     *   <li>{@code list --updated-since 01/10/2024} — Lists only cases updated on or after the date</li>
+     *   <li>{@code list --sort title --order desc --limit 20 --page 2} — Lists the second page of cases
+     *       sorted by title</li>
+     *   <li>{@code list --status open --as-of 31/03/2024} — Lists the cases that were open at the end of the
+     *       date</li>
+     * </ul>
+     * The date flags {@code --from}, {@code --to}, {@code --updated-since} and {@code --created-since}
+     * may be combined with each other and with the status and mode flags.
+     * Any of {@code --sort}, {@code --order}, {@code --limit} and {@code --page} turns the listing into a
+     * single sorted page; see {@link #parsePageRequest(Map)}.
+     * {@code --as-of} may only be combined with {@code --status} and {@code --mode}.
+     *
+     * @param flagValues  the parsed flags of the command
+     * @param listingMode the listing mode from the {@code --status} flag
+     * @param isVerbose   whether the {@code --mode} flag asked for verbose output
+     * @return the {@link ListCommand} to run
+     * @throws InvalidListCommandException if the flags cannot be combined or have invalid values
+     */
+    private static Command buildListCommand(Map<String, String> flagValues, CaseListingMode listingMode,
+            boolean isVerbose) {
+        if (flagValues.containsKey("as-of")) {
+            if (!validator.haveValidFlags(flagValues, List.of("status", "mode", "as-of"))) {
+                throw new InvalidListCommandException();
+            }
+            return new ListCommand(listingMode, isVerbose, parseInputDate(flagValues.get("as-of")));
+        }
+        CaseFilter timeFilter = parseTimeFilter(flagValues);
+        CasePageRequest pageRequest = parsePageRequest(flagValues);
+
+        if (pageRequest != null) {
+            return new ListCommand(listingMode, isVerbose, timeFilter, pageRequest);
+        }
+        if (timeFilter.isEmpty()) {
+            return new ListCommand(listingMode, isVerbose);
+        }
+        return new ListCommand(listingMode, isVerbose, timeFilter);
+    }
+
+    /**
+     * Builds a {@link CasePageRequest} from the {@code --sort}, {@code --order}, {@code --limit} and
+     * {@code --page} flags of a {@code list} command.
+     * <p>
+     * {@code --sort} is one of {@code date}, {@code updated}, {@code category} or {@code title} and defaults
+     * to {@code date}. {@code --order} is {@code asc} or {@code desc} and defaults to {@code asc}.
+     * {@code --limit} defaults to {@value #DEFAULT_PAGE_SIZE} cases and {@code --page} to the first page.
+     *
+     * @param flagValues the parsed flags of the command
+     * @return the requested page, or {@code null} if none of the flags is present
+     * @throws InvalidListCommandException if any of the flags has an invalid value
+     */
+    private static CasePageRequest parsePageRequest(Map<String, String> flagValues) {
+        if (PAGE_FLAGS.stream().noneMatch(flagValues::containsKey)) {
+            return null;
+        }
+
+        CaseSortKey sortKey = CaseSortKey.DATE;
+        if (flagValues.containsKey("sort")) {
+            try {
+                sortKey = CaseSortKey.valueOf(flagValues.get("sort").toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidListCommandException();
+            }
+        }
+
+        String order = flagValues.getOrDefault("order", "asc").toLowerCase();
+        if (!order.equals("asc") && !order.equals("desc")) {
+            throw new InvalidListCommandException();
+        }
+
+        int limit = parsePositiveInteger(flagValues.get("limit"), DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE,
+                InvalidListCommandException::new);
+        int page = parsePositiveInteger(flagValues.get("page"), 1, Integer.MAX_VALUE,
+                InvalidListCommandException::new);
+
+        return new CasePageRequest(sortKey, order.equals("desc"), limit, page);
+    }
+
     /**
      * Parses the {@code add} command and validates its arguments.
      * <p>
@@ -606,15 +814,41 @@ public class Parser {
     }
 
     /**
-     * Parses the 'read' command input, validates its format, and constructs a ReadCommand object.
-     * Throws an InvalidReadCommandException if the input is missing or incorrectly formatted.
+     * Parses the {@code read} command into a {@link ReadCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code read 000001} — Shows the details of a case</li>
+     *   <li>{@code read 000001 --related} — Also lists the cases sharing a victim, officer, plate or place</li>
+     *   <li>{@code read 000001 --as-of 31/03/2024} — Shows the case as it was at the end of the date</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code read} keyword
+     * @return a {@link ReadCommand} for the case
+     * @throws InvalidReadCommandException if the case ID is invalid or anything other than {@code --related} or
+     *                                     {@code --as-of} follows it
+     * @throws InvalidDateInputException   if the {@code --as-of} date is not a valid date
      */
-
     private static Command parseReadCommand(String remainder) {
-        if (!validator.isValidCaseId(remainder)) {
+        String[] parts = remainder.split("\\s+", 2);
+        if (!validator.isValidCaseId(parts[0])) {
+            throw new InvalidReadCommandException();
+        }
+        if (parts.length == 1) {
+            return new ReadCommand(parts[0]);
+        }
+        if (parts[1].equalsIgnoreCase(RELATED_FLAG)) {
+            return new ReadCommand(parts[0], true);
+        }
+        if (!parts[1].toLowerCase().startsWith(FLAG_PREFIX + "as-of ")) {
             throw new InvalidReadCommandException();
         }
-        return new ReadCommand(remainder);
+        Map<String, String> flagValues = extractFlagValues(parts[1]);
+        if (!validator.haveAllRequiredFlags(flagValues, List.of("as-of"))
+                || !validator.haveValidFlags(flagValues, List.of("as-of"))) {
+            throw new InvalidReadCommandException();
+        }
+        return new ReadCommand(parts[0], parseInputDate(flagValues.get("as-of")));
     }
 
     private static Command parseByeCommand(String remainder) {
@@ -635,15 +869,26 @@ public class Parser {
     /**
      * Parses the {@code find} command and validates its arguments.
      * <p>
-     * This method extracts the {@code --keyword} flag from the input and validates that it is present.
-     * The keyword is used to search for cases with matching titles or descriptions.
+     * This method extracts either the {@code --keyword} flag or the {@code --keywords} flag from the input.
+     * A single keyword is looked for in the case titles. {@code --keywords} takes a comma-separated list of
+     * keywords that are looked for in the title, info, victim and officer, and {@code --match} chooses whether
+     * a case must contain {@code any} (the default) or {@code all} of them.
      * <p>
      * Supported format:
      * <ul>
      *   <li>{@code find --keyword <search_term>} — Searches for cases containing the specified keyword</li>
+     *   <li>{@code find --keyword <search_term> --from 01/01/2024} — Searches only cases that occurred
+     *       on or after the date</li>
+     *   <li>{@code find --keyword <search_term> --include-archived yes} — Also searches the archived cases</li>
+     *   <li>{@code find --keywords tan, knife, SGX12 --match all} — Searches for cases containing every keyword</li>
+     *   <li>{@code find --plate SGX 1234A} — Searches for traffic cases involving the vehicle plate, ignoring
+     *       letter case and spaces</li>
+     *   <li>{@code find --victim~ Jon Tan --distance 1} — Searches for cases whose victim's name is at most one
+     *       edit away from the name; {@code --officer~} does the same for the officer</li>
      * </ul>
-     * The {@code --keyword} flag is required. If it is missing or if any invalid flags are present,
-     * an {@link InvalidFindCommandException} will be thrown.
+     * At most one of {@code --keyword} and {@code --keywords} may be given, and at least one of them, a query,
+     * a plate or a similar name is required. {@code --distance} is only valid with a similar name. Otherwise, or
+     * if any invalid flags are present, an {@link InvalidFindCommandException} will be thrown.
      *
      * @param remainder the portion of the input following the {@code find} keyword
      * @return a {@link FindCommand} configured with the specified search keyword
@@ -651,11 +896,10 @@ public class Parser {
      *                                     or contains invalid flags
      */
     private static Command parseFindCommand(String remainder) {
-        // List of required flags for the find command
-        List<String> requiredFlags = List.of("keyword");
-
         //  List of valid flags to be taken as input from the user
-        List<String> validFlags = List.of("keyword", "status");
+        List<String> validFlags = new ArrayList<>(List.of("keyword", "keywords", "match", "where", "regex",
+                "plate", "victim~", "officer~", "distance", "status", "include-archived"));
+        validFlags.addAll(TIME_FILTER_FLAGS);
 
 
         if (validator.inputIsEmpty(remainder)) {
@@ -664,15 +908,717 @@ public class Parser {
 
         Map<String, String> flagValues = extractFlagValues(remainder);
 
-        if (!validator.haveAllRequiredFlags(flagValues, requiredFlags) ||
-                !validator.haveValidFlags(flagValues, validFlags)) {
+        // At most one of --keyword and --keywords, some search criterion, and --match only with --keywords
+        boolean hasKeyword = flagValues.containsKey("keyword");
+        boolean hasKeywords = flagValues.containsKey("keywords");
+        boolean hasQuery = flagValues.containsKey("where") || flagValues.containsKey("regex");
+        boolean hasPlate = flagValues.containsKey("plate");
+        boolean hasSimilarName = flagValues.containsKey("victim~") || flagValues.containsKey("officer~");
+        if ((hasKeyword && hasKeywords) || !(hasKeyword || hasKeywords || hasQuery || hasPlate || hasSimilarName)
+                || (!hasKeywords && flagValues.containsKey("match"))
+                || (!hasSimilarName && flagValues.containsKey("distance"))
+                || !validator.haveValidFlags(flagValues, validFlags)) {
             throw new InvalidFindCommandException();
         }
 
         CaseListingMode listingMode = parseListStatus(flagValues.get("status"));
+        CaseFilter timeFilter = parseTimeFilter(flagValues);
+        if (hasPlate && timeFilter.withVehiclePlate(flagValues.get("plate")).getVehiclePlate() == null) {
+            throw new InvalidFindCommandException();
+        }
+        if (hasSimilarName) {
+            parseSimilarNames(flagValues, timeFilter);
+        }
 
-        return new FindCommand(flagValues.get("keyword"), listingMode);
+        if (hasKeywords || hasQuery || hasPlate || hasSimilarName) {
+            KeywordMatcher keywordMatcher = hasKeywords
+                    ? parseKeywordMatcher(flagValues.get("keywords"), flagValues.get("match"))
+                    : null;
+            CaseQuery query = hasQuery ? parseCaseQuery(flagValues.get("where"), flagValues.get("regex")) : null;
+            boolean isArchiveIncluded = flagValues.containsKey("include-archived")
+                    && parseIncludeArchived(flagValues.get("include-archived"));
+            return new FindCommand(flagValues.get("keyword"), keywordMatcher, query, listingMode,
+                    timeFilter.isEmpty() ? null : timeFilter, isArchiveIncluded);
+        }
+
+        if (flagValues.containsKey("include-archived")) {
+            boolean isArchiveIncluded = parseIncludeArchived(flagValues.get("include-archived"));
+            return new FindCommand(flagValues.get("keyword"), listingMode,
+                    timeFilter.isEmpty() ? null : timeFilter, isArchiveIncluded);
+        }
+        if (timeFilter.isEmpty()) {
+            return new FindCommand(flagValues.get("keyword"), listingMode);
+        }
+        return new FindCommand(flagValues.get("keyword"), listingMode, timeFilter);
+    }
+
+    /**
+     * Adds the {@code --victim~} and {@code --officer~} names and the {@code --distance} of a find command to
+     * the filter.
+     *
+     * @param flagValues the flags of the find command
+     * @param filter     the filter to add the names to
+     * @throws InvalidFindCommandException if a name is blank or the distance is not a whole number from 0 to
+     *                                     {@value #MAX_NAME_DISTANCE}
+     */
+    private static void parseSimilarNames(Map<String, String> flagValues, CaseFilter filter) {
+        int maxDistance = CaseFilter.DEFAULT_NAME_DISTANCE;
+        if (flagValues.containsKey("distance")) {
+            try {
+                maxDistance = Integer.parseInt(flagValues.get("distance").strip());
+            } catch (NumberFormatException e) {
+                throw new InvalidFindCommandException();
+            }
+            if (maxDistance < 0 || maxDistance > MAX_NAME_DISTANCE) {
+                throw new InvalidFindCommandException();
+            }
+        }
+        filter.withSimilarVictim(flagValues.get("victim~"))
+                .withSimilarOfficer(flagValues.get("officer~"))
+                .withMaxNameDistance(maxDistance);
+        if ((flagValues.containsKey("victim~") && filter.getSimilarVictim() == null)
+                || (flagValues.containsKey("officer~") && filter.getSimilarOfficer() == null)) {
+            throw new InvalidFindCommandException();
+        }
+    }
+
+    /**
+     * Builds the matcher for a comma-separated list of keywords, e.g. {@code tan, knife}.
+     *
+     * @param keywords the value of {@code --keywords}
+     * @param match    the value of {@code --match}, {@code any} or {@code all}, or {@code null} for {@code any}
+     * @return the matcher for the keywords
+     * @throws InvalidFindCommandException if there are no keywords, too many keywords, or an unknown match mode
+     */
+    private static KeywordMatcher parseKeywordMatcher(String keywords, String match) {
+        boolean isAllRequired = switch (match == null ? "any" : match.toLowerCase()) {
+        case "any" -> false;
+        case "all" -> true;
+        default -> throw new InvalidFindCommandException();
+        };
+
+        Set<String> distinctKeywords = new LinkedHashSet<>();
+        for (String keyword : keywords.split(",")) {
+            if (!keyword.isBlank()) {
+                distinctKeywords.add(keyword.strip().toLowerCase());
+            }
+        }
+        if (distinctKeywords.isEmpty() || distinctKeywords.size() > KeywordMatcher.MAX_KEYWORDS) {
+            throw new InvalidFindCommandException();
+        }
+        return new KeywordMatcher(new ArrayList<>(distinctKeywords), isAllRequired);
+    }
+
+    /**
+     * Compiles the {@code --where} conditions and {@code --regex} pattern of a find command into a query.
+     * <p>
+     * Conditions are separated by commas and have the form {@code FIELD OPERATOR VALUE}, e.g.
+     * {@code weapon=knife, financial-value>10000}. Each value is converted like the value of the edit flag
+     * of the same name, so dates use the input date format.
+     *
+     * @param where the value of {@code --where}, or {@code null}
+     * @param regex the value of {@code --regex}, or {@code null}
+     * @return the compiled query
+     * @throws InvalidFindQueryException if a condition or the pattern is malformed
+     */
+    private static CaseQuery parseCaseQuery(String where, String regex) {
+        List<FieldCondition> conditions = new ArrayList<>();
+        StringBuilder description = new StringBuilder();
+        if (where != null) {
+            for (String condition : where.split(",")) {
+                conditions.add(parseFieldCondition(condition.strip()));
+            }
+            description.append(where);
+        }
+
+        Pattern pattern = null;
+        if (regex != null) {
+            try {
+                pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+            } catch (PatternSyntaxException e) {
+                throw new InvalidFindQueryException("the regex '" + regex + "' is malformed");
+            }
+            description.append(description.length() == 0 ? "" : ", ").append("regex ").append(regex);
+        }
+        return new CaseQuery(conditions, pattern, CaseQuery.DEFAULT_TIMEOUT_MILLIS, description.toString());
+    }
+
+    private static FieldCondition parseFieldCondition(String condition) {
+        Matcher matcher = FIELD_CONDITION_PATTERN.matcher(condition);
+        if (!matcher.matches()) {
+            throw new InvalidFindQueryException("'" + condition + "' is not a condition");
+        }
+        String field = matcher.group(1).toLowerCase();
+        if (!FieldCondition.isKnownField(field)) {
+            throw new InvalidFindQueryException("no case has the field '" + field + "'");
+        }
+        Object operand = convertFlagValueTypes(Map.of(field, matcher.group(3))).get(field);
+        return new FieldCondition(field, FieldCondition.Operator.fromSymbol(matcher.group(2)), operand);
+    }
+
+    private static boolean parseIncludeArchived(String value) {
+        return switch (value.toLowerCase()) {
+        case "yes" -> true;
+        case "no" -> false;
+        default -> throw new InvalidFindCommandException();
+        };
     }
 
     //@@ author
+
+    /**
+     * Parses the {@code bulk} command into a {@link BulkCommand}.
+     * <p>
+     * The first word selects the action ({@code close}, {@code open}, {@code delete} or {@code edit}) and the
+     * remaining flags build a {@link CaseFilter}. A bulk edit takes its new values from {@code --set-FIELD}
+     * flags, which are converted exactly like the flags of a single {@code edit}. {@code --mode dry-run}
+     * reports the number of affected cases without changing them.
+     * <p>
+     * Supported format:
+     * <ul>
+     *   <li>{@code bulk close --category speeding --from 01/01/2023 --to 31/12/2023}</li>
+     *   <li>{@code bulk edit --officer Tan --status open --set-officer Lee --mode dry-run}</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code bulk} keyword
+     * @return a {@link BulkCommand} for the requested action and filter
+     * @throws InvalidBulkCommandException if the action is unknown, no filter is given, or {@code --set-} flags
+     *                                     are misused
+     */
+    private static Command parseBulkCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder) || isSingleArgument(remainder)) {
+            throw new InvalidBulkCommandException();
+        }
+
+        BulkAction action = parseBulkAction(extractCaseId(remainder));
+        String flags = extractFlags(remainder);
+        validateFlagSyntax(flags);
+        Map<String, String> flagValues = extractFlagValues(flags);
+
+        Map<String, String> rawNewValues = new HashMap<>();
+        boolean hasFilter = false;
+        for (String flag : flagValues.keySet()) {
+            if (flag.startsWith(BULK_SET_FLAG_PREFIX)) {
+                rawNewValues.put(flag.substring(BULK_SET_FLAG_PREFIX.length()), flagValues.get(flag));
+            } else if (BULK_FILTER_FLAGS.contains(flag)) {
+                hasFilter = true;
+            } else if (!flag.equals("mode")) {
+                throw new InvalidBulkCommandException();
+            }
+        }
+
+        boolean isEdit = action == BulkAction.EDIT;
+        if (!hasFilter || isEdit == rawNewValues.isEmpty()) {
+            throw new InvalidBulkCommandException();
+        }
+
+        CaseFilter filter = parseCaseFilter(flagValues);
+        Map<String, Object> newValues = convertFlagValueTypes(rawNewValues);
+        boolean isDryRun = parseBulkMode(flagValues.get("mode"));
+
+        return new BulkCommand(action, filter, newValues, isDryRun);
+    }
+
+    /**
+     * Parses the {@code stats} command and its optional {@code --view} flag.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code stats} — Shows the summary view</li>
+     *   <li>{@code stats --view month} — Shows the counts for each month</li>
+     *   <li>{@code stats --view heap} — Shows the heap saved by sharing repeated field values</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code stats} keyword
+     * @return a {@link StatsCommand} for the requested view
+     * @throws InvalidStatsCommandException if an unknown flag or view is given
+     */
+    private static Command parseStatsCommand(String remainder) {
+        if (remainder.isEmpty()) {
+            return new StatsCommand(StatsView.SUMMARY);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveValidFlags(flagValues, List.of("view"))) {
+            throw new InvalidStatsCommandException();
+        }
+
+        try {
+            return new StatsCommand(StatsView.valueOf(flagValues.get("view").toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidStatsCommandException();
+        }
+    }
+
+    /**
+     * Parses the {@code archive} command into an {@link ArchiveCommand}.
+     * <p>
+     * Supported format:
+     * <ul>
+     *   <li>{@code archive --closed-before 01/01/2020} — Archives the closed cases last updated before the date</li>
+     *   <li>{@code archive --closed-before 01/01/2020 --mode dry-run} — Only counts those cases</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code archive} keyword
+     * @return an {@link ArchiveCommand} for the cut-off date
+     * @throws InvalidArchiveCommandException if the date is missing, or an unknown flag or mode is given
+     * @throws InvalidDateInputException      if the date is not valid
+     */
+    private static Command parseArchiveCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            throw new InvalidArchiveCommandException();
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveAllRequiredFlags(flagValues, List.of("closed-before"))
+                || !validator.haveValidFlags(flagValues, List.of("closed-before", "mode"))) {
+            throw new InvalidArchiveCommandException();
+        }
+
+        String mode = flagValues.get("mode");
+        if (mode != null && !mode.equalsIgnoreCase("dry-run")) {
+            throw new InvalidArchiveCommandException();
+        }
+        return new ArchiveCommand(parseInputDate(flagValues.get("closed-before")), mode != null);
+    }
+
+    /**
+     * Parses the {@code purge} command into a {@link PurgeCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code purge} — Removes every deleted case</li>
+     *   <li>{@code purge --mode dry-run} — Only counts the deleted cases</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code purge} keyword
+     * @return a {@link PurgeCommand}
+     * @throws InvalidPurgeCommandException if an unknown flag or mode is given
+     */
+    private static Command parsePurgeCommand(String remainder) {
+        if (remainder.isEmpty()) {
+            return new PurgeCommand(false);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveValidFlags(flagValues, List.of("mode"))
+                || !flagValues.get("mode").equalsIgnoreCase("dry-run")) {
+            throw new InvalidPurgeCommandException();
+        }
+        return new PurgeCommand(true);
+    }
+
+    /**
+     * Parses the {@code range} command into a {@link RangeCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code range --field financial-value --min 50000 --category scam} — Lists the scams of at least
+     *       $50,000, smallest first</li>
+     *   <li>{@code range --field over-limit --min 40 --top 10} — Lists the ten speeding cases furthest over the
+     *       limit, of those at least 40 over</li>
+     *   <li>{@code range --field number-of-victims --bottom 5 --status open} — Lists the five open violent cases
+     *       with the fewest victims</li>
+     * </ul>
+     * Both bounds are inclusive and optional.
+     *
+     * @param remainder the portion of the input following the {@code range} keyword
+     * @return a {@link RangeCommand} for the requested field and range
+     * @throws InvalidRangeCommandException if the field is missing or has no range index, a flag is unknown, both
+     *                                      {@code --top} and {@code --bottom} are given, or a bound or count is
+     *                                      not a number
+     * @throws InvalidCategoryException     if {@code --category} is not a known category
+     */
+    private static Command parseRangeCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            throw new InvalidRangeCommandException();
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveAllRequiredFlags(flagValues, List.of("field"))
+                || !validator.haveValidFlags(flagValues,
+                        List.of("field", "min", "max", "top", "bottom", "category", "status"))
+                || (flagValues.containsKey("top") && flagValues.containsKey("bottom"))) {
+            throw new InvalidRangeCommandException();
+        }
+
+        String field = flagValues.get("field").strip().toLowerCase();
+        double min = parseRangeBound(flagValues.get("min"), Double.NEGATIVE_INFINITY);
+        double max = parseRangeBound(flagValues.get("max"), Double.POSITIVE_INFINITY);
+        if (!CaseManager.isRangeField(field) || min > max) {
+            throw new InvalidRangeCommandException();
+        }
+
+        boolean isDescending = flagValues.containsKey("top");
+        String count = isDescending ? flagValues.get("top") : flagValues.get("bottom");
+        int limit = parsePositiveInteger(count, Integer.MAX_VALUE, Integer.MAX_VALUE,
+                InvalidRangeCommandException::new);
+        return new RangeCommand(field, min, max, limit, isDescending, parseCaseFilter(flagValues));
+    }
+
+    private static double parseRangeBound(String value, double defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double bound = Double.parseDouble(value.strip());
+            if (Double.isNaN(bound)) {
+                throw new InvalidRangeCommandException();
+            }
+            return bound;
+        } catch (NumberFormatException e) {
+            throw new InvalidRangeCommandException();
+        }
+    }
+
+    /**
+     * Parses the {@code suggest} command into a {@link SuggestCommand}.
+     * <p>
+     * Supported format: {@code suggest --field officer --prefix sgt ta --limit 3} — Lists the three most common
+     * officer names starting with "sgt ta". Without {@code --limit}, {@value #DEFAULT_SUGGESTION_COUNT}
+     * completions are listed.
+     *
+     * @param remainder the portion of the input following the {@code suggest} keyword
+     * @return a {@link SuggestCommand} for the requested field and prefix
+     * @throws InvalidSuggestCommandException if the field or prefix is missing, the field cannot be completed, a
+     *                                        flag is unknown, or the limit is not from 1 to
+     *                                        {@value #MAX_SUGGESTION_COUNT}
+     */
+    private static Command parseSuggestCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            throw new InvalidSuggestCommandException();
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveAllRequiredFlags(flagValues, List.of("field", "prefix"))
+                || !validator.haveValidFlags(flagValues, List.of("field", "prefix", "limit"))) {
+            throw new InvalidSuggestCommandException();
+        }
+
+        String field = flagValues.get("field").strip().toLowerCase();
+        if (!CaseManager.isSuggestField(field)) {
+            throw new InvalidSuggestCommandException();
+        }
+
+        int limit = parsePositiveInteger(flagValues.get("limit"), DEFAULT_SUGGESTION_COUNT, MAX_SUGGESTION_COUNT,
+                InvalidSuggestCommandException::new);
+        return new SuggestCommand(field, flagValues.get("prefix"), limit);
+    }
+
+    /**
+     * Parses the {@code dedupe} command into a {@link DedupeCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code dedupe} — Groups the live cases sharing at least 60% of their title and info text</li>
+     *   <li>{@code dedupe --similarity 80 --include-archived yes} — Groups the live and archived cases sharing at
+     *       least 80% of their text</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code dedupe} keyword
+     * @return a {@link DedupeCommand} with the requested similarity
+     * @throws InvalidDedupeCommandException if a flag is unknown, the similarity is not a whole number from 1 to
+     *                                       100, or {@code --include-archived} is neither yes nor no
+     */
+    private static Command parseDedupeCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            return new DedupeCommand(CaseManager.DEFAULT_DUPLICATE_SIMILARITY, false);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveValidFlags(flagValues, List.of("similarity", "include-archived"))) {
+            throw new InvalidDedupeCommandException();
+        }
+
+        double minSimilarity = CaseManager.DEFAULT_DUPLICATE_SIMILARITY;
+        if (flagValues.containsKey("similarity")) {
+            int percent;
+            try {
+                percent = Integer.parseInt(flagValues.get("similarity").strip().replaceFirst("%$", ""));
+            } catch (NumberFormatException e) {
+                throw new InvalidDedupeCommandException();
+            }
+            if (percent < 1 || percent > 100) {
+                throw new InvalidDedupeCommandException();
+            }
+            minSimilarity = percent / 100.0;
+        }
+
+        String includeArchived = flagValues.getOrDefault("include-archived", "no").toLowerCase();
+        if (!includeArchived.equals("yes") && !includeArchived.equals("no")) {
+            throw new InvalidDedupeCommandException();
+        }
+        return new DedupeCommand(minSimilarity, includeArchived.equals("yes"));
+    }
+
+    /**
+     * Parses the {@code graph} command into a {@link GraphCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code graph 000001} — Lists the cases up to 2 links away from a case</li>
+     *   <li>{@code graph 000001 --depth 3 --limit 100} — Follows up to 3 links and lists up to 100 cases</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code graph} keyword
+     * @return a {@link GraphCommand} for the case
+     * @throws InvalidGraphCommandException if the case ID is invalid, a flag is unknown, the depth is not from 1
+     *                                      to 4 or the limit is not from 1 to 500
+     */
+    private static Command parseGraphCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            throw new InvalidGraphCommandException();
+        }
+        String caseId = isSingleArgument(remainder) ? remainder : extractCaseId(remainder);
+        if (!validator.isValidCaseId(caseId)) {
+            throw new InvalidGraphCommandException();
+        }
+        if (isSingleArgument(remainder)) {
+            return new GraphCommand(caseId, DEFAULT_GRAPH_DEPTH, DEFAULT_GRAPH_LIMIT);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(extractFlags(remainder));
+        if (!validator.haveValidFlags(flagValues, List.of("depth", "limit"))) {
+            throw new InvalidGraphCommandException();
+        }
+        int depth = parsePositiveInteger(flagValues.get("depth"), DEFAULT_GRAPH_DEPTH, MAX_GRAPH_DEPTH,
+                InvalidGraphCommandException::new);
+        int limit = parsePositiveInteger(flagValues.get("limit"), DEFAULT_GRAPH_LIMIT, MAX_GRAPH_LIMIT,
+                InvalidGraphCommandException::new);
+        return new GraphCommand(caseId, depth, limit);
+    }
+
+    /**
+     * Parses the {@code workload} command into a {@link WorkloadCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code workload} — Shows the open cases of every officer</li>
+     *   <li>{@code workload --officer Sgt Tan} — Shows the open cases of one officer by category</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code workload} keyword
+     * @return a {@link WorkloadCommand} for every officer or the given one
+     * @throws InvalidWorkloadCommandException if a flag other than {@code --officer} is given
+     */
+    private static Command parseWorkloadCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            return new WorkloadCommand(null);
+        }
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveAllRequiredFlags(flagValues, List.of("officer"))
+                || !validator.haveValidFlags(flagValues, List.of("officer"))) {
+            throw new InvalidWorkloadCommandException();
+        }
+        return new WorkloadCommand(flagValues.get("officer"));
+    }
+
+    /**
+     * Parses the {@code hotspots} command into a {@link HotspotsCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code hotspots} — Lists the busiest road names and locations of the last 7 days</li>
+     *   <li>{@code hotspots --field road-name --days 30 --limit 5} — Lists the 5 busiest road names of the last
+     *       30 days</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code hotspots} keyword
+     * @return a {@link HotspotsCommand} for the requested fields
+     * @throws InvalidHotspotsCommandException if a flag or field is unknown, the days are not from 1 to 30 or
+     *                                         the limit is not from 1 to 50
+     */
+    private static Command parseHotspotsCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            return new HotspotsCommand(CaseManager.getHotspotFields(), DEFAULT_HOTSPOT_DAYS, DEFAULT_HOTSPOT_LIMIT);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveValidFlags(flagValues, List.of("field", "days", "limit"))) {
+            throw new InvalidHotspotsCommandException();
+        }
+        List<String> fields = CaseManager.getHotspotFields();
+        if (flagValues.containsKey("field")) {
+            String field = flagValues.get("field").strip().toLowerCase();
+            if (!CaseManager.isHotspotField(field)) {
+                throw new InvalidHotspotsCommandException();
+            }
+            fields = List.of(field);
+        }
+        int days = parsePositiveInteger(flagValues.get("days"), DEFAULT_HOTSPOT_DAYS, MAX_HOTSPOT_DAYS,
+                InvalidHotspotsCommandException::new);
+        int limit = parsePositiveInteger(flagValues.get("limit"), DEFAULT_HOTSPOT_LIMIT, MAX_HOTSPOT_LIMIT,
+                InvalidHotspotsCommandException::new);
+        return new HotspotsCommand(fields, days, limit);
+    }
+
+    /**
+     * Parses the {@code trend} command into a {@link TrendCommand}.
+     * <p>
+     * Supported formats:
+     * <ul>
+     *   <li>{@code trend} — Shows the cases per month of the last 12 months</li>
+     *   <li>{@code trend --by week --periods 8 --category theft} — Shows the theft cases per week of the last
+     *       8 weeks</li>
+     *   <li>{@code trend --export trend.csv} — Also exports the counts per category to {@code trend.csv}</li>
+     * </ul>
+     *
+     * @param remainder the portion of the input following the {@code trend} keyword
+     * @return a {@link TrendCommand} for the requested periods
+     * @throws InvalidTrendCommandException if a flag or granularity is unknown, the periods are not from 1 to
+     *                                      520 or the export file is blank
+     * @throws InvalidCategoryException     if {@code --category} is not a known category
+     */
+    private static Command parseTrendCommand(String remainder) {
+        if (validator.inputIsEmpty(remainder)) {
+            return new TrendCommand(CaseRollup.Granularity.MONTH, DEFAULT_TREND_PERIODS, null, null);
+        }
+
+        Map<String, String> flagValues = extractFlagValues(remainder);
+        if (!validator.haveValidFlags(flagValues, List.of("by", "periods", "category", "export"))) {
+            throw new InvalidTrendCommandException();
+        }
+        CaseRollup.Granularity granularity = switch (flagValues.getOrDefault("by", "month").strip().toLowerCase()) {
+        case "week" -> CaseRollup.Granularity.WEEK;
+        case "month" -> CaseRollup.Granularity.MONTH;
+        default -> throw new InvalidTrendCommandException();
+        };
+        int periodCount = parsePositiveInteger(flagValues.get("periods"), DEFAULT_TREND_PERIODS, MAX_TREND_PERIODS,
+                InvalidTrendCommandException::new);
+        CaseCategory category = flagValues.containsKey("category")
+                ? parseCategory(flagValues.get("category"))
+                : null;
+        String exportPath = flagValues.containsKey("export") ? flagValues.get("export").strip() : null;
+        if (exportPath != null && exportPath.isEmpty()) {
+            throw new InvalidTrendCommandException();
+        }
+        return new TrendCommand(granularity, periodCount, category, exportPath);
+    }
+
+    private static BulkAction parseBulkAction(String action) {
+        return switch (action.toLowerCase()) {
+        case "close" -> BulkAction.CLOSE;
+        case "open" -> BulkAction.OPEN;
+        case "delete" -> BulkAction.DELETE;
+        case "edit" -> BulkAction.EDIT;
+        default -> throw new InvalidBulkCommandException();
+        };
+    }
+
+    private static boolean parseBulkMode(String mode) {
+        if (mode == null) {
+            return false;
+        }
+        if (!mode.equalsIgnoreCase("dry-run")) {
+            throw new InvalidBulkCommandException();
+        }
+        return true;
+    }
+
+    /**
+     * Builds a {@link CaseFilter} from the filter flags present in {@code flagValues}.
+     *
+     * @param flagValues the parsed flags of the command
+     * @return a filter with a criterion for every filter flag present
+     * @throws InvalidCategoryException  if {@code --category} is not a known category
+     * @throws InvalidStatusException    if {@code --status} is not {@code open} or {@code closed}
+     * @throws InvalidDateInputException if a date flag is not a valid date
+     * @throws InvalidCaseIdException    if any ID in {@code --ids} is malformed
+     */
+    private static CaseFilter parseCaseFilter(Map<String, String> flagValues) {
+        CaseCategory category = flagValues.containsKey("category")
+                ? parseCategory(flagValues.get("category"))
+                : null;
+        Boolean isOpen = switch (parseListStatus(flagValues.get("status"))) {
+        case OPEN_ONLY -> true;
+        case CLOSED_ONLY -> false;
+        case DEFAULT -> null;
+        };
+        Set<String> ids = flagValues.containsKey("ids") ? parseCaseIds(flagValues.get("ids")) : null;
+
+        return parseTimeFilter(flagValues)
+                .withCategory(category)
+                .withStatus(isOpen)
+                .withOfficer(flagValues.get("officer"))
+                .withIds(ids);
+    }
+
+    /**
+     * Builds a {@link CaseFilter} from the {@code --from}, {@code --to}, {@code --updated-since} and
+     * {@code --created-since} flags present in {@code flagValues}.
+     * <p>
+     * The {@code --since} flags take a date and include everything from the start of that day.
+     *
+     * @param flagValues the parsed flags of the command
+     * @return a filter on the given dates, empty if none of the flags is present
+     * @throws InvalidDateInputException if a date flag is not a valid date
+     */
+    private static CaseFilter parseTimeFilter(Map<String, String> flagValues) {
+        LocalDate fromDate = flagValues.containsKey("from") ? parseInputDate(flagValues.get("from")) : null;
+        LocalDate toDate = flagValues.containsKey("to") ? parseInputDate(flagValues.get("to")) : null;
+        LocalDateTime updatedSince = flagValues.containsKey("updated-since")
+                ? parseInputDate(flagValues.get("updated-since")).atStartOfDay()
+                : null;
+        LocalDateTime createdSince = flagValues.containsKey("created-since")
+                ? parseInputDate(flagValues.get("created-since")).atStartOfDay()
+                : null;
+
+        return new CaseFilter()
+                .withDateRange(fromDate, toDate)
+                .withUpdatedSince(updatedSince)
+                .withCreatedSince(createdSince);
+    }
+
+    private static CaseCategory parseCategory(String category) {
+        CaseCategory caseCategory = CaseFactory.findCategory(category.strip());
+        if (caseCategory == null) {
+            throw new InvalidCategoryException();
+        }
+        return caseCategory;
+    }
+
+    /**
+     * Parses the value of a flag that takes a whole number from 1 to {@code maxValue}.
+     *
+     * @param value          the value of the flag, or {@code null} if the flag is absent
+     * @param defaultValue   the number to return if the flag is absent
+     * @param maxValue       the largest number accepted
+     * @param invalidCommand creates the exception of the command being parsed, thrown for any other value
+     * @return the parsed number, or {@code defaultValue}
+     */
+    private static int parsePositiveInteger(String value, int defaultValue, int maxValue,
+            Supplier<? extends RuntimeException> invalidCommand) {
+        if (value == null) {
+            return defaultValue;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            throw invalidCommand.get();
+        }
+        if (number <= 0 || number > maxValue) {
+            throw invalidCommand.get();
+        }
+        return number;
+    }
+
+    private static LocalDate parseInputDate(String date) {
+        try {
+            return DateFormatter.parseDate(date, Settings.getInputDateFormat());
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Invalid date format detected");
+            throw new InvalidDateInputException();
+        }
+    }
+
+    private static Set<String> parseCaseIds(String idList) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String id : idList.split(",")) {
+            String trimmedId = id.strip();
+            validateCaseId(trimmedId);
+            ids.add(Case.normaliseId(trimmedId).toLowerCase());
+        }
+        return ids;
+    }
 }
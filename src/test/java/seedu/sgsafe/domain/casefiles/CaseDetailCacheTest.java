@@ -0,0 +1,133 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
+import seedu.sgsafe.utils.storage.Storage;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseDetailCacheTest {
+
+    private ArrayList<Case> caseList;
+    private Path saveFile;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+
+        saveFile = Files.createTempFile("sgsafe-cache", ".txt");
+        storage = new Storage(saveFile.toString());
+        CaseDetailCache.enable(saveFile, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        CaseDetailCache.disable();
+        caseList.clear();
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(Path.of(saveFile + ".rollup"));
+        Files.deleteIfExists(Path.of(saveFile + ".history"));
+    }
+
+    private void addAndSaveCases() {
+        CaseManager.addCase(new TheftCase("000000", "Wallet", LocalDate.of(2024, 1, 1), "Taken at MRT",
+                "Alice", "Officer Lee"));
+        CaseManager.addCase(new AssaultCase("000001", "Fight", LocalDate.of(2024, 2, 1), "Outside club",
+                "Bob", "Officer Tan"));
+        Map<String, Object> weapon = Map.of("weapon", "Bottle", "number-of-victims", 2);
+        caseList.get(1).update(weapon);
+        storage.saveToFile();
+    }
+
+    @Test
+    void saveToFile_overCapacity_releasesLeastRecentlyUsedDetails() {
+        addAndSaveCases();
+
+        assertTrue(caseList.get(0).isDetailsReleased());
+        assertFalse(caseList.get(1).isDetailsReleased());
+        assertEquals(1, CaseDetailCache.getLoadedCount());
+        assertTrue(caseList.get(0).getDisplayLine().contains("Wallet"), "Summary fields stay in memory");
+        assertTrue(caseList.get(0).isDetailsReleased(), "Summary lines do not load details");
+    }
+
+    @Test
+    void getDetail_afterRelease_readsBackFromSaveFile() {
+        addAndSaveCases();
+        AssaultCase assault = (AssaultCase) caseList.get(1);
+
+        assertEquals("Officer Lee", caseList.get(0).getOfficer());
+        assertTrue(caseList.get(1).isDetailsReleased());
+        assertEquals("Bottle", assault.getWeapon());
+        assertEquals(2, assault.getNumberOfVictims());
+        assertEquals("Outside club", assault.getInfo());
+        assertTrue(CaseDetailCache.getRestoreCount() >= 2);
+    }
+
+    @Test
+    void saveToFile_withUnsavedEditsAndReleasedCases_writesEveryCase() throws Exception {
+        addAndSaveCases();
+        caseList.get(1).update(Map.of("victim", "Carol"));
+        caseList.get(0).setClosed();
+        String expectedFirstLine = caseList.get(0).toSaveString();
+        assertTrue(caseList.get(1).isUnsaved());
+
+        storage.saveToFile();
+        caseList.clear();
+        storage.loadCaseManager();
+
+        assertEquals(2, caseList.size());
+        assertEquals(expectedFirstLine, caseList.get(0).toSaveString());
+        assertFalse(caseList.get(0).isOpen());
+        assertEquals("Carol", caseList.get(1).getVictim());
+        assertEquals("Bottle", ((AssaultCase) caseList.get(1)).getWeapon());
+    }
+
+    @Test
+    void getDetail_afterSaveMovesLines_readsFromReplacedSaveFile() {
+        addAndSaveCases();
+        assertEquals("Officer Lee", caseList.get(0).getOfficer());
+        caseList.get(0).update(Map.of("title", "Wallet taken from a bag on the MRT"));
+
+        storage.saveToFile();
+
+        assertTrue(caseList.get(1).isDetailsReleased());
+        assertEquals("Outside club", caseList.get(1).getInfo());
+        assertEquals("Bottle", ((AssaultCase) caseList.get(1)).getWeapon());
+    }
+
+    @Test
+    void loadCaseManager_linesAcrossReadBuffers_readsBackEveryCase() {
+        String info = "Taken from a locker at the gym. ".repeat(8);
+        for (int i = 0; i < 600; i++) {
+            CaseManager.addCase(new TheftCase(String.format("%06x", i), "Theft " + i, LocalDate.of(2024, 1, 1),
+                    info + i, "Victim " + i, null));
+        }
+        storage.saveToFile();
+        caseList.clear();
+
+        storage.loadCaseManager();
+
+        assertEquals(600, caseList.size());
+        for (int i = 0; i < 600; i += 37) {
+            assertEquals(info + i, caseList.get(i).getInfo());
+            assertEquals("Victim " + i, caseList.get(i).getVictim());
+        }
+        assertEquals(info + 599, caseList.get(599).getInfo());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseFactory;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CaseFactoryTest {
+
+    @Test
+    void createCase_everyCategory_createsCaseOfThatCategory() {
+        for (CaseCategory category : CaseCategory.values()) {
+            Case newCase = CaseFactory.createCase(category, "000000", "Title", LocalDate.of(2024, 1, 1),
+                    "info", "Victim", "Officer");
+            assertEquals(category, newCase.getCategory());
+            assertEquals("Title", newCase.getTitle());
+        }
+        assertInstanceOf(AccidentCase.class,
+                CaseFactory.createCase(CaseCategory.ACCIDENT, "000000", "Title", null, "info", null, null));
+    }
+
+    @Test
+    void findCategory_anyLetterCase_returnsCategory() {
+        assertEquals(CaseCategory.THEFT, CaseFactory.findCategory("theft"));
+        assertEquals(CaseCategory.THEFT, CaseFactory.findCategory("Theft"));
+        assertEquals(CaseCategory.THEFT, CaseFactory.findCategory("THEFT"));
+        assertEquals(CaseCategory.ACCIDENT, CaseFactory.findCategory("aCCiDent"));
+        assertNull(CaseFactory.findCategory("pickpocket"));
+        assertNull(CaseFactory.findCategory(null));
+    }
+}
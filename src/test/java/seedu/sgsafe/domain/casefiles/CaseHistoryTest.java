@@ -0,0 +1,218 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.storage.TextBlobStore;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseHistoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+    private static final LocalDateTime BEFORE_CHANGES = LocalDateTime.now().minusDays(1);
+
+    private ArrayList<Case> caseList;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+        CaseHistory.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        caseList.clear();
+        CaseHistory.clear();
+    }
+
+    private static Case addCase(Case c) {
+        c.initialiseMetadataFromSave(true, false, CREATED_AT, CREATED_AT);
+        CaseManager.addCase(c);
+        return c;
+    }
+
+    @Test
+    void getCaseAsOf_afterEditAndClose_returnsCopyWithEarlierValues() {
+        Case c = addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2020, 1, 1), "Blue", "Alice", "Lee"));
+        c.update(Map.of("title", "Stolen red bike", "victim", "Bob"));
+        c.setClosed();
+
+        Case before = CaseHistory.getCaseAsOf(c, BEFORE_CHANGES);
+
+        assertTrue(c != before);
+        assertEquals("Stolen bike", before.getTitle());
+        assertEquals("Alice", before.getVictim());
+        assertEquals("Blue", before.getInfo());
+        assertTrue(before.isOpen());
+        assertEquals(CREATED_AT, before.getUpdatedAt());
+        assertEquals("Stolen red bike", c.getTitle());
+        assertFalse(c.isOpen());
+        assertEquals(2, CaseHistory.getVersionCount(c));
+    }
+
+    @Test
+    void getCaseAsOf_withoutLaterChanges_returnsCaseItself() {
+        Case c = addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2020, 1, 1), "Blue", "Alice", "Lee"));
+        c.update(Map.of("title", "Stolen red bike"));
+
+        assertTrue(c == CaseHistory.getCaseAsOf(c, LocalDateTime.now().plusDays(1)));
+        assertNull(CaseHistory.getCaseAsOf(c, CREATED_AT.minusDays(1)));
+    }
+
+    @Test
+    void record_unchangedValues_addsNoVersion() {
+        Case c = addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2020, 1, 1), "Blue", "Alice", "Lee"));
+        c.update(Map.of("title", "Stolen bike"));
+        c.setOpen();
+
+        assertEquals(0, CaseHistory.getVersionCount(c));
+        assertTrue(CaseHistory.getUnsavedLines().isEmpty());
+    }
+
+    @Test
+    void getCaseAsOf_beyondCheckpointInterval_undoesToOriginalValues() {
+        Case c = addCase(new SpeedingCase("000001", "Speeding", LocalDate.of(2020, 1, 1), null, null, null));
+        c.update(Map.of("speed-limit", 60));
+        for (int i = 1; i <= 40; i++) {
+            c.update(Map.of("title", "Speeding " + i, "exceeded-speed", 60 + i));
+        }
+
+        Case before = CaseHistory.getCaseAsOf(c, BEFORE_CHANGES);
+
+        assertEquals(41, CaseHistory.getVersionCount(c));
+        assertEquals("Speeding", before.getTitle());
+        assertNull(before.getFieldValue("speed-limit"));
+        assertNull(before.getFieldValue("exceeded-speed"));
+        assertEquals(100, c.getFieldValue("exceeded-speed"));
+    }
+
+    @Test
+    void load_savedLines_restoresHistoryOfKnownCases() {
+        Case c = addCase(new SpeedingCase("000001", "Speeding", LocalDate.of(2020, 1, 1), null, null, null));
+        for (int i = 1; i <= 20; i++) {
+            c.update(Map.of("title", "Speeding " + i, "exceeded-speed", 60 + i));
+        }
+        c.setDeleted(true);
+        List<String> lines = new ArrayList<>(CaseHistory.getUnsavedLines());
+        lines.add("0000ff|1|title:sGone");
+        lines.add("000001|not-a-time|title:sBad");
+        CaseHistory.clear();
+
+        assertEquals(21, CaseHistory.load(lines, Map.of("000001", c)));
+        Case before = CaseHistory.getCaseAsOf(c, BEFORE_CHANGES);
+        assertEquals("Speeding", before.getTitle());
+        assertNull(before.getFieldValue("exceeded-speed"));
+        assertFalse(before.isDeleted());
+        assertTrue(CaseHistory.getUnsavedLines().isEmpty());
+    }
+
+    @Test
+    void saveAndLoad_historyFile_appendsOnlyNewVersions() throws Exception {
+        Path saveFile = Files.createTempFile("sgsafe-history", ".txt");
+        Path historyFile = Path.of(saveFile + ".history");
+        try {
+            Case c = addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2020, 1, 1), "Blue", "Alice", "Lee"));
+            Storage storage = new Storage(saveFile.toString());
+            c.update(Map.of("title", "Stolen red bike"));
+            storage.saveToFile();
+            c.setClosed();
+            storage.saveToFile();
+            assertEquals(2, Files.readAllLines(historyFile).size());
+
+            caseList.clear();
+            CaseHistory.clear();
+            storage.loadCaseManager();
+            Case reloaded = CaseManager.getCaseById("000001");
+            assertTrue(reloaded != c);
+            assertEquals("Stolen red bike", reloaded.getTitle());
+            assertFalse(reloaded.isOpen());
+            Case loaded = CaseManager.getCaseAsOf("000001", BEFORE_CHANGES.toLocalDate());
+            assertTrue(loaded != reloaded);
+            assertEquals("Stolen bike", loaded.getTitle());
+            assertTrue(loaded.isOpen());
+        } finally {
+            Files.deleteIfExists(saveFile);
+            Files.deleteIfExists(historyFile);
+            Files.deleteIfExists(Path.of(saveFile + ".rollup"));
+        }
+    }
+
+    @Test
+    void getCaseAsOf_withTextBlobStore_buildsCopyWithoutSideEffects() throws Exception {
+        Path blobFile = Files.createTempFile("sgsafe-blobs", ".bin");
+        TextBlobStore.enable(blobFile);
+        try {
+            String info = "Taken from the void deck. ".repeat(10);
+            Case c = addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2020, 1, 1), info, "Alice", "Lee"));
+            c.update(Map.of("title", "Stolen red bike", "victim", "Bob"));
+            long usedBytes = TextBlobStore.getUsedBytes();
+            long victimLookups = FieldDictionary.VICTIM.getLookupCount();
+            long officerLookups = FieldDictionary.OFFICER.getLookupCount();
+
+            Case before = CaseHistory.getCaseAsOf(c, BEFORE_CHANGES);
+
+            assertTrue(before.isDetached());
+            assertEquals("Alice", before.getVictim());
+            assertEquals(info, before.getInfo());
+            assertEquals(usedBytes, TextBlobStore.getUsedBytes());
+            assertEquals(victimLookups, FieldDictionary.VICTIM.getLookupCount());
+            assertEquals(officerLookups, FieldDictionary.OFFICER.getLookupCount());
+        } finally {
+            TextBlobStore.disable();
+            Files.deleteIfExists(blobFile);
+        }
+    }
+
+    @Test
+    void saveHistory_afterPurge_rewritesFileWithoutRemovedCases() throws Exception {
+        Path saveFile = Files.createTempFile("sgsafe-history", ".txt");
+        Path historyFile = Path.of(saveFile + ".history");
+        try {
+            Case kept = addCase(new TheftCase("000001", "Stolen bike", LocalDate.of(2020, 1, 1), "Blue", null, null));
+            Case purged = addCase(new TheftCase("000002", "Lost phone", LocalDate.of(2020, 1, 1), "Black", null, null));
+            Storage storage = new Storage(saveFile.toString());
+            kept.update(Map.of("title", "Stolen red bike"));
+            purged.update(Map.of("title", "Lost black phone"));
+            purged.setDeleted(true);
+            storage.saveToFile();
+            assertEquals(3, Files.readAllLines(historyFile).size());
+
+            CaseManager.removeCases(List.of(purged));
+            assertTrue(CaseHistory.isRewriteNeeded());
+            storage.saveToFile();
+
+            List<String> lines = Files.readAllLines(historyFile);
+            assertEquals(1, lines.size());
+            assertTrue(lines.get(0).startsWith("000001|"));
+            assertFalse(CaseHistory.isRewriteNeeded());
+
+            kept.setClosed();
+            storage.saveToFile();
+            assertEquals(2, Files.readAllLines(historyFile).size());
+        } finally {
+            Files.deleteIfExists(saveFile);
+            Files.deleteIfExists(historyFile);
+            Files.deleteIfExists(Path.of(saveFile + ".rollup"));
+        }
+    }
+}
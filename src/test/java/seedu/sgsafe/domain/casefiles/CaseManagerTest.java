@@ -1,15 +1,32 @@
 package seedu.sgsafe.domain.casefiles;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.index.CaseRollup;
+import seedu.sgsafe.domain.casefiles.index.HotspotIndex;
+import seedu.sgsafe.domain.casefiles.index.MinHashIndex;
+import seedu.sgsafe.domain.casefiles.index.PrefixIndex;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
 import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
 import seedu.sgsafe.utils.exceptions.CaseNotFoundException;
+import seedu.sgsafe.utils.storage.TextBlobStore;
 
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +43,12 @@ class CaseManagerTest {
         caseList.clear();
     }
 
+    @AfterEach
+    void tearDown() {
+        caseList.clear();
+        CaseHistory.clear();
+    }
+
     // ----------- TESTS FOR ADD COMMANDS ----------- //
 
     @Test
@@ -105,4 +128,470 @@ class CaseManagerTest {
         CaseManager.deleteCase("000000");
         assertThrows(CaseNotFoundException.class, () -> CaseManager.deleteCase("000000"));
     }
+
+    // ----------- TESTS FOR CASE IDS ----------- //
+
+    @Test
+    void generateHexId_beyondSixDigits_growsIdAndColumnWidth() {
+        CaseManager.addCase(new TheftCase("000000", "First", null, "info", null, null));
+        CaseManager.reserveIdsBelow(0xffffff);
+        try {
+            CaseManager.addCase(new TheftCase(CaseManager.generateHexId(), "Last short", null, "info", null, null));
+            assertEquals(6, CaseManager.getIdColumnWidth());
+
+            String longId = CaseManager.generateHexId();
+            assertEquals("1000000", longId);
+            CaseManager.addCase(new TheftCase(longId, "First long", null, "info", null, null));
+
+            assertEquals(7, CaseManager.getIdColumnWidth());
+            assertEquals("First long", CaseManager.getCaseById("01000000").getTitle());
+            assertEquals("Last short", CaseManager.getCaseById("FFFFFF").getTitle());
+            assertTrue(caseList.get(0).getDisplayLine().contains(" 000000  "));
+        } finally {
+            CaseManager.clearReservedIds();
+        }
+    }
+
+    @Test
+    void getCaseById_withNonCanonicalWideId_findsCaseByAnyForm() {
+        CaseManager.addCase(new TheftCase("0000000ABC", "Padded", null, "info", null, null));
+
+        assertEquals("Padded", CaseManager.getCaseById("000abc").getTitle());
+        assertEquals("Padded", CaseManager.getCaseById("0000000abc").getTitle());
+        assertTrue(CaseManager.isIdInUse("00000ABC"));
+    }
+
+    // ----------- TESTS FOR DATE RANGE QUERIES ----------- //
+
+    @Test
+    void findMatchingCases_withDateRange_returnsLiveCasesInDateOrder() {
+        CaseManager.addCase(new TheftCase("000000", "March", LocalDate.of(2024, 3, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000001", "January", LocalDate.of(2024, 1, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000002", "December", LocalDate.of(2023, 12, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000003", "February", LocalDate.of(2024, 2, 1), "info", null, null));
+        caseList.get(3).setDeleted(true);
+
+        List<Case> matches = CaseManager.findMatchingCases(
+                new CaseFilter().withDateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1)));
+
+        assertEquals(2, matches.size());
+        assertEquals("January", matches.get(0).getTitle());
+        assertEquals("March", matches.get(1).getTitle());
+    }
+
+    @Test
+    void findCasesByDateRange_afterDateEdit_reflectsNewDate() {
+        CaseManager.addCase(new TheftCase("000000", "Moved", LocalDate.of(2024, 3, 1), "info", null, null));
+        Map<String, Object> newValues = new HashMap<>();
+        newValues.put("date", LocalDate.of(2020, 5, 5));
+        caseList.get(0).update(newValues);
+
+        assertTrue(CaseManager.findCasesByDateRange(LocalDate.of(2024, 1, 1), null).isEmpty());
+        assertEquals(1, CaseManager.findCasesByDateRange(null, LocalDate.of(2020, 12, 31)).size());
+    }
+
+    @Test
+    void findCasesByDateRange_afterDirectListChange_rebuildsIndex() {
+        caseList.add(new TheftCase("000000", "Direct", LocalDate.of(2024, 3, 1), "info", null, null));
+
+        assertEquals(1, CaseManager.findCasesByDateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1)).size());
+    }
+
+    @Test
+    void findCasesUpdatedSince_withOlderTimestamps_excludesStaleCases() {
+        CaseManager.addCase(new TheftCase("000000", "Stale", LocalDate.of(2024, 3, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000001", "Fresh", LocalDate.of(2024, 3, 1), "info", null, null));
+        caseList.get(0).setUpdatedAt(LocalDateTime.of(2020, 1, 1, 0, 0));
+
+        List<Case> matches = CaseManager.findCasesUpdatedSince(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        assertEquals(1, matches.size());
+        assertEquals("Fresh", matches.get(0).getTitle());
+    }
+
+    // ----------- TESTS FOR PLATE LOOKUPS ----------- //
+
+    @Test
+    void findMatchingCases_withVehiclePlate_followsEditsAndDeletions() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        Case first = new SpeedingCase("000001", "Speeding on PIE", date, "info", "Alice", "Tan");
+        Case second = new SpeedingCase("000002", "Speeding on AYE", date, "info", "Bob", "Tan");
+        CaseManager.addCase(first);
+        CaseManager.addCase(second);
+        first.update(Map.of("vehicle-plate", "SGX 1234A"));
+        second.update(Map.of("vehicle-plate", "sgx1234a"));
+
+        CaseFilter filter = new CaseFilter().withVehiclePlate("SGX1234A");
+        assertEquals(List.of(first, second), CaseManager.findMatchingCases(filter));
+        assertEquals(2, CaseManager.getPlateCaseCounts().get("SGX1234A"));
+
+        second.update(Map.of("vehicle-plate", "SBA 1A"));
+        CaseManager.deleteCase("000001");
+        assertTrue(CaseManager.findMatchingCases(filter).isEmpty());
+        assertEquals(Map.of("SBA1A", 1), CaseManager.getPlateCaseCounts());
+    }
+
+    // ----------- TESTS FOR SIMILAR NAMES ----------- //
+
+    @Test
+    void findMatchingCases_withSimilarNames_followsEditsAndFilters() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        Case first = new TheftCase("000001", "Theft at home", date, "info", "John Tan", "Sgt Lim");
+        Case second = new TheftCase("000002", "Theft at work", date, "info", "Jon Tan", "Sgt Lee");
+        CaseManager.addCase(first);
+        CaseManager.addCase(second);
+        CaseManager.addCase(new TheftCase("000003", "Theft", date, "info", "Mary Lim", "Sgt Lim"));
+
+        CaseFilter filter = new CaseFilter().withSimilarVictim("jon  TAN").withMaxNameDistance(1);
+        assertEquals(List.of(second, first), CaseManager.findMatchingCases(filter));
+        filter.withSimilarOfficer("sgt lin");
+        assertEquals(List.of(first), CaseManager.findMatchingCases(filter));
+
+        first.update(Map.of("victim", "Ahmad"));
+        second.setClosed();
+        CaseFilter openFilter = new CaseFilter().withSimilarVictim("John Tan").withStatus(true);
+        assertTrue(CaseManager.findMatchingCases(openFilter).isEmpty());
+        assertEquals(List.of(first), CaseManager.findMatchingCases(new CaseFilter().withSimilarVictim("ahmed")));
+    }
+
+    // ----------- TESTS FOR SUGGESTIONS ----------- //
+
+    @Test
+    void suggest_afterEditsAndDeletions_countsLiveCasesOnly() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        CaseManager.addCase(new TheftCase("000001", "Theft", date, "info", "Alice", "Sgt Tan"));
+        CaseManager.addCase(new TheftCase("000002", "Theft", date, "info", "Bob", "Sgt Tan"));
+        Case third = new TheftCase("000003", "Theft", date, "info", "Carol", "Sgt Tay");
+        CaseManager.addCase(third);
+
+        assertEquals(List.of(new PrefixIndex.Completion("Sgt Tan", 2), new PrefixIndex.Completion("Sgt Tay", 1)),
+                CaseManager.suggest("officer", "sgt ta", 5));
+        third.update(Map.of("officer", "Sgt Tan"));
+        CaseManager.deleteCase("000001");
+        assertEquals(List.of(new PrefixIndex.Completion("Sgt Tan", 2)), CaseManager.suggest("officer", "SGT", 5));
+    }
+
+    // ----------- TESTS FOR DUPLICATE DETECTION ----------- //
+
+    @Test
+    void findLikelyDuplicates_ignoresDeletedAndDissimilarCases() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        String info = "Wallet taken from a handbag on the MRT train between Jurong East and Clementi stations.";
+        CaseManager.addCase(new TheftCase("000001", "Pickpocket on MRT", date, info, "Alice", "Sgt Tan"));
+        CaseManager.addCase(new TheftCase("000002", "Pickpocket on MRT", date, info, "Alice", "Sgt Lee"));
+        CaseManager.addCase(new TheftCase("000003", "Shoplifting", date, "Goods taken from a shop.", null, null));
+
+        assertEquals(2, CaseManager.findLikelyDuplicates("Pickpocketing on the MRT", info).size());
+        CaseManager.deleteCase("000002");
+        List<MinHashIndex.Match> matches = CaseManager.findLikelyDuplicates("Pickpocketing on the MRT", info);
+        assertEquals(1, matches.size());
+        assertEquals("000001", matches.get(0).similarCase().getId());
+        assertTrue(CaseManager.findLikelyDuplicateGroups(0.6, List.of()).isEmpty());
+    }
+
+    // ----------- TESTS FOR RELATED CASES ----------- //
+
+    @Test
+    void getRelatedCases_ignoresDeletedCasesAndFollowsEdits() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        Case first = new TheftCase("000001", "Theft", date, "info", "Alice", "Sgt Tan");
+        CaseManager.addCase(first);
+        CaseManager.addCase(new TheftCase("000002", "Theft", date, "info", "alice", null));
+        CaseManager.addCase(new TheftCase("000003", "Theft", date, "info", null, "Sgt Tan"));
+        CaseManager.addCase(new TheftCase("000004", "Theft", date, "info", "Bob", "Sgt Tan"));
+
+        assertEquals(3, CaseManager.getRelatedCases(first).size());
+        CaseManager.deleteCase("000004");
+        CaseManager.getCaseById("000003").update(Map.of("officer", "Sgt Lee"));
+        assertEquals(List.of("000002"), CaseManager.getRelatedCases(first).keySet().stream().map(Case::getId)
+                .toList());
+        assertEquals(1, CaseManager.findLinkedCases(first, 4, 10).size());
+    }
+
+    // ----------- TESTS FOR OFFICER WORKLOADS ----------- //
+
+    @Test
+    void getOfficerWorkloads_followsCloseDeleteReopenAndReassignment() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        CaseManager.addCase(new TheftCase("000001", "Theft", date, "info", null, "Sgt Tan"));
+        CaseManager.addCase(new TheftCase("000002", "Theft", date.plusDays(1), "info", null, "Sgt Tan"));
+        CaseManager.addCase(new TheftCase("000003", "Theft", date, "info", null, "Sgt Lee"));
+
+        assertEquals(2, CaseManager.getOfficerWorkload("sgt tan").getOpenCount());
+        CaseManager.closeCase("000001");
+        assertEquals("000002", CaseManager.getOfficerWorkload("Sgt Tan").getOldestCase().getId());
+        CaseManager.getCaseById("000002").update(Map.of("officer", "Sgt Lee"));
+        CaseManager.deleteCase("000003");
+        CaseManager.openCase("000001");
+
+        List<String> officers = CaseManager.getOfficerWorkloads().stream()
+                .map(workload -> workload.getOfficer() + " " + workload.getOpenCount()).toList();
+        assertEquals(List.of("Sgt Lee 1", "Sgt Tan 1"), officers);
+        assertEquals(0, CaseManager.getUnassignedWorkload().getOpenCount());
+    }
+
+    // ----------- TESTS FOR HOTSPOTS ----------- //
+
+    @Test
+    void findHotspots_countsRecentCasesOfEachField() {
+        LocalDate today = LocalDate.now();
+        Case accident = new AccidentCase("000001", "Accident", today, "info", null, null);
+        CaseManager.addCase(accident);
+        accident.update(Map.of("road-name", "Pan Island Expressway"));
+        Case vandalism = new VandalismCase("000002", "Vandalism", today.minusDays(3), "info", null, null);
+        CaseManager.addCase(vandalism);
+        vandalism.update(Map.of("location", "Block 123 Bedok North"));
+        CaseManager.addCase(new TheftCase("000003", "Theft", today, "info", null, null));
+
+        assertEquals(List.of(new HotspotIndex.Hotspot("Pan Island Expressway", 1, 0)),
+                CaseManager.findHotspots("road-name", 7, 10));
+        assertEquals(1, CaseManager.findHotspots("location", 7, 10).size());
+        assertTrue(CaseManager.findHotspots("location", 2, 10).isEmpty());
+        CaseManager.deleteCase("000001");
+        assertTrue(CaseManager.findHotspots("road-name", 7, 10).isEmpty());
+        // A deleted case is not indexed, so restoring it must not remove it from the counts first
+        accident.setDeleted(false);
+        assertEquals(List.of(new HotspotIndex.Hotspot("Pan Island Expressway", 1, 0)),
+                CaseManager.findHotspots("road-name", 7, 10));
+    }
+
+    // ----------- TESTS FOR ROLLUPS ----------- //
+
+    @Test
+    void getRollup_followsDateEditsCloseAndDelete() {
+        CaseManager.addCase(new TheftCase("000001", "Theft", LocalDate.of(2024, 5, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000002", "Theft", LocalDate.of(2024, 5, 20), "info", null, null));
+        CaseRollup.Granularity month = CaseRollup.Granularity.MONTH;
+        long may = month.getPeriod(LocalDate.of(2024, 5, 1));
+        long june = month.getPeriod(LocalDate.of(2024, 6, 1));
+
+        CaseManager.getCaseById("000001").update(Map.of("date", LocalDate.of(2024, 6, 3)));
+        CaseManager.closeCase("000002");
+        assertEquals(1, CaseManager.getRollup(month).getCount(june, CaseCategory.THEFT, true));
+        assertEquals(1, CaseManager.getRollup(month).getCount(may, null, false));
+        assertEquals(0, CaseManager.getRollup(month).getCount(may, null, true));
+
+        CaseManager.deleteCase("000002");
+        assertEquals(0, CaseManager.getRollup(month).getCount(may, null, false));
+        assertEquals(1, CaseManager.getRollup(CaseRollup.Granularity.WEEK).getPeriods().size());
+    }
+
+    @Test
+    void restoreRollups_mismatchedCases_countsAgain() {
+        CaseManager.addCase(new TheftCase("000001", "Theft", LocalDate.of(2024, 5, 1), "info", null, null));
+        List<String> lines = CaseManager.getRollupSaveLines();
+        assertFalse(CaseManager.restoreRollups(lines));
+
+        caseList.clear();
+        assertTrue(CaseManager.restoreRollups(lines));
+        CaseManager.addCase(new TheftCase("000001", "Theft", LocalDate.of(2024, 5, 1), "info", null, null));
+        assertTrue(CaseManager.completeRollupRestore());
+
+        caseList.clear();
+        assertTrue(CaseManager.restoreRollups(lines));
+        assertFalse(CaseManager.completeRollupRestore());
+        assertTrue(CaseManager.getRollup(CaseRollup.Granularity.MONTH).getPeriods().isEmpty());
+    }
+
+    // ----------- TESTS FOR NUMERIC RANGES ----------- //
+
+    @Test
+    void findCasesInRange_topAndBottom_followsEditsAndFilters() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        int[][] speeds = {{50, 95}, {90, 140}, {70, 80}, {60, 130}};
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < speeds.length; i++) {
+            Case c = new SpeedingCase(String.format("%06d", i), "Speeding " + i, date, "info", null, null);
+            CaseManager.addCase(c);
+            c.update(Map.of("speed-limit", speeds[i][0], "exceeded-speed", speeds[i][1]));
+            cases.add(c);
+        }
+        CaseManager.addCase(new TheftCase("000009", "Theft", date, "info", null, null));
+
+        assertEquals(List.of(cases.get(3), cases.get(1)),
+                CaseManager.findCasesInRange("over-limit", 40, Double.POSITIVE_INFINITY, new CaseFilter(), 2, true));
+        assertEquals(70.0, CaseManager.getRangeFieldValue("over-limit", cases.get(3)));
+
+        cases.get(3).setClosed();
+        cases.get(2).update(Map.of("exceeded-speed", 200));
+        assertEquals(List.of(cases.get(2), cases.get(1), cases.get(0)), CaseManager.findCasesInRange(
+                "over-limit", 40, Double.POSITIVE_INFINITY, new CaseFilter().withStatus(true), 10, true));
+        assertEquals(List.of(cases.get(0)),
+                CaseManager.findCasesInRange("speed-limit", 0, 100, new CaseFilter(), 1, false));
+    }
+
+    // ----------- TESTS FOR COLUMN SCANS ----------- //
+
+    @Test
+    void findMatchingCases_withStatusFilter_tracksChangesInCaseListOrder() {
+        addCasesForSorting();
+        caseList.get(0).setClosed();
+        caseList.get(2).setDeleted(true);
+        caseList.get(3).update(Map.of("title", "Renamed"));
+
+        List<Case> open = CaseManager.findMatchingCases(new CaseFilter().withStatus(true));
+
+        assertEquals(List.of("alpha", "Renamed", "Delta"), open.stream().map(Case::getTitle).toList());
+        assertEquals(List.of("Charlie"), CaseManager.findMatchingCases(new CaseFilter().withStatus(false))
+                .stream().map(Case::getTitle).toList());
+    }
+
+    @Test
+    void findCasesByKeyword_afterDirectListChange_scansRebuiltColumns() {
+        addCasesForSorting();
+        caseList.remove(0);
+        caseList.add(new TheftCase("000005", "Charlie again", null, "info", null, null));
+
+        List<Case> found = CaseManager.findCasesByKeyword("CHARLIE", new CaseFilter());
+
+        assertEquals(List.of("Charlie again"), found.stream().map(Case::getTitle).toList());
+    }
+
+    @Test
+    void bulkUpdate_withDateRangeAndStatus_usesColumnScan() {
+        addCasesForSorting();
+        caseList.get(3).setClosed();
+        CaseFilter filter = new CaseFilter().withStatus(true)
+                .withDateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31));
+
+        CaseManager.BulkResult result = CaseManager.bulkUpdate(filter, BulkAction.CLOSE, null, false);
+
+        assertEquals(2, result.matched());
+        assertFalse(caseList.get(0).isOpen());
+        assertFalse(caseList.get(1).isOpen());
+        assertTrue(caseList.get(4).isOpen());
+    }
+
+    // ----------- TESTS FOR SORTED PAGES ----------- //
+
+    private void addCasesForSorting() {
+        CaseManager.addCase(new TheftCase("000000", "Charlie", LocalDate.of(2024, 3, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000001", "alpha", LocalDate.of(2024, 1, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000002", "Echo", LocalDate.of(2023, 12, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000003", "Bravo", LocalDate.of(2024, 2, 1), "info", null, null));
+        CaseManager.addCase(new TheftCase("000004", "Delta", LocalDate.of(2024, 4, 1), "info", null, null));
+    }
+
+    @Test
+    void getSortedPage_byTitleDescending_returnsRequestedPages() {
+        addCasesForSorting();
+        CaseFilter filter = new CaseFilter();
+
+        List<Case> firstPage = CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.TITLE, true, 2, 1));
+        List<Case> secondPage = CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.TITLE, true, 2, 2));
+        List<Case> lastPage = CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.TITLE, true, 2, 3));
+
+        assertEquals(List.of("Echo", "Delta"), firstPage.stream().map(Case::getTitle).toList());
+        assertEquals(List.of("Charlie", "Bravo"), secondPage.stream().map(Case::getTitle).toList());
+        assertEquals(List.of("alpha"), lastPage.stream().map(Case::getTitle).toList());
+    }
+
+    @Test
+    void getSortedPage_byDateWithStatusFilter_skipsNonMatchingCases() {
+        addCasesForSorting();
+        caseList.get(1).setClosed();
+        CaseFilter filter = new CaseFilter().withStatus(true);
+
+        List<Case> page = CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.DATE, false, 2, 1));
+
+        assertEquals(List.of("Echo", "Bravo"), page.stream().map(Case::getTitle).toList());
+    }
+
+    @Test
+    void getSortedPage_afterEdit_doesNotReuseStaleOrder() {
+        addCasesForSorting();
+        CaseFilter filter = new CaseFilter();
+        CasePageRequest secondPage = new CasePageRequest(CaseSortKey.DATE, false, 2, 2);
+        assertEquals("Bravo", CaseManager.getSortedPage(filter, secondPage).get(0).getTitle());
+
+        Map<String, Object> newValues = new HashMap<>();
+        newValues.put("date", LocalDate.of(2020, 1, 1));
+        caseList.get(4).update(newValues);
+
+        assertEquals("alpha", CaseManager.getSortedPage(filter, secondPage).get(0).getTitle());
+    }
+
+    @Test
+    void getSortedPage_withExtraCase_showsWhetherNextPageExists() {
+        addCasesForSorting();
+        CaseFilter filter = new CaseFilter();
+
+        assertEquals(3, CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.DATE, false, 2, 1), 1)
+                .size());
+        assertEquals(3, CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.TITLE, false, 2, 2), 1)
+                .size());
+        // The last page is exactly full, so no case follows it
+        assertEquals(5, CaseManager.getSortedPage(filter, new CasePageRequest(CaseSortKey.TITLE, false, 5, 1), 1)
+                .size());
+    }
+
+    @Test
+    void getSortedPage_casesOnSameDate_ordersTiesByIdValueInBothDirections() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        for (String id : List.of("000003", "0000ff1", "000010", "000002")) {
+            CaseManager.addCase(new TheftCase(id, "Theft", date, "info", null, null));
+        }
+        CaseManager.addCase(new TheftCase("000001", "Theft", date.plusDays(1), "info", null, null));
+
+        List<String> ascending = List.of("000002", "000003", "000010", "0000ff1", "000001");
+        assertEquals(ascending, CaseManager.getSortedPage(new CaseFilter(),
+                new CasePageRequest(CaseSortKey.DATE, false, 10, 1)).stream().map(Case::getId).toList());
+        List<String> descending = List.of("000001", "0000ff1", "000010", "000003", "000002");
+        assertEquals(descending, CaseManager.getSortedPage(new CaseFilter(),
+                new CasePageRequest(CaseSortKey.DATE, true, 10, 1)).stream().map(Case::getId).toList());
+
+        // An undated case is not in the date index, so the listing falls back to the comparator and puts it last
+        CaseManager.addCase(new TheftCase("000004", "Theft", null, "info", null, null));
+        assertEquals("000004", CaseManager.getSortedPage(new CaseFilter(),
+                new CasePageRequest(CaseSortKey.DATE, false, 10, 1)).get(5).getId());
+        assertEquals("000004", CaseManager.getSortedPage(new CaseFilter(),
+                new CasePageRequest(CaseSortKey.DATE, true, 10, 1)).get(0).getId());
+    }
+
+    @Test
+    void getSortedPage_pastLastCase_returnsEmptyList() {
+        addCasesForSorting();
+
+        assertTrue(CaseManager.getSortedPage(new CaseFilter(),
+                new CasePageRequest(CaseSortKey.CATEGORY, false, 5, 2)).isEmpty());
+    }
+
+    @Test
+    void findCasesAsOf_afterCloseAndDelete_returnsCasesAsTheyWere() {
+        CaseHistory.clear();
+        LocalDateTime createdAt = LocalDateTime.of(2020, 1, 1, 9, 0);
+        for (String id : List.of("000001", "000002", "000003")) {
+            Case c = new TheftCase(id, "Theft " + id, LocalDate.of(2020, 1, 1), null, null, null);
+            c.initialiseMetadataFromSave(true, false, createdAt, createdAt);
+            CaseManager.addCase(c);
+        }
+        caseList.get(0).setClosed();
+        caseList.get(1).setDeleted(true);
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        assertEquals(3, CaseManager.findCasesAsOf(yesterday, true).size());
+        assertEquals(1, CaseManager.findCasesAsOf(LocalDate.now(), true).size());
+        assertEquals(List.of("000001"), CaseManager.findCasesAsOf(LocalDate.now(), false).stream()
+                .map(Case::getId).toList());
+        assertTrue(CaseManager.getCaseAsOf("000002", yesterday).isOpen());
+        assertNull(CaseManager.getCaseAsOf("000002", LocalDate.now()));
+        assertNull(CaseManager.getCaseAsOf("000003", LocalDate.of(2019, 12, 31)));
+    }
+
+    @Test
+    void findCasesByKeywords_withTextBlobStore_findsKeywordsInStoredInfo() throws Exception {
+        Path blobFile = Files.createTempFile("sgsafe-blobs", ".bin");
+        TextBlobStore.enable(blobFile);
+        try {
+            CaseManager.addCase(new TheftCase("000001", "Wallet", null, "Taken at MRT. ".repeat(20), null, null));
+
+            assertEquals(1, CaseManager.findCasesByKeywords(new KeywordMatcher(List.of("mrt"), false),
+                    new CaseFilter()).size());
+            assertEquals(0, CaseManager.findCasesByKeywords(new KeywordMatcher(List.of("bus"), false),
+                    new CaseFilter()).size());
+        } finally {
+            TextBlobStore.disable();
+            Files.deleteIfExists(blobFile);
+        }
+    }
 }
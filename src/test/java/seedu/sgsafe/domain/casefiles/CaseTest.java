@@ -3,13 +3,16 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import seedu.sgsafe.domain.casefiles.type.OthersCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
 
 public class CaseTest {
 
@@ -35,6 +38,64 @@ public class CaseTest {
         assertTrue(c.getCreatedAt().isBefore(LocalDateTime.now().plusSeconds(1)));
     }
 
+    // ----------- COMPACT FIELD TESTS ----------- //
+
+    @Test
+    void getId_canonicalAndNonCanonicalIds_returnedUnchanged() {
+        assertEquals("00000a", new OthersCase("00000a", "t", null, null, null, null).getId());
+        assertEquals("ffffff", new OthersCase("ffffff", "t", null, null, null, null).getId());
+        assertEquals("R001V1", new OthersCase("R001V1", "t", null, null, null, null).getId());
+        assertEquals("00000A", new OthersCase("00000A", "t", null, null, null, null).getId());
+        assertNull(new OthersCase(null, "t", null, null, null, null).getId());
+    }
+
+    @Test
+    void getId_idsBeyondSixDigits_roundTripAndNormalise() {
+        assertEquals("1000000", new OthersCase("1000000", "t", null, null, null, null).getId());
+        assertEquals("7fffffffffffffff", new OthersCase("7fffffffffffffff", "t", null, null, null, null).getId());
+        assertEquals("0000001", new OthersCase("0000001", "t", null, null, null, null).getId());
+
+        assertEquals("000001", Case.normaliseId("0000001"));
+        assertEquals("abcdef1", Case.normaliseId("00ABCDEF1"));
+        assertEquals("R001V1", Case.normaliseId("R001V1"));
+        assertEquals(0x1000000L, Case.parseIdValue("1000000"));
+        assertEquals(Case.NO_ID_VALUE, Case.parseIdValue("8000000000000000"));
+        assertEquals(Case.NO_ID_VALUE, Case.parseIdValue("00001"));
+    }
+
+    @Test
+    void timestampsAndDate_roundTripIncludingNanosAndNull() {
+        Case c = new OthersCase("0001a3", "t", null, null, null, null);
+        LocalDateTime createdAt = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 123456789);
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 10, 14, 8, 30, 0, 1);
+
+        c.initialiseMetadataFromSave(false, true, createdAt, updatedAt);
+
+        assertNull(c.getDate());
+        assertEquals(createdAt, c.getCreatedAt());
+        assertEquals(updatedAt, c.getUpdatedAt());
+        assertFalse(c.isOpen());
+        assertTrue(c.isDeleted());
+
+        c.setCreatedAt(null);
+        assertNull(c.getCreatedAt());
+        c.update(Map.of("date", LocalDate.of(1900, 1, 1)));
+        assertEquals(LocalDate.of(1900, 1, 1), c.getDate());
+    }
+
+    @Test
+    void numericFields_unsetUntilUpdated() {
+        SpeedingCase c = new SpeedingCase("0001a3", "t", null, null, null, null);
+        assertNull(c.getSpeedLimit());
+        assertNull(c.getExceededSpeed());
+        assertTrue(c.toSaveString().endsWith("|speed-limit:|exceeded-speed:"));
+
+        c.update(Map.of("exceeded-speed", 0));
+        assertNull(c.getSpeedLimit());
+        assertEquals(0, c.getExceededSpeed());
+        assertTrue(c.isOpen(), "Numeric presence bits should not disturb the status flags");
+    }
+
     // ----------- DISPLAY TESTS ----------- //
 
     @Test
@@ -0,0 +1,61 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldDictionaryTest {
+
+    @Test
+    void encode_equalValues_returnsSameInstance() {
+        String first = FieldDictionary.WEAPON.encode(new String("Dictionary test knife"));
+        String second = FieldDictionary.WEAPON.encode(new String("Dictionary test knife"));
+
+        assertSame(first, second);
+        assertNull(FieldDictionary.WEAPON.encode(null));
+    }
+
+    @Test
+    void encode_duplicateValue_countsSavedBytes() {
+        long savedBefore = FieldDictionary.ROAD_NAME.getSavedBytes();
+        FieldDictionary.ROAD_NAME.encode(new String("Dictionary Test Road"));
+        FieldDictionary.ROAD_NAME.encode(new String("Dictionary Test Road"));
+
+        assertTrue(FieldDictionary.ROAD_NAME.getSavedBytes() > savedBefore);
+    }
+
+    @Test
+    void newCaseAndUpdate_repeatedNames_shareInstances() {
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        Case first = new TheftCase("000000", "A", date, "info", new String("Jane Tan"), new String("Officer Lim"));
+        Case second = new SpeedingCase("000001", "B", date, "info", null, null);
+        Map<String, Object> newValues = new HashMap<>();
+        newValues.put("officer", new String("Officer Lim"));
+        newValues.put("road-name", new String("Dictionary Ave"));
+        second.update(newValues);
+
+        assertSame(first.getOfficer(), second.getOfficer());
+        assertSame(FieldDictionary.ROAD_NAME.encode(new String("Dictionary Ave")),
+                ((SpeedingCase) second).getRoadName());
+    }
+
+    @Test
+    void getCategoryString_returnsCategoryDisplayName() {
+        Case accident = new AccidentCase(
+                "000002", "C", LocalDate.of(2024, 1, 1), "info", null, null);
+
+        assertEquals(CaseCategory.ACCIDENT.getDisplayName(), accident.getCategoryString());
+        assertEquals("Traffic accident", accident.getCategoryString());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.sgsafe.domain.casefiles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.command.FindCommand;
+import seedu.sgsafe.utils.exceptions.InvalidFindCommandException;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordMatcherTest {
+
+    private ArrayList<Case> caseList;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+    }
+
+    @Test
+    void findKeywords_overlappingKeywords_allFoundInOnePass() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "his", "hers"), true);
+
+        assertEquals(0b1011, matcher.findKeywords("ushers"));
+        assertEquals(0b1111, matcher.findKeywords("ushers his"));
+        assertFalse(matcher.matches("ushers"));
+        assertTrue(matcher.matches("ushers, his"));
+        assertEquals(0b0001, new KeywordMatcher(List.of("he", "she"), false).findKeywords("ahe she"));
+    }
+
+    @Test
+    void constructor_repeatedAndMixedCaseKeywords_keptOnceInLowercase() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Knife", "knife", "", "TAN"), false);
+
+        assertEquals(List.of("knife", "tan"), matcher.getKeywords());
+        assertTrue(matcher.matches("officer tan"));
+        assertFalse(matcher.matches("kni fe"));
+    }
+
+    @Test
+    void matchesFields_mixedCaseFields_matchesInPlaceButNotAcrossFields() {
+        KeywordMatcher all = new KeywordMatcher(List.of("knife", "officer tan"), true);
+
+        assertTrue(all.matchesFields("Taken with a KNIFE", null, "Officer Tan"));
+        assertFalse(all.matchesFields("Taken with a knife by officer", "Tan"));
+        assertFalse(new KeywordMatcher(List.of("ab"), false).matchesFields("a", "b"));
+    }
+
+    @Test
+    void findCasesByKeywords_anyOrAll_searchesEveryTextField() {
+        CaseManager.addCase(new TheftCase("000000", "Wallet theft", LocalDate.of(2024, 1, 1),
+                "Taken with a knife", "Alice", "Tan"));
+        CaseManager.addCase(new TheftCase("000001", "Phone theft", LocalDate.of(2024, 1, 2),
+                "Snatched", "Bob", "Lee"));
+
+        KeywordMatcher all = new KeywordMatcher(List.of("knife", "tan"), true);
+        assertEquals(1, CaseManager.findCasesByKeywords(all, new CaseFilter()).size());
+        KeywordMatcher any = new KeywordMatcher(List.of("knife", "bob"), false);
+        assertEquals(2, CaseManager.findCasesByKeywords(any, new CaseFilter()).size());
+
+        caseList.get(0).update(Map.of("info", "Taken quietly"));
+        assertEquals(0, CaseManager.findCasesByKeywords(all, new CaseFilter()).size());
+        assertEquals(1, CaseManager.findCasesByKeywords(any, new CaseFilter()).size());
+    }
+
+    @Test
+    void parseInput_findKeywords_validatesFlags() {
+        FindCommand command = assertInstanceOf(FindCommand.class,
+                Parser.parseInput("find --keywords tan, Knife , --match ALL"));
+        assertEquals(List.of("tan", "knife"), command.getKeywordMatcher().getKeywords());
+        assertTrue(command.getKeywordMatcher().isAllRequired());
+        assertFalse(((FindCommand) Parser.parseInput("find --keywords tan")).getKeywordMatcher().isAllRequired());
+
+        assertThrows(InvalidFindCommandException.class,
+                () -> Parser.parseInput("find --keyword tan --keywords knife"));
+        assertThrows(InvalidFindCommandException.class, () -> Parser.parseInput("find --keyword tan --match all"));
+        assertThrows(InvalidFindCommandException.class,
+                () -> Parser.parseInput("find --keywords tan --match some"));
+        assertThrows(InvalidFindCommandException.class, () -> Parser.parseInput("find --keywords , ,"));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseRollupTest {
+
+    private static Case createCase(String id, LocalDate date) {
+        return new TheftCase(id, "Theft", date, "info", "victim", "officer");
+    }
+
+    @Test
+    void granularity_periods_startOnMondayAndFirstOfMonth() {
+        LocalDate wednesday = LocalDate.of(2024, 3, 13);
+        long week = CaseRollup.Granularity.WEEK.getPeriod(wednesday);
+        assertEquals(LocalDate.of(2024, 3, 11), CaseRollup.Granularity.WEEK.getStartDate(week));
+        assertEquals(LocalDate.of(2024, 3, 18),
+                CaseRollup.Granularity.WEEK.getStartDate(CaseRollup.Granularity.WEEK.addPeriods(week, 1)));
+
+        long month = CaseRollup.Granularity.MONTH.getPeriod(wednesday);
+        assertEquals(LocalDate.of(2023, 12, 1),
+                CaseRollup.Granularity.MONTH.getStartDate(CaseRollup.Granularity.MONTH.addPeriods(month, -3)));
+    }
+
+    @Test
+    void addAndRemove_statusChangesAndDeletions_moveOneCount() {
+        CaseRollup rollup = new CaseRollup(CaseRollup.Granularity.MONTH);
+        long march = CaseRollup.Granularity.MONTH.getPeriod(LocalDate.of(2024, 3, 1));
+        Case theft = createCase("000001", LocalDate.of(2024, 3, 5));
+        rollup.add(theft);
+        rollup.add(createCase("000002", LocalDate.of(2024, 3, 20)));
+        rollup.add(new ScamCase("000003", "Scam", LocalDate.of(2024, 3, 9), "info", "victim", "officer"));
+        rollup.add(createCase("000004", null));
+        assertEquals(2, rollup.getCount(march, CaseCategory.THEFT, true));
+        assertEquals(3, rollup.getCount(march, null, true));
+
+        rollup.remove(theft);
+        theft.setClosed();
+        rollup.add(theft);
+        assertEquals(1, rollup.getCount(march, CaseCategory.THEFT, true));
+        assertEquals(1, rollup.getCount(march, CaseCategory.THEFT, false));
+
+        rollup.remove(theft);
+        assertEquals(0, rollup.getCount(march, null, false));
+        assertEquals(1, rollup.getPeriods().size());
+    }
+
+    @Test
+    void restore_savedLines_skipsTheCasesTheyCount() {
+        CaseRollup saved = new CaseRollup(CaseRollup.Granularity.WEEK);
+        Case first = createCase("000001", LocalDate.of(2024, 3, 5));
+        Case second = createCase("000002", LocalDate.of(2024, 3, 6));
+        second.setClosed();
+        saved.add(first);
+        saved.add(second);
+        List<String> lines = saved.toSaveLines();
+        long week = CaseRollup.Granularity.WEEK.getPeriod(LocalDate.of(2024, 3, 5));
+
+        CaseRollup restored = new CaseRollup(CaseRollup.Granularity.WEEK);
+        assertTrue(restored.restore(lines));
+        assertFalse(restored.isRestoreComplete());
+        restored.add(first);
+        restored.add(second);
+        assertTrue(restored.isRestoreComplete());
+        assertEquals(1, restored.getCount(week, CaseCategory.THEFT, true));
+        assertEquals(1, restored.getCount(week, CaseCategory.THEFT, false));
+
+        restored.add(createCase("000003", LocalDate.of(2024, 3, 7)));
+        assertEquals(2, restored.getCount(week, CaseCategory.THEFT, true));
+    }
+
+    @Test
+    void restore_invalidOrOtherGranularityLines_handledSafely() {
+        CaseRollup rollup = new CaseRollup(CaseRollup.Granularity.MONTH);
+        assertTrue(rollup.restore(List.of("WEEK|19797|THEFT|1|0")));
+        assertTrue(rollup.getPeriods().isEmpty());
+        assertTrue(rollup.isRestoreComplete());
+
+        assertFalse(rollup.restore(List.of("MONTH|24290|THEFT|1|0", "MONTH|24290|NOT_A_CATEGORY|1|0")));
+        assertTrue(rollup.getPeriods().isEmpty());
+        assertFalse(rollup.restore(List.of("MONTH|24290|THEFT|-1|0")));
+        assertTrue(rollup.isRestoreComplete());
+    }
+}
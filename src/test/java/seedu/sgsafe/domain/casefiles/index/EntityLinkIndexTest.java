@@ -0,0 +1,84 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.BurglaryCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityLinkIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void getEntities_normalisesValuesAndTreatsRoadsAndLocationsAsPlaces() {
+        Case speeding = new SpeedingCase("000001", "Speeding", DATE, "info", "  Jon   TAN ", null);
+        speeding.update(Map.of("vehicle-plate", "sba 1234 a", "road-name", "Bedok North Road"));
+        Case burglary = new BurglaryCase("000002", "Burglary", DATE, "info", null, "Sgt Lee");
+        burglary.update(Map.of("location", "bedok  north road"));
+
+        assertEquals(List.of(new EntityLinkIndex.Entity("victim", "jon tan"),
+                new EntityLinkIndex.Entity("plate", PlateIndex.normalisePlate("SBA1234A")),
+                new EntityLinkIndex.Entity("place", "bedok north road")), EntityLinkIndex.getEntities(speeding));
+
+        EntityLinkIndex index = new EntityLinkIndex();
+        index.add(speeding);
+        index.add(burglary);
+        assertEquals(Map.of(burglary, List.of(new EntityLinkIndex.Entity("place", "bedok north road"))),
+                index.getRelatedCases(speeding));
+    }
+
+    @Test
+    void getRelatedCases_afterEditAndRemove_followsTheNewValues() {
+        Case first = new TheftCase("000001", "Theft", DATE, "info", "Alice", "Sgt Tan");
+        Case second = new TheftCase("000002", "Theft", DATE, "info", "Alice", "Sgt Tan");
+        Case third = new TheftCase("000003", "Theft", DATE, "info", "Bob", "Sgt Lee");
+        EntityLinkIndex index = new EntityLinkIndex();
+        index.add(first);
+        index.add(second);
+        index.add(third);
+        assertEquals(List.of(new EntityLinkIndex.Entity("victim", "alice"), new EntityLinkIndex.Entity("officer",
+                "sgt tan")), index.getRelatedCases(first).get(second));
+        assertTrue(index.getRelatedCases(third).isEmpty());
+
+        index.remove(second);
+        second.update(Map.of("victim", "Bob"));
+        index.add(second);
+        assertEquals(List.of(second), List.copyOf(index.getRelatedCases(third).keySet()));
+
+        index.remove(second);
+        assertTrue(index.getRelatedCases(first).isEmpty());
+        index.clear();
+        assertTrue(index.traverse(third, 4, 10).isEmpty());
+    }
+
+    @Test
+    void traverse_chainOfCases_stopsAtDepthAndLimit() {
+        // Each case shares its officer with the next case and its victim with the previous case
+        EntityLinkIndex index = new EntityLinkIndex();
+        List<Case> chain = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Case c = new TheftCase(String.format("%06d", i), "Theft", DATE, "info", "victim " + (i / 2),
+                    "officer " + ((i + 1) / 2));
+            chain.add(c);
+            index.add(c);
+        }
+
+        List<EntityLinkIndex.Link> links = index.traverse(chain.get(0), 2, 100);
+        assertEquals(List.of(chain.get(1), chain.get(2)), links.stream().map(EntityLinkIndex.Link::linkedCase)
+                .toList());
+        assertEquals(List.of(1, 2), links.stream().map(EntityLinkIndex.Link::depth).toList());
+        assertEquals(new EntityLinkIndex.Entity("officer", "officer 1"), links.get(1).via());
+
+        assertEquals(5, index.traverse(chain.get(0), 10, 100).size());
+        assertEquals(3, index.traverse(chain.get(0), 10, 3).size());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotspotIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 31);
+
+    private static int nextId = 0;
+
+    private static Case createCase(LocalDate date, String road) {
+        Case c = new AccidentCase(String.format("%06d", nextId++), "Accident", date, "info", null, null);
+        c.update(Map.of("road-name", road));
+        return c;
+    }
+
+    @Test
+    void findHotspots_recentSurge_listsBusiestPlaceWithPreviousCount() {
+        HotspotIndex index = new HotspotIndex("road-name");
+        for (int i = 0; i < 4; i++) {
+            index.add(createCase(TODAY.minusDays(i), "Pan Island Expressway"));
+        }
+        index.add(createCase(TODAY.minusDays(10), "pan island  expressway"));
+        index.add(createCase(TODAY.minusDays(2), "Bukit Timah Road"));
+        index.add(createCase(TODAY.minusDays(12), "Bukit Timah Road"));
+        index.add(createCase(TODAY.minusDays(12), "Bukit Timah Road"));
+        index.add(createCase(TODAY.minusDays(200), "Old Road"));
+
+        assertEquals(List.of(new HotspotIndex.Hotspot("Pan Island Expressway", 4, 1),
+                new HotspotIndex.Hotspot("Bukit Timah Road", 1, 2)), index.findHotspots(TODAY, 7, 10));
+        assertEquals(1, index.findHotspots(TODAY, 7, 1).size());
+        assertEquals(new HotspotIndex.Hotspot("Bukit Timah Road", 3, 0), index.findHotspots(TODAY, 30, 10).get(1));
+        assertTrue(index.findHotspots(TODAY.plusDays(100), 30, 10).isEmpty());
+    }
+
+    @Test
+    void remove_editedAndDeletedCases_updatesCounts() {
+        HotspotIndex index = new HotspotIndex("road-name");
+        Case moved = createCase(TODAY, "Pan Island Expressway");
+        Case deleted = createCase(TODAY, "Pan Island Expressway");
+        index.add(moved);
+        index.add(deleted);
+
+        index.remove(moved);
+        moved.update(Map.of("road-name", "Bukit Timah Road"));
+        index.add(moved);
+        index.remove(deleted);
+        assertEquals(List.of(new HotspotIndex.Hotspot("Bukit Timah Road", 1, 0)), index.findHotspots(TODAY, 1, 10));
+
+        index.clear();
+        assertTrue(index.findHotspots(TODAY, 1, 10).isEmpty());
+    }
+
+    @Test
+    void findHotspots_manyPlaces_findsTheBusiestWithoutUndercounting() {
+        Random random = new Random(11);
+        HotspotIndex index = new HotspotIndex("road-name");
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            // Road 0 to 4 are busy; the other 2000 roads have a case now and then
+            String road = "Road " + (random.nextInt(4) == 0 ? random.nextInt(5) : 5 + random.nextInt(2000));
+            index.add(createCase(TODAY.minusDays(random.nextInt(7)), road));
+            counts.merge(road.toLowerCase(), 1, Integer::sum);
+        }
+
+        List<HotspotIndex.Hotspot> hotspots = index.findHotspots(TODAY, 7, 5);
+        assertEquals(5, hotspots.size());
+        for (HotspotIndex.Hotspot hotspot : hotspots) {
+            assertTrue(Integer.parseInt(hotspot.place().substring(5)) < 5, hotspot.place());
+            int exact = counts.get(hotspot.place().toLowerCase());
+            assertTrue(hotspot.caseCount() >= exact && hotspot.caseCount() <= exact + 20, hotspot.toString());
+        }
+    }
+}
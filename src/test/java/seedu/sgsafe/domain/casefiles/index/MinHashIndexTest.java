@@ -0,0 +1,106 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    private static final String BIKE_INFO = "A red mountain bicycle was taken from the rack outside Block 123 Bedok "
+            + "North Street 1 between 9pm and 7am. The lock was cut and left on the ground.";
+
+    private static Case createCase(String id, String title, String info) {
+        return new TheftCase(id, title, DATE, info, "victim", "officer");
+    }
+
+    @Test
+    void computeSignature_ignoresCaseAndPunctuation() {
+        assertTrue(Arrays.equals(MinHashIndex.computeSignature("Stolen bike, Bedok!"),
+                MinHashIndex.computeSignature("stolen   BIKE bedok")));
+        assertNull(MinHashIndex.computeSignature(" ?! "));
+        assertEquals(1.0, MinHashIndex.estimateSimilarity(MinHashIndex.computeSignature("bike"),
+                MinHashIndex.computeSignature("BIKE")));
+    }
+
+    @Test
+    void findSimilar_reworded_findsDuplicateButNotUnrelatedCases() {
+        MinHashIndex index = new MinHashIndex();
+        Case original = createCase("000001", "Bicycle theft at Bedok North", BIKE_INFO);
+        Case unrelated = createCase("000002", "Scam call impersonating a bank",
+                "The victim transferred $5,000 after a caller claimed to be from the bank's fraud department.");
+        index.add(original);
+        index.add(unrelated);
+
+        List<MinHashIndex.Match> matches = index.findSimilar(MinHashIndex.getComparedText(
+                "Bicycle stolen at Bedok North", BIKE_INFO.replace("red", "dark red")), 0.6);
+        assertEquals(1, matches.size());
+        assertEquals(original, matches.get(0).similarCase());
+        assertTrue(matches.get(0).similarity() >= 0.6);
+        assertTrue(index.findSimilar("Vehicle speeding along the PIE at 140 km/h", 0.6).isEmpty());
+    }
+
+    @Test
+    void remove_editedCase_isFoundByItsNewText() {
+        MinHashIndex index = new MinHashIndex();
+        Case c = createCase("000001", "Bicycle theft at Bedok North", BIKE_INFO);
+        index.add(c);
+        assertEquals(1, index.findSimilar(MinHashIndex.getComparedText(c.getTitle(), BIKE_INFO), 0.9).size());
+
+        index.remove(c);
+        c.update(Map.of("info", "Handphone snatched from the victim at a bus stop along Tampines Avenue 5."));
+        index.add(c);
+        assertTrue(index.findSimilar(MinHashIndex.getComparedText(c.getTitle(), BIKE_INFO), 0.9).isEmpty());
+        assertEquals(1, index.findSimilar(MinHashIndex.getComparedText(c.getTitle(), c.getInfo()), 0.9).size());
+
+        index.clear();
+        assertTrue(index.findGroups(0.5).isEmpty());
+    }
+
+    @Test
+    void findGroups_manyCases_groupsOnlyTheDuplicates() {
+        Random random = new Random(3);
+        MinHashIndex index = new MinHashIndex();
+        List<Case> duplicates = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Case c = createCase(String.format("%06d", i), "Case " + i, randomText(random));
+            index.add(c);
+            if (i % 100 == 0) {
+                Case copy = createCase(String.format("%06d", 1000 + i), "Case " + i, c.getInfo() + " Refiled.");
+                index.add(copy);
+                duplicates.add(c);
+                duplicates.add(copy);
+            }
+        }
+
+        List<List<Case>> groups = index.findGroups(0.6);
+        assertEquals(3, groups.size());
+        for (List<Case> group : groups) {
+            assertEquals(2, group.size());
+            assertTrue(duplicates.containsAll(group));
+        }
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 30; i++) {
+            for (int j = 0; j < 2 + random.nextInt(6); j++) {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+            text.append(' ');
+        }
+        return text.toString();
+    }
+}
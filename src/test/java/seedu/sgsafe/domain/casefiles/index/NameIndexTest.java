@@ -0,0 +1,118 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    private static Case createCase(String id, String victim) {
+        return new TheftCase(id, "Theft", DATE, "info", victim, "officer");
+    }
+
+    @Test
+    void getDistance_countsSingleCharacterEdits() {
+        assertEquals(0, NameIndex.getDistance("tan", "tan"));
+        assertEquals(1, NameIndex.getDistance("jon tan", "john tan"));
+        assertEquals(3, NameIndex.getDistance("kitten", "sitting"));
+        assertEquals(4, NameIndex.getDistance("", "lim "));
+    }
+
+    @Test
+    void normaliseName_ignoresCaseAndExtraWhitespace() {
+        assertEquals("john tan", NameIndex.normaliseName("  John \t TAN "));
+        assertNull(NameIndex.normaliseName("   "));
+        assertNull(NameIndex.normaliseName(null));
+        assertEquals("john tan", NameIndex.normaliseName("john\ttan"));
+        String normalised = new String("john tan");
+        assertTrue(normalised == NameIndex.normaliseName(normalised));
+    }
+
+    @Test
+    void findSimilar_withinDistance_returnsClosestNamesFirst() {
+        NameIndex index = new NameIndex(Case::getVictim);
+        Case john = createCase("000001", "John Tan");
+        Case jon = createCase("000002", "jon  tan");
+        Case joan = createCase("000003", "Joan Tay");
+        Case other = createCase("000004", "Mary Lim");
+        for (Case c : List.of(john, jon, joan, other)) {
+            index.add(c);
+        }
+        index.add(createCase("000005", null));
+
+        assertEquals(List.of(jon, john), index.findSimilar("Jon Tan", 1));
+        assertEquals(List.of(jon, john, joan), index.findSimilar("JON TAN", 3));
+        assertEquals(List.of(new NameIndex.Match("john tan", 0)), index.findSimilarNames("john tan", 0));
+        assertTrue(index.findSimilar("Ahmad", 2).isEmpty());
+    }
+
+    @Test
+    void remove_afterNameChanged_findsTheCaseUnderItsNewName() {
+        NameIndex index = new NameIndex(Case::getVictim);
+        Case first = createCase("000001", "John Tan");
+        Case second = createCase("000002", "John Tan");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+        first.update(Map.of("victim", "Mary Lim"));
+        index.add(first);
+        assertEquals(List.of(second), index.findSimilar("john tan", 0));
+        assertEquals(List.of(first), index.findSimilar("mary lin", 1));
+
+        index.remove(second);
+        assertTrue(index.findSimilar("john tan", 2).isEmpty());
+        assertEquals(1, index.getNameCount());
+    }
+
+    @Test
+    void findSimilar_afterManyChanges_matchesBruteForceSearch() {
+        Random random = new Random(42);
+        NameIndex index = new NameIndex(Case::getVictim);
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Case c = createCase(String.format("%06d", i), randomName(random));
+            cases.add(c);
+            index.add(c);
+        }
+        // Removing most cases leaves mostly unused names, which rebuilds the tree
+        for (int i = 0; i < 400; i++) {
+            index.remove(cases.get(i));
+        }
+        List<Case> liveCases = cases.subList(400, 500);
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomName(random);
+            List<Case> expected = new ArrayList<>();
+            for (Case c : liveCases) {
+                if (NameIndex.getDistance(query, NameIndex.normaliseName(c.getVictim())) <= 2) {
+                    expected.add(c);
+                }
+            }
+            List<Case> found = index.findSimilar(query, 2);
+            assertEquals(expected.size(), found.size());
+            assertTrue(found.containsAll(expected));
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 3 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(4)));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumericRangeIndexTest {
+
+    private final Map<Case, Double> values = new IdentityHashMap<>();
+    private final NumericRangeIndex index = new NumericRangeIndex(values::get);
+
+    private Case createCase(String id, Double value) {
+        Case c = new ScamCase(id, "Scam " + id, null, "info", null, null);
+        if (value != null) {
+            values.put(c, value);
+        }
+        return c;
+    }
+
+    private static List<String> getIds(Iterable<Case> cases) {
+        List<String> ids = new ArrayList<>();
+        for (Case c : cases) {
+            ids.add(c.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    void findInRange_casesAddedOutOfOrder_returnsThemInKeyOrder() {
+        index.add(createCase("000001", 300.0));
+        index.add(createCase("000002", 100.0));
+        index.add(createCase("000003", 200.0));
+        index.add(createCase("000004", 100.0));
+        index.add(createCase("000005", null));
+
+        assertEquals(4, index.size());
+        assertEquals(List.of("000002", "000004", "000003"), getIds(index.findInRange(100, 250)));
+        assertEquals(List.of("000001", "000003"), getIds(index.iterate(150, Double.POSITIVE_INFINITY, true)));
+        assertEquals(3, index.countInRange(Double.NEGATIVE_INFINITY, 200));
+        assertTrue(index.findInRange(301, 400).isEmpty());
+    }
+
+    @Test
+    void remove_afterValueChanged_reindexesTheCase() {
+        Case first = createCase("000001", 50.0);
+        Case second = createCase("000002", 50.0);
+        index.add(first);
+        index.add(second);
+        index.add(createCase("000003", 10.0));
+
+        index.remove(first);
+        values.put(first, 5.0);
+        index.add(first);
+
+        assertEquals(List.of("000001", "000003", "000002"), getIds(index.findInRange(0, 100)));
+        assertEquals(5.0, index.getKey(first));
+        index.remove(new TheftCase("000009", "Not indexed", null, "info", null, null));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void iterate_afterRandomChanges_matchesSortedValues() {
+        Random random = new Random(42);
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Case c = createCase(String.format("%06x", i), (double) random.nextInt(500));
+            cases.add(c);
+            index.add(c);
+        }
+        for (int i = 0; i < 500; i++) {
+            Case c = cases.get(random.nextInt(cases.size()));
+            index.remove(c);
+            values.put(c, (double) random.nextInt(500));
+            index.add(c);
+        }
+
+        List<Case> expected = new ArrayList<>(cases);
+        expected.removeIf(c -> values.get(c) < 100 || values.get(c) > 200);
+        expected.sort(Comparator.comparing(values::get));
+        List<Double> expectedValues = expected.stream().map(values::get).toList();
+        List<Double> actualValues = index.findInRange(100, 200).stream().map(values::get).toList();
+        assertEquals(expectedValues, actualValues);
+        assertEquals(2000, index.size());
+    }
+}
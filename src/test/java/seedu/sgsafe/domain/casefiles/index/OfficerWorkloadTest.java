@@ -0,0 +1,69 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OfficerWorkloadTest {
+
+    private static Case createCase(String id, LocalDate date, String officer) {
+        return new TheftCase(id, "Theft", date, "info", "victim", officer);
+    }
+
+    @Test
+    void add_openCases_countsByOfficerAndCategory() {
+        OfficerWorkload workload = new OfficerWorkload();
+        Case oldest = createCase("000001", LocalDate.of(2024, 1, 5), "Sgt Tan");
+        workload.add(createCase("000000", LocalDate.of(2024, 3, 1), "Sgt Tan"));
+        workload.add(oldest);
+        workload.add(new ScamCase("000002", "Scam", LocalDate.of(2024, 2, 1), "info", "victim", "sgt  TAN"));
+        workload.add(createCase("000003", LocalDate.of(2024, 2, 1), "Sgt Lee"));
+        workload.add(createCase("000004", null, null));
+
+        OfficerWorkload.Workload tan = workload.getWorkload("SGT TAN");
+        assertEquals("Sgt Tan", tan.getOfficer());
+        assertEquals(3, tan.getOpenCount());
+        assertEquals(2, tan.getCategoryCount(CaseCategory.THEFT));
+        assertEquals(1, tan.getCategoryCount(CaseCategory.SCAM));
+        assertEquals(oldest, tan.getOldestCase());
+        assertEquals(List.of("Sgt Tan", "Sgt Lee"), workload.getWorkloadsByOpenCount().stream()
+                .map(OfficerWorkload.Workload::getOfficer).toList());
+        assertEquals(1, workload.getUnassigned().getOpenCount());
+        assertNull(workload.getUnassigned().getOldestCase());
+    }
+
+    @Test
+    void remove_closedAndReassignedCases_updatesOldestCaseAndDropsIdleOfficers() {
+        OfficerWorkload workload = new OfficerWorkload();
+        Case first = createCase("000001", LocalDate.of(2024, 1, 1), "Sgt Tan");
+        Case second = createCase("000002", LocalDate.of(2024, 1, 1), "Sgt Tan");
+        Case third = createCase("000003", LocalDate.of(2024, 6, 1), "Sgt Tan");
+        workload.add(first);
+        workload.add(second);
+        workload.add(third);
+
+        workload.remove(first);
+        first.setClosed();
+        workload.add(first);
+        assertEquals(second, workload.getWorkload("sgt tan").getOldestCase());
+
+        workload.remove(second);
+        assertEquals(third, workload.getWorkload("sgt tan").getOldestCase());
+        workload.remove(third);
+        assertNull(workload.getWorkload("sgt tan"));
+        assertEquals(0, workload.getOfficerCount());
+
+        workload.add(third);
+        workload.clear();
+        assertEquals(0, workload.getOfficerCount());
+        assertEquals(0, workload.getUnassigned().getOpenCount());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlateIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    private static Case createSpeedingCase(String id, String plate) {
+        Case c = new SpeedingCase(id, "Speeding", DATE, "info", "victim", "officer");
+        c.update(Map.of("vehicle-plate", plate));
+        return c;
+    }
+
+    @Test
+    void normalisePlate_ignoresCaseAndWhitespace() {
+        assertEquals("SGX1234A", PlateIndex.normalisePlate(" sgx 1234a "));
+        assertEquals("SGX1234A", PlateIndex.normalisePlate("SGX\t1234A"));
+        assertNull(PlateIndex.normalisePlate("   "));
+        assertNull(PlateIndex.normalisePlate(null));
+    }
+
+    @Test
+    void find_plateInAnyForm_returnsEveryCaseWithThePlate() {
+        PlateIndex index = new PlateIndex();
+        Case first = createSpeedingCase("000001", "SGX1234A");
+        Case second = new AccidentCase("000002", "Accident", DATE, "info", "victim", "officer");
+        second.update(Map.of("vehicle-plate", "sgx 1234a"));
+        Case other = createSpeedingCase("000003", "SBA9876Z");
+        index.add(first);
+        index.add(second);
+        index.add(other);
+        index.add(new TheftCase("000004", "Theft", DATE, "SGX1234A", "victim", "officer"));
+
+        assertEquals(List.of(first, second), index.find("Sgx 1234A"));
+        assertEquals(List.of(other), index.find("sba9876z"));
+        assertTrue(index.find("SGX0000A").isEmpty());
+        assertEquals(Map.of("SGX1234A", 2, "SBA9876Z", 1), index.getCaseCounts());
+    }
+
+    @Test
+    void remove_afterPlateChanged_removesTheCaseUnderItsOldPlate() {
+        PlateIndex index = new PlateIndex();
+        Case first = createSpeedingCase("000001", "SGX1234A");
+        Case second = createSpeedingCase("000002", "SGX1234A");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+        first.update(Map.of("vehicle-plate", "SBA9876Z"));
+        index.add(first);
+        assertEquals(List.of(second), index.find("SGX1234A"));
+        assertEquals(List.of(first), index.find("SBA9876Z"));
+
+        index.remove(second);
+        assertTrue(index.find("SGX1234A").isEmpty());
+        assertEquals(Map.of("SBA9876Z", 1), index.getCaseCounts());
+
+        index.clear();
+        assertTrue(index.getCaseCounts().isEmpty());
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.sgsafe.domain.casefiles.index;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    private static Case createCase(String id, String title) {
+        return new TheftCase(id, title, DATE, "info", "victim", "officer");
+    }
+
+    private static PrefixIndex createIndex(String... titles) {
+        PrefixIndex index = new PrefixIndex(Case::getTitle);
+        for (int i = 0; i < titles.length; i++) {
+            index.add(createCase(String.format("%06d", i), titles[i]));
+        }
+        return index;
+    }
+
+    @Test
+    void complete_sharedPrefix_returnsMostCommonValuesFirst() {
+        PrefixIndex index = createIndex("Stolen bike", "stolen  BIKE", "Stolen car", "Stolen bike",
+                "Stolen", "Robbery");
+
+        List<PrefixIndex.Completion> completions = index.complete("STOL", 2);
+        assertEquals(new PrefixIndex.Completion("Stolen bike", 3), completions.get(0));
+        assertEquals(2, completions.size());
+        assertEquals(3, index.complete("stolen", 10).size());
+        assertEquals(List.of(new PrefixIndex.Completion("Stolen car", 1)), index.complete("stolen  c", 5));
+        assertEquals(4, index.complete("", 10).size());
+        assertTrue(index.complete("stolen x", 5).isEmpty());
+        assertEquals(4, index.getValueCount());
+    }
+
+    @Test
+    void remove_lastCaseOfValue_dropsTheValueAndItsCount() {
+        PrefixIndex index = new PrefixIndex(Case::getTitle);
+        Case bike = createCase("000001", "Stolen bike");
+        Case stolen = createCase("000002", "Stolen");
+        Case car = createCase("000003", "Stolen car");
+        index.add(bike);
+        index.add(stolen);
+        index.add(car);
+
+        index.remove(stolen);
+        assertEquals(2, index.complete("stolen", 5).size());
+        index.remove(bike);
+        assertEquals(List.of(new PrefixIndex.Completion("Stolen car", 1)), index.complete("s", 5));
+
+        bike.update(Map.of("title", "Stolen cart"));
+        index.add(bike);
+        index.add(stolen);
+        assertEquals(3, index.complete("stolen", 5).size());
+
+        index.clear();
+        assertTrue(index.complete("", 5).isEmpty());
+    }
+
+    @Test
+    void complete_afterRandomChanges_matchesCountingEveryValue() {
+        Random random = new Random(7);
+        PrefixIndex index = new PrefixIndex(Case::getTitle);
+        List<Case> cases = new ArrayList<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            Case c = createCase(String.format("%06d", i), randomTitle(random));
+            cases.add(c);
+            index.add(c);
+            counts.merge(c.getTitle(), 1, Integer::sum);
+        }
+        for (int i = 0; i < 1500; i += 2) {
+            index.remove(cases.get(i));
+            counts.merge(cases.get(i).getTitle(), -1, Integer::sum);
+        }
+        counts.values().removeIf(count -> count == 0);
+
+        for (String prefix : List.of("", "a", "ab", "bca", "ccc")) {
+            List<Integer> expected = counts.entrySet().stream().filter(e -> e.getKey().startsWith(prefix))
+                    .map(Map.Entry::getValue).sorted((first, second) -> second - first).limit(5).toList();
+            List<PrefixIndex.Completion> completions = index.complete(prefix, 5);
+            assertEquals(expected, completions.stream().map(PrefixIndex.Completion::caseCount).toList());
+            for (PrefixIndex.Completion completion : completions) {
+                assertTrue(completion.value().startsWith(prefix));
+                assertEquals((int) counts.get(completion.value()), completion.caseCount());
+            }
+        }
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            title.append((char) ('a' + random.nextInt(3)));
+        }
+        return title.toString();
+    }
+}
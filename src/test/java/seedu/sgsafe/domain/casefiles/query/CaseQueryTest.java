@@ -0,0 +1,113 @@
+package seedu.sgsafe.domain.casefiles.query;
+
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.OthersCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.domain.casefiles.type.violent.MurderCase;
+import seedu.sgsafe.utils.command.FindCommand;
+import seedu.sgsafe.utils.exceptions.InvalidFindQueryException;
+import seedu.sgsafe.utils.exceptions.QueryTimeoutException;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseQueryTest {
+
+    private static CaseQuery query(Pattern regex, FieldCondition... conditions) {
+        return new CaseQuery(List.of(conditions), regex, CaseQuery.DEFAULT_TIMEOUT_MILLIS, "test");
+    }
+
+    private static List<Case> sampleCases() {
+        Case murder = new MurderCase("000000", "Stabbing at Orchard", LocalDate.of(2024, 3, 1), "info", null, null);
+        murder.update(Map.of("weapon", "Knife", "number-of-victims", 2));
+        Case theft = new TheftCase("000001", "Stolen laptop", LocalDate.of(2024, 4, 1), "info", null, null);
+        theft.update(Map.of("financial-value", 12000.0));
+        Case speeding = new SpeedingCase("000002", "Speeding", LocalDate.of(2023, 5, 1), "Car SGX1234A", null, null);
+        speeding.update(Map.of("speed-limit", 50, "road-name", "Orchard Road"));
+        return List.of(murder, theft, speeding);
+    }
+
+    @Test
+    void filter_fieldConditions_matchOnlyCasesWithTheField() {
+        List<Case> cases = sampleCases();
+        FieldCondition.Operator equals = FieldCondition.Operator.EQUALS;
+
+        assertEquals(List.of(cases.get(0)), query(null, new FieldCondition("weapon", equals, "knife")).filter(cases));
+        assertEquals(List.of(cases.get(1)), query(null, new FieldCondition("financial-value",
+                FieldCondition.Operator.GREATER, 10000.0)).filter(cases));
+        assertEquals(List.of(cases.get(2)), query(null,
+                new FieldCondition("road-name", FieldCondition.Operator.CONTAINS, "orchard"),
+                new FieldCondition("speed-limit", FieldCondition.Operator.LESS, 60)).filter(cases));
+        assertEquals(2, query(null, new FieldCondition("date", FieldCondition.Operator.GREATER_OR_EQUAL,
+                LocalDate.of(2024, 1, 1))).filter(cases).size());
+        assertTrue(query(null, new FieldCondition("weapon", equals, "knife"),
+                new FieldCondition("speed-limit", equals, 50)).filter(cases).isEmpty());
+        assertEquals(List.of(cases.get(2)), query(Pattern.compile("s[a-z]{2}\\d{4}", Pattern.CASE_INSENSITIVE))
+                .filter(cases));
+    }
+
+    @Test
+    void constructor_conditions_orderedByCostAndSelectivity() {
+        FieldCondition title = new FieldCondition("title", FieldCondition.Operator.CONTAINS, "theft");
+        FieldCondition value = new FieldCondition("financial-value", FieldCondition.Operator.GREATER, 10.0);
+        FieldCondition object = new FieldCondition("stolen-object", FieldCondition.Operator.EQUALS, "bag");
+
+        assertEquals(List.of(object, value, title), query(null, title, object, value).getConditions());
+        assertThrows(InvalidFindQueryException.class,
+                () -> new FieldCondition("weapon", FieldCondition.Operator.LESS, "knife"));
+        assertThrows(InvalidFindQueryException.class,
+                () -> new FieldCondition("colour", FieldCondition.Operator.EQUALS, "red"));
+    }
+
+    @Test
+    void filter_manyCases_parallelResultKeepsOrder() {
+        List<Case> cases = new ArrayList<>();
+        for (int i = 0; i < CaseQuery.PARALLEL_THRESHOLD + 5000; i++) {
+            cases.add(new OthersCase(String.format("%06x", i), i % 7 == 0 ? "Match " + i : "Other " + i,
+                    null, "info", null, null));
+        }
+
+        List<Case> matches = query(Pattern.compile("^match", Pattern.CASE_INSENSITIVE)).filter(cases);
+
+        assertEquals((cases.size() + 6) / 7, matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            assertEquals("Match " + (i * 7), matches.get(i).getTitle());
+        }
+    }
+
+    @Test
+    void filter_catastrophicRegex_stoppedAtTimeout() {
+        Case c = new OthersCase("000000", "a".repeat(28) + "!", null, "info", null, null);
+        CaseQuery slowQuery = new CaseQuery(List.of(), Pattern.compile("(.*a){20}$"), 100, "slow");
+
+        long start = System.nanoTime();
+        assertThrows(QueryTimeoutException.class, () -> slowQuery.filter(List.of(c)));
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+    }
+
+    @Test
+    void parseInput_findWhereAndRegex_buildsQuery() {
+        FindCommand command = assertInstanceOf(FindCommand.class,
+                Parser.parseInput("find --where weapon=knife, number-of-victims>=2 --regex stab(bed|bing)"));
+        assertNull(command.getKeywordMatcher());
+        assertEquals(2, command.getQuery().getConditions().size());
+        assertEquals("stab(bed|bing)", command.getQuery().getRegex().pattern());
+
+        assertThrows(InvalidFindQueryException.class, () -> Parser.parseInput("find --where weapon<knife"));
+        assertThrows(InvalidFindQueryException.class, () -> Parser.parseInput("find --where colour=red"));
+        assertThrows(InvalidFindQueryException.class, () -> Parser.parseInput("find --where weapon"));
+        assertThrows(InvalidFindQueryException.class, () -> Parser.parseInput("find --regex (unclosed"));
+    }
+}
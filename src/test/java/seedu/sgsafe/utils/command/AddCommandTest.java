@@ -1,5 +1,7 @@
 package seedu.sgsafe.utils.command;
 
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
@@ -15,7 +17,7 @@ class AddCommandTest {
         AddCommand command = new AddCommand("Theft", "Case Title", date,
                 "Case Info", "Victim Name", "Officer Name");
 
-        assertEquals("theft", command.getCaseCategory());
+        assertEquals(CaseCategory.THEFT, command.getCaseCategory());
         assertEquals("Case Title", command.getCaseTitle());
         assertEquals(date, command.getCaseDate());
         assertEquals("Case Info", command.getCaseInfo());
@@ -28,7 +30,7 @@ class AddCommandTest {
         LocalDate date = LocalDate.of(2023, 10, 1);
         AddCommand command = new AddCommand("Theft", "Case Title", date, "Case Info", null, null);
 
-        assertEquals("theft", command.getCaseCategory());
+        assertEquals(CaseCategory.THEFT, command.getCaseCategory());
         assertEquals("Case Title", command.getCaseTitle());
         assertEquals(date, command.getCaseDate());
         assertEquals("Case Info", command.getCaseInfo());
@@ -0,0 +1,116 @@
+package seedu.sgsafe.utils.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.exceptions.InvalidArchiveCommandException;
+import seedu.sgsafe.utils.settings.Settings;
+import seedu.sgsafe.utils.storage.ArchiveStore;
+import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveCommandTest {
+
+    private final PrintStream originalOut = System.out;
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private ArrayList<Case> caseList;
+    private Path archiveDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+        Settings.setInputDateFormat("dd/MM/yyyy");
+
+        archiveDirectory = Files.createTempDirectory("sgsafe-archive");
+        ArchiveStore.open(archiveDirectory, new Storage(archiveDirectory.resolve("data.txt").toString()));
+
+        CaseManager.addCase(new TheftCase("000000", "Old wallet theft", LocalDate.of(2018, 1, 1),
+                "Taken at MRT", "Alice", "Tan"));
+        CaseManager.addCase(new TheftCase("000001", "Open bag theft", LocalDate.of(2018, 2, 1),
+                "info", "Bob", "Lee"));
+        caseList.get(0).setClosed();
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.setOut(originalOut);
+        ArchiveStore.close();
+        caseList.clear();
+        try (Stream<Path> files = Files.walk(archiveDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void execute_closedCases_movedToArchiveAndStillReadable() {
+        new ArchiveCommand(LocalDate.now().plusDays(1), false).execute();
+
+        assertEquals(1, caseList.size());
+        assertEquals("000001", caseList.get(0).getId());
+        assertNull(CaseManager.getCaseById("000000"));
+        assertEquals(1, ArchiveStore.getArchivedCaseCount());
+
+        outContent.reset();
+        new ReadCommand("000000").execute();
+        assertTrue(outContent.toString().contains("archived"));
+        assertTrue(outContent.toString().contains("Taken at MRT"));
+
+        outContent.reset();
+        new FindCommand("theft", CaseListingMode.DEFAULT, null, true).execute();
+        assertTrue(outContent.toString().contains("A total of 2 case(s)"));
+    }
+
+    @Test
+    void execute_dryRunOrRecentCutoff_archivesNothing() {
+        new ArchiveCommand(LocalDate.now().plusDays(1), true).execute();
+        new ArchiveCommand(LocalDate.of(2000, 1, 1), false).execute();
+
+        assertEquals(2, caseList.size());
+        assertEquals(0, ArchiveStore.getSegmentCount());
+        assertTrue(outContent.toString().contains("1 case(s) would be archived."));
+    }
+
+    @Test
+    void parseInput_archiveCommand_validatesFlags() {
+        ArchiveCommand command = assertInstanceOf(ArchiveCommand.class,
+                Parser.parseInput("archive --closed-before 01/01/2020 --mode dry-run"));
+        assertEquals(LocalDate.of(2020, 1, 1), command.getClosedBefore());
+        assertTrue(command.isDryRun());
+        assertFalse(((ArchiveCommand) Parser.parseInput("archive --closed-before 01/01/2020")).isDryRun());
+
+        assertThrows(InvalidArchiveCommandException.class, () -> Parser.parseInput("archive"));
+        assertThrows(InvalidArchiveCommandException.class, () -> Parser.parseInput("archive --mode dry-run"));
+        assertThrows(InvalidArchiveCommandException.class,
+                () -> Parser.parseInput("archive --closed-before 01/01/2020 --mode now"));
+        FindCommand find = assertInstanceOf(FindCommand.class,
+                Parser.parseInput("find --keyword theft --include-archived yes"));
+        assertTrue(find.isArchiveIncluded());
+    }
+}
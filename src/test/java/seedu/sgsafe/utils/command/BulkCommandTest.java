@@ -0,0 +1,124 @@
+package seedu.sgsafe.utils.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.BulkAction;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+import seedu.sgsafe.utils.exceptions.InvalidBulkCommandException;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkCommandTest {
+
+    private ArrayList<Case> caseList;
+
+    @BeforeEach
+    void resetCaseList() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+
+        CaseManager.addCase(new SpeedingCase("000000", "Speeding A", LocalDate.of(2023, 3, 1),
+                "info", "Alice", "Tan"));
+        CaseManager.addCase(new SpeedingCase("000001", "Speeding B", LocalDate.of(2023, 11, 30),
+                "info", "Bob", "Lee"));
+        CaseManager.addCase(new SpeedingCase("000002", "Speeding C", LocalDate.of(2024, 1, 2),
+                "info", "Carl", "Tan"));
+        CaseManager.addCase(new TheftCase("000003", "Theft D", LocalDate.of(2023, 6, 6),
+                "info", "Dan", "Tan"));
+    }
+
+    @Test
+    void execute_closeByCategoryAndDateRange_closesOnlyMatchingCases() {
+        CaseFilter filter = new CaseFilter().withCategory(CaseCategory.SPEEDING)
+                .withDateRange(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+        new BulkCommand(BulkAction.CLOSE, filter, new HashMap<>(), false).execute();
+
+        assertFalse(caseList.get(0).isOpen());
+        assertFalse(caseList.get(1).isOpen());
+        assertTrue(caseList.get(2).isOpen());
+        assertTrue(caseList.get(3).isOpen());
+    }
+
+    @Test
+    void bulkUpdate_dryRun_countsWithoutChanging() {
+        CaseFilter filter = new CaseFilter().withStatus(true).withOfficer("tan");
+        CaseManager.BulkResult result = CaseManager.bulkUpdate(filter, BulkAction.DELETE, new HashMap<>(), true);
+
+        assertEquals(3, result.matched());
+        assertEquals(3, result.changed());
+        assertTrue(caseList.stream().noneMatch(Case::isDeleted));
+    }
+
+    @Test
+    void bulkUpdate_closeWithAlreadyClosedCase_skipsIt() {
+        caseList.get(0).setClosed();
+        CaseFilter filter = new CaseFilter().withCategory(CaseCategory.SPEEDING);
+        CaseManager.BulkResult result = CaseManager.bulkUpdate(filter, BulkAction.CLOSE, new HashMap<>(), false);
+
+        assertEquals(3, result.matched());
+        assertEquals(2, result.changed());
+        assertEquals(1, result.skipped());
+    }
+
+    @Test
+    void bulkUpdate_editByIds_editsOnlyListedOpenCases() {
+        caseList.get(1).setClosed();
+        CaseFilter filter = new CaseFilter().withIds(Set.of("000000", "000001"));
+        Map<String, Object> newValues = new HashMap<>();
+        newValues.put("officer", "Lim");
+        CaseManager.BulkResult result = CaseManager.bulkUpdate(filter, BulkAction.EDIT, newValues, false);
+
+        assertEquals(2, result.matched());
+        assertEquals(1, result.changed());
+        assertEquals("Lim", caseList.get(0).getOfficer());
+        assertEquals("Lee", caseList.get(1).getOfficer());
+    }
+
+    @Test
+    void bulkUpdate_deletedCases_areNotMatchedAgain() {
+        CaseFilter filter = new CaseFilter().withCategory(CaseCategory.THEFT);
+        CaseManager.bulkUpdate(filter, BulkAction.DELETE, new HashMap<>(), false);
+        CaseManager.BulkResult result = CaseManager.bulkUpdate(filter, BulkAction.DELETE, new HashMap<>(), false);
+
+        assertEquals(0, result.matched());
+        assertEquals(null, CaseManager.getCaseById("000003"));
+    }
+
+    @Test
+    void parseInput_bulkEditWithSetFlags_returnsDryRunBulkCommand() {
+        Command command = Parser.parseInput("bulk edit --officer Tan --set-officer Lee --mode dry-run");
+        BulkCommand bulkCommand = assertInstanceOf(BulkCommand.class, command);
+
+        assertEquals(BulkAction.EDIT, bulkCommand.getAction());
+        assertTrue(bulkCommand.isDryRun());
+    }
+
+    @Test
+    void parseInput_bulkWithoutFilterOrWithMisplacedSetFlag_throwsInvalidBulkCommandException() {
+        assertThrows(InvalidBulkCommandException.class, () -> Parser.parseInput("bulk close"));
+        assertThrows(InvalidBulkCommandException.class, () -> Parser.parseInput("bulk close --mode dry-run"));
+        assertThrows(InvalidBulkCommandException.class,
+                () -> Parser.parseInput("bulk close --status open --set-title x"));
+        assertThrows(InvalidBulkCommandException.class, () -> Parser.parseInput("bulk edit --status open"));
+        assertThrows(InvalidBulkCommandException.class, () -> Parser.parseInput("bulk archive --status open"));
+    }
+}
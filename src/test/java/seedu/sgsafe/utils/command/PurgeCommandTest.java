@@ -0,0 +1,96 @@
+package seedu.sgsafe.utils.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.exceptions.InvalidPurgeCommandException;
+import seedu.sgsafe.utils.storage.Storage;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PurgeCommandTest {
+
+    private ArrayList<Case> caseList;
+    private Path saveFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+        CaseManager.clearReservedIds();
+        saveFile = Files.createTempFile("sgsafe-purge", ".txt");
+
+        for (int i = 0; i < 4; i++) {
+            CaseManager.addCase(new TheftCase(CaseManager.generateHexId(), "Theft " + i, LocalDate.of(2024, 1, 1),
+                    "info", null, null));
+        }
+        CaseManager.deleteCase("000001");
+        CaseManager.deleteCase("000003");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        caseList.clear();
+        CaseManager.clearReservedIds();
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(Path.of(saveFile + ".rollup"));
+        Files.deleteIfExists(Path.of(saveFile + ".history"));
+    }
+
+    @Test
+    void execute_deletedCases_removedWithoutChangingRemainingIds() {
+        new PurgeCommand(true).execute();
+        assertEquals(4, caseList.size());
+
+        new PurgeCommand(false).execute();
+
+        assertEquals(2, caseList.size());
+        assertEquals("000000", caseList.get(0).getId());
+        assertEquals("000002", caseList.get(1).getId());
+        assertEquals("Theft 2", CaseManager.getCaseById("000002").getTitle());
+        assertNull(CaseManager.getCaseById("000003"));
+        assertEquals("000004", CaseManager.generateHexId());
+    }
+
+    @Test
+    void saveAndLoad_afterPurge_keepsIdsAndNeverReusesPurgedIds() {
+        CaseManager.purgeDeletedCases(false);
+        Storage storage = new Storage(saveFile.toString());
+        storage.saveToFile();
+
+        caseList.clear();
+        CaseManager.clearReservedIds();
+        storage.loadCaseManager();
+
+        assertEquals(2, caseList.size());
+        assertEquals("000002", caseList.get(1).getId());
+        assertFalse(caseList.get(1).isDeleted());
+        assertEquals("000004", CaseManager.generateHexId());
+    }
+
+    @Test
+    void parseInput_purgeCommand_validatesMode() {
+        assertFalse(assertInstanceOf(PurgeCommand.class, Parser.parseInput("purge")).isDryRun());
+        assertTrue(assertInstanceOf(PurgeCommand.class, Parser.parseInput("purge --mode dry-run")).isDryRun());
+        assertThrows(InvalidPurgeCommandException.class, () -> Parser.parseInput("purge --mode all"));
+        assertThrows(InvalidPurgeCommandException.class, () -> Parser.parseInput("purge --status closed"));
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.sgsafe.utils.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.CaseStatistics;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.CaseType;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.property.VandalismCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.AccidentCase;
+import seedu.sgsafe.domain.casefiles.type.violent.AssaultCase;
+import seedu.sgsafe.utils.exceptions.InvalidStatsCommandException;
+import seedu.sgsafe.utils.ui.Parser;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatsCommandTest {
+
+    private ArrayList<Case> caseList;
+
+    @BeforeEach
+    void resetCaseList() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+
+        CaseManager.addCase(new ScamCase("000000", "Scam", LocalDate.of(2024, 1, 5), "info", null, null));
+        CaseManager.addCase(new VandalismCase("000001", "Graffiti", LocalDate.of(2024, 1, 20), "info", null, null));
+        CaseManager.addCase(new AssaultCase("000002", "Assault", LocalDate.of(2024, 2, 1), "info", null, null));
+        CaseManager.addCase(new AccidentCase("000003", "Crash", LocalDate.of(2024, 2, 2), "info", null, null));
+        setField(caseList.get(0), "financial-value", 1000.10);
+        setField(caseList.get(1), "monetary-damage", 250.0);
+        setField(caseList.get(2), "number-of-victims", 2);
+        setField(caseList.get(3), "number-of-casualties", 3);
+    }
+
+    private static void setField(Case c, String field, Object value) {
+        Map<String, Object> newValues = new HashMap<>();
+        newValues.put(field, value);
+        c.update(newValues);
+    }
+
+    @Test
+    void getStatistics_afterAddsAndEdits_reflectsCountsAndTotals() {
+        CaseStatistics statistics = CaseManager.getStatistics();
+
+        assertEquals(4, statistics.getTotalCount());
+        assertEquals(1, statistics.getTypeCount(CaseType.FINANCIAL));
+        assertEquals(1, statistics.getCategoryCount(CaseCategory.VANDALISM));
+        assertEquals(1000.10, statistics.getTotalFinancialValue(), 1e-9);
+        assertEquals(250.0, statistics.getTotalMonetaryDamage(), 1e-9);
+        assertEquals(2, statistics.getTotalVictims());
+        assertEquals(3, statistics.getTotalCasualties());
+    }
+
+    @Test
+    void getStatistics_afterCloseEditAndDelete_appliesDeltas() {
+        CaseManager.closeCase("000002");
+        setField(caseList.get(0), "financial-value", 10.0);
+        CaseManager.deleteCase("000003");
+
+        CaseStatistics statistics = CaseManager.getStatistics();
+        assertEquals(3, statistics.getTotalCount());
+        assertEquals(1, statistics.getClosedCount());
+        assertEquals(10.0, statistics.getTotalFinancialValue(), 1e-9);
+        assertEquals(0, statistics.getTotalCasualties());
+        assertEquals(1, statistics.getMonthBuckets().get(YearMonth.of(2024, 2)).getTotalCount());
+        assertEquals(0, statistics.getMonthBuckets().get(YearMonth.of(2024, 2)).getOpenCount());
+    }
+
+    @Test
+    void getMonthLines_withCasesInTwoMonths_returnsOneRowPerMonth() {
+        StatsCommand command = new StatsCommand(StatsView.MONTH);
+        String[] lines = command.getMonthLines(CaseManager.getStatistics());
+
+        assertEquals(4, lines.length);
+        assertEquals("2024-01", lines[2].substring(0, 7));
+        assertEquals("2024-02", lines[3].substring(0, 7));
+    }
+
+    @Test
+    void getPlateLines_withRepeatedPlates_listsThemMostCasesFirst() {
+        StatsCommand command = new StatsCommand(StatsView.PLATES);
+        String[] lines = command.getPlateLines(Map.of("SGX1234A", 2, "SBA1A", 1, "SFB77C", 3, "SCC5D", 2));
+
+        assertEquals(5, lines.length);
+        assertEquals(String.format("%-16s %10s", "SFB77C", 3), lines[2]);
+        assertEquals("SCC5D", lines[3].strip().split(" ")[0]);
+        assertEquals("SGX1234A", lines[4].strip().split(" ")[0]);
+        assertEquals(1, command.getPlateLines(Map.of("SBA1A", 1)).length);
+    }
+
+    @Test
+    void parseInput_statsCommand_parsesView() {
+        assertEquals(StatsView.SUMMARY, assertInstanceOf(StatsCommand.class, Parser.parseInput("stats")).getView());
+        assertEquals(StatsView.MONTH,
+                assertInstanceOf(StatsCommand.class, Parser.parseInput("stats --view month")).getView());
+        assertEquals(StatsView.PLATES,
+                assertInstanceOf(StatsCommand.class, Parser.parseInput("stats --view plates")).getView());
+        assertThrows(InvalidStatsCommandException.class, () -> Parser.parseInput("stats --view yearly"));
+        assertThrows(InvalidStatsCommandException.class, () -> Parser.parseInput("stats --type month"));
+    }
+}
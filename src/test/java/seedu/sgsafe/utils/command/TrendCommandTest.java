@@ -0,0 +1,92 @@
+package seedu.sgsafe.utils.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.index.CaseRollup;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.type.financial.ScamCase;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.utils.storage.Storage;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrendCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    private ArrayList<Case> caseList;
+    private Path saveFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+        saveFile = Files.createTempFile("sgsafe-trend", ".txt");
+
+        CaseManager.addCase(new TheftCase("000000", "Theft", LocalDate.of(2024, 1, 10), "info", null, null));
+        CaseManager.addCase(new TheftCase("000001", "Theft", LocalDate.of(2024, 3, 2), "info", null, null));
+        CaseManager.addCase(new ScamCase("000002", "Scam", LocalDate.of(2024, 3, 9), "info", null, null));
+        CaseManager.closeCase("000001");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        caseList.clear();
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(Path.of(saveFile + ".rollup"));
+        Files.deleteIfExists(Path.of(saveFile + ".history"));
+    }
+
+    @Test
+    void getTrendLines_months_oneRowPerPeriodWithScaledBars() {
+        TrendCommand command = new TrendCommand(CaseRollup.Granularity.MONTH, 3, null, null);
+        List<String> lines = command.getTrendLines(CaseManager.getRollup(CaseRollup.Granularity.MONTH), TODAY);
+
+        assertEquals(5, lines.size());
+        assertEquals("MONTH        OPEN CLOSED  TOTAL", lines.get(1));
+        assertEquals("2024-01         1      0      1  " + "#".repeat(15), lines.get(2));
+        assertEquals("2024-02         0      0      0", lines.get(3));
+        assertEquals("2024-03         1      1      2  " + "#".repeat(30), lines.get(4));
+    }
+
+    @Test
+    void getCsvLines_categoryFilter_exportsOnlyPeriodsWithCases() {
+        TrendCommand command = new TrendCommand(CaseRollup.Granularity.WEEK, 4, CaseCategory.THEFT, "t.csv");
+        List<String> lines = command.getCsvLines(CaseManager.getRollup(CaseRollup.Granularity.WEEK), TODAY);
+
+        assertEquals(List.of("period_start,category,open,closed,total", "2024-02-26,THEFT,0,1,1"), lines);
+    }
+
+    @Test
+    void saveAndLoad_rollupFile_restoresCountsWithoutRecounting() throws IOException {
+        Storage storage = new Storage(saveFile.toString());
+        storage.saveToFile();
+        assertTrue(Files.exists(Path.of(saveFile + ".rollup")));
+        List<String> expected = CaseManager.getRollupSaveLines();
+
+        caseList.clear();
+        storage.loadCaseManager();
+        assertEquals(3, caseList.size());
+        assertEquals(expected, CaseManager.getRollupSaveLines());
+
+        // A stale rollup file is ignored and the counts are taken from the loaded cases
+        Files.write(Path.of(saveFile + ".rollup"), List.of("rollup-of:0|0", "MONTH|24290|THEFT|9|9"));
+        caseList.clear();
+        storage.loadCaseManager();
+        assertEquals(expected, CaseManager.getRollupSaveLines());
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.CaseFilter;
+import seedu.sgsafe.domain.casefiles.CaseManager;
+import seedu.sgsafe.domain.casefiles.type.financial.TheftCase;
+import seedu.sgsafe.domain.casefiles.type.traffic.SpeedingCase;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchiveStoreTest {
+
+    private ArrayList<Case> caseList;
+    private Path archiveDirectory;
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Field caseListField = CaseManager.class.getDeclaredField("caseList");
+        caseListField.setAccessible(true);
+        caseList = (ArrayList<Case>) caseListField.get(null);
+        caseList.clear();
+
+        archiveDirectory = Files.createTempDirectory("sgsafe-archive");
+        storage = new Storage(archiveDirectory.resolve("data.txt").toString());
+        ArchiveStore.open(archiveDirectory, storage);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        ArchiveStore.close();
+        caseList.clear();
+        try (Stream<Path> files = Files.walk(archiveDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void bloomFilter_addedKeysFound_fewFalsePositives() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("id:" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("id:" + i));
+            if (filter.mightContain("plate:" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 50, "Expected about 1% false positives, got " + falsePositives);
+    }
+
+    @Test
+    void writeSegment_afterReopen_findsCasesByIdPlateAndName() throws IOException {
+        SpeedingCase speeding = new SpeedingCase("00000a", "Speeding on PIE", LocalDate.of(2019, 5, 1),
+                "info", "Alice", "Officer Tan");
+        speeding.update(Map.of("vehicle-plate", "SGX1234A"));
+        Case theft = new TheftCase("00000b", "Wallet theft", LocalDate.of(2019, 6, 1), "info", "Bob", "Officer Lee");
+        theft.setClosed();
+
+        assertEquals("segment-000001", ArchiveStore.writeSegment(List.of(speeding, theft)));
+        ArchiveStore.open(archiveDirectory, storage);
+
+        assertEquals(1, ArchiveStore.getSegmentCount());
+        assertEquals(2, ArchiveStore.getArchivedCaseCount());
+        assertEquals("Wallet theft", ArchiveStore.findCase("00000B").getTitle());
+        assertFalse(ArchiveStore.findCase("00000b").isOpen());
+        assertNull(ArchiveStore.findCase("00000c"));
+        assertEquals("00000a", ArchiveStore.findCasesByPlate("sgx1234a").get(0).getId());
+        assertEquals(1, ArchiveStore.findCasesByName("officer lee").size());
+        assertEquals(1, ArchiveStore.findCasesByKeyword("PIE", new CaseFilter()).size());
+    }
+
+    @Test
+    void findCasesByPlate_acrossIndexVersions_findsAndCountsEveryCase() throws IOException {
+        SpeedingCase first = new SpeedingCase("00000a", "Speeding on PIE", LocalDate.of(2019, 5, 1),
+                "info", "Alice", "Officer Tan");
+        first.update(Map.of("vehicle-plate", "SGX 1234A"));
+        SpeedingCase second = new SpeedingCase("00000b", "Speeding on AYE", LocalDate.of(2019, 6, 1),
+                "info", "Bob", "Officer Tan");
+        second.update(Map.of("vehicle-plate", "sgx1234a"));
+        ArchiveStore.writeSegment(List.of(first));
+        ArchiveStore.writeSegment(List.of(second));
+
+        // Rewrite the first index as it was before plates were indexed
+        Path indexFile = archiveDirectory.resolve("segment-000001.idx");
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(indexFile))) {
+            in.readInt();
+            int caseCount = in.readInt();
+            long nextIdValue = in.readLong();
+            BloomFilter keys = BloomFilter.readFrom(in);
+            in.close();
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(indexFile))) {
+                out.writeInt(0x53474132);
+                out.writeInt(caseCount);
+                out.writeLong(nextIdValue);
+                keys.writeTo(out);
+            }
+        }
+        ArchiveStore.open(archiveDirectory, storage);
+
+        assertEquals(2, ArchiveStore.findCasesByPlate("Sgx 1234 A").size());
+        assertEquals(List.of("00000b"), ArchiveStore.findMatchingCases(
+                new CaseFilter().withVehiclePlate("SGX1234A").withDateRange(LocalDate.of(2019, 6, 1), null))
+                .stream().map(Case::getId).toList());
+        assertEquals(Map.of("SGX1234A", 2), ArchiveStore.getPlateCaseCounts());
+        assertEquals(2, ArchiveStore.findCasesByPlate("SGX1234A").size());
+        assertTrue(ArchiveStore.findCasesByPlate("SGX0000A").isEmpty());
+    }
+
+    @Test
+    void generateHexId_afterArchivingHighestId_doesNotReuseIt() throws IOException {
+        CaseManager.addCase(new TheftCase("000000", "First", null, "info", null, null));
+        Case last = new TheftCase("000001", "Second", null, "info", null, null);
+        CaseManager.addCase(last);
+
+        ArchiveStore.writeSegment(List.of(last));
+        CaseManager.removeCases(List.of(last));
+        assertEquals("000002", CaseManager.generateHexId());
+
+        ArchiveStore.open(archiveDirectory, storage);
+        assertEquals("000002", CaseManager.generateHexId());
+    }
+}
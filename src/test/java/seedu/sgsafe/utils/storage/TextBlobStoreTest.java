@@ -0,0 +1,64 @@
+package seedu.sgsafe.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.sgsafe.domain.casefiles.Case;
+import seedu.sgsafe.domain.casefiles.type.OthersCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextBlobStoreTest {
+
+    private Path blobFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blobFile = Files.createTempFile("sgsafe-blobs", ".bin");
+        TextBlobStore.enable(blobFile);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        TextBlobStore.disable();
+        Files.deleteIfExists(blobFile);
+    }
+
+    @Test
+    void store_shortText_keptOnHeap() {
+        assertEquals(TextBlobStore.NO_BLOB, TextBlobStore.store("short info"));
+        assertEquals(0, TextBlobStore.getUsedBytes());
+    }
+
+    @Test
+    void storeAndLoad_longTexts_roundTrip() {
+        String first = "Läuft über die Brücke. ".repeat(20);
+        String second = "x".repeat(5000);
+
+        long firstHandle = TextBlobStore.store(first);
+        long secondHandle = TextBlobStore.store(second);
+
+        assertEquals(first, TextBlobStore.load(firstHandle));
+        assertEquals(second, TextBlobStore.load(secondHandle));
+        assertTrue(TextBlobStore.getUsedBytes() > first.length() + second.length());
+    }
+
+    @Test
+    void caseInfo_storedInBlobFile_readAndSavedUnchanged() {
+        String info = "Witness statement: ".repeat(10);
+        Case c = new OthersCase("000001", "Title", null, info, null, null);
+
+        assertTrue(TextBlobStore.getUsedBytes() > 0);
+        assertEquals(info, c.getInfo());
+        assertTrue(c.toSaveString().contains("|info:" + info + "|"));
+
+        c.update(Map.of("info", "now short"));
+        assertEquals("now short", c.getInfo());
+    }
+}
@@ -1,21 +1,35 @@
 package seedu.sgsafe.utils.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import seedu.sgsafe.domain.casefiles.CasePageRequest;
+import seedu.sgsafe.domain.casefiles.CaseSortKey;
+import seedu.sgsafe.domain.casefiles.type.CaseCategory;
+import seedu.sgsafe.domain.casefiles.index.CaseRollup;
 import seedu.sgsafe.utils.command.CaseListingMode;
 import seedu.sgsafe.utils.command.Command;
 import seedu.sgsafe.utils.command.CommandType;
 import seedu.sgsafe.utils.command.ListCommand;
 import seedu.sgsafe.utils.command.AddCommand;
 import seedu.sgsafe.utils.command.ByeCommand;
+import seedu.sgsafe.utils.command.GraphCommand;
+import seedu.sgsafe.utils.command.HotspotsCommand;
+import seedu.sgsafe.utils.command.RangeCommand;
+import seedu.sgsafe.utils.command.ReadCommand;
 import seedu.sgsafe.utils.command.SettingCommand;
 import seedu.sgsafe.utils.command.SettingType;
+import seedu.sgsafe.utils.command.WorkloadCommand;
+import seedu.sgsafe.utils.command.TrendCommand;
 import seedu.sgsafe.utils.exceptions.IncorrectFlagException;
 import seedu.sgsafe.utils.exceptions.EmptyCommandException;
 import seedu.sgsafe.utils.exceptions.InputLengthExceededException;
@@ -28,14 +42,21 @@ import seedu.sgsafe.utils.exceptions.InvalidEditCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidCloseCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidDeleteCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidFormatStringException;
+import seedu.sgsafe.utils.exceptions.InvalidGraphCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidHotspotsCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidHelpCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidIntegerException;
+import seedu.sgsafe.utils.exceptions.InvalidListCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidReadCommandException;
 
 import seedu.sgsafe.utils.exceptions.InvalidOpenCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidRangeCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidSettingCommandException;
 import seedu.sgsafe.utils.exceptions.InvalidStatusException;
+import seedu.sgsafe.utils.exceptions.InvalidWorkloadCommandException;
 import seedu.sgsafe.utils.exceptions.UnknownCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidTrendCommandException;
+import seedu.sgsafe.utils.exceptions.InvalidCategoryException;
 import seedu.sgsafe.utils.settings.Settings;
 
 /**
@@ -128,6 +149,51 @@ class ParserTest {
         assertThrows(InvalidStatusException.class, () -> Parser.parseInput("list --status open extra"));
     }
 
+    @Test
+    void parseInput_listWithDateRange_returnsListCommandWithTimeFilter() {
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        Command command = Parser.parseInput("list --from 01/01/2024 --to 31/03/2024 --status open");
+        ListCommand listCommand = assertInstanceOf(ListCommand.class, command);
+        assertEquals(CaseListingMode.OPEN_ONLY, listCommand.getListingMode());
+        assertEquals(LocalDate.of(2024, 1, 1), listCommand.getTimeFilter().getFromDate());
+        assertEquals(LocalDate.of(2024, 3, 31), listCommand.getTimeFilter().getToDate());
+    }
+
+    @Test
+    void parseInput_listWithSortAndPage_returnsListCommandWithPageRequest() {
+        Command command = Parser.parseInput("list --sort title --order desc --limit 5 --page 3");
+        CasePageRequest pageRequest = assertInstanceOf(ListCommand.class, command).getPageRequest();
+        assertEquals(CaseSortKey.TITLE, pageRequest.sortKey());
+        assertTrue(pageRequest.isDescending());
+        assertEquals(5, pageRequest.limit());
+        assertEquals(10, pageRequest.getOffset());
+    }
+
+    @Test
+    void parseInput_listWithInvalidPageValues_throwsInvalidListCommandException() {
+        assertThrows(InvalidListCommandException.class, () -> Parser.parseInput("list --sort size"));
+        assertThrows(InvalidListCommandException.class, () -> Parser.parseInput("list --limit 0"));
+        assertThrows(InvalidListCommandException.class, () -> Parser.parseInput("list --page two"));
+        assertThrows(InvalidListCommandException.class, () -> Parser.parseInput("list --order down"));
+    }
+
+    @Test
+    void parseInput_listAsOf_returnsListCommandWithAsOfDate() {
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        ListCommand command = (ListCommand) Parser.parseInput("list --status closed --as-of 31/03/2024");
+        assertEquals(LocalDate.of(2024, 3, 31), command.getAsOfDate());
+        assertEquals(CaseListingMode.CLOSED_ONLY, command.getListingMode());
+        assertNull(((ListCommand) Parser.parseInput("list --status closed")).getAsOfDate());
+        assertThrows(InvalidListCommandException.class, () -> Parser.parseInput("list --as-of 31/03/2024 --limit 5"));
+        assertThrows(InvalidDateInputException.class, () -> Parser.parseInput("list --as-of yesterday"));
+    }
+
+    @Test
+    void parseInput_listUpdatedSinceInvalidDate_throwsInvalidDateInputException() {
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        assertThrows(InvalidDateInputException.class, () -> Parser.parseInput("list --updated-since yesterday"));
+    }
+
     // ----------- TESTS FOR EDIT COMMANDS ----------- //
 
     @Test
@@ -264,7 +330,7 @@ class ParserTest {
                 "  add   --category  Others --title   CaseTitle   --date   12/01/2022   " +
                         "--info   SomeInfo   --victim   JohnDoe   --officer   JaneDoe  ");
         assertEquals(CommandType.ADD, command.getCommandType());
-        assertEquals("others", ((AddCommand) command).getCaseCategory());
+        assertEquals(CaseCategory.OTHERS, ((AddCommand) command).getCaseCategory());
         assertEquals("CaseTitle", ((AddCommand) command).getCaseTitle());
         assertEquals(date, ((AddCommand) command).getCaseDate());
         assertEquals("SomeInfo", ((AddCommand) command).getCaseInfo());
@@ -302,7 +368,7 @@ class ParserTest {
                 "  add --category theft --title   CaseTitle\\--longinfo   --date   2025-12-12   --info   SomeInfo   " +
                         "--victim   JohnDoe   --officer   JaneDoe  ");
         assertEquals(CommandType.ADD, command.getCommandType());
-        assertEquals("theft", ((AddCommand) command).getCaseCategory());
+        assertEquals(CaseCategory.THEFT, ((AddCommand) command).getCaseCategory());
         assertEquals("CaseTitle--longinfo", ((AddCommand) command).getCaseTitle());
         assertEquals(dateToVerify, ((AddCommand) command).getCaseDate());
         assertEquals("SomeInfo", ((AddCommand) command).getCaseInfo());
@@ -332,7 +398,7 @@ class ParserTest {
 
     @Test
     void parseInput_deleteTooLongCaseId_throwsInvalidDeleteCommandException() {
-        String input = "delete abc1234";
+        String input = "delete abc1234abc1234abc";
         assertThrows(InvalidDeleteCommandException.class, () -> Parser.parseInput(input));
     }
 
@@ -356,6 +422,77 @@ class ParserTest {
         assertEquals(CommandType.READ, command.getCommandType());
     }
 
+    @Test
+    void parseInput_readRelated_returnsReadCommandWithRelatedCases() {
+        Command command = Parser.parseInput("read 000001 --related");
+        assertTrue(((ReadCommand) command).isRelatedIncluded());
+        assertFalse(((ReadCommand) Parser.parseInput("read 000001")).isRelatedIncluded());
+        assertThrows(InvalidReadCommandException.class, () -> Parser.parseInput("read 000001 --linked"));
+        assertThrows(InvalidReadCommandException.class, () -> Parser.parseInput("read 000001 --related x"));
+    }
+
+    @Test
+    void parseInput_readAsOf_returnsReadCommandWithAsOfDate() {
+        Settings.setInputDateFormat("dd/MM/yyyy");
+        ReadCommand command = (ReadCommand) Parser.parseInput("read 000001 --as-of 01/10/2024");
+        assertEquals(LocalDate.of(2024, 10, 1), command.getAsOfDate());
+        assertNull(((ReadCommand) Parser.parseInput("read 000001")).getAsOfDate());
+        assertThrows(InvalidReadCommandException.class, () -> Parser.parseInput("read 000001 --as-of"));
+        assertThrows(InvalidReadCommandException.class,
+                () -> Parser.parseInput("read 000001 --as-of 01/10/2024 --related x"));
+    }
+
+    @Test
+    void parseInput_graph_returnsGraphCommandWithBounds() {
+        GraphCommand command = (GraphCommand) Parser.parseInput("graph 000001");
+        assertEquals(2, command.getDepth());
+        assertEquals(50, command.getLimit());
+        command = (GraphCommand) Parser.parseInput("graph 000001 --depth 3 --limit 100");
+        assertEquals(3, command.getDepth());
+        assertEquals(100, command.getLimit());
+        assertThrows(InvalidGraphCommandException.class, () -> Parser.parseInput("graph"));
+        assertThrows(InvalidGraphCommandException.class, () -> Parser.parseInput("graph 000001 --depth 5"));
+        assertThrows(InvalidGraphCommandException.class, () -> Parser.parseInput("graph 000001 --limit 0"));
+        assertThrows(InvalidGraphCommandException.class, () -> Parser.parseInput("graph 000001 --title x"));
+    }
+
+    @Test
+    void parseInput_workload_returnsWorkloadCommandForOfficer() {
+        assertNull(((WorkloadCommand) Parser.parseInput("workload")).getOfficer());
+        assertEquals("Sgt Tan", ((WorkloadCommand) Parser.parseInput("workload --officer Sgt Tan")).getOfficer());
+        assertThrows(InvalidWorkloadCommandException.class, () -> Parser.parseInput("workload --status open"));
+    }
+
+    @Test
+    void parseInput_hotspots_returnsHotspotsCommandWithFieldsAndBounds() {
+        HotspotsCommand command = (HotspotsCommand) Parser.parseInput("hotspots");
+        assertEquals(List.of("road-name", "location"), command.getFields());
+        assertEquals(7, command.getDays());
+        command = (HotspotsCommand) Parser.parseInput("hotspots --field Road-Name --days 30 --limit 5");
+        assertEquals(List.of("road-name"), command.getFields());
+        assertEquals(30, command.getDays());
+        assertEquals(5, command.getLimit());
+        assertThrows(InvalidHotspotsCommandException.class, () -> Parser.parseInput("hotspots --field title"));
+        assertThrows(InvalidHotspotsCommandException.class, () -> Parser.parseInput("hotspots --days 31"));
+        assertThrows(InvalidHotspotsCommandException.class, () -> Parser.parseInput("hotspots --limit x"));
+    }
+
+    @Test
+    void parseInput_trend_returnsTrendCommandWithGranularityAndPeriods() {
+        TrendCommand command = (TrendCommand) Parser.parseInput("trend");
+        assertEquals(CaseRollup.Granularity.MONTH, command.getGranularity());
+        assertEquals(12, command.getPeriodCount());
+        assertNull(command.getCategory());
+        command = (TrendCommand) Parser.parseInput("trend --by Week --periods 8 --category theft --export t.csv");
+        assertEquals(CaseRollup.Granularity.WEEK, command.getGranularity());
+        assertEquals(8, command.getPeriodCount());
+        assertEquals(CaseCategory.THEFT, command.getCategory());
+        assertEquals("t.csv", command.getExportPath());
+        assertThrows(InvalidTrendCommandException.class, () -> Parser.parseInput("trend --by day"));
+        assertThrows(InvalidTrendCommandException.class, () -> Parser.parseInput("trend --periods 521"));
+        assertThrows(InvalidCategoryException.class, () -> Parser.parseInput("trend --category nothing"));
+    }
+
     @Test
     void parseInput_readMissingArgument_throwsInvalidReadCommandException() {
         assertThrows(InvalidReadCommandException.class, () -> Parser.parseInput("read"));
@@ -459,6 +596,37 @@ class ParserTest {
                         longValue));
     }
 
+    // ----------- TESTS FOR RANGE COMMAND ----------- //
+
+    @Test
+    void parseInput_rangeCommand_parsesFieldBoundsAndCount() {
+        RangeCommand cmd = assertInstanceOf(RangeCommand.class,
+                Parser.parseInput("range --field Over-Limit --min 40 --top 10 --status open"));
+        assertEquals("over-limit", cmd.getField());
+        assertEquals(40.0, cmd.getMin());
+        assertEquals(Double.POSITIVE_INFINITY, cmd.getMax());
+        assertEquals(10, cmd.getLimit());
+        assertTrue(cmd.isDescending());
+
+        cmd = assertInstanceOf(RangeCommand.class, Parser.parseInput("range --field financial-value --max 500.5"));
+        assertEquals(Integer.MAX_VALUE, cmd.getLimit());
+        assertEquals(500.5, cmd.getMax());
+    }
+
+    @Test
+    void parseInput_invalidRangeCommand_throwsInvalidRangeCommandException() {
+        assertThrows(InvalidRangeCommandException.class, () -> Parser.parseInput("range"));
+        assertThrows(InvalidRangeCommandException.class, () -> Parser.parseInput("range --field title"));
+        assertThrows(InvalidRangeCommandException.class,
+                () -> Parser.parseInput("range --field speed-limit --min 90 --max 50"));
+        assertThrows(InvalidRangeCommandException.class,
+                () -> Parser.parseInput("range --field speed-limit --top 3 --bottom 3"));
+        assertThrows(InvalidRangeCommandException.class,
+                () -> Parser.parseInput("range --field speed-limit --top 0"));
+        assertThrows(InvalidRangeCommandException.class,
+                () -> Parser.parseInput("range --field speed-limit --min fast"));
+    }
+
     // ----------- TESTS FOR HELP COMMAND ----------- //
 
     @Test